@@ -25,6 +25,7 @@
 package com.github.grossopa.selenium.component.html;
 
 import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.batch.BatchValue;
 import com.github.grossopa.selenium.core.component.DefaultWebComponent;
 import com.github.grossopa.selenium.core.component.WebComponent;
 import com.github.grossopa.selenium.core.component.api.TableRow;
@@ -32,6 +33,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -74,6 +76,19 @@ public class HtmlTableRow extends DefaultWebComponent implements TableRow {
                 .collect(toList());
     }
 
+    /**
+     * Gets the texts of the cells of the row, all the texts are read in one script execution.
+     *
+     * @return the texts of the cells of the row
+     */
+    @Override
+    public List<String> getCellTexts() {
+        List<WebComponent> cells = getCells();
+        List<BatchValue<String>> texts = new ArrayList<>();
+        driver.batch(batch -> cells.forEach(cell -> texts.add(batch.text(cell))));
+        return texts.stream().map(BatchValue::get).collect(toList());
+    }
+
     @Override
     public WebComponent getCell(String headerLabel) {
         int index = headerLabels.indexOf(headerLabel);
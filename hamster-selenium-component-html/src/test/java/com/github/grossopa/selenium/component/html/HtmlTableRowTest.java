@@ -25,16 +25,21 @@
 package com.github.grossopa.selenium.component.html;
 
 import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.batch.BatchBuilder;
 import com.github.grossopa.selenium.core.util.SimpleEqualsTester;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 
+import java.util.function.Consumer;
+
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests for {@link HtmlTableRow}
@@ -65,6 +70,26 @@ class HtmlTableRowTest {
         assertFalse(testSubject.validate());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getCellTexts() {
+        WebElement cell1 = mock(WebElement.class);
+        WebElement cell2 = mock(WebElement.class);
+        JavascriptExecutor executor = mock(JavascriptExecutor.class);
+        when(element.findElements(By.tagName("td"))).thenReturn(asList(cell1, cell2));
+        when(executor.executeScript(anyString(), any(), any())).thenReturn(asList("text1", "text2"));
+        doAnswer(answer -> {
+            BatchBuilder builder = new BatchBuilder();
+            ((Consumer<BatchBuilder>) answer.getArgument(0)).accept(builder);
+            builder.execute(executor);
+            return null;
+        }).when(driver).batch(any());
+
+        assertEquals(asList("text1", "text2"), testSubject.getCellTexts());
+        verify(executor, times(1)).executeScript(anyString(), any(), any());
+        verify(cell1, never()).getText();
+    }
+
     @Test
     void testEquals() {
         WebElement element1 = mock(WebElement.class);
@@ -48,6 +48,12 @@ public class MatConfig implements ComponentConfig {
     @SuppressWarnings("java:S1075")
     private String overlayAbsolutePath = "/html/body";
 
+    private boolean overlayScriptLookup = true;
+
+    private boolean browserWait = true;
+
+    private boolean animationSettle = true;
+
     /**
      * Gets the prefix of the html tag, e.g. &lt;mat-option&gt;....default value is "mat-".
      *
@@ -126,6 +132,84 @@ public class MatConfig implements ComponentConfig {
         this.cdkPrefix = cdkPrefix;
     }
 
+    /**
+     * Whether the top visible overlay container and the top menu panel are located by one single script execution,
+     * which walks the overlay containers, the bounding boxes and the panels in browser side. When it's false, every
+     * container, box and panel costs separated round trips.
+     *
+     * <p>The default value is {@code true}.</p>
+     *
+     * @return whether the overlays are located by one single script execution
+     * @since 1.13
+     */
+    public boolean isOverlayScriptLookup() {
+        return overlayScriptLookup;
+    }
+
+    /**
+     * Sets whether the top visible overlay container and the top menu panel are located by one single script
+     * execution.
+     *
+     * @param overlayScriptLookup whether the overlays are located by one single script execution
+     * @see #isOverlayScriptLookup()
+     * @since 1.13
+     */
+    public void setOverlayScriptLookup(boolean overlayScriptLookup) {
+        this.overlayScriptLookup = overlayScriptLookup;
+    }
+
+    /**
+     * Whether the components wait for their overlays to open or close in browser side with {@link
+     * com.github.grossopa.selenium.core.wait.BrowserWait}, which responds as soon as the condition holds. When it's
+     * false, the conditions are polled from the client side by {@link
+     * com.github.grossopa.selenium.core.ComponentWebDriver#createWait(long)}.
+     *
+     * <p>The default value is {@code true}.</p>
+     *
+     * @return whether the components wait for their overlays in browser side
+     * @since 1.13
+     */
+    public boolean isBrowserWait() {
+        return browserWait;
+    }
+
+    /**
+     * Sets whether the components wait for their overlays to open or close in browser side.
+     *
+     * @param browserWait whether the components wait for their overlays in browser side
+     * @see #isBrowserWait()
+     * @since 1.13
+     */
+    public void setBrowserWait(boolean browserWait) {
+        this.browserWait = browserWait;
+    }
+
+    /**
+     * Whether the components wait for their animations with {@link
+     * com.github.grossopa.selenium.core.ComponentWebDriver#waitUntilSettled(org.openqa.selenium.WebElement, long)},
+     * which returns as soon as the animations are finished and treats the given delay as the max time to wait. When
+     * it's false, the components sleep for the given delay.
+     *
+     * <p>The default value is {@code true}.</p>
+     *
+     * @return whether the components wait for their animations to settle
+     * @since 1.13
+     */
+    public boolean isAnimationSettle() {
+        return animationSettle;
+    }
+
+    /**
+     * Sets whether the components wait for their animations to settle instead of the fixed delays.
+     *
+     * @param animationSettle whether the components wait for their animations to settle
+     * @see #isAnimationSettle()
+     * @since 1.13
+     */
+    public void setAnimationSettle(boolean animationSettle) {
+        this.animationSettle = animationSettle;
+    }
+
     /**
      * Gets the isChecked CSS. default value is "Mui-checked"
      *
@@ -172,18 +256,23 @@ public class MatConfig implements ComponentConfig {
         }
         MatConfig matConfig = (MatConfig) o;
         return tagPrefix.equals(matConfig.tagPrefix) && cssPrefix.equals(matConfig.cssPrefix) && cdkPrefix.equals(
-                matConfig.cdkPrefix) && overlayAbsolutePath.equals(matConfig.overlayAbsolutePath);
+                matConfig.cdkPrefix) && overlayAbsolutePath.equals(matConfig.overlayAbsolutePath)
+                && overlayScriptLookup == matConfig.overlayScriptLookup && browserWait == matConfig.browserWait
+                && animationSettle == matConfig.animationSettle;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tagPrefix, cssPrefix, cdkPrefix, overlayAbsolutePath);
+        return Objects.hash(tagPrefix, cssPrefix, cdkPrefix, overlayAbsolutePath, overlayScriptLookup, browserWait,
+                animationSettle);
     }
 
     @Override
     public String toString() {
         return "MatConfig{" + "tagPrefix='" + tagPrefix + '\'' + ", cssPrefix='" + cssPrefix + '\'' + ", cdkPrefix='"
-                + cdkPrefix + '\'' + ", overlayAbsolutePath='" + overlayAbsolutePath + '\'' + '}';
+                + cdkPrefix + '\'' + ", overlayAbsolutePath='" + overlayAbsolutePath + '\'' + ", overlayScriptLookup="
+                + overlayScriptLookup + ", browserWait=" + browserWait + ", animationSettle="
+                + animationSettle + '}';
     }
 
     /**
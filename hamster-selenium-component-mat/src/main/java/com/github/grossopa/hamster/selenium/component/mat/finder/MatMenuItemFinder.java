@@ -32,6 +32,7 @@ import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -67,16 +68,24 @@ public class MatMenuItemFinder extends MatOverlayFinder {
      * @throws TimeoutException if no top menus found.
      */
     public MatMenu findTopMenu(long delayInMillis) {
+        waitForVisibleMenu(delayInMillis);
         return driver.createWait(delayInMillis).until(d -> findTopMenu());
     }
 
     /**
      * Try finds the top layer menu panel, return null if no overlays found.
      *
+     * <p>When {@link MatConfig#isOverlayScriptLookup()} is true, the top visible container, the last bounding box and
+     * the menu panel are resolved in one single script execution, and null is also returned if the panel is not
+     * rendered yet.</p>
+     *
      * @return the menu panel instance or null if not found
      */
     @Nullable
     public MatMenu findTopMenu() {
+        if (config.isOverlayScriptLookup()) {
+            return findTopMenuByScript();
+        }
         MatOverlayContainer container = findTopVisibleContainer();
         if (container != null) {
             List<WebComponent> boxes = container.findComponents(
@@ -90,6 +99,27 @@ public class MatMenuItemFinder extends MatOverlayFinder {
         return null;
     }
 
+    @Nullable
+    private MatMenu findTopMenuByScript() {
+        //@formatter:off
+        Object result = driver.executeReadOnlyScript(""
+                + "var container = (" + FIND_TOP_VISIBLE_CONTAINER_FUNCTION + ")(arguments[0]);"
+                + "if (!container) {"
+                + "  return null;"
+                + "}"
+                + "var boxes = container.getElementsByClassName(arguments[1]);"
+                + "if (boxes.length === 0) {"
+                + "  return null;"
+                + "}"
+                + "var panels = boxes[boxes.length - 1].getElementsByClassName(arguments[2]);"
+                + "return panels.length === 0 ? null : panels[0];", getContainersXpath(),
+                config.getCdkPrefix() + "overlay-connected-position-bounding-box",
+                config.getCssPrefix() + "menu-panel");
+        //@formatter:on
+        return result instanceof WebElement ? new MatMenu(driver.mapElement((WebElement) result), driver,
+                config) : null;
+    }
+
     /**
      * Finds the menu panels. It assumes the overlay has been expanded.
      *
@@ -97,9 +127,19 @@ public class MatMenuItemFinder extends MatOverlayFinder {
      * @return the found menu panel
      */
     public List<MatMenu> findMenus(long delayInMillis) {
+        waitForVisibleMenu(delayInMillis);
         return driver.createWait(delayInMillis).until(d -> findMenus());
     }
 
+    private void waitForVisibleMenu(long delayInMillis) {
+        if (config.isBrowserWait()) {
+            // the client side wait then returns at its first evaluation
+            String panelXpath = String.format("//*[contains(@class,'%soverlay-connected-position-bounding-box')]"
+                    + "//*[contains(@class,'%smenu-panel')]", config.getCdkPrefix(), config.getCssPrefix());
+            driver.createBrowserWait(delayInMillis).untilVisible(By.xpath(getContainersXpath() + panelXpath));
+        }
+    }
+
     public List<MatMenu> findMenus() {
         WebComponent container = findTopVisibleContainer();
         if (container != null) {
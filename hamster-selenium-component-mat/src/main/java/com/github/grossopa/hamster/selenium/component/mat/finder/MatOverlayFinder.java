@@ -28,6 +28,9 @@ import com.github.grossopa.hamster.selenium.component.mat.config.MatConfig;
 import com.github.grossopa.hamster.selenium.component.mat.main.MatOverlayContainer;
 import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import com.github.grossopa.selenium.core.locator.LocatorScripts;
+import org.openqa.selenium.WebElement;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -45,6 +48,27 @@ import static org.openqa.selenium.By.xpath;
  */
 public class MatOverlayFinder {
 
+    /**
+     * The script function to locate the top visible overlay container, it accepts the xpath of the overlay containers
+     * and returns the last displayed one or null if none of them is displayed.
+     *
+     * @since 1.13
+     */
+    //@formatter:off
+    protected static final String FIND_TOP_VISIBLE_CONTAINER_FUNCTION = ""
+            + "function(path) {"
+            + "  var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+            + "  var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  var containers = find(null, 'xpath', path);"
+            + "  for (var i = containers.length - 1; i >= 0; i--) {"
+            + "    if (isDisplayed(containers[i])) {"
+            + "      return containers[i];"
+            + "    }"
+            + "  }"
+            + "  return null;"
+            + "}";
+    //@formatter:on
+
     protected final ComponentWebDriver driver;
     protected final MatConfig config;
 
@@ -71,21 +95,44 @@ public class MatOverlayFinder {
     }
 
     public List<MatOverlayContainer> findContainers() {
-        return driver.findComponentsAs(xpath(config.getOverlayAbsolutePath() + String
-                        .format("/div[contains(@class,'%soverlay-container')]", config.getCdkPrefix())),
-                c -> new MatOverlayContainer(c, driver, config));
+        return driver.findComponentsAs(xpath(getContainersXpath()), c -> new MatOverlayContainer(c, driver, config));
     }
 
     public List<MatOverlayContainer> findVisibleContainers() {
         return findContainers().stream().filter(WebComponent::isDisplayed).collect(toList());
     }
 
+    /**
+     * Finds the top visible overlay container.
+     *
+     * <p>When {@link MatConfig#isOverlayScriptLookup()} is true, the containers are walked in one single script
+     * execution instead of checking the visibility of each container separately.</p>
+     *
+     * @return the top visible overlay container or null if not found
+     */
     @Nullable
     public MatOverlayContainer findTopVisibleContainer() {
+        if (config.isOverlayScriptLookup()) {
+            Object result = driver.executeReadOnlyScript(
+                    "return (" + FIND_TOP_VISIBLE_CONTAINER_FUNCTION + ")(arguments[0]);", getContainersXpath());
+            return result instanceof WebElement ? new MatOverlayContainer(driver.mapElement((WebElement) result),
+                    driver, config) : null;
+        }
         List<MatOverlayContainer> containers = findVisibleContainers();
         return containers.isEmpty() ? null : containers.get(containers.size() - 1);
     }
 
+    /**
+     * Gets the xpath to locate all overlay containers.
+     *
+     * @return the xpath to locate all overlay containers
+     * @since 1.13
+     */
+    public String getContainersXpath() {
+        return config.getOverlayAbsolutePath() + String.format("/div[contains(@class,'%soverlay-container')]",
+                config.getCdkPrefix());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -181,6 +181,10 @@ public class MatAutocomplete extends AbstractMatComponent implements Select, Del
 
         if (delayInMillis <= 0) {
             autocompletePanel = tryToFindAutocompletePanel();
+        } else if (config.isBrowserWait()) {
+            // the browser wait returns the top panel, so it's not located again
+            autocompletePanel = Optional.of(
+                    driver.createBrowserWait(delayInMillis).untilLastVisible(getAutocompletePanelLocator()));
         } else {
             autocompletePanel = Optional.of(
                     driver.createWait(delayInMillis).until(d -> tryToFindAutocompletePanel().orElse(null)));
@@ -204,6 +208,8 @@ public class MatAutocomplete extends AbstractMatComponent implements Select, Del
             if (autocompletePanel.isPresent() && autocompletePanel.get().isDisplayed()) {
                 throw new OptionNotClosedException("Autocomplete panel is not properly closed.");
             }
+        } else if (config.isBrowserWait()) {
+            driver.createBrowserWait(delayInMillis).untilInvisible(getAutocompletePanelLocator());
         } else {
             WebDriverWait wait = driver.createWait(delayInMillis);
             wait.until(d -> {
@@ -351,6 +357,11 @@ public class MatAutocomplete extends AbstractMatComponent implements Select, Del
         deSelectByContainsVisibleText(text, 0L);
     }
 
+    private By getAutocompletePanelLocator() {
+        return By.xpath(overlayFinder.getContainersXpath() + String.format(
+                "//*[contains(@class,'%sautocomplete-panel')]", config.getCssPrefix()));
+    }
+
     protected Optional<WebComponent> tryToFindAutocompletePanel() {
         MatOverlayContainer container = overlayFinder.findTopVisibleContainer();
         if (container != null) {
@@ -104,7 +104,12 @@ public class MatMenuItem extends AbstractMatComponent {
 
         driver.moveTo(this);
         if (animationInMillis > 0) {
-            driver.threadSleep(animationInMillis);
+            if (config.isAnimationSettle()) {
+                // the nested menu is opened in the overlay container rather than inside the item
+                driver.waitUntilSettled(null, animationInMillis);
+            } else {
+                driver.threadSleep(animationInMillis);
+            }
         }
 
         return new MatMenuItemFinder(driver, config).findTopMenu(topMenuDelayInMillis);
@@ -94,6 +94,39 @@ class MatConfigTest {
         assertEquals("abc-", testSubject.getCdkPrefix());
     }
 
+    @Test
+    void isOverlayScriptLookup() {
+        assertTrue(testSubject.isOverlayScriptLookup());
+    }
+
+    @Test
+    void setOverlayScriptLookup() {
+        testSubject.setOverlayScriptLookup(false);
+        assertFalse(testSubject.isOverlayScriptLookup());
+    }
+
+    @Test
+    void isBrowserWait() {
+        assertTrue(testSubject.isBrowserWait());
+    }
+
+    @Test
+    void setBrowserWait() {
+        testSubject.setBrowserWait(false);
+        assertFalse(testSubject.isBrowserWait());
+    }
+
+    @Test
+    void isAnimationSettle() {
+        assertTrue(testSubject.isAnimationSettle());
+    }
+
+    @Test
+    void setAnimationSettle() {
+        testSubject.setAnimationSettle(false);
+        assertFalse(testSubject.isAnimationSettle());
+    }
+
     @Test
     void testEquals() {
         SimpleEqualsTester tester = new SimpleEqualsTester();
@@ -105,6 +138,15 @@ class MatConfigTest {
         tester.addEqualityGroup(MatConfig.create("tag-", "css-1", "cdk-", "/html/body"));
         tester.addEqualityGroup(MatConfig.create("tag-", "css-", "cdk-1", "/html/body"));
         tester.addEqualityGroup(MatConfig.create("tag-", "css-", "cdk-", "/html/body1"));
+        MatConfig config = MatConfig.create("tag-", "css-", "cdk-", "/html/body");
+        config.setOverlayScriptLookup(false);
+        tester.addEqualityGroup(config);
+        MatConfig config2 = MatConfig.create("tag-", "css-", "cdk-", "/html/body");
+        config2.setBrowserWait(false);
+        tester.addEqualityGroup(config2);
+        MatConfig config3 = MatConfig.create("tag-", "css-", "cdk-", "/html/body");
+        config3.setAnimationSettle(false);
+        tester.addEqualityGroup(config3);
 
         tester.testEquals();
     }
@@ -112,7 +154,8 @@ class MatConfigTest {
     @Test
     void testToString() {
         assertEquals("MatConfig{tagPrefix='mat-', cssPrefix='mat-', "
-                + "cdkPrefix='cdk-', overlayAbsolutePath='/html/body'}", testSubject.toString());
+                + "cdkPrefix='cdk-', overlayAbsolutePath='/html/body', overlayScriptLookup=true, "
+                + "browserWait=true, animationSettle=true}", testSubject.toString());
     }
 
     @Test
@@ -29,6 +29,7 @@ import com.github.grossopa.hamster.selenium.component.mat.main.MatMenu;
 import com.github.grossopa.hamster.selenium.component.mat.main.MatOverlayContainer;
 import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -101,6 +102,30 @@ class MatMenuItemFinderTest {
         assertEquals(menuPanelElement, requireNonNull(testSubject.findTopMenu(1000L)).getWrappedElement());
     }
 
+    @Test
+    void findTopMenuWithBrowserWait() {
+        when(config.isBrowserWait()).thenReturn(true);
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(1000L)).thenReturn(browserWait);
+        WebComponent box = mock(WebComponent.class);
+        when(box.findComponent(By.className("mat-menu-panel"))).thenReturn(menuPanel);
+        when(overlayContainer.findComponents(className("cdk-overlay-connected-position-bounding-box"))).thenReturn(
+                newArrayList(box));
+        assertEquals(menuPanelElement, requireNonNull(testSubject.findTopMenu(1000L)).getWrappedElement());
+        verify(browserWait, only()).untilVisible(By.xpath("/html/body/div[contains(@class,'cdk-overlay-container')]"
+                + "//*[contains(@class,'cdk-overlay-connected-position-bounding-box')]"
+                + "//*[contains(@class,'mat-menu-panel')]"));
+    }
+
+    @Test
+    void findMenusWithBrowserWait() {
+        when(config.isBrowserWait()).thenReturn(true);
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(1000L)).thenReturn(browserWait);
+        testSubject.findMenus(1000L);
+        verify(browserWait, only()).untilVisible(any(By.class));
+    }
+
     @Test
     void findTopMenuNoContainer() {
         when(driver.findComponentsAs(eq(By.xpath("/html/body/div[contains(@class,'cdk-overlay-container')]")),
@@ -113,6 +138,32 @@ class MatMenuItemFinderTest {
         assertNull(testSubject.findTopMenu());
     }
 
+    @Test
+    void findTopMenuByScript() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        when(driver.executeReadOnlyScript(anyString(), eq("/html/body/div[contains(@class,'cdk-overlay-container')]"),
+                eq("cdk-overlay-connected-position-bounding-box"), eq("mat-menu-panel"))).thenReturn(
+                menuPanelElement);
+        when(driver.mapElement(menuPanelElement)).thenReturn(menuPanel);
+        assertEquals(menuPanelElement, requireNonNull(testSubject.findTopMenu()).getWrappedElement());
+        verify(driver, never()).findComponentsAs(any(), any());
+    }
+
+    @Test
+    void findTopMenuByScriptWithDelays() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        when(driver.executeReadOnlyScript(anyString(), any(), any(), any())).thenReturn(menuPanelElement);
+        when(driver.mapElement(menuPanelElement)).thenReturn(menuPanel);
+        assertEquals(menuPanelElement, requireNonNull(testSubject.findTopMenu(1000L)).getWrappedElement());
+    }
+
+    @Test
+    void findTopMenuByScriptNotFound() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        when(driver.executeReadOnlyScript(anyString(), any(), any(), any())).thenReturn(null);
+        assertNull(testSubject.findTopMenu());
+    }
+
     @Test
     void findMenus() {
         List<WebComponent> menus = newArrayList(mock(MatMenu.class));
@@ -39,6 +39,7 @@ import java.util.function.Function;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
@@ -152,6 +153,29 @@ class MatOverlayFinderTest {
         assertNull(result);
     }
 
+    @Test
+    void findTopVisibleContainerByScript() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        WebElement element = mock(WebElement.class);
+        WebComponent component = mock(WebComponent.class);
+        when(component.getWrappedElement()).thenReturn(element);
+        when(driver.executeReadOnlyScript(anyString(), eq("/html/body/div[contains(@class,'cdk-overlay-container')]")))
+                .thenReturn(element);
+        when(driver.mapElement(element)).thenReturn(component);
+
+        MatOverlayContainer result = testSubject.findTopVisibleContainer();
+        assertNotNull(result);
+        assertEquals(element, result.getWrappedElement());
+        verify(driver, never()).findComponentsAs(any(), any());
+    }
+
+    @Test
+    void findTopVisibleContainerByScriptNull() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        when(driver.executeReadOnlyScript(anyString(), any())).thenReturn(null);
+        assertNull(testSubject.findTopVisibleContainer());
+    }
+
     @Test
     void testEquals() {
         SimpleEqualsTester tester = new SimpleEqualsTester();
@@ -34,6 +34,7 @@ import com.github.grossopa.hamster.selenium.core.util.SimpleEqualsTester;
 import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
 import com.github.grossopa.selenium.core.locator.By2;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -326,6 +327,34 @@ class MatAutocompleteTest {
     }
 
 
+    @Test
+    void openOptionsWithBrowserWait() {
+        this.mockAutocompletePanelPresentWithDelays();
+        when(config.isBrowserWait()).thenReturn(true);
+        when(overlayFinder.getContainersXpath()).thenReturn("/html/body/div[contains(@class,'cdk-overlay-container')]");
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(1000L)).thenReturn(browserWait);
+        By panelLocator = By.xpath("/html/body/div[contains(@class,'cdk-overlay-container')]"
+                + "//*[contains(@class,'mat-autocomplete-panel')]");
+        when(browserWait.untilLastVisible(panelLocator)).thenReturn(autocompletePanel);
+        assertEquals(autocompletePanel, testSubject.openOptions(1000L));
+        verify(browserWait, only()).untilLastVisible(panelLocator);
+        verify(driver, never()).createWait(anyLong());
+    }
+
+    @Test
+    void closeOptionsWithBrowserWait() {
+        this.mockAutocompletePanelCloseSuccessful2();
+        when(config.isBrowserWait()).thenReturn(true);
+        when(overlayFinder.getContainersXpath()).thenReturn("/html/body/div[contains(@class,'cdk-overlay-container')]");
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(1000L)).thenReturn(browserWait);
+        testSubject.closeOptions(1000L);
+        verify(browserWait, only()).untilInvisible(By.xpath("/html/body/div[contains(@class,'cdk-overlay-container')]"
+                + "//*[contains(@class,'mat-autocomplete-panel')]"));
+        verify(driver, never()).createWait(anyLong());
+    }
+
     @Test
     void closeOptionsSuccessful2WithDelays() {
         this.mockAutocompletePanelCloseSuccessful2();
@@ -120,9 +120,8 @@ class MatMenuItemTest {
         assertThrows(MenuItemNotExpandableException.class, () -> testSubject.expand(100L, 100L));
     }
 
-    @Test
     @SuppressWarnings({"unchecked", "rawtypes"})
-    void expand() {
+    private WebElement mockExpandableMenu() {
         // set to expandable
         this.isExpandable();
 
@@ -148,11 +147,27 @@ class MatMenuItemTest {
         List<WebComponent> boxes = newArrayList(box);
         when(overlayContainer.findComponents(className("cdk-overlay-connected-position-bounding-box"))).thenReturn(
                 boxes);
+        return menuPanelElement;
+    }
 
+    @Test
+    void expand() {
+        WebElement menuPanelElement = mockExpandableMenu();
         assertEquals(menuPanelElement, testSubject.expand(100L, 100L).getWrappedElement());
         assertEquals(menuPanelElement, testSubject.expand(0L, 100L).getWrappedElement());
 
         verify(driver, times(1)).threadSleep(100L);
     }
 
+    @Test
+    void expandWithAnimationSettle() {
+        WebElement menuPanelElement = mockExpandableMenu();
+        when(config.isAnimationSettle()).thenReturn(true);
+
+        assertEquals(menuPanelElement, testSubject.expand(100L, 100L).getWrappedElement());
+
+        verify(driver, times(1)).waitUntilSettled(null, 100L);
+        verify(driver, never()).threadSleep(anyLong());
+    }
+
 }
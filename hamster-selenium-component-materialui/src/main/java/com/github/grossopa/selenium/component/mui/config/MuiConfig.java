@@ -58,6 +58,21 @@ public class MuiConfig implements ComponentConfig {
     @SuppressWarnings("squid:S1075")
     private String overlayAbsolutePath = "/html/body";
 
+    /**
+     * Whether to locate the top visible overlay by one single script execution
+     */
+    private boolean overlayScriptLookup = true;
+
+    /**
+     * Whether to wait for the overlays in browser side
+     */
+    private boolean browserWait = true;
+
+    /**
+     * Whether to wait for the animations to settle instead of the fixed delays
+     */
+    private boolean animationSettle = true;
+
     /**
      * The overlays are displayed in the root level of React applications, this attribute helps to locate the container
      * of the overlays such as Modal, Dialog, etc.
@@ -82,6 +97,83 @@ public class MuiConfig implements ComponentConfig {
         return overlayAbsolutePath;
     }
 
+    /**
+     * Whether the top visible overlay is located by one single script execution, which walks the overlay root,
+     * tokenizes the classes and checks the visibility in browser side. When it's false, every overlay candidate costs
+     * separated round trips for reading the class and the visibility.
+     *
+     * <p>The default value is {@code true}.</p>
+     *
+     * @return whether the top visible overlay is located by one single script execution
+     * @since 1.13
+     */
+    public boolean isOverlayScriptLookup() {
+        return overlayScriptLookup;
+    }
+
+    /**
+     * Sets whether the top visible overlay is located by one single script execution.
+     *
+     * @param overlayScriptLookup whether the top visible overlay is located by one single script execution
+     * @see #isOverlayScriptLookup()
+     * @since 1.13
+     */
+    public void setOverlayScriptLookup(boolean overlayScriptLookup) {
+        this.overlayScriptLookup = overlayScriptLookup;
+    }
+
+    /**
+     * Whether the components wait for their overlays to open or close in browser side with {@link
+     * com.github.grossopa.selenium.core.wait.BrowserWait}, which responds as soon as the condition holds. When it's
+     * false, the conditions are polled from the client side by {@link
+     * com.github.grossopa.selenium.core.ComponentWebDriver#createWait(long)}.
+     *
+     * <p>The default value is {@code true}.</p>
+     *
+     * @return whether the components wait for their overlays in browser side
+     * @since 1.13
+     */
+    public boolean isBrowserWait() {
+        return browserWait;
+    }
+
+    /**
+     * Sets whether the components wait for their overlays to open or close in browser side.
+     *
+     * @param browserWait whether the components wait for their overlays in browser side
+     * @see #isBrowserWait()
+     * @since 1.13
+     */
+    public void setBrowserWait(boolean browserWait) {
+        this.browserWait = browserWait;
+    }
+
+    /**
+     * Whether the components wait for their animations with {@link
+     * com.github.grossopa.selenium.core.ComponentWebDriver#waitUntilSettled(org.openqa.selenium.WebElement, long)},
+     * which returns as soon as the animations are finished and treats the given delay as the max time to wait. When
+     * it's false, the components sleep for the given delay.
+     *
+     * <p>The default value is {@code true}.</p>
+     *
+     * @return whether the components wait for their animations to settle
+     * @since 1.13
+     */
+    public boolean isAnimationSettle() {
+        return animationSettle;
+    }
+
+    /**
+     * Sets whether the components wait for their animations to settle instead of the fixed delays.
+     *
+     * @param animationSettle whether the components wait for their animations to settle
+     * @see #isAnimationSettle()
+     * @since 1.13
+     */
+    public void setAnimationSettle(boolean animationSettle) {
+        this.animationSettle = animationSettle;
+    }
+
     /**
      * For locating the button from direct parent container
      *
@@ -290,18 +382,22 @@ public class MuiConfig implements ComponentConfig {
             return false;
         }
         MuiConfig muiConfig = (MuiConfig) o;
-        return version == muiConfig.version && Objects.equals(cssPrefix, muiConfig.cssPrefix) && Objects.equals(
-                overlayAbsolutePath, muiConfig.overlayAbsolutePath);
+        return version == muiConfig.version && overlayScriptLookup == muiConfig.overlayScriptLookup
+                && browserWait == muiConfig.browserWait && animationSettle == muiConfig.animationSettle
+                && Objects.equals(cssPrefix, muiConfig.cssPrefix) && Objects.equals(overlayAbsolutePath,
+                muiConfig.overlayAbsolutePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(version, cssPrefix, overlayAbsolutePath);
+        return Objects.hash(version, cssPrefix, overlayAbsolutePath, overlayScriptLookup, browserWait,
+                animationSettle);
     }
 
     @Override
     public String toString() {
         return "MuiConfig{" + "version=" + version + ", cssPrefix='" + cssPrefix + '\'' + ", overlayAbsolutePath='"
-                + overlayAbsolutePath + '\'' + '}';
+                + overlayAbsolutePath + '\'' + ", overlayScriptLookup=" + overlayScriptLookup + ", browserWait="
+                + browserWait + ", animationSettle=" + animationSettle + '}';
     }
 }
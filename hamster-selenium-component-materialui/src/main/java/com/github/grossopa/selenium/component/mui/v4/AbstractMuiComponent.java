@@ -31,6 +31,7 @@ import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.DefaultWebComponent;
 import org.openqa.selenium.WebElement;
 
+import javax.annotation.Nullable;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
@@ -93,6 +94,23 @@ public abstract class AbstractMuiComponent extends DefaultWebComponent implement
      */
     public abstract String getComponentName();
 
+    /**
+     * Waits for the animations on given element to settle, at most the given time. Sleeps for the given time instead
+     * if {@link MuiConfig#isAnimationSettle()} is false.
+     *
+     * @param element the element to check, or null to check the whole document
+     * @param maxWaitInMillis the max time to wait in milliseconds
+     * @see ComponentWebDriver#waitUntilSettled(WebElement, long)
+     * @since 1.13
+     */
+    protected void waitForAnimation(@Nullable WebElement element, long maxWaitInMillis) {
+        if (config.isAnimationSettle()) {
+            driver.waitUntilSettled(element, maxWaitInMillis);
+        } else {
+            driver.threadSleep(maxWaitInMillis);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -75,7 +75,9 @@ public abstract class MuiModal extends AbstractMuiComponent {
      */
     public void close(long waitInMilliseconds) {
         driver.createActions().sendKeys(ESCAPE).perform();
-        if (waitInMilliseconds > 0) {
+        if (waitInMilliseconds > 0 && config.isBrowserWait()) {
+            driver.createBrowserWait(waitInMilliseconds).untilInvisibleOrStale(this);
+        } else if (waitInMilliseconds > 0) {
             driver.createWait(waitInMilliseconds)
                     .until(driver -> executeIgnoringStaleElementReference(() -> !this.isDisplayed(), true));
         }
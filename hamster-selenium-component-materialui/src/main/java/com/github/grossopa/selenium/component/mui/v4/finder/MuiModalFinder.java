@@ -29,15 +29,20 @@ import com.github.grossopa.selenium.component.mui.v4.core.MuiPopover;
 import com.github.grossopa.selenium.component.mui.v4.feedback.MuiDialog;
 import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import com.github.grossopa.selenium.core.locator.LocatorScripts;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import static com.github.grossopa.selenium.core.component.util.WebComponentUtils.attributeContains;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -130,8 +135,7 @@ public class MuiModalFinder {
      */
     @Nullable
     public WebComponent findTopVisibleOverlay() {
-        List<WebComponent> overlays = findVisibleOverlays();
-        return overlays.isEmpty() ? null : overlays.get(overlays.size() - 1);
+        return findTopVisibleOverlay(config.getModalClasses());
     }
 
     /**
@@ -142,10 +146,75 @@ public class MuiModalFinder {
      */
     @Nullable
     public WebComponent findTopVisibleOverlay(String componentName) {
-        List<WebComponent> overlays = findVisibleOverlays(componentName);
+        return findTopVisibleOverlay(Set.of(config.getRootCss(componentName)));
+    }
+
+    /**
+     * Finds the top visible overlay by a list of class names. Usually it's the interactive-able overlay.
+     *
+     * <p>
+     * When {@link MuiConfig#isOverlayScriptLookup()} is true, the overlay root is walked in one single script execution
+     * which returns only the top match, otherwise it's same as picking the last one of {@link #findOverlays(Set,
+     * boolean)}.
+     * </p>
+     *
+     * @param classNames the class names to find
+     * @return the found top overlay component or null if no overlays found.
+     * @since 1.13
+     */
+    @Nullable
+    public WebComponent findTopVisibleOverlay(Set<String> classNames) {
+        if (config.isOverlayScriptLookup()) {
+            return findVisibleOverlayByScript(classNames, true);
+        }
+        List<WebComponent> overlays = findOverlays(classNames, false);
         return overlays.isEmpty() ? null : overlays.get(overlays.size() - 1);
     }
 
+    /**
+     * Finds the first visible overlay by a list of class names, i.e. the bottom one in the overlay root.
+     *
+     * <p>
+     * When {@link MuiConfig#isOverlayScriptLookup()} is true, the overlay root is walked in one single script execution
+     * which returns only the first match, otherwise it's same as picking the first one of {@link #findOverlays(Set,
+     * boolean)}.
+     * </p>
+     *
+     * @param classNames the class names to find
+     * @return the found first overlay component or null if no overlays found.
+     * @since 1.13
+     */
+    @Nullable
+    public WebComponent findFirstVisibleOverlay(Set<String> classNames) {
+        if (config.isOverlayScriptLookup()) {
+            return findVisibleOverlayByScript(classNames, false);
+        }
+        List<WebComponent> overlays = findOverlays(classNames, false);
+        return overlays.isEmpty() ? null : overlays.get(0);
+    }
+
+    @Nullable
+    private WebComponent findVisibleOverlayByScript(Set<String> classNames, boolean top) {
+        //@formatter:off
+        Object result = driver.executeReadOnlyScript(""
+                + "var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+                + "var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+                + "var classNames = arguments[1];"
+                + "var overlays = find(null, 'xpath', arguments[0]);"
+                + "var top = arguments[2];"
+                + "for (var k = 0; k < overlays.length; k++) {"
+                + "  var overlay = overlays[top ? overlays.length - 1 - k : k];"
+                + "  for (var j = 0; j < classNames.length; j++) {"
+                + "    if (overlay.classList.contains(classNames[j]) && isDisplayed(overlay)) {"
+                + "      return overlay;"
+                + "    }"
+                + "  }"
+                + "}"
+                + "return null;", config.getOverlayAbsolutePath() + "/div", new ArrayList<>(classNames), top);
+        //@formatter:on
+        return result instanceof WebElement ? driver.mapElement((WebElement) result) : null;
+    }
+
     /**
      * Finds the overlays by a list of class names and whether includes hidden ones by invoking {@link
      * WebComponent#isDisplayed()} of found overlays.
@@ -162,6 +231,21 @@ public class MuiModalFinder {
                         .anyMatch(modalClass -> attributeContains(component, "class", modalClass))).collect(toList());
     }
 
+    /**
+     * Gets the locator of the overlays in the root path which have any of given class names, it's useful for waiting
+     * the overlays in browser side.
+     *
+     * @param classNames the class names of the overlays
+     * @return the locator of the overlays
+     * @since 1.13
+     */
+    public By getOverlayLocator(Set<String> classNames) {
+        String condition = classNames.stream()
+                .map(name -> "contains(concat(' ',normalize-space(@class),' '),' " + name + " ')")
+                .collect(joining(" or "));
+        return By.xpath(config.getOverlayAbsolutePath() + "/div[" + condition + "]");
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
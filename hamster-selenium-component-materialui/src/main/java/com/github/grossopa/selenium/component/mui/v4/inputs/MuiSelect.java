@@ -36,6 +36,7 @@ import com.github.grossopa.selenium.core.component.WebComponent;
 import com.github.grossopa.selenium.core.component.api.DelayedSelect;
 import com.github.grossopa.selenium.core.component.api.Select;
 import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -147,7 +148,10 @@ public class MuiSelect extends AbstractMuiComponent implements Select, DelayedSe
         this.selectConfig.getOpenOptionsAction().open(this, driver);
 
         WebComponent container;
-        if (delayInMillis > 0L) {
+        if (delayInMillis > 0L && config.isBrowserWait()) {
+            // the browser wait returns the top popover, so it's not located again
+            container = driver.createBrowserWait(delayInMillis).untilLastVisible(getPopoverLocator());
+        } else if (delayInMillis > 0L) {
             WebDriverWait wait = driver.createWait(delayInMillis);
             container = driver.mapElement(
                     wait.until(d -> modalFinder.findTopVisibleOverlay(MuiPopover.COMPONENT_NAME)));
@@ -172,7 +176,9 @@ public class MuiSelect extends AbstractMuiComponent implements Select, DelayedSe
         List<WebComponent> options = getOptions2();
         selectConfig.getCloseOptionsAction().close(this, options, driver);
 
-        if (delayInMillis > 0L) {
+        if (delayInMillis > 0L && config.isBrowserWait()) {
+            driver.createBrowserWait(delayInMillis).untilInvisible(getPopoverLocator());
+        } else if (delayInMillis > 0L) {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(delayInMillis));
             wait.withTimeout(Duration.ofMillis(delayInMillis));
             wait.until(d -> modalFinder.findTopVisibleOverlay(MuiPopover.COMPONENT_NAME) == null);
@@ -318,6 +324,10 @@ public class MuiSelect extends AbstractMuiComponent implements Select, DelayedSe
         return selectConfig;
     }
 
+    private By getPopoverLocator() {
+        return modalFinder.getOverlayLocator(Set.of(config.getRootCss(MuiPopover.COMPONENT_NAME)));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
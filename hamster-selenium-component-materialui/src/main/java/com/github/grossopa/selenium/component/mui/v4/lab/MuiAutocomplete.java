@@ -483,15 +483,16 @@ public class MuiAutocomplete extends AbstractMuiComponent implements Select, Del
 
     @Nullable
     private WebComponent tryLocateOverlay() {
-        List<WebComponent> overlays = modalFinder.findOverlays(Set.of(config.getCssPrefix() + "Autocomplete-popper"),
-                false);
-        if (overlays.isEmpty()) {
-            // try to locate the next sibling if disablePortal is set to true
-            overlays = this.findComponents(By2.axesBuilder().followingSibling("div").attr(CLASS)
-                            .contains(config.getCssPrefix() + "Autocomplete-popperDisablePortal").build()
-                    //        By.xpath("following-sibling::div[contains(@class,\"MuiAutocomplete-popperDisablePortal\")]")
-            );
+        WebComponent overlay = modalFinder.findFirstVisibleOverlay(
+                Set.of(config.getCssPrefix() + "Autocomplete-popper"));
+        if (overlay != null) {
+            return overlay;
         }
+        // try to locate the next sibling if disablePortal is set to true
+        List<WebComponent> overlays = this.findComponents(By2.axesBuilder().followingSibling("div").attr(CLASS)
+                        .contains(config.getCssPrefix() + "Autocomplete-popperDisablePortal").build()
+                //        By.xpath("following-sibling::div[contains(@class,\"MuiAutocomplete-popperDisablePortal\")]")
+        );
         return overlays.isEmpty() ? null : overlays.get(0);
     }
 
@@ -83,11 +83,11 @@ public class MuiPickersCalendarHeaderSwitchHeader extends AbstractMuiComponent {
     /**
      * Clicks the left button and wait until the slide animation is completed.
      *
-     * @param waitInMillis the wait time in milliseconds
+     * @param waitInMillis the max wait time in milliseconds
      */
     public void clickLeftButton(long waitInMillis) {
         getLeftButton().click();
-        driver.threadSleep(waitInMillis);
+        waitForAnimation(this, waitInMillis);
     }
 
     /**
@@ -113,10 +113,10 @@ public class MuiPickersCalendarHeaderSwitchHeader extends AbstractMuiComponent {
     /**
      * Clicks the left button and wait until the slide animation is completed.
      *
-     * @param waitInMillis the wait time in milliseconds
+     * @param waitInMillis the max wait time in milliseconds
      */
     public void clickRightButton(long waitInMillis) {
         getRightButton().click();
-        driver.threadSleep(waitInMillis);
+        waitForAnimation(this, waitInMillis);
     }
 }
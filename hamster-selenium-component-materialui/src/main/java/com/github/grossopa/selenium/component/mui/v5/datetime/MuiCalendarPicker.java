@@ -216,7 +216,7 @@ public class MuiCalendarPicker extends AbstractMuiComponent {
             setDateInCalendarView(date, delayInMillis);
         } else {
             views.forEach(view -> {
-                driver.threadSleep(delayInMillis);
+                waitForAnimation(this, delayInMillis);
                 if (view == YEAR) {
                     this.getYearPicker().select(date.getYear());
                 } else if (view == MONTH) {
@@ -226,7 +226,7 @@ public class MuiCalendarPicker extends AbstractMuiComponent {
                 }
             });
         }
-        driver.threadSleep(delayInMillis);
+        waitForAnimation(this, delayInMillis);
     }
 
     private void setDateInCalendarView(LocalDate date, long delayInMillis) {
@@ -243,13 +243,13 @@ public class MuiCalendarPicker extends AbstractMuiComponent {
         Month current = monthStringFunction.stringToMonth(this.getMonthLabel().getText());
         while (current.getValue() > month.getValue()) {
             this.getPreviousMonthButton().click();
-            driver.threadSleep(delayInMillis);
+            waitForAnimation(this, delayInMillis);
             current = monthStringFunction.stringToMonth(this.getMonthLabel().getText());
         }
 
         while (current.getValue() < month.getValue()) {
             this.getNextMonthButton().click();
-            driver.threadSleep(delayInMillis);
+            waitForAnimation(this, delayInMillis);
             current = monthStringFunction.stringToMonth(this.getMonthLabel().getText());
         }
 
@@ -274,7 +274,7 @@ public class MuiCalendarPicker extends AbstractMuiComponent {
     public void changeView(ViewType viewType, long delayInMillis) {
         if (viewType != getCurrentView()) {
             this.getSwitchButton().click();
-            driver.threadSleep(delayInMillis);
+            waitForAnimation(this, delayInMillis);
         }
     }
 
@@ -119,7 +119,10 @@ public class MuiDatePickerFormField extends MuiTextField {
         WebComponent componentDialog = tryLocatePickerDialog();
         if (componentDialog == null) {
             getDateButton().click();
-            if (delayInMillis > 0L) {
+            if (delayInMillis > 0L && config.isBrowserWait()) {
+                // the browser wait returns the last dialog, so it's not located again
+                componentDialog = driver.createBrowserWait(delayInMillis).untilLastVisible(getPickerDialogLocator());
+            } else if (delayInMillis > 0L) {
                 componentDialog = driver.createWait(delayInMillis)
                         .until(d -> executeIgnoringStaleElementReference(this::tryLocatePickerDialog, null));
             } else {
@@ -153,7 +156,11 @@ public class MuiDatePickerFormField extends MuiTextField {
         componentDialog.sendKeys(Keys.ESCAPE);
 
         if (delayInMillis > 0L) {
-            driver.createWait(delayInMillis).until(d -> isNotDisplayed(tryLocatePickerDialog()));
+            if (config.isBrowserWait()) {
+                driver.createBrowserWait(delayInMillis).untilInvisible(getPickerDialogLocator());
+            } else {
+                driver.createWait(delayInMillis).until(d -> isNotDisplayed(tryLocatePickerDialog()));
+            }
             componentDialog = null;
         } else {
             componentDialog = tryLocatePickerDialog();
@@ -198,9 +205,7 @@ public class MuiDatePickerFormField extends MuiTextField {
      * Tries to locate the picker dialog
      */
     private WebComponent tryLocatePickerDialog() {
-        List<WebComponent> componentList = this.findComponents(By.xpath(
-                String.format("%s/div[@role='dialog']//div[contains(@class,'%s')]", config.getOverlayAbsolutePath(),
-                        config.getCssPrefix() + "CalendarPicker-root")));
+        List<WebComponent> componentList = this.findComponents(getPickerDialogLocator());
 
         if (componentList.isEmpty()) {
             return null;
@@ -209,6 +214,11 @@ public class MuiDatePickerFormField extends MuiTextField {
         }
     }
 
+    private By getPickerDialogLocator() {
+        return By.xpath(String.format("%s/div[@role='dialog']//div[contains(@class,'%s')]",
+                config.getOverlayAbsolutePath(), config.getCssPrefix() + "CalendarPicker-root"));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -191,6 +191,39 @@ class MuiConfigTest {
         assertEquals("/html/body", testSubject.getOverlayAbsolutePath());
     }
 
+    @Test
+    void isOverlayScriptLookup() {
+        assertTrue(testSubject.isOverlayScriptLookup());
+    }
+
+    @Test
+    void setOverlayScriptLookup() {
+        testSubject.setOverlayScriptLookup(false);
+        assertFalse(testSubject.isOverlayScriptLookup());
+    }
+
+    @Test
+    void isBrowserWait() {
+        assertTrue(testSubject.isBrowserWait());
+    }
+
+    @Test
+    void setBrowserWait() {
+        testSubject.setBrowserWait(false);
+        assertFalse(testSubject.isBrowserWait());
+    }
+
+    @Test
+    void isAnimationSettle() {
+        assertTrue(testSubject.isAnimationSettle());
+    }
+
+    @Test
+    void setAnimationSettle() {
+        testSubject.setAnimationSettle(false);
+        assertFalse(testSubject.isAnimationSettle());
+    }
+
     @Test
     void getModalClasses() {
         assertEquals(5, testSubject.getModalClasses().size());
@@ -213,12 +246,24 @@ class MuiConfigTest {
         config4.setOverlayAbsolutePath("/other/path");
         tester.addEqualityGroup(config4);
 
+        MuiConfig config5 = new MuiConfig();
+        config5.setOverlayScriptLookup(false);
+        tester.addEqualityGroup(config5);
+
+        MuiConfig config6 = new MuiConfig();
+        config6.setBrowserWait(false);
+        tester.addEqualityGroup(config6);
+
+        MuiConfig config7 = new MuiConfig();
+        config7.setAnimationSettle(false);
+        tester.addEqualityGroup(config7);
+
         tester.testEquals();
     }
 
     @Test
     void testToString() {
-        assertEquals("MuiConfig{version=V4, cssPrefix='Mui', overlayAbsolutePath='/html/body'}",
-                testSubject.toString());
+        assertEquals("MuiConfig{version=V4, cssPrefix='Mui', overlayAbsolutePath='/html/body', "
+                + "overlayScriptLookup=true, browserWait=true, animationSettle=true}", testSubject.toString());
     }
 }
@@ -27,6 +27,7 @@ package com.github.grossopa.selenium.component.mui.v4.core;
 import com.github.grossopa.selenium.component.mui.MuiVersion;
 import com.github.grossopa.selenium.component.mui.config.MuiConfig;
 import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
@@ -93,6 +94,22 @@ class MuiModalTest {
         verify(wait, times(1)).until(any());
     }
 
+    @Test
+    void closeWithBrowserWait() {
+        Actions actions = mock(Actions.class);
+        when(driver.createActions()).thenReturn(actions);
+        when(actions.sendKeys(ESCAPE)).thenReturn(actions);
+        when(config.isBrowserWait()).thenReturn(true);
+
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(800L)).thenReturn(browserWait);
+        testSubject.close(800L);
+
+        verify(actions, times(1)).perform();
+        verify(browserWait, only()).untilInvisibleOrStale(testSubject);
+        verify(driver, never()).createWait(anyLong());
+    }
+
     @Test
     void closeWithWaitPositive() {
         Actions actions = mock(Actions.class);
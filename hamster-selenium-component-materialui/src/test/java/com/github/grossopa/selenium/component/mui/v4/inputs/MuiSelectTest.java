@@ -34,6 +34,7 @@ import com.github.grossopa.selenium.component.mui.exception.OptionNotClosedExcep
 import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
 import com.github.grossopa.selenium.core.util.SimpleEqualsTester;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -240,6 +241,20 @@ class MuiSelectTest {
         assertTrue(optionOpen);
     }
 
+    @Test
+    void openOptionsWithBrowserWait() {
+        when(config.isBrowserWait()).thenReturn(true);
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(500L)).thenReturn(browserWait);
+        By popoverLocator = By.xpath(
+                "/html/body/div[contains(concat(' ',normalize-space(@class),' '),' MuiPopover-root ')]");
+        when(browserWait.untilLastVisible(popoverLocator)).thenReturn(this.optionContainer);
+        WebComponent container = testSubject.openOptions(500L);
+        assertEquals(this.optionContainer, container);
+        verify(browserWait, only()).untilLastVisible(popoverLocator);
+        verify(driver, never()).createWait(anyLong());
+    }
+
     @Test
     void openOptionsAlreadyOpened() {
         this.mockOptionOpen();
@@ -266,6 +281,18 @@ class MuiSelectTest {
         assertFalse(optionOpen);
     }
 
+    @Test
+    void closeOptionsWithBrowserWait() {
+        this.mockOptionOpen();
+        when(config.isBrowserWait()).thenReturn(true);
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(500L)).thenReturn(browserWait);
+        testSubject.closeOptions(500L);
+        verify(browserWait, only()).untilInvisible(By.xpath(
+                "/html/body/div[contains(concat(' ',normalize-space(@class),' '),' MuiPopover-root ')]"));
+        assertFalse(optionOpen);
+    }
+
     @Test
     void closeOptionsAlreadyClosedNull() {
         this.mockOptionsClose();
@@ -30,9 +30,12 @@ import com.github.grossopa.selenium.core.ComponentWebDriver;
 import com.github.grossopa.selenium.core.component.WebComponent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
 
 import java.util.List;
+import java.util.Set;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Collections.singletonList;
@@ -120,4 +123,83 @@ class MuiModalFinderTest {
     void findTopVisibleOverlayByComponentNameNotExists() {
         assertNull(testSubject.findTopVisibleOverlay("SomeComponentNotExists"));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findTopVisibleOverlayByScript() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        WebElement element = mock(WebElement.class);
+        WebComponent component = mock(WebComponent.class);
+        when(driver.executeReadOnlyScript(anyString(), eq("/html/body/div"), any(List.class), eq(true)))
+                .thenReturn(element);
+        when(driver.mapElement(element)).thenReturn(component);
+
+        assertEquals(component, testSubject.findTopVisibleOverlay());
+        verify(driver, never()).findComponents(any());
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(driver).executeReadOnlyScript(anyString(), eq("/html/body/div"), captor.capture(), eq(true));
+        assertEquals(config.getModalClasses(), Set.copyOf(captor.getValue()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findTopVisibleOverlayByScriptByComponentName() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        WebElement element = mock(WebElement.class);
+        WebComponent component = mock(WebComponent.class);
+        when(driver.executeReadOnlyScript(anyString(), eq("/html/body/div"), eq(List.of("MuiPopover-root")),
+                eq(true))).thenReturn(element);
+        when(driver.mapElement(element)).thenReturn(component);
+
+        assertEquals(component, testSubject.findTopVisibleOverlay("Popover"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findTopVisibleOverlayByScriptNotExists() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        when(driver.executeReadOnlyScript(anyString(), eq("/html/body/div"), any(List.class), eq(true)))
+                .thenReturn(null);
+
+        assertNull(testSubject.findTopVisibleOverlay(Set.of("MuiPopover-root")));
+        verify(driver, never()).mapElement(any());
+    }
+
+    @Test
+    void findTopVisibleOverlayByClassNames() {
+        WebComponent component = testSubject.findTopVisibleOverlay(Set.of("MuiMenu-root", "MuiPopover-root"));
+        assertNotNull(component);
+        assertEquals("MuiMenu-root", component.getDomAttribute("class"));
+    }
+
+    @Test
+    void getOverlayLocator() {
+        assertEquals(By.xpath("/html/body/div[contains(concat(' ',normalize-space(@class),' '),' MuiPopover-root ')]"),
+                testSubject.getOverlayLocator(Set.of("MuiPopover-root")));
+    }
+
+    @Test
+    void findFirstVisibleOverlay() {
+        WebComponent component = testSubject.findFirstVisibleOverlay(Set.of("MuiMenu-root", "MuiPopover-root"));
+        assertNotNull(component);
+        assertEquals("MuiPopover-root", component.getDomAttribute("class"));
+    }
+
+    @Test
+    void findFirstVisibleOverlayNotExists() {
+        assertNull(testSubject.findFirstVisibleOverlay(Set.of("SomeComponentNotExists")));
+    }
+
+    @Test
+    void findFirstVisibleOverlayByScript() {
+        when(config.isOverlayScriptLookup()).thenReturn(true);
+        WebElement element = mock(WebElement.class);
+        WebComponent component = mock(WebComponent.class);
+        when(driver.executeReadOnlyScript(anyString(), eq("/html/body/div"), eq(List.of("MuiPopover-root")), eq(false)))
+                .thenReturn(element);
+        when(driver.mapElement(element)).thenReturn(component);
+
+        assertEquals(component, testSubject.findFirstVisibleOverlay(Set.of("MuiPopover-root")));
+        verify(driver, never()).findComponents(any());
+    }
 }
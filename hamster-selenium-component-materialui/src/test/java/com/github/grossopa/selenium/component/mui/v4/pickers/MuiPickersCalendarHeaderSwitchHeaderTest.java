@@ -95,6 +95,18 @@ class MuiPickersCalendarHeaderSwitchHeaderTest {
         verify(driver, times(1)).threadSleep(100);
     }
 
+    @Test
+    void clickLeftButtonWithAnimationSettle() {
+        WebElement leftButton = mock(WebElement.class);
+        when(element.findElement(By.className("dddPickersCalendarHeader-iconButton"))).thenReturn(leftButton);
+        when(config.isAnimationSettle()).thenReturn(true);
+
+        testSubject.clickLeftButton(100);
+        verify(leftButton, times(1)).click();
+        verify(driver, times(1)).waitUntilSettled(testSubject, 100);
+        verify(driver, never()).threadSleep(anyLong());
+    }
+
     @Test
     void getMiddleHeader() {
         WebElement middleHeader = mock(WebElement.class);
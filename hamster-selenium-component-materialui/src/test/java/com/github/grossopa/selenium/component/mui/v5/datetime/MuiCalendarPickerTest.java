@@ -303,6 +303,16 @@ class MuiCalendarPickerTest {
         verify(driver, times(1)).threadSleep(1234L);
     }
 
+    @Test
+    void changeView11WithAnimationSettle() {
+        when(config.isAnimationSettle()).thenReturn(true);
+        mockYearView(true);
+        testSubject.changeView(DAY, 1234L);
+        verify(switchButtonElement, times(1)).click();
+        verify(driver, times(1)).waitUntilSettled(testSubject, 1234L);
+        verify(driver, never()).threadSleep(anyLong());
+    }
+
     @Test
     void changeView12() {
         mockYearView(true);
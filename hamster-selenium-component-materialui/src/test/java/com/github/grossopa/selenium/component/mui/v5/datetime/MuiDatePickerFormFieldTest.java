@@ -27,7 +27,9 @@ package com.github.grossopa.selenium.component.mui.v5.datetime;
 import com.github.grossopa.selenium.component.mui.config.MuiConfig;
 import com.github.grossopa.selenium.component.mui.exception.DatePickerNotClosedException;
 import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.component.WebComponent;
 import com.github.grossopa.selenium.core.util.SimpleEqualsTester;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
@@ -140,6 +142,27 @@ class MuiDatePickerFormFieldTest {
         assertEquals(pickersDialogElement, testSubject.openCalendarPicker(500L).getWrappedElement());
     }
 
+    @Test
+    void openCalendarPickerWithBrowserWait() {
+        when(config.isBrowserWait()).thenReturn(true);
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(500L)).thenReturn(browserWait);
+        mockNoPickersDialog();
+        doAnswer(a -> {
+            mockHasPickersDialog();
+            return null;
+        }).when(dateButtonElement).click();
+
+        By dialogLocator = By.xpath("/html/body/div[@role='dialog']//div[contains(@class,'MuiCalendarPicker-root')]");
+        WebComponent dialog = mock(WebComponent.class);
+        when(dialog.getWrappedElement()).thenReturn(pickersDialogElement);
+        when(browserWait.untilLastVisible(dialogLocator)).thenReturn(dialog);
+
+        assertEquals(pickersDialogElement, testSubject.openCalendarPicker(500L).getWrappedElement());
+        verify(browserWait, only()).untilLastVisible(dialogLocator);
+        verify(driver, never()).createWait(anyLong());
+    }
+
     @Test
     void openCalendarPicker3() {
         mockHasPickersDialog();
@@ -174,6 +197,23 @@ class MuiDatePickerFormFieldTest {
         verify(pickersDialogElement, times(1)).sendKeys(Keys.ESCAPE);
     }
 
+    @Test
+    void closePickerWithBrowserWait() {
+        when(config.isBrowserWait()).thenReturn(true);
+        BrowserWait browserWait = mock(BrowserWait.class);
+        when(driver.createBrowserWait(500L)).thenReturn(browserWait);
+        mockHasPickersDialog();
+        doAnswer(a -> {
+            mockNoPickersDialog();
+            return null;
+        }).when(pickersDialogElement).sendKeys(Keys.ESCAPE);
+
+        testSubject.closePicker(500L);
+        verify(browserWait, only()).untilInvisible(
+                By.xpath("/html/body/div[@role='dialog']//div[contains(@class,'MuiCalendarPicker-root')]"));
+        verify(driver, never()).createWait(anyLong());
+    }
+
     @Test
     void closePicker3() {
         mockHasPickersDialog();
@@ -24,8 +24,16 @@
 
 package com.github.grossopa.selenium.core;
 
+import com.github.grossopa.selenium.core.batch.BatchBuilder;
 import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import com.github.grossopa.selenium.core.locator.LocatorScripts;
 import com.github.grossopa.selenium.core.util.GracefulThreadSleep;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
+import com.github.grossopa.selenium.core.wait.FixedPollingStrategy;
+import com.github.grossopa.selenium.core.wait.PollingStrategy;
+import com.github.grossopa.selenium.core.wait.PollingWebDriverWait;
+import com.github.grossopa.selenium.core.wait.WaitStatistics;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.interactions.Interactive;
@@ -34,11 +42,15 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 import javax.annotation.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
@@ -53,6 +65,11 @@ public abstract class AbstractComponentWebDriver implements ComponentWebDriver {
 
     protected final WebDriver driver;
     protected final GracefulThreadSleep threadSleep;
+    protected final WaitStatistics waitStatistics = new WaitStatistics();
+    private volatile PollingStrategy pollingStrategy = new FixedPollingStrategy();
+    private boolean scriptTimeoutKnown;
+    @Nullable
+    private Duration knownScriptTimeout;
 
     /**
      * Constructs an instance with given non-null {@link WebDriver} and {@link GracefulThreadSleep} instances.
@@ -86,6 +103,53 @@ public abstract class AbstractComponentWebDriver implements ComponentWebDriver {
         return mapElement(driver.findElement(by));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WebComponentSnapshot> findComponentsWithState(By by, String... properties) {
+        By.Remotable.Parameters parameters = LocatorScripts.getParameters(by);
+        if (parameters == null) {
+            // customized locator could not be translated, falls back to find first and collect all states together
+            return collectStates(findComponents(by), properties);
+        }
+
+        //@formatter:off
+        List<Map<String, Object>> results = (List<Map<String, Object>>) executeReadOnlyScript(""
+                + "var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+                + "var collect = " + WebComponentSnapshot.COLLECT_FUNCTION + ";"
+                + "var names = arguments[2];"
+                + "return find(null, arguments[0], arguments[1]).map(function(e) {"
+                + "  return {element: e, state: collect(e, names)};"
+                + "});", parameters.using(), parameters.value(), asList(properties));
+        //@formatter:on
+
+        List<WebComponentSnapshot> snapshots = new ArrayList<>();
+        for (Map<String, Object> result : defaultIfNull(results, List.<Map<String, Object>>of())) {
+            WebComponent component = mapElement((WebElement) result.get("element"));
+            snapshots.add(WebComponentSnapshot.fromScriptResult(component, (Map<String, Object>) result.get("state")));
+        }
+        return snapshots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WebComponentSnapshot> collectStates(List<WebComponent> components, String... properties) {
+        if (components.isEmpty()) {
+            return new ArrayList<>();
+        }
+        //@formatter:off
+        List<Map<String, Object>> results = (List<Map<String, Object>>) executeReadOnlyScript(""
+                + "var collect = " + WebComponentSnapshot.COLLECT_FUNCTION + ";"
+                + "var names = arguments[1];"
+                + "return arguments[0].map(function(e) { return collect(e, names); });", components,
+                asList(properties));
+        //@formatter:on
+
+        List<WebComponentSnapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            snapshots.add(WebComponentSnapshot.fromScriptResult(components.get(i), results.get(i)));
+        }
+        return snapshots;
+    }
+
     @Override
     public void get(String url) {
         driver.get(url);
@@ -117,11 +181,58 @@ public abstract class AbstractComponentWebDriver implements ComponentWebDriver {
     }
 
     @Override
-    @SuppressWarnings("java:S6212")
     public WebDriverWait createWait(long waitInMilliseconds) {
-        WebDriverWait wait = new WebDriverWait(this, Duration.ofMillis(waitInMilliseconds));
-        wait.withTimeout(Duration.ofMillis(waitInMilliseconds));
-        return wait;
+        return new PollingWebDriverWait(this, Duration.ofMillis(waitInMilliseconds), pollingStrategy, waitStatistics);
+    }
+
+    /**
+     * Gets the polling strategy of the waits created by {@link #createWait(long)}.
+     *
+     * @return the polling strategy
+     */
+    public PollingStrategy getPollingStrategy() {
+        return pollingStrategy;
+    }
+
+    /**
+     * Sets the polling strategy of the waits created by {@link #createWait(long)}, the default
+     * {@link FixedPollingStrategy} polls every 500 milliseconds as the plain {@link WebDriverWait}.
+     *
+     * @param pollingStrategy the polling strategy
+     */
+    public void setPollingStrategy(PollingStrategy pollingStrategy) {
+        requireNonNull(pollingStrategy);
+        this.pollingStrategy = pollingStrategy;
+    }
+
+    /**
+     * Gets the latency statistics of the waits created by {@link #createWait(long)}, grouped by call site. The call
+     * sites are only resolved with a {@link PollingStrategy#isCallSiteAware()} strategy, otherwise all waits are
+     * recorded under {@link PollingWebDriverWait#UNRESOLVED_CALL_SITE}.
+     *
+     * @return the wait statistics
+     */
+    public WaitStatistics getWaitStatistics() {
+        return waitStatistics;
+    }
+
+    @Override
+    public BrowserWait createBrowserWait(long timeOutInMilliseconds) {
+        return new BrowserWait(this, timeOutInMilliseconds);
+    }
+
+    @Override
+    public synchronized void ensureScriptTimeout(Duration minimum) {
+        requireNonNull(minimum);
+        if (!scriptTimeoutKnown) {
+            knownScriptTimeout = driver.manage().timeouts().getScriptTimeout();
+            scriptTimeoutKnown = true;
+        }
+        // null means the session has no script timeout at all
+        if (knownScriptTimeout != null && knownScriptTimeout.compareTo(minimum) < 0) {
+            driver.manage().timeouts().scriptTimeout(minimum);
+            knownScriptTimeout = minimum;
+        }
     }
 
     @Override
@@ -139,6 +250,31 @@ public abstract class AbstractComponentWebDriver implements ComponentWebDriver {
         threadSleep.sleep(millis);
     }
 
+    @Override
+    public void batch(Consumer<BatchBuilder> reads) {
+        requireNonNull(reads);
+        BatchBuilder builder = new BatchBuilder();
+        reads.accept(builder);
+        // the batch only reads the page, so it's executed by the wrapped driver without notifying any page change
+        builder.execute((JavascriptExecutor) driver);
+    }
+
+    @Override
+    public boolean waitUntilSettled(@Nullable WebElement element, long maxWaitInMillis) {
+        if (maxWaitInMillis <= 0) {
+            return true;
+        }
+        try {
+            createBrowserWait(maxWaitInMillis).untilSettled(element);
+            return true;
+        } catch (TimeoutException exception) {
+            return false;
+        } catch (UnsupportedCommandException exception) {
+            threadSleep(maxWaitInMillis);
+            return false;
+        }
+    }
+
     @Override
     public String getPageSource() {
         return driver.getPageSource();
@@ -194,6 +330,17 @@ public abstract class AbstractComponentWebDriver implements ComponentWebDriver {
         return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
     }
 
+    @Override
+    public Object executeReadOnlyScript(String script, Object... args) {
+        // the script only reads the page, so it's executed by the wrapped driver without notifying any page change
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    @Override
+    public Object executeReadOnlyAsyncScript(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+    }
+
     @Override
     public <X> X getScreenshotAs(OutputType<X> target) {
         return ((TakesScreenshot) driver).getScreenshotAs(target);
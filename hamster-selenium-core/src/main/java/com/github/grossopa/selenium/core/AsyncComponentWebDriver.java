@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core;
+
+import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * The asynchronous variant of {@link ComponentWebDriver}, every operation is dispatched to the remote driver without
+ * waiting for the responses of the previous operations and the results are returned as {@link CompletableFuture}.
+ *
+ * <p>It shares the same session of the {@link ComponentWebDriver}, so the independent commands like reading hundreds
+ * of values from a page hide most of the network latency without a second session. The remote driver still executes
+ * the commands of one session in its own order, hence the operations depending on each other should be chained with
+ * the returned futures.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public interface AsyncComponentWebDriver extends AutoCloseable {
+
+    /**
+     * Gets the synchronous driver the operations are dispatched to.
+     *
+     * @return the synchronous driver
+     */
+    ComponentWebDriver getDriver();
+
+    /**
+     * Finds the first component using the given locator asynchronously.
+     *
+     * @param by the locating mechanism
+     * @return the future of the first matching component, completed exceptionally with {@link
+     * org.openqa.selenium.NoSuchElementException} if nothing matches
+     * @see ComponentWebDriver#findComponent(By)
+     */
+    CompletableFuture<WebComponent> findComponent(By by);
+
+    /**
+     * Finds all components using the given locator asynchronously.
+     *
+     * @param by the locating mechanism
+     * @return the future of all matching components
+     * @see ComponentWebDriver#findComponents(By)
+     */
+    CompletableFuture<List<WebComponent>> findComponents(By by);
+
+    /**
+     * Finds all components together with their states using the given locator asynchronously.
+     *
+     * @param by the locating mechanism
+     * @param properties the attributes or properties to collect
+     * @return the future of the snapshots of all matching components
+     * @see ComponentWebDriver#findComponentsWithState(By, String...)
+     */
+    CompletableFuture<List<WebComponentSnapshot>> findComponentsWithState(By by, String... properties);
+
+    /**
+     * Gets the visible text of given element asynchronously.
+     *
+     * @param element the element to read
+     * @return the future of the visible text
+     */
+    CompletableFuture<String> getText(WebElement element);
+
+    /**
+     * Gets the attribute of given element asynchronously.
+     *
+     * @param element the element to read
+     * @param name the attribute name
+     * @return the future of the attribute value, completed with null if not present
+     */
+    CompletableFuture<String> getDomAttribute(WebElement element, String name);
+
+    /**
+     * Gets the property of given element asynchronously.
+     *
+     * @param element the element to read
+     * @param name the property name
+     * @return the future of the property value, completed with null if not present
+     */
+    CompletableFuture<String> getDomProperty(WebElement element, String name);
+
+    /**
+     * Gets whether given element is displayed asynchronously.
+     *
+     * @param element the element to read
+     * @return the future of whether the element is displayed
+     */
+    CompletableFuture<Boolean> isDisplayed(WebElement element);
+
+    /**
+     * Executes the script asynchronously.
+     *
+     * @param script the script to execute
+     * @param args the script arguments
+     * @return the future of the script result
+     * @see ComponentWebDriver#executeScript(String, Object...)
+     */
+    CompletableFuture<Object> executeScript(String script, Object... args);
+
+    /**
+     * Executes any operation on the synchronous driver asynchronously.
+     *
+     * @param operation the operation to execute
+     * @param <T> the result type
+     * @return the future of the operation result
+     */
+    <T> CompletableFuture<T> submit(Function<ComponentWebDriver, T> operation);
+
+    /**
+     * Applies the reading function to each item asynchronously and collects the results in the same order.
+     *
+     * @param items the items to read, e.g. the found components
+     * @param function the reading function
+     * @param <E> the item type
+     * @param <T> the result type
+     * @return the future of all results in the order of the items
+     */
+    <E, T> CompletableFuture<List<T>> readAll(Collection<E> items, Function<? super E, T> function);
+
+    /**
+     * Releases the dispatching resources. The synchronous driver is not closed or quit.
+     */
+    @Override
+    void close();
+}
@@ -24,13 +24,19 @@
 
 package com.github.grossopa.selenium.core;
 
+import com.github.grossopa.selenium.core.batch.BatchBuilder;
 import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.interactions.Interactive;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -118,6 +124,22 @@ public interface ComponentWebDriver
      */
     WebComponent findComponent(By by);
 
+    /**
+     * Finds all elements within the current page using the given mechanism, together with the states and requested
+     * attributes / properties of each element, all resolved in one browser-side script.
+     * <p>
+     * Unlike {@link #findComponents(By)}, this method is NOT affected by the 'implicit wait' times, it returns an empty
+     * list immediately if nothing matches.
+     * </p>
+     *
+     * @param by The locating mechanism to use
+     * @param properties the attributes / properties to collect for each found element
+     * @return A list of snapshots of all found {@link WebComponent}s, or an empty list if nothing matches
+     * @see WebComponentSnapshot
+     * @since 1.13
+     */
+    List<WebComponentSnapshot> findComponentsWithState(By by, String... properties);
+
     /**
      * deprecated, in favor of {@link #findComponents(By)}
      *
@@ -161,6 +183,16 @@ public interface ComponentWebDriver
      */
     WebDriverWait createWait(long timeOutInMilliseconds);
 
+    /**
+     * Creates a new instance of {@link BrowserWait} which evaluates the conditions in the browser and responds once
+     * the condition holds or the time is out.
+     *
+     * @param timeOutInMilliseconds the timeout in milliseconds
+     * @return the created {@link BrowserWait} instance.
+     * @since 1.13
+     */
+    BrowserWait createBrowserWait(long timeOutInMilliseconds);
+
     /**
      * Move mouse to the element. shortcut of {@code createActions().moveToElement(element).perform()}
      *
@@ -182,5 +214,68 @@ public interface ComponentWebDriver
      */
     void threadSleep(long millis);
 
+    /**
+     * Waits until the animations and CSS transitions on the element, its ancestors and its descendants are finished,
+     * at most the given time. It's the replacement of the fixed {@link #threadSleep(long)} for animations, which
+     * returns as soon as the page is settled. Falls back to {@link #threadSleep(long)} only if the browser doesn't
+     * support {@code document.getAnimations()}, the other errors are thrown.
+     *
+     * @param element the element to check, or null to check the whole document
+     * @param maxWaitInMillis the max time to wait in milliseconds, if negative or 0 then doing nothing
+     * @return true if settled in time, false if timed out or the browser doesn't support it
+     */
+    boolean waitUntilSettled(@Nullable WebElement element, long maxWaitInMillis);
+
+    /**
+     * Compiles the reads registered by the consumer into one single script execution and fills the results into the
+     * {@link com.github.grossopa.selenium.core.batch.BatchValue} placeholders before returning, e.g. reads the texts
+     * of all the cells of a table row in one round trip rather than one per cell.
+     *
+     * @param reads the consumer to register the reads to the builder
+     * @see BatchBuilder
+     */
+    void batch(Consumer<BatchBuilder> reads);
+
+    /**
+     * Makes sure the script timeout of the session is not shorter than given duration, it's used by {@link BrowserWait}
+     * before waiting in the browser. The script timeout is read at most once and then cached by the driver, it's
+     * extended when needed and never shortened, so the waits normally cost no extra round trips. Note the script
+     * timeout changed through {@code manage().timeouts()} directly is not tracked by the cache.
+     *
+     * @param minimum the minimum script timeout
+     * @since 1.13
+     */
+    void ensureScriptTimeout(Duration minimum);
+
+    /**
+     * Executes the script which only reads the page, e.g. to locate or to inspect the elements. Unlike {@link
+     * #executeScript(String, Object...)} the page is not considered changed, so the lookup cache and the memoized
+     * attributes are kept.
+     * <p>
+     * The default implementation delegates to {@link #executeScript(String, Object...)}.
+     *
+     * @param script the script to execute
+     * @param args the arguments of the script
+     * @return the script result, same as {@link #executeScript(String, Object...)}
+     * @since 1.13
+     */
+    default Object executeReadOnlyScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
 
+    /**
+     * Executes the asynchronous script which only reads the page, e.g. to wait for a condition in the browser. Unlike
+     * {@link #executeAsyncScript(String, Object...)} the page is not considered changed, so the lookup cache and the
+     * memoized attributes are kept.
+     * <p>
+     * The default implementation delegates to {@link #executeAsyncScript(String, Object...)}.
+     *
+     * @param script the script to execute
+     * @param args the arguments of the script
+     * @return the script result, same as {@link #executeAsyncScript(String, Object...)}
+     * @since 1.13
+     */
+    default Object executeReadOnlyAsyncScript(String script, Object... args) {
+        return executeAsyncScript(script, args);
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core;
+
+import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The default implementation of {@link AsyncComponentWebDriver} which dispatches the operations to a pool of threads,
+ * so the commands are written to the remote driver back-to-back over the pooled HTTP connections of the same session.
+ *
+ * <p>The {@link WebComponent} instances found by the same driver are shared by the threads, the lookup cache, the
+ * attribute memo and the self-healing elements of {@link DefaultComponentWebDriver} are safe to be read concurrently.
+ * </p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class DefaultAsyncComponentWebDriver implements AsyncComponentWebDriver {
+
+    /**
+     * The default number of the in-flight commands.
+     */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    private final ComponentWebDriver driver;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Constructs an instance with the default parallelism.
+     *
+     * @param driver the synchronous driver to dispatch the operations to
+     */
+    public DefaultAsyncComponentWebDriver(ComponentWebDriver driver) {
+        this(driver, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Constructs an instance with given parallelism, the threads are owned and released by {@link #close()}.
+     *
+     * @param driver the synchronous driver to dispatch the operations to
+     * @param parallelism the max number of the in-flight commands
+     */
+    public DefaultAsyncComponentWebDriver(ComponentWebDriver driver, int parallelism) {
+        requireNonNull(driver);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive but was " + parallelism);
+        }
+        this.driver = driver;
+        this.ownedExecutor = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory());
+        this.executor = ownedExecutor;
+    }
+
+    /**
+     * Constructs an instance with given executor, the executor is managed by the caller.
+     *
+     * @param driver the synchronous driver to dispatch the operations to
+     * @param executor the executor to dispatch the operations
+     */
+    public DefaultAsyncComponentWebDriver(ComponentWebDriver driver, Executor executor) {
+        requireNonNull(driver);
+        requireNonNull(executor);
+        this.driver = driver;
+        this.executor = executor;
+        this.ownedExecutor = null;
+    }
+
+    @Override
+    public ComponentWebDriver getDriver() {
+        return driver;
+    }
+
+    @Override
+    public CompletableFuture<WebComponent> findComponent(By by) {
+        return submit(d -> d.findComponent(by));
+    }
+
+    @Override
+    public CompletableFuture<List<WebComponent>> findComponents(By by) {
+        return submit(d -> d.findComponents(by));
+    }
+
+    @Override
+    public CompletableFuture<List<WebComponentSnapshot>> findComponentsWithState(By by, String... properties) {
+        return submit(d -> d.findComponentsWithState(by, properties));
+    }
+
+    @Override
+    public CompletableFuture<String> getText(WebElement element) {
+        return submit(d -> element.getText());
+    }
+
+    @Override
+    public CompletableFuture<String> getDomAttribute(WebElement element, String name) {
+        return submit(d -> element.getDomAttribute(name));
+    }
+
+    @Override
+    public CompletableFuture<String> getDomProperty(WebElement element, String name) {
+        return submit(d -> element.getDomProperty(name));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isDisplayed(WebElement element) {
+        return submit(d -> element.isDisplayed());
+    }
+
+    @Override
+    public CompletableFuture<Object> executeScript(String script, Object... args) {
+        return submit(d -> d.executeScript(script, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Function<ComponentWebDriver, T> operation) {
+        requireNonNull(operation);
+        return CompletableFuture.supplyAsync(() -> operation.apply(driver), executor);
+    }
+
+    @Override
+    public <E, T> CompletableFuture<List<T>> readAll(Collection<E> items, Function<? super E, T> function) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(items.size());
+        for (E item : items) {
+            futures.add(submit(d -> function.apply(item)));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(toList()));
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultAsyncComponentWebDriver{" + "driver=" + driver + ", executor=" + executor + '}';
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+        private final int poolIndex = POOL_COUNTER.incrementAndGet();
+        private final AtomicInteger threadCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable,
+                    "hamster-async-driver-" + poolIndex + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
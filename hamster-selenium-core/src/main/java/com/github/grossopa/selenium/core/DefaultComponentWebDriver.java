@@ -24,13 +24,28 @@
 
 package com.github.grossopa.selenium.core;
 
+import com.github.grossopa.selenium.core.component.ComponentLookupCache;
 import com.github.grossopa.selenium.core.component.DefaultWebComponent;
+import com.github.grossopa.selenium.core.component.StaleElementRelocator;
 import com.github.grossopa.selenium.core.component.WebComponent;
 import com.github.grossopa.selenium.core.element.NoOpWebElementDecorator;
 import com.github.grossopa.selenium.core.element.WebElementDecorator;
 import com.github.grossopa.selenium.core.util.GracefulThreadSleep;
+import com.github.grossopa.selenium.core.wait.PollingWebDriverWait;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 
@@ -44,6 +59,18 @@ public class DefaultComponentWebDriver extends AbstractComponentWebDriver {
 
     protected final WebElementDecorator decorator;
 
+    private final AtomicLong pageGeneration = new AtomicLong();
+
+    @Nullable
+    private ComponentLookupCache lookupCache;
+
+    private volatile long attributeMemoInMillis;
+
+    private final ThreadLocal<Integer> attributeMemoBypass = new ThreadLocal<>();
+
+    @Nullable
+    private StaleElementRelocator staleElementRelocator;
+
     /**
      * Constructs an instance with given non-null {@link WebDriver} instance.
      *
@@ -86,5 +113,263 @@ public class DefaultComponentWebDriver extends AbstractComponentWebDriver {
         return new DefaultWebComponent(decoratedElement, this, this.decorator);
     }
 
+    /**
+     * Gets the lookup cache, null if the lookup cache is not enabled.
+     *
+     * @return the lookup cache or null if not enabled
+     * @since 1.13
+     */
+    @Nullable
+    public ComponentLookupCache getLookupCache() {
+        return lookupCache;
+    }
+
+    /**
+     * Sets the lookup cache to memoize the {@link #findComponent(By)} and {@link #findComponents(By)} results of this
+     * driver and all found {@link DefaultWebComponent} instances, set null to disable it. Disabled by default.
+     *
+     * <p>The cache is invalidated when {@link #get(String)}, {@link #navigate()}, {@link #switchTo()},
+     * {@link #executeScript(String, Object...)} or any other page changing method is called, also when the components
+     * are clicked, typed or a {@link org.openqa.selenium.StaleElementReferenceException} is thrown. Note the
+     * {@link Navigation} and {@link TargetLocator} instances should not be held for later usages as the cache is
+     * invalidated only when they are requested. The read-only scripts executed by
+     * {@link #executeReadOnlyScript(String, Object...)}, e.g. the snapshots, the overlay lookups and the browser waits,
+     * don't invalidate the cache.</p>
+     *
+     * <p>The waits created by {@link #createWait(long)}, also used by the client side fallbacks of
+     * {@link com.github.grossopa.selenium.core.wait.BrowserWait}, bypass the cache so every poll finds the elements
+     * again. The other polling loops must run the lookups by {@link ComponentLookupCache#bypass(Supplier)}.</p>
+     *
+     * @param lookupCache the lookup cache to use, or null to disable it
+     * @since 1.13
+     */
+    public void setLookupCache(@Nullable ComponentLookupCache lookupCache) {
+        this.lookupCache = lookupCache;
+    }
+
+    /**
+     * Gets how long in milliseconds the memoized attributes, properties and css values of the found
+     * {@link DefaultWebComponent} instances are trusted without checking the browser, 0 means the memo is disabled.
+     *
+     * @return the memo duration in milliseconds
+     * @since 1.13
+     */
+    public long getAttributeMemoInMillis() {
+        return attributeMemoInMillis;
+    }
+
+    /**
+     * Sets how long in milliseconds the memoized attributes, properties and css values of the found
+     * {@link DefaultWebComponent} instances are trusted without checking the browser, set 0 to disable it. Disabled by
+     * default.
+     *
+     * <p>The memo is always checked again after the page generation is changed, see {@link #notifyPageChanged()}. The
+     * attributes are observed by a MutationObserver in browser, so the check only transfers them when changed.</p>
+     *
+     * <p>Note the changes made by the page itself, e.g. a class toggled by the script, are not visible within the memo
+     * duration. The waits created by {@link #createWait(long)} bypass the memo, the other polling loops, e.g. the
+     * {@link WebDriverWait} created directly, must run the reads by {@link #withoutAttributeMemo(Supplier)}.</p>
+     *
+     * @param attributeMemoInMillis the memo duration in milliseconds, 0 to disable it
+     * @since 1.13
+     */
+    public void setAttributeMemoInMillis(long attributeMemoInMillis) {
+        this.attributeMemoInMillis = Math.max(0L, attributeMemoInMillis);
+    }
+
+    /**
+     * Runs the reads without trusting the attribute memo in current thread, the memo is checked against the browser at
+     * every read so the changes made by the page are visible immediately. It's used by the waits created by
+     * {@link #createWait(long)}.
+     *
+     * @param reads the reads to run
+     * @param <T> the type of the result
+     * @return the result of the reads
+     * @since 1.13
+     */
+    public <T> T withoutAttributeMemo(Supplier<T> reads) {
+        Integer depth = attributeMemoBypass.get();
+        attributeMemoBypass.set(depth == null ? 1 : depth + 1);
+        try {
+            return reads.get();
+        } finally {
+            if (depth == null) {
+                attributeMemoBypass.remove();
+            } else {
+                attributeMemoBypass.set(depth);
+            }
+        }
+    }
+
+    /**
+     * Whether the attribute memo is bypassed in current thread, see {@link #withoutAttributeMemo(Supplier)}.
+     *
+     * @return true if the attribute memo is bypassed in current thread
+     * @since 1.13
+     */
+    public boolean isAttributeMemoBypassed() {
+        return attributeMemoBypass.get() != null;
+    }
+
+    /**
+     * Gets the stale element relocator, null if the found components are not self-healing.
+     *
+     * @return the stale element relocator or null if not enabled
+     * @since 1.13
+     */
+    @Nullable
+    public StaleElementRelocator getStaleElementRelocator() {
+        return staleElementRelocator;
+    }
+
+    /**
+     * Sets the stale element relocator to make the components found by {@link #findComponent(By)}, {@link
+     * #findComponents(By)} and the nested {@code findComponent} / {@code findComponents} of the found
+     * {@link DefaultWebComponent} instances self-healing, set null to disable it. Disabled by default.
+     *
+     * <p>The components mapped from the elements returned by scripts are not self-healing, as there is no locator to
+     * find them again.</p>
+     *
+     * @param staleElementRelocator the relocator to use, or null to disable it
+     * @since 1.13
+     */
+    public void setStaleElementRelocator(@Nullable StaleElementRelocator staleElementRelocator) {
+        this.staleElementRelocator = staleElementRelocator;
+    }
+
+    /**
+     * Gets the page generation, which is increased every time the page might be changed by this driver or the found
+     * components.
+     *
+     * @return the page generation
+     * @since 1.13
+     */
+    public long getPageGeneration() {
+        return pageGeneration.get();
+    }
+
+    /**
+     * Notifies the page might be changed, it increases the page generation and invalidates the lookup cache.
+     *
+     * @since 1.13
+     */
+    public void notifyPageChanged() {
+        pageGeneration.incrementAndGet();
+        ComponentLookupCache cache = lookupCache;
+        if (cache != null) {
+            cache.invalidate();
+        }
+    }
+
+    @Override
+    public WebComponent findComponent(By by) {
+        ComponentLookupCache cache = lookupCache;
+        return cache == null ? doFindComponent(by) : cache.findComponent(null, by, () -> doFindComponent(by));
+    }
+
+    @Override
+    public List<WebComponent> findComponents(By by) {
+        ComponentLookupCache cache = lookupCache;
+        return cache == null ? doFindComponents(by) : cache.findComponents(null, by, () -> doFindComponents(by));
+    }
+
+    private WebComponent doFindComponent(By by) {
+        StaleElementRelocator relocator = staleElementRelocator;
+        if (relocator == null) {
+            return super.findComponent(by);
+        }
+        return mapElement(relocator.relocatable(driver, by, driver.findElement(by)));
+    }
+
+    private List<WebComponent> doFindComponents(By by) {
+        StaleElementRelocator relocator = staleElementRelocator;
+        if (relocator == null) {
+            return super.findComponents(by);
+        }
+        List<WebElement> elements = driver.findElements(by);
+        List<WebComponent> components = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            components.add(mapElement(relocator.relocatable(driver, by, i, elements.get(i))));
+        }
+        return components;
+    }
+
+    @Override
+    public WebDriverWait createWait(long timeOutInMilliseconds) {
+        if (attributeMemoInMillis <= 0L && lookupCache == null) {
+            return super.createWait(timeOutInMilliseconds);
+        }
+        return new MemoBypassingWait(Duration.ofMillis(timeOutInMilliseconds));
+    }
 
+    @Override
+    public void get(String url) {
+        notifyPageChanged();
+        super.get(url);
+    }
+
+    @Override
+    public Navigation navigate() {
+        notifyPageChanged();
+        return super.navigate();
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        notifyPageChanged();
+        return super.switchTo();
+    }
+
+    @Override
+    public void close() {
+        notifyPageChanged();
+        super.close();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        try {
+            return super.executeScript(script, args);
+        } finally {
+            notifyPageChanged();
+        }
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        try {
+            return super.executeAsyncScript(script, args);
+        } finally {
+            notifyPageChanged();
+        }
+    }
+
+    @Override
+    public void perform(Collection<Sequence> actions) {
+        try {
+            super.perform(actions);
+        } finally {
+            notifyPageChanged();
+        }
+    }
+
+    /**
+     * The wait evaluating the conditions without trusting the attribute memo and the lookup cache, so the changes made
+     * by the page are visible at every poll.
+     */
+    private class MemoBypassingWait extends PollingWebDriverWait {
+
+        MemoBypassingWait(Duration timeout) {
+            super(DefaultComponentWebDriver.this, timeout, getPollingStrategy(), waitStatistics);
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            ComponentLookupCache cache = lookupCache;
+            if (cache == null) {
+                return withoutAttributeMemo(() -> super.until(isTrue));
+            }
+            return cache.bypass(() -> withoutAttributeMemo(() -> super.until(isTrue)));
+        }
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.batch;
+
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the reads against the elements and compiles them into one single script execution, the typed results are
+ * filled into the returned {@link BatchValue} placeholders after {@link #execute(JavascriptExecutor)}. It's the
+ * general solution of reading the same value from many elements, which otherwise costs one round trip per element.
+ *
+ * <pre>{@code
+ * List<BatchValue<String>> texts = new ArrayList<>();
+ * driver.batch(batch -> cells.forEach(cell -> texts.add(batch.text(cell))));
+ * }</pre>
+ *
+ * <p>The builder is not thread-safe and could be executed only once.</p>
+ *
+ * @author Jack Yin
+ * @see com.github.grossopa.selenium.core.ComponentWebDriver#batch(java.util.function.Consumer)
+ * @since 1.13
+ */
+public class BatchBuilder {
+
+    /**
+     * The script function to execute the reads, it accepts the distinct elements and the reads in format of {@code
+     * [type, elementIndex, name]}, and returns the values in the same order of the reads.
+     */
+    //@formatter:off
+    public static final String BATCH_FUNCTION = ""
+            + "function(elements, reads) {"
+            + "  var displayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  return reads.map(function(read) {"
+            + "    var e = elements[read[1]];"
+            + "    var name = read[2];"
+            + "    switch (read[0]) {"
+            + "      case 'text':"
+            + "        return ((e.innerText === undefined ? e.textContent : e.innerText) || '').trim();"
+            + "      case 'domAttribute':"
+            + "        return e.getAttribute(name);"
+            + "      case 'domProperty':"
+            + "        var p = e[name];"
+            + "        return p === undefined || p === null || typeof p === 'object' || typeof p === 'function'"
+            + "            ? null : String(p);"
+            + "      case 'rect':"
+            + "        var r = e.getBoundingClientRect();"
+            + "        return {x: r.left + window.pageXOffset, y: r.top + window.pageYOffset,"
+            + "            width: r.width, height: r.height};"
+            + "      case 'displayed':"
+            + "        return displayed(e);"
+            + "      case 'childCount':"
+            + "        return e.children.length;"
+            + "      case 'tagName':"
+            + "        return e.tagName.toLowerCase();"
+            + "      default:"
+            + "        throw new Error('unknown batch read: ' + read[0]);"
+            + "    }"
+            + "  });"
+            + "}";
+    //@formatter:on
+
+    private final List<WebElement> elements = new ArrayList<>();
+    private final Map<WebElement, Integer> elementIndexes = new HashMap<>();
+    private final List<Read<?>> reads = new ArrayList<>();
+    private boolean executed;
+
+    /**
+     * Reads the visible text of the element, the text is trimmed as {@link WebElement#getText()}.
+     *
+     * @param element the element to read
+     * @return the placeholder of the text
+     */
+    public BatchValue<String> text(WebElement element) {
+        return add("text", element, null, value -> Objects.toString(value, ""));
+    }
+
+    /**
+     * Reads the DOM attribute of the element, as {@link WebElement#getDomAttribute(String)}.
+     *
+     * @param element the element to read
+     * @param name the attribute name
+     * @return the placeholder of the attribute value, the value is null if absent
+     */
+    public BatchValue<String> domAttribute(WebElement element, String name) {
+        requireNonNull(name);
+        return add("domAttribute", element, name, value -> value == null ? null : String.valueOf(value));
+    }
+
+    /**
+     * Reads the primitive DOM property of the element, as {@link WebElement#getDomProperty(String)}.
+     *
+     * @param element the element to read
+     * @param name the property name
+     * @return the placeholder of the property value, the value is null if absent or not primitive
+     */
+    public BatchValue<String> domProperty(WebElement element, String name) {
+        requireNonNull(name);
+        return add("domProperty", element, name, value -> value == null ? null : String.valueOf(value));
+    }
+
+    /**
+     * Reads the location and size of the element, as {@link WebElement#getRect()}.
+     *
+     * @param element the element to read
+     * @return the placeholder of the rect
+     */
+    @SuppressWarnings("unchecked")
+    public BatchValue<Rectangle> rect(WebElement element) {
+        return add("rect", element, null, value -> {
+            Map<String, Object> rect = value instanceof Map ? (Map<String, Object>) value : Map.of();
+            return new Rectangle(toInt(rect.get("x")), toInt(rect.get("y")), toInt(rect.get("height")),
+                    toInt(rect.get("width")));
+        });
+    }
+
+    /**
+     * Reads whether the element is displayed, it's checked the same way as {@link
+     * WebComponentSnapshot#isDisplayed()}.
+     *
+     * @param element the element to read
+     * @return the placeholder of whether the element is displayed
+     */
+    public BatchValue<Boolean> displayed(WebElement element) {
+        return add("displayed", element, null, Boolean.TRUE::equals);
+    }
+
+    /**
+     * Reads the number of the child elements.
+     *
+     * @param element the element to read
+     * @return the placeholder of the number of the child elements
+     */
+    public BatchValue<Integer> childCount(WebElement element) {
+        return add("childCount", element, null, BatchBuilder::toInt);
+    }
+
+    /**
+     * Reads the lower case tag name of the element.
+     *
+     * @param element the element to read
+     * @return the placeholder of the tag name
+     */
+    public BatchValue<String> tagName(WebElement element) {
+        return add("tagName", element, null, value -> Objects.toString(value, ""));
+    }
+
+    /**
+     * Gets the number of the registered reads.
+     *
+     * @return the number of the registered reads
+     */
+    public int size() {
+        return reads.size();
+    }
+
+    /**
+     * Executes all the registered reads in one script and fills the placeholders. Does nothing if no read is
+     * registered.
+     *
+     * @param executor the executor to run the script
+     * @throws IllegalStateException if the batch is already executed
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void execute(JavascriptExecutor executor) {
+        requireNonNull(executor);
+        if (executed) {
+            throw new IllegalStateException("The batch is already executed.");
+        }
+        executed = true;
+        if (reads.isEmpty()) {
+            return;
+        }
+
+        List<List<Object>> scriptReads = new ArrayList<>();
+        for (Read<?> read : reads) {
+            scriptReads.add(asList(read.type, read.elementIndex, read.name));
+        }
+        List<Object> results = (List<Object>) executor.executeScript(
+                "return (" + BATCH_FUNCTION + ")(arguments[0], arguments[1]);", elements, scriptReads);
+        if (results == null || results.size() != reads.size()) {
+            throw new WebDriverException(
+                    "Batch expects " + reads.size() + " values but got " + (results == null ? 0 : results.size()));
+        }
+        for (int i = 0; i < reads.size(); i++) {
+            Read read = reads.get(i);
+            read.value.resolve(read.converter.apply(results.get(i)));
+        }
+    }
+
+    private <T> BatchValue<T> add(String type, WebElement element, String name, Function<Object, T> converter) {
+        requireNonNull(element);
+        if (executed) {
+            throw new IllegalStateException("The batch is already executed.");
+        }
+        Integer index = elementIndexes.computeIfAbsent(element, key -> {
+            elements.add(key);
+            return elements.size() - 1;
+        });
+        BatchValue<T> value = new BatchValue<>();
+        reads.add(new Read<>(type, index, name, converter, value));
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchBuilder{" + "elements=" + elements.size() + ", reads=" + reads.size() + ", executed=" + executed
+                + '}';
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+    }
+
+    private static class Read<T> {
+        private final String type;
+        private final int elementIndex;
+        private final String name;
+        private final Function<Object, T> converter;
+        private final BatchValue<T> value;
+
+        Read(String type, int elementIndex, String name, Function<Object, T> converter, BatchValue<T> value) {
+            this.type = type;
+            this.elementIndex = elementIndex;
+            this.name = name;
+            this.converter = converter;
+            this.value = value;
+        }
+    }
+}
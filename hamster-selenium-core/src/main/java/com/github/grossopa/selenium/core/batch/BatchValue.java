@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.batch;
+
+import javax.annotation.Nullable;
+
+/**
+ * The placeholder of a value read by {@link BatchBuilder}, it's filled after the batch is executed.
+ *
+ * @param <T> the type of the value
+ * @author Jack Yin
+ * @since 1.13
+ */
+public final class BatchValue<T> {
+
+    private boolean resolved;
+    private T value;
+
+    BatchValue() {
+        // created by the BatchBuilder only
+    }
+
+    /**
+     * Gets the value read by the batch.
+     *
+     * @return the value read by the batch, nullable for the absent attributes and properties
+     * @throws IllegalStateException if the batch is not executed yet
+     */
+    @Nullable
+    public T get() {
+        if (!resolved) {
+            throw new IllegalStateException("The batch is not executed yet.");
+        }
+        return value;
+    }
+
+    /**
+     * Whether the value is filled by the executed batch.
+     *
+     * @return true if the value is filled
+     */
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    void resolve(@Nullable T value) {
+        this.value = value;
+        this.resolved = true;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchValue{" + (resolved ? "value=" + value : "unresolved") + '}';
+    }
+}
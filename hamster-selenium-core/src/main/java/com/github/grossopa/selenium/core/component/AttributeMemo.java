@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The per-element memo of the attributes, properties, tag name and css values for {@link DefaultWebComponent}.
+ *
+ * <p>A MutationObserver is injected to the element at the first validation, it increases the version of the element
+ * whenever its attributes are changed. The memo is trusted without any browser round trips until either the page
+ * generation of the driver is changed or the memo duration is exceeded, then the version is compared with the one last
+ * seen by this memo in one single script which also returns all attributes if they are changed. Each memo keeps its
+ * own last seen version, so the memos of different components wrapping the same element don't hide the changes from
+ * each other. The properties and the css values are not observable hence they
+ * are dropped at every validation.</p>
+ *
+ * <p>The memo is never trusted while {@link DefaultComponentWebDriver#isAttributeMemoBypassed()}, e.g. within the
+ * waits, the version is checked at every read so the changes made by the page are visible immediately. The memo is
+ * guarded by its own monitor as the same component could be read by multiple threads.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+final class AttributeMemo {
+
+    /**
+     * The script function to check whether the attributes of the element are changed since the version last seen by
+     * the caller, it accepts the element and the last seen version (-1 to force returning the attributes), and returns
+     * the current version together with the attributes map, or null if unchanged.
+     */
+    //@formatter:off
+    static final String CHECK_FUNCTION = ""
+            + "function(e, seen) {"
+            + "  var state = e.__hamsterAttributeMemo;"
+            + "  if (!state) {"
+            + "    state = {version: 0};"
+            + "    new MutationObserver(function() { state.version++; }).observe(e, {attributes: true});"
+            + "    e.__hamsterAttributeMemo = state;"
+            + "  }"
+            + "  if (state.version === seen) {"
+            + "    return null;"
+            + "  }"
+            + "  var attributes = {};"
+            + "  for (var i = 0; i < e.attributes.length; i++) {"
+            + "    attributes[e.attributes[i].name] = e.attributes[i].value;"
+            + "  }"
+            + "  return {version: state.version, attributes: attributes};"
+            + "}";
+    //@formatter:on
+
+    /**
+     * The boolean attributes are reported as "true" when present, same as the W3C Get Element Attribute command.
+     */
+    private static final Set<String> BOOLEAN_ATTRIBUTES = Set.of("allowfullscreen", "async", "autofocus",
+            "autoplay", "checked", "controls", "default", "defer", "disabled", "formnovalidate", "hidden", "inert",
+            "ismap", "itemscope", "loop", "multiple", "muted", "nomodule", "novalidate", "open", "playsinline",
+            "readonly", "required", "reversed", "selected");
+
+    private final WebElement element;
+    private final DefaultComponentWebDriver driver;
+
+    private final Map<String, String> properties = new HashMap<>();
+    private final Map<String, String> cssValues = new HashMap<>();
+    private Map<String, String> attributes;
+    private String tagName;
+
+    private long generation = -1L;
+    private long seenVersion = -1L;
+    private long validatedAtNanos;
+
+    AttributeMemo(WebElement element, DefaultComponentWebDriver driver) {
+        this.element = element;
+        this.driver = driver;
+    }
+
+    @Nullable
+    synchronized String getDomAttribute(String name) {
+        validate();
+        String value = attributes.containsKey(name) ? attributes.get(name) : attributes.get(
+                name.toLowerCase(Locale.ROOT));
+        if (value != null && BOOLEAN_ATTRIBUTES.contains(name.toLowerCase(Locale.ROOT))) {
+            return "true";
+        }
+        return value;
+    }
+
+    @Nullable
+    synchronized String getDomProperty(String name, Function<String, String> loader) {
+        validate();
+        return computeIfAbsent(properties, name, loader);
+    }
+
+    synchronized String getCssValue(String propertyName, Function<String, String> loader) {
+        validate();
+        return computeIfAbsent(cssValues, propertyName, loader);
+    }
+
+    synchronized String getTagName(Function<WebElement, String> loader) {
+        // the tag name of an element never changes
+        if (tagName == null) {
+            tagName = loader.apply(element);
+        }
+        return tagName;
+    }
+
+    synchronized void clear() {
+        attributes = null;
+        properties.clear();
+        cssValues.clear();
+        generation = -1L;
+        seenVersion = -1L;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void validate() {
+        long currentGeneration = driver.getPageGeneration();
+        long now = System.nanoTime();
+        if (attributes != null && generation == currentGeneration && !driver.isAttributeMemoBypassed()
+                && now - validatedAtNanos < driver.getAttributeMemoInMillis() * 1_000_000L) {
+            return;
+        }
+        // executes with the wrapped driver so the page generation is not changed by the read only script
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver.getWrappedDriver())
+                .executeScript("return (" + CHECK_FUNCTION + ")(arguments[0], arguments[1]);", element,
+                        attributes == null ? -1L : seenVersion);
+        if (result != null || attributes == null) {
+            Map<String, String> newAttributes = new HashMap<>();
+            if (result != null) {
+                Map<String, Object> resultAttributes = (Map<String, Object>) result.get("attributes");
+                if (resultAttributes != null) {
+                    resultAttributes.forEach((key, value) -> newAttributes.put(key,
+                            value == null ? null : String.valueOf(value)));
+                }
+                Object version = result.get("version");
+                seenVersion = version instanceof Number ? ((Number) version).longValue() : -1L;
+            }
+            attributes = newAttributes;
+        }
+        properties.clear();
+        cssValues.clear();
+        generation = currentGeneration;
+        validatedAtNanos = now;
+    }
+
+    private static String computeIfAbsent(Map<String, String> values, String name, Function<String, String> loader) {
+        // HashMap.computeIfAbsent doesn't keep the null values
+        if (values.containsKey(name)) {
+            return values.get(name);
+        }
+        String value = loader.apply(name);
+        values.put(name, value);
+        return value;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Memoizes the found components keyed by the search root and the locator, so repeated reads of an unchanged page
+ * don't send identical find requests to the browser.
+ *
+ * <p>The cache doesn't know whether the page is changed, the owner is responsible to call {@link #invalidate()}
+ * whenever the page might be changed, e.g. navigating, switching context, clicking, typing or executing scripts.
+ * Failed lookups and empty lists are never cached.</p>
+ *
+ * <p>The polling loops waiting for the page to change must run the lookups by {@link #bypass(Supplier)}, otherwise
+ * every poll sees the same cached result.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ComponentLookupCache {
+
+    private final Map<Key, Object> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final ThreadLocal<Integer> bypassDepth = new ThreadLocal<>();
+
+    /**
+     * Finds the single component from the cache, or loads it with given loader if not cached yet.
+     *
+     * @param rootId the identity of the search root, null for the document root
+     * @param by the locator
+     * @param loader the loader to find the component from the browser
+     * @return the found component
+     */
+    public WebComponent findComponent(@Nullable Object rootId, By by, Supplier<WebComponent> loader) {
+        Key key = new Key(rootId, by, false);
+        WebComponent cached = isBypassed() ? null : (WebComponent) entries.get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+        missCount.incrementAndGet();
+        WebComponent component = requireNonNull(loader.get());
+        entries.put(key, component);
+        return component;
+    }
+
+    /**
+     * Finds the list of components from the cache, or loads them with given loader if not cached yet.
+     *
+     * @param rootId the identity of the search root, null for the document root
+     * @param by the locator
+     * @param loader the loader to find the components from the browser
+     * @return a new modifiable list of the found components
+     */
+    @SuppressWarnings("unchecked")
+    public List<WebComponent> findComponents(@Nullable Object rootId, By by, Supplier<List<WebComponent>> loader) {
+        Key key = new Key(rootId, by, true);
+        List<WebComponent> cached = isBypassed() ? null : (List<WebComponent>) entries.get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return new ArrayList<>(cached);
+        }
+        missCount.incrementAndGet();
+        List<WebComponent> components = requireNonNull(loader.get());
+        if (components.isEmpty()) {
+            // the elements may be still appearing, e.g. an overlay being opened
+            entries.remove(key);
+        } else {
+            entries.put(key, unmodifiableList(new ArrayList<>(components)));
+        }
+        return components;
+    }
+
+    /**
+     * Runs the lookups without reading the cache in current thread, every lookup is sent to the browser and the cached
+     * entry is replaced by the latest result. It's used by the waits polling the page.
+     *
+     * @param lookups the lookups to run
+     * @param <T> the type of the result
+     * @return the result of the lookups
+     */
+    public <T> T bypass(Supplier<T> lookups) {
+        Integer depth = bypassDepth.get();
+        bypassDepth.set(depth == null ? 1 : depth + 1);
+        try {
+            return lookups.get();
+        } finally {
+            if (depth == null) {
+                bypassDepth.remove();
+            } else {
+                bypassDepth.set(depth);
+            }
+        }
+    }
+
+    /**
+     * Whether the cache is bypassed in current thread, see {@link #bypass(Supplier)}.
+     *
+     * @return true if the cache is bypassed in current thread
+     */
+    public boolean isBypassed() {
+        return bypassDepth.get() != null;
+    }
+
+    /**
+     * Executes given supplier and invalidates the cache if the {@link StaleElementReferenceException} is thrown, the
+     * exception is rethrown afterwards.
+     *
+     * @param supplier the supplier to execute
+     * @param <T> the result type
+     * @return the result of the supplier
+     */
+    public <T> T invalidateOnStale(Supplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (StaleElementReferenceException exception) {
+            invalidate();
+            throw exception;
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of cached lookups.
+     *
+     * @return the number of cached lookups
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets how many lookups are served from the cache.
+     *
+     * @return how many lookups are served from the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets how many lookups are sent to the browser.
+     *
+     * @return how many lookups are sent to the browser
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentLookupCache{" + "size=" + entries.size() + ", hitCount=" + hitCount + ", missCount="
+                + missCount + '}';
+    }
+
+    private static final class Key {
+        private final Object rootId;
+        private final By by;
+        private final boolean multiple;
+
+        private Key(@Nullable Object rootId, By by, boolean multiple) {
+            this.rootId = rootId;
+            this.by = requireNonNull(by);
+            this.multiple = multiple;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return multiple == key.multiple && Objects.equals(rootId, key.rootId) && by.equals(key.by);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rootId, by, multiple);
+        }
+    }
+}
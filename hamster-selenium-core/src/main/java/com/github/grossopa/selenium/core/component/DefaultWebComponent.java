@@ -25,21 +25,29 @@
 package com.github.grossopa.selenium.core.component;
 
 import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
 import com.github.grossopa.selenium.core.component.factory.WebComponentFactory;
 import com.github.grossopa.selenium.core.component.util.WebComponentUtils;
 import com.github.grossopa.selenium.core.element.NoOpWebElementDecorator;
 import com.github.grossopa.selenium.core.element.TextNodeElement;
 import com.github.grossopa.selenium.core.element.WebElementDecorator;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebElement;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.github.grossopa.selenium.core.util.SeleniumUtils.findChildTextNodes;
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
 
@@ -54,6 +62,9 @@ public class DefaultWebComponent extends AbstractDelegatedWebElement implements
     protected final ComponentWebDriver driver;
     protected final WebElementDecorator decorator;
 
+    @Nullable
+    private volatile AttributeMemo attributeMemo;
+
     /**
      * Constructs an instance with the delegated element and root driver
      *
@@ -84,16 +95,125 @@ public class DefaultWebComponent extends AbstractDelegatedWebElement implements
 
     @Override
     public List<WebComponent> findComponents(By by) {
-        return element.findElements(by).stream().map(e -> {
-            WebElement decoratedElement = decorator.decorate(e, driver);
-            return new DefaultWebComponent(decoratedElement, driver);
-        }).collect(toList());
+        ComponentLookupCache cache = lookupCache();
+        if (cache == null) {
+            return doFindComponents(by);
+        }
+        return cache.invalidateOnStale(() -> cache.findComponents(lookupRootId(), by, () -> doFindComponents(by)));
+    }
+
+    private List<WebComponent> doFindComponents(By by) {
+        List<WebElement> elements = element.findElements(by);
+        StaleElementRelocator relocator = staleElementRelocator();
+        List<WebComponent> components = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            WebElement found = elements.get(i);
+            if (relocator != null) {
+                found = relocator.relocatable(this, by, i, found);
+            }
+            components.add(new DefaultWebComponent(decorator.decorate(found, driver), driver));
+        }
+        return components;
     }
 
     @Override
     public WebComponent findComponent(By by) {
+        ComponentLookupCache cache = lookupCache();
+        if (cache == null) {
+            return doFindComponent(by);
+        }
+        return cache.invalidateOnStale(() -> cache.findComponent(lookupRootId(), by, () -> doFindComponent(by)));
+    }
+
+    private WebComponent doFindComponent(By by) {
         WebElement result = element.findElement(by);
-        return new DefaultWebComponent(decorator.decorate(result, driver), driver);
+        StaleElementRelocator relocator = staleElementRelocator();
+        WebElement found = relocator == null ? result : relocator.relocatable(this, by, result);
+        return new DefaultWebComponent(decorator.decorate(found, driver), driver);
+    }
+
+    @Override
+    public WebComponent findComponentLazy(By by) {
+        LazyWebElement lazy = LazyWebElement.unwrap(element);
+        if (lazy != null && !lazy.isResolved()) {
+            lazy = lazy.append(by);
+        } else {
+            WebDriver wrapped = driver.getWrappedDriver();
+            JavascriptExecutor executor = wrapped instanceof JavascriptExecutor ? (JavascriptExecutor) wrapped : driver;
+            lazy = new LazyWebElement(element, List.of(by), executor);
+        }
+        return new DefaultWebComponent(decorator.decorate(lazy, driver), driver);
+    }
+
+    @Override
+    public void click() {
+        changePage(super::click);
+    }
+
+    @Override
+    public void submit() {
+        changePage(super::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        changePage(() -> super.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        changePage(super::clear);
+    }
+
+    @Override
+    public String getText() {
+        return readPage(super::getText);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return readPage(() -> super.getAttribute(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        AttributeMemo memo = attributeMemo();
+        return memo == null ? readPage(() -> super.getDomAttribute(name)) : readPage(() -> memo.getDomAttribute(name));
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        AttributeMemo memo = attributeMemo();
+        return memo == null ? readPage(() -> super.getDomProperty(name))
+                : readPage(() -> memo.getDomProperty(name, super::getDomProperty));
+    }
+
+    @Override
+    public String getTagName() {
+        AttributeMemo memo = attributeMemo();
+        return memo == null ? super.getTagName() : readPage(() -> memo.getTagName(WebElement::getTagName));
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        AttributeMemo memo = attributeMemo();
+        return memo == null ? super.getCssValue(propertyName)
+                : readPage(() -> memo.getCssValue(propertyName, super::getCssValue));
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return readPage(super::isDisplayed);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return readPage(super::isEnabled);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return readPage(super::isSelected);
     }
 
     @Override
@@ -113,12 +233,12 @@ public class DefaultWebComponent extends AbstractDelegatedWebElement implements
 
     @Override
     public boolean attributeContains(String attributeName, String attributeValue) {
-        return WebComponentUtils.attributeContains(element, attributeName, attributeValue);
+        return WebComponentUtils.attributeContains(this, attributeName, attributeValue);
     }
 
     @Override
     public boolean styleContains(String styleName, String styleValue) {
-        return WebComponentUtils.styleContains(element, styleName, styleValue);
+        return WebComponentUtils.styleContains(this, styleName, styleValue);
     }
 
     @Override
@@ -139,7 +259,7 @@ public class DefaultWebComponent extends AbstractDelegatedWebElement implements
 
     @Override
     public String getId() {
-        return ((RemoteWebElement) element).getId();
+        return ((RemoteWebElement) unwrapElement(element)).getId();
     }
 
     /**
@@ -152,6 +272,104 @@ public class DefaultWebComponent extends AbstractDelegatedWebElement implements
         return findChildTextNodes(driver, element, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public WebComponentSnapshot snapshot(String... attributeNames) {
+        Map<String, Object> result = (Map<String, Object>) driver.executeReadOnlyScript(
+                "return (" + WebComponentSnapshot.COLLECT_FUNCTION + ")(arguments[0], arguments[1]);", element,
+                asList(attributeNames));
+        return WebComponentSnapshot.fromScriptResult(this, result);
+    }
+
+    /**
+     * Gets the lookup cache of the root driver, null if the root driver is not a {@link DefaultComponentWebDriver} or
+     * its lookup cache is not enabled.
+     *
+     * @return the lookup cache or null
+     * @see DefaultComponentWebDriver#setLookupCache(ComponentLookupCache)
+     * @since 1.13
+     */
+    @Nullable
+    protected ComponentLookupCache lookupCache() {
+        return driver instanceof DefaultComponentWebDriver ? ((DefaultComponentWebDriver) driver).getLookupCache()
+                : null;
+    }
+
+    /**
+     * Gets the stale element relocator of the root driver, null if the root driver is not a
+     * {@link DefaultComponentWebDriver} or its relocator is not enabled.
+     *
+     * @return the stale element relocator or null
+     * @see DefaultComponentWebDriver#setStaleElementRelocator(StaleElementRelocator)
+     * @since 1.13
+     */
+    @Nullable
+    protected StaleElementRelocator staleElementRelocator() {
+        return driver instanceof DefaultComponentWebDriver
+                ? ((DefaultComponentWebDriver) driver).getStaleElementRelocator() : null;
+    }
+
+    /**
+     * Gets the attribute memo of this component, null if the root driver is not a {@link DefaultComponentWebDriver} or
+     * its attribute memo is not enabled.
+     *
+     * @return the attribute memo or null
+     * @see DefaultComponentWebDriver#setAttributeMemoInMillis(long)
+     */
+    @Nullable
+    private AttributeMemo attributeMemo() {
+        if (!(driver instanceof DefaultComponentWebDriver)
+                || ((DefaultComponentWebDriver) driver).getAttributeMemoInMillis() <= 0L) {
+            return null;
+        }
+        AttributeMemo memo = attributeMemo;
+        if (memo == null) {
+            synchronized (this) {
+                memo = attributeMemo;
+                if (memo == null) {
+                    memo = new AttributeMemo(element, (DefaultComponentWebDriver) driver);
+                    attributeMemo = memo;
+                }
+            }
+        }
+        return memo;
+    }
+
+    private Object lookupRootId() {
+        WebElement target = unwrapElement(element);
+        return target instanceof RemoteWebElement ? ((RemoteWebElement) target).getId() : target;
+    }
+
+    private static WebElement unwrapElement(WebElement target) {
+        if (target instanceof RelocatingWebElement) {
+            return ((RelocatingWebElement) target).getWrappedElement();
+        }
+        return target instanceof LazyWebElement ? ((LazyWebElement) target).getWrappedElement() : target;
+    }
+
+    private void changePage(Runnable runnable) {
+        try {
+            runnable.run();
+        } finally {
+            if (driver instanceof DefaultComponentWebDriver) {
+                ((DefaultComponentWebDriver) driver).notifyPageChanged();
+            }
+        }
+    }
+
+    private <T> T readPage(Supplier<T> supplier) {
+        ComponentLookupCache cache = lookupCache();
+        try {
+            return cache == null ? supplier.get() : cache.invalidateOnStale(supplier);
+        } catch (StaleElementReferenceException exception) {
+            AttributeMemo memo = attributeMemo;
+            if (memo != null) {
+                memo.clear();
+            }
+            throw exception;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
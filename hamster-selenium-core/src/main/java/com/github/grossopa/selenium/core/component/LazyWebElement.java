@@ -0,0 +1,380 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import com.github.grossopa.selenium.core.locator.LocatorScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The element which is located only when it's used for the first time. It keeps the search root and the chain of the
+ * locators, each locator finds the first matching element within the element found by the previous one. All the
+ * consecutive locators supported by {@link LocatorScripts} are resolved in one single script execution, the others
+ * are resolved by {@link SearchContext#findElement(By)} in between. It's compared by the search root and the chain of
+ * the locators, so the comparison never locates the element.
+ * <p>
+ * The located element is kept for the later usages, when it becomes stale, e.g. rendered again by the page, the chain
+ * is resolved again once and the operation is retried.
+ *
+ * @author Jack Yin
+ * @see WebComponent#findComponentLazy(By)
+ * @since 1.13
+ */
+class LazyWebElement implements WebElement, WrapsElement, Locatable, WrapsDriver {
+
+    /**
+     * The script to resolve the locator chain, it accepts the search root and the list of {@code [using, value]}
+     * arguments, returns the found element or the index of the locator which finds nothing.
+     */
+    //@formatter:off
+    static final String RESOLVE_SCRIPT = ""
+            + "var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+            + "var e = arguments[0];"
+            + "var links = arguments[1];"
+            + "for (var i = 0; i < links.length; i++) {"
+            + "  e = find(e, links[i][0], links[i][1])[0];"
+            + "  if (!e) {"
+            + "    return i;"
+            + "  }"
+            + "}"
+            + "return e;";
+    //@formatter:on
+
+    private final SearchContext root;
+    private final List<By> chain;
+    private final JavascriptExecutor executor;
+
+    @Nullable
+    private volatile WebElement resolved;
+
+    LazyWebElement(SearchContext root, List<By> chain, JavascriptExecutor executor) {
+        this.root = requireNonNull(root);
+        this.chain = unmodifiableList(new ArrayList<>(chain));
+        this.executor = requireNonNull(executor);
+        if (this.chain.isEmpty()) {
+            throw new IllegalArgumentException("The locator chain must not be empty.");
+        }
+    }
+
+    /**
+     * Creates a new lazy element which appends given locator to the chain of this one.
+     *
+     * @param by the locator to append
+     * @return the new lazy element
+     */
+    LazyWebElement append(By by) {
+        List<By> newChain = new ArrayList<>(chain);
+        newChain.add(requireNonNull(by));
+        return new LazyWebElement(root, newChain, executor);
+    }
+
+    /**
+     * Whether the element is already located.
+     *
+     * @return true if the element is already located
+     */
+    boolean isResolved() {
+        return resolved != null;
+    }
+
+    List<By> getChain() {
+        return chain;
+    }
+
+    SearchContext getRoot() {
+        return root;
+    }
+
+    /**
+     * Finds the lazy element wrapped by given element, e.g. the one decorated by the
+     * {@link com.github.grossopa.selenium.core.element.WebElementDecorator}. The lazy element is not resolved.
+     *
+     * @param element the element to unwrap
+     * @return the wrapped lazy element, or null if not wrapping any
+     */
+    @Nullable
+    static LazyWebElement unwrap(WebElement element) {
+        WebElement current = element;
+        while (!(current instanceof LazyWebElement) && current instanceof WrapsElement) {
+            WebElement wrapped = ((WrapsElement) current).getWrappedElement();
+            if (wrapped == null || wrapped == current) {
+                break;
+            }
+            current = wrapped;
+        }
+        return current instanceof LazyWebElement ? (LazyWebElement) current : null;
+    }
+
+    private <T> T call(Function<WebElement, T> operation) {
+        WebElement target = resolve();
+        try {
+            return operation.apply(target);
+        } catch (StaleElementReferenceException exception) {
+            unresolve(target);
+            return operation.apply(resolve());
+        }
+    }
+
+    private synchronized void unresolve(WebElement staleElement) {
+        // keeps the one already located again by another thread
+        if (resolved == staleElement) {
+            resolved = null;
+        }
+    }
+
+    private WebElement resolve() {
+        WebElement current = resolved;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (resolved == null) {
+                resolved = doResolve();
+            }
+            return resolved;
+        }
+    }
+
+    private WebElement doResolve() {
+        SearchContext context = root;
+        List<By.Remotable.Parameters> pending = new ArrayList<>();
+        int pendingStart = 0;
+        for (int i = 0; i < chain.size(); i++) {
+            By.Remotable.Parameters parameters = LocatorScripts.getParameters(chain.get(i));
+            if (parameters != null) {
+                pending.add(parameters);
+                continue;
+            }
+            if (!pending.isEmpty()) {
+                context = findByScript(context, pending, pendingStart);
+                pending.clear();
+            }
+            context = context.findElement(chain.get(i));
+            pendingStart = i + 1;
+        }
+        if (!pending.isEmpty()) {
+            context = findByScript(context, pending, pendingStart);
+        }
+        return (WebElement) context;
+    }
+
+    private WebElement findByScript(SearchContext context, List<By.Remotable.Parameters> links, int offset) {
+        if (links.size() == 1) {
+            // a single locator costs one round trip either way
+            return context.findElement(chain.get(offset));
+        }
+        List<List<Object>> arguments = new ArrayList<>();
+        links.forEach(link -> arguments.add(asList(link.using(), link.value())));
+        Object result = executor.executeScript(RESOLVE_SCRIPT, context instanceof WebElement ? context : null,
+                arguments);
+        if (result instanceof WebElement) {
+            return (WebElement) result;
+        }
+        int index = result instanceof Number ? ((Number) result).intValue() : 0;
+        throw new NoSuchElementException("Unable to locate element by " + chain.get(offset + index) + " in " + this);
+    }
+
+    @Override
+    public void click() {
+        call(target -> {
+            target.click();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit() {
+        call(target -> {
+            target.submit();
+            return null;
+        });
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        call(target -> {
+            target.sendKeys(keysToSend);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        call(target -> {
+            target.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(target -> target.getAttribute(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(target -> target.getDomAttribute(name));
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(target -> target.getDomProperty(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(target -> target.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(target -> target.findElement(by));
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(target -> target.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return ((Locatable) resolve()).getCoordinates();
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return ((WrapsDriver) resolve()).getWrappedDriver();
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return resolve();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyWebElement)) {
+            return false;
+        }
+        LazyWebElement that = (LazyWebElement) o;
+        return root.equals(that.root) && chain.equals(that.chain);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(root, chain);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyWebElement{" + "root=" + root + ", chain=" + chain + ", resolved=" + resolved + '}';
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The self-healing element created by {@link StaleElementRelocator}, it delegates to the currently located element and
+ * locates it again from the same search context when it becomes stale. It's compared by identity, as the delegated
+ * element changes after each relocation.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class RelocatingWebElement implements WebElement, WrapsElement, Locatable, WrapsDriver {
+
+    private final StaleElementRelocator relocator;
+    private final SearchContext context;
+    private final By by;
+    private final int index;
+    private volatile WebElement current;
+
+    RelocatingWebElement(StaleElementRelocator relocator, SearchContext context, By by, int index,
+            WebElement element) {
+        this.relocator = requireNonNull(relocator);
+        this.context = requireNonNull(context);
+        this.by = requireNonNull(by);
+        this.index = index;
+        this.current = requireNonNull(element);
+    }
+
+    private <T> T call(Function<WebElement, T> operation) {
+        int retries = 0;
+        while (true) {
+            WebElement target = current;
+            try {
+                return operation.apply(target);
+            } catch (StaleElementReferenceException exception) {
+                if (retries >= relocator.getMaxRetries()) {
+                    relocator.onFailed();
+                    throw exception;
+                }
+                retries++;
+                relocate(target, exception);
+            }
+        }
+    }
+
+    private synchronized void relocate(WebElement staleElement, StaleElementReferenceException cause) {
+        if (current != staleElement) {
+            // already located again by another thread
+            return;
+        }
+        try {
+            if (index < 0) {
+                current = context.findElement(by);
+            } else {
+                List<WebElement> elements = context.findElements(by);
+                if (index >= elements.size()) {
+                    throw new NoSuchElementException(
+                            "Only " + elements.size() + " element(s) found by " + by + " but expecting index " + index);
+                }
+                current = elements.get(index);
+            }
+            relocator.onRelocated();
+        } catch (NoSuchElementException | StaleElementReferenceException exception) {
+            relocator.onFailed();
+            cause.addSuppressed(exception);
+            throw cause;
+        }
+    }
+
+    @Override
+    public void click() {
+        call(target -> {
+            target.click();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit() {
+        call(target -> {
+            target.submit();
+            return null;
+        });
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        call(target -> {
+            target.sendKeys(keysToSend);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        call(target -> {
+            target.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(target -> target.getAttribute(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(target -> target.getDomAttribute(name));
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(target -> target.getDomProperty(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(target -> target.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(target -> target.findElement(by));
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(target -> target.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(target -> {
+            if (!(target instanceof Locatable)) {
+                throw new UnsupportedOperationException("The located element is not Locatable: " + target);
+            }
+            return ((Locatable) target).getCoordinates();
+        });
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return ((WrapsDriver) current).getWrappedDriver();
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "RelocatingWebElement{" + "by=" + by + ", index=" + index + ", current=" + current + '}';
+    }
+}
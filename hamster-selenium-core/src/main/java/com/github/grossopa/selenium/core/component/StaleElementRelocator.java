@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Makes the found elements self-healing: each element remembers the search context and the locator it was found by,
+ * and when a {@link StaleElementReferenceException} is thrown, it's located again from the same search context and
+ * the operation is retried, up to the max retries. The search context is usually the parent component which heals
+ * itself the same way, so only the stale link of the chain is located again rather than the whole chain from the
+ * document root.
+ *
+ * <p>The elements found by {@link SearchContext#findElements(By)} are located again by the same index, which might
+ * point to a different element if the list is reordered after the re-rendering.</p>
+ *
+ * <p>The instance is thread-safe and could be shared by the drivers.</p>
+ *
+ * @author Jack Yin
+ * @see com.github.grossopa.selenium.core.DefaultComponentWebDriver#setStaleElementRelocator(StaleElementRelocator)
+ * @since 1.13
+ */
+public class StaleElementRelocator {
+
+    /**
+     * The default max retries of an operation.
+     */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private final int maxRetries;
+    private final AtomicLong relocatedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /**
+     * Constructs an instance with the default max retries.
+     */
+    public StaleElementRelocator() {
+        this(DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * Constructs an instance with given max retries.
+     *
+     * @param maxRetries the max retries of an operation, at least 1
+     */
+    public StaleElementRelocator(int maxRetries) {
+        if (maxRetries < 1) {
+            throw new IllegalArgumentException("maxRetries must be at least 1 but was " + maxRetries);
+        }
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Wraps the element found by {@link SearchContext#findElement(By)} to be self-healing.
+     *
+     * @param context the search context the element was found from
+     * @param by the locator the element was found by
+     * @param element the found element
+     * @return the self-healing element
+     */
+    public WebElement relocatable(SearchContext context, By by, WebElement element) {
+        return new RelocatingWebElement(this, context, by, -1, element);
+    }
+
+    /**
+     * Wraps the element found by {@link SearchContext#findElements(By)} to be self-healing.
+     *
+     * @param context the search context the element was found from
+     * @param by the locator the element was found by
+     * @param index the index of the element in the found elements
+     * @param element the found element
+     * @return the self-healing element
+     */
+    public WebElement relocatable(SearchContext context, By by, int index, WebElement element) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index must not be negative but was " + index);
+        }
+        return new RelocatingWebElement(this, context, by, index, element);
+    }
+
+    /**
+     * Gets the max retries of an operation.
+     *
+     * @return the max retries of an operation
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Gets how many times the stale elements were located again successfully.
+     *
+     * @return how many times the stale elements were located again successfully
+     */
+    public long getRelocatedCount() {
+        return relocatedCount.get();
+    }
+
+    /**
+     * Gets how many times the stale elements could not be located again or were still stale after the max retries,
+     * the {@link StaleElementReferenceException} is thrown in such cases.
+     *
+     * @return how many times the relocation failed
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Resets the counters.
+     */
+    public void resetCounters() {
+        relocatedCount.set(0L);
+        failedCount.set(0L);
+    }
+
+    void onRelocated() {
+        relocatedCount.incrementAndGet();
+    }
+
+    void onFailed() {
+        failedCount.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "StaleElementRelocator{" + "maxRetries=" + maxRetries + ", relocatedCount=" + relocatedCount
+                + ", failedCount=" + failedCount + '}';
+    }
+}
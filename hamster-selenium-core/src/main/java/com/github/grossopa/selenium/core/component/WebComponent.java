@@ -30,7 +30,10 @@ import com.github.grossopa.selenium.core.element.TextNodeElement;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Locatable;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -90,6 +93,22 @@ public interface WebComponent extends WrapsElement, WebElement, TakesScreenshot,
      */
     WebComponent findComponent(By by);
 
+    /**
+     * Creates the component which finds the first matching element within the current context only when it's used for
+     * the first time, e.g. clicked or read.
+     * <p>
+     * Chained lazy lookups like {@code component.findComponentLazy(a).findComponentLazy(b).click()} are combined, all
+     * the consecutive standard locators of the chain are resolved in one single script execution instead of one round
+     * trip per level. The resolved element is kept and the chain is located again only when the element becomes stale.
+     * </p>
+     *
+     * @param by The locating mechanism
+     * @return the component which locates the first matching element on the current context when used
+     * @throws NoSuchElementException If no matching elements are found when the component is used
+     * @since 1.13
+     */
+    WebComponent findComponentLazy(By by);
+
     /**
      * Find all elements within the current context using the given mechanism and encapsulate the {@link WebElement}
      * list into {@link T}, which is a sub type of {@link WebComponent}.
@@ -226,4 +245,27 @@ public interface WebComponent extends WrapsElement, WebElement, TakesScreenshot,
      * @return the text and comment nodes.
      */
     List<TextNodeElement> findTextNodes();
+
+    /**
+     * Collects the tag name, class list, style, text, rect, displayed / enabled / selected states and the given
+     * attributes within one script execution, it saves the round trips comparing to invoking the corresponding methods
+     * one by one.
+     * <p>
+     * The default implementation reads the values one by one for the implementations not supporting the script.
+     *
+     * @param attributeNames the attributes to collect together
+     * @return the immutable snapshot of current states
+     * @since 1.13
+     */
+    default WebComponentSnapshot snapshot(String... attributeNames) {
+        String classValue = getAttribute("class");
+        List<String> classes = classValue == null || classValue.isBlank() ? List.of()
+                : List.of(classValue.trim().split("\\s+"));
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String attributeName : attributeNames) {
+            attributes.put(attributeName, getAttribute(attributeName));
+        }
+        return new WebComponentSnapshot(this, getTagName().toLowerCase(Locale.ROOT), classes, getAttribute("style"),
+                getText(), getRect(), isDisplayed(), isEnabled(), isSelected(), attributes);
+    }
 }
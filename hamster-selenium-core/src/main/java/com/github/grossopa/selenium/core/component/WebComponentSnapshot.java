@@ -0,0 +1,357 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.openqa.selenium.Rectangle;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.github.grossopa.selenium.core.component.util.WebComponentUtils.attributeValueContains;
+import static com.github.grossopa.selenium.core.component.util.WebComponentUtils.styleValueContains;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable snapshot of the commonly read states of a {@link WebComponent}, all the values are collected within one
+ * single script execution rather than one WebDriver command per value.
+ *
+ * <p>
+ * The values are captured at the moment of the script execution, so they will not reflect any changes made to the
+ * element afterwards.
+ * </p>
+ *
+ * @author Jack Yin
+ * @see WebComponent#snapshot(String...)
+ * @since 1.13
+ */
+public class WebComponentSnapshot {
+
+    /**
+     * The script function to check whether the element is displayed, it accepts the element as argument. It checks the
+     * computed display, visibility and opacity together with the rendered size.
+     */
+    //@formatter:off
+    public static final String IS_DISPLAYED_FUNCTION = ""
+            + "function(e) {"
+            + "  var s = window.getComputedStyle(e);"
+            + "  return s.display !== 'none' && s.visibility !== 'hidden' && s.visibility !== 'collapse'"
+            + "      && parseFloat(s.opacity) !== 0"
+            + "      && (e.offsetWidth > 0 || e.offsetHeight > 0 || e.getClientRects().length > 0);"
+            + "}";
+    //@formatter:on
+
+    /**
+     * The script function to collect the element states, it accepts the element and the attribute names as arguments.
+     * The attribute value is resolved from the DOM attribute first and falls back to the primitive DOM property with
+     * the same name.
+     */
+    //@formatter:off
+    public static final String COLLECT_FUNCTION = ""
+            + "function(e, names) {"
+            + "  var r = e.getBoundingClientRect();"
+            + "  var attrs = {};"
+            + "  for (var i = 0; i < names.length; i++) {"
+            + "    var n = names[i];"
+            + "    var p = e[n];"
+            + "    if (e.hasAttribute(n)) {"
+            + "      attrs[n] = e.getAttribute(n);"
+            + "    } else if (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function') {"
+            + "      attrs[n] = String(p);"
+            + "    } else {"
+            + "      attrs[n] = null;"
+            + "    }"
+            + "  }"
+            + "  return {"
+            + "    tagName: e.tagName.toLowerCase(),"
+            + "    classes: Array.prototype.slice.call(e.classList || []),"
+            + "    style: e.getAttribute('style'),"
+            + "    text: e.innerText === undefined ? e.textContent : e.innerText,"
+            + "    x: r.left + window.pageXOffset, y: r.top + window.pageYOffset,"
+            + "    width: r.width, height: r.height,"
+            + "    displayed: (" + IS_DISPLAYED_FUNCTION + ")(e),"
+            + "    enabled: !e.disabled,"
+            + "    selected: !!(e.selected || e.checked),"
+            + "    attributes: attrs"
+            + "  };"
+            + "}";
+    //@formatter:on
+
+    private final WebComponent component;
+    private final String tagName;
+    private final List<String> classes;
+    private final String style;
+    private final String text;
+    private final Rectangle rect;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Map<String, String> attributes;
+
+    /**
+     * Constructs an instance with all the collected states.
+     *
+     * @param component the component of the snapshot
+     * @param tagName the lower case tag name
+     * @param classes the class list
+     * @param style the style attribute value, nullable
+     * @param text the visible text
+     * @param rect the location and size of the element
+     * @param displayed whether the element is displayed
+     * @param enabled whether the element is enabled
+     * @param selected whether the element is selected or checked
+     * @param attributes the caller-chosen attributes, the value is null if not present
+     */
+    @SuppressWarnings("java:S107")
+    public WebComponentSnapshot(WebComponent component, String tagName, List<String> classes, @Nullable String style,
+            String text, Rectangle rect, boolean displayed, boolean enabled, boolean selected,
+            Map<String, String> attributes) {
+        requireNonNull(component);
+        requireNonNull(tagName);
+        requireNonNull(classes);
+        requireNonNull(text);
+        requireNonNull(rect);
+        requireNonNull(attributes);
+        this.component = component;
+        this.tagName = tagName;
+        this.classes = unmodifiableList(new ArrayList<>(classes));
+        this.style = style;
+        this.text = text;
+        this.rect = rect;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.attributes = unmodifiableMap(new LinkedHashMap<>(attributes));
+    }
+
+    /**
+     * Creates the snapshot from the result of {@link #COLLECT_FUNCTION}.
+     *
+     * @param component the component of the snapshot
+     * @param result the script execution result
+     * @return the created snapshot instance
+     */
+    @SuppressWarnings("unchecked")
+    public static WebComponentSnapshot fromScriptResult(WebComponent component, Map<String, Object> result) {
+        requireNonNull(result);
+        List<String> classes = new ArrayList<>();
+        Object classValues = result.get("classes");
+        if (classValues instanceof Collection) {
+            ((Collection<Object>) classValues).forEach(c -> classes.add(String.valueOf(c)));
+        }
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Object attributeValues = result.get("attributes");
+        if (attributeValues instanceof Map) {
+            ((Map<String, Object>) attributeValues).forEach(
+                    (key, value) -> attributes.put(key, value == null ? null : String.valueOf(value)));
+        }
+
+        Rectangle rect = new Rectangle(toInt(result.get("x")), toInt(result.get("y")), toInt(result.get("height")),
+                toInt(result.get("width")));
+
+        return new WebComponentSnapshot(component, String.valueOf(result.get("tagName")), classes,
+                (String) result.get("style"), Objects.toString(result.get("text"), ""), rect,
+                Boolean.TRUE.equals(result.get("displayed")), Boolean.TRUE.equals(result.get("enabled")),
+                Boolean.TRUE.equals(result.get("selected")), attributes);
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? (int) Math.round(((Number) value).doubleValue()) : 0;
+    }
+
+    /**
+     * Gets the component of the snapshot.
+     *
+     * @return the component of the snapshot
+     */
+    public WebComponent getComponent() {
+        return component;
+    }
+
+    /**
+     * Gets the lower case tag name.
+     *
+     * @return the lower case tag name
+     */
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Gets the unmodifiable class list.
+     *
+     * @return the unmodifiable class list
+     */
+    public List<String> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Whether the class list contains the given class, case sensitive.
+     *
+     * @param className the class name to check
+     * @return true if the class is present
+     */
+    public boolean hasClass(String className) {
+        return classes.contains(className);
+    }
+
+    /**
+     * Gets the style attribute value.
+     *
+     * @return the style attribute value or null if absent
+     */
+    @Nullable
+    public String getStyle() {
+        return style;
+    }
+
+    /**
+     * Whether the style contains the name and value, the rule is same as {@link WebComponent#styleContains(String,
+     * String)}.
+     *
+     * @param styleName the name of the style
+     * @param styleValue the value of the style
+     * @return true for contains, false otherwise
+     */
+    public boolean styleContains(String styleName, String styleValue) {
+        return styleValueContains(style, styleName, styleValue);
+    }
+
+    /**
+     * Gets the visible text.
+     *
+     * @return the visible text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the location and size of the element.
+     *
+     * @return the location and size of the element
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    /**
+     * Whether the element is displayed. It checks the computed display, visibility and opacity together with the
+     * rendered size, which is close to but not identical with {@link WebComponent#isDisplayed()}.
+     *
+     * @return true if the element is displayed
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * Whether the element is enabled.
+     *
+     * @return true if the element is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the element is selected or checked.
+     *
+     * @return true if the element is selected or checked
+     */
+    public boolean isSelected() {
+        return selected;
+    }
+
+    /**
+     * Gets the unmodifiable caller-chosen attributes.
+     *
+     * @return the unmodifiable caller-chosen attributes
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Gets the collected attribute value.
+     *
+     * @param name the attribute name
+     * @return the attribute value or null if it's absent or not collected
+     */
+    @Nullable
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Whether the collected attribute contains the desired value, it uses space as the splitter. "class" is always
+     * available even if not collected.
+     *
+     * @param attributeName the name of the attribute
+     * @param attributeValue the expected containing value of the attribute
+     * @return true for contains, false otherwise
+     */
+    public boolean attributeContains(String attributeName, String attributeValue) {
+        if ("class".equals(attributeName) && !attributes.containsKey(attributeName)) {
+            return hasClass(attributeValue);
+        }
+        return attributeValueContains(attributes.get(attributeName), attributeValue, " ");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WebComponentSnapshot)) {
+            return false;
+        }
+        WebComponentSnapshot that = (WebComponentSnapshot) o;
+        return displayed == that.displayed && enabled == that.enabled && selected == that.selected
+                && component.equals(that.component) && tagName.equals(that.tagName) && classes.equals(that.classes)
+                && Objects.equals(style, that.style) && text.equals(that.text) && rect.equals(that.rect)
+                && attributes.equals(that.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(component, tagName, classes, style, text, rect, displayed, enabled, selected, attributes);
+    }
+
+    @Override
+    public String toString() {
+        return "WebComponentSnapshot{" + "tagName='" + tagName + '\'' + ", classes=" + classes + ", style='" + style
+                + '\'' + ", text='" + text + '\'' + ", rect=" + rect + ", displayed=" + displayed + ", enabled="
+                + enabled + ", selected=" + selected + ", attributes=" + attributes + '}';
+    }
+}
@@ -25,9 +25,12 @@
 package com.github.grossopa.selenium.core.component.api;
 
 import com.github.grossopa.selenium.core.component.WebComponent;
+import org.openqa.selenium.WebElement;
 
 import java.util.List;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * A table row.
  *
@@ -53,4 +56,14 @@ public interface TableRow extends WebComponent {
      *         if no such header name is found
      */
     WebComponent getCell(String headerLabel);
+
+    /**
+     * Gets the texts of the cells of the row
+     *
+     * @return the texts of the cells of the row
+     * @since 1.13
+     */
+    default List<String> getCellTexts() {
+        return getCells().stream().map(WebElement::getText).collect(toList());
+    }
 }
@@ -30,6 +30,7 @@ import org.openqa.selenium.Point;
 import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.WebElement;
 
+import javax.annotation.Nullable;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
@@ -92,7 +93,24 @@ public class WebComponentUtils {
      * @return true for found any matches
      */
     public static boolean styleContains(WebElement element, String styleName, String styleValue) {
-        return stream(element.getDomAttribute("style").split(";")).map(
+        return styleValueContains(element.getDomAttribute("style"), styleName, styleValue);
+    }
+
+    /**
+     * Whether the given style attribute value contains desired style, the rule is same as {@link
+     * #styleContains(WebElement, String, String)}.
+     *
+     * @param style the style attribute value, e.g. "display : block; width: 200px;"
+     * @param styleName the name of the style to find
+     * @param styleValue the value of the style to find
+     * @return true for found any matches
+     * @since 1.13
+     */
+    public static boolean styleValueContains(@Nullable String style, String styleName, String styleValue) {
+        if (StringUtils.isBlank(style)) {
+            return false;
+        }
+        return stream(style.split(";")).map(
                         str -> stream(str.split(":")).map(String::strip).collect(Collectors.joining(":")))
                 .anyMatch(str -> StringUtils.equalsIgnoreCase(str, styleName + ":" + styleValue));
     }
@@ -118,7 +136,21 @@ public class WebComponentUtils {
      */
     public static boolean attributeContains(WebElement element, String attributeName, String attributeValue,
             String splitRegex) {
-        String elementAttributeValue = element.getDomAttribute(attributeName);
+        return attributeValueContains(element.getDomAttribute(attributeName), attributeValue, splitRegex);
+    }
+
+    /**
+     * Whether the given attribute value contains the desired value, the rule is same as {@link
+     * #attributeContains(WebElement, String, String, String)}.
+     *
+     * @param elementAttributeValue the actual attribute value of the element
+     * @param attributeValue the desired value of the attribute
+     * @param splitRegex the split String
+     * @return true for found any matches
+     * @since 1.13
+     */
+    public static boolean attributeValueContains(@Nullable String elementAttributeValue, String attributeValue,
+            String splitRegex) {
         if (StringUtils.isBlank(elementAttributeValue)) {
             return false;
         }
@@ -0,0 +1,625 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
+import org.openqa.selenium.TimeoutException;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The pool of pre-warmed {@link ComponentWebDriver} sessions, a session is leased by {@link #lease()} and given back
+ * by {@link #release(ComponentWebDriver)} instead of being quit, so that the following tests skip the cost of
+ * creating a new browser session.
+ * <p>
+ * The pool keeps at least {@link ComponentWebDriverPoolConfig#getMinIdle()} idle sessions by creating new ones in
+ * background, and never holds more than {@link ComponentWebDriverPoolConfig#getMaxTotal()} sessions. The idle
+ * sessions beyond the minimum are quit once they stay idle longer than
+ * {@link ComponentWebDriverPoolConfig#getIdleTimeout()}. An idle session is checked by the health probe before it's
+ * leased, the broken one is quit and replaced.
+ * </p>
+ * <p>
+ * The pool doesn't reset the browser state of a released session unless a {@link SessionRecycler} is set.
+ * </p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ComponentWebDriverPool implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(ComponentWebDriverPool.class.getName());
+
+    /**
+     * The default health probe, which requests the current window handle of the session.
+     */
+    public static final Predicate<ComponentWebDriver> DEFAULT_HEALTH_PROBE = driver -> driver.getWindowHandle() != null;
+
+    private final Supplier<? extends ComponentWebDriver> factory;
+    private final ComponentWebDriverPoolConfig config;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<IdleSession> idle = new ArrayDeque<>();
+    private final Set<ComponentWebDriver> leased = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int pendingIdle;
+    private int pendingLease;
+    private boolean closed;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong probeFailedCount = new AtomicLong();
+    private final AtomicLong recycleFailedCount = new AtomicLong();
+
+    private volatile Predicate<? super ComponentWebDriver> healthProbe = DEFAULT_HEALTH_PROBE;
+    private volatile SessionRecycler sessionRecycler;
+
+    /**
+     * Constructs an instance with the session factory and the configuration, the idle sessions are created by a
+     * daemon thread owned by this pool.
+     *
+     * @param factory the factory to create new sessions
+     * @param config the pool configuration
+     */
+    public ComponentWebDriverPool(Supplier<? extends ComponentWebDriver> factory, ComponentWebDriverPoolConfig config) {
+        this(factory, config, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "component-web-driver-pool");
+            thread.setDaemon(true);
+            return thread;
+        }), System::nanoTime);
+    }
+
+    /**
+     * Constructs an instance with the session factory, the configuration and the executor to create the idle
+     * sessions.
+     *
+     * @param factory the factory to create new sessions
+     * @param config the pool configuration
+     * @param executor the executor to create the idle sessions in background
+     */
+    public ComponentWebDriverPool(Supplier<? extends ComponentWebDriver> factory, ComponentWebDriverPoolConfig config,
+            Executor executor) {
+        this(factory, config, executor, System::nanoTime);
+    }
+
+    ComponentWebDriverPool(Supplier<? extends ComponentWebDriver> factory, ComponentWebDriverPoolConfig config,
+            Executor executor, LongSupplier nanoClock) {
+        this.factory = requireNonNull(factory);
+        this.config = requireNonNull(config);
+        this.executor = requireNonNull(executor);
+        this.nanoClock = requireNonNull(nanoClock);
+        if (config.getMinIdle() > config.getMaxTotal()) {
+            throw new IllegalArgumentException("minIdle must not be greater than maxTotal: " + config);
+        }
+    }
+
+    /**
+     * Creates the pool of which sessions connect to the running driver service.
+     *
+     * @param type the driver type
+     * @param params the options and the url of the running service
+     * @param config the pool configuration
+     * @return the new pool
+     * @see CreateWebDriverFromRunningServiceAction
+     */
+    public static ComponentWebDriverPool fromRunningService(WebDriverType type, RunningServiceParams params,
+            ComponentWebDriverPoolConfig config) {
+        CreateWebDriverFromRunningServiceAction action = new CreateWebDriverFromRunningServiceAction();
+        return new ComponentWebDriverPool(() -> new DefaultComponentWebDriver(type.apply(action, params)), config);
+    }
+
+    /**
+     * Creates the pool of which sessions are created together with the driver services supplied by given params.
+     *
+     * @param type the driver type
+     * @param params the supplier of the options and the driver service of each new session
+     * @param config the pool configuration
+     * @return the new pool
+     * @see CreateWebDriverAction
+     */
+    public static ComponentWebDriverPool fromDriverService(WebDriverType type,
+            Supplier<CreateWebDriverParams> params, ComponentWebDriverPoolConfig config) {
+        CreateWebDriverAction action = new CreateWebDriverAction();
+        return new ComponentWebDriverPool(() -> new DefaultComponentWebDriver(type.apply(action, params.get())),
+                config);
+    }
+
+    /**
+     * Creates the idle sessions up to the minimum idle number in current thread, it's normally invoked once before
+     * the tests start.
+     */
+    public void prewarm() {
+        while (true) {
+            lock.lock();
+            try {
+                ensureOpen();
+                if (idle.size() + pendingIdle >= config.getMinIdle() || total() >= config.getMaxTotal()) {
+                    return;
+                }
+                pendingIdle++;
+            } finally {
+                lock.unlock();
+            }
+            createIdle();
+        }
+    }
+
+    /**
+     * Leases a session from the pool, it's either a healthy idle session or a newly created one. It waits when all the
+     * sessions are leased and the maximum number is reached.
+     *
+     * @return the leased session
+     * @throws TimeoutException if no session is released within the lease timeout
+     * @throws IllegalStateException if the pool is closed
+     */
+    public ComponentWebDriver lease() {
+        long deadline = nanoClock.getAsLong() + config.getLeaseTimeout().toNanos();
+        while (true) {
+            ComponentWebDriver candidate = null;
+            List<ComponentWebDriver> expired;
+            lock.lock();
+            try {
+                ensureOpen();
+                expired = pollExpired();
+                if (!idle.isEmpty()) {
+                    candidate = idle.pollFirst().driver;
+                    leased.add(candidate);
+                } else if (total() < config.getMaxTotal()) {
+                    pendingLease++;
+                } else {
+                    long remaining = deadline - nanoClock.getAsLong();
+                    if (remaining <= 0L) {
+                        throw new TimeoutException("No session is released within " + config.getLeaseTimeout()
+                                + ", all " + leased.size() + " sessions are leased.");
+                    }
+                    changed.awaitNanos(remaining);
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a session.", e);
+            } finally {
+                lock.unlock();
+            }
+            expired.forEach(this::quitQuietly);
+
+            if (candidate == null) {
+                ComponentWebDriver created = createLeased();
+                replenish();
+                return created;
+            }
+            if (isHealthy(candidate)) {
+                replenish();
+                return candidate;
+            }
+            probeFailedCount.incrementAndGet();
+            invalidate(candidate);
+        }
+    }
+
+    /**
+     * Gives the leased session back to the pool, the session will be quit if the pool is already closed. The session
+     * is recycled first if the session recycler is set, and it's quit if the recycling fails.
+     *
+     * @param driver the leased session
+     * @throws IllegalArgumentException if the session is not leased from this pool
+     */
+    public void release(ComponentWebDriver driver) {
+        SessionRecycler recycler = sessionRecycler;
+        if (recycler != null && !isClosed()) {
+            ensureLeased(driver);
+            if (!recycler.recycle(driver)) {
+                recycleFailedCount.incrementAndGet();
+                invalidate(driver);
+                return;
+            }
+        }
+        List<ComponentWebDriver> expired;
+        boolean quit;
+        lock.lock();
+        try {
+            if (!leased.remove(driver)) {
+                throw new IllegalArgumentException("The driver is not leased from this pool: " + driver);
+            }
+            quit = closed;
+            if (!closed) {
+                idle.addFirst(new IdleSession(driver, nanoClock.getAsLong()));
+            }
+            expired = pollExpired();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (quit) {
+            quitQuietly(driver);
+        }
+        expired.forEach(this::quitQuietly);
+    }
+
+    /**
+     * Removes the leased session from the pool and quits it, it's used when the session is known to be broken.
+     *
+     * @param driver the leased session
+     * @throws IllegalArgumentException if the session is not leased from this pool
+     */
+    public void invalidate(ComponentWebDriver driver) {
+        lock.lock();
+        try {
+            if (!leased.remove(driver)) {
+                throw new IllegalArgumentException("The driver is not leased from this pool: " + driver);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        quitQuietly(driver);
+        replenish();
+    }
+
+    /**
+     * Quits the idle sessions which stay idle longer than the idle timeout, the minimum number of idle sessions are
+     * kept. It's also done whenever a session is leased or released.
+     *
+     * @return the number of evicted sessions
+     */
+    public int evictIdle() {
+        List<ComponentWebDriver> expired;
+        lock.lock();
+        try {
+            expired = pollExpired();
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(this::quitQuietly);
+        return expired.size();
+    }
+
+    /**
+     * Closes the pool and quits all the idle sessions, the leased sessions will be quit when they are released.
+     */
+    @Override
+    public void close() {
+        List<ComponentWebDriver> toQuit = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idle.forEach(session -> toQuit.add(session.driver));
+            idle.clear();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        toQuit.forEach(this::quitQuietly);
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Sets the health probe which is run against the idle session when it's leased, the session is replaced if the
+     * probe returns false or throws exception.
+     *
+     * @param healthProbe the health probe to set
+     * @see #DEFAULT_HEALTH_PROBE
+     */
+    public void setHealthProbe(Predicate<? super ComponentWebDriver> healthProbe) {
+        this.healthProbe = requireNonNull(healthProbe);
+    }
+
+    /**
+     * Sets the recycler which resets the browser state of the session when it's released, null to keep the state.
+     *
+     * @param sessionRecycler the session recycler to set
+     */
+    public void setSessionRecycler(@Nullable SessionRecycler sessionRecycler) {
+        this.sessionRecycler = sessionRecycler;
+    }
+
+    /**
+     * Gets the recycler which resets the browser state of the session when it's released.
+     *
+     * @return the session recycler or null
+     */
+    @Nullable
+    public SessionRecycler getSessionRecycler() {
+        return sessionRecycler;
+    }
+
+    /**
+     * Gets the number of idle sessions.
+     *
+     * @return the number of idle sessions
+     */
+    public int getIdleCount() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of leased sessions.
+     *
+     * @return the number of leased sessions
+     */
+    public int getLeasedCount() {
+        lock.lock();
+        try {
+            return leased.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of sessions created by this pool.
+     *
+     * @return the number of created sessions
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Gets the number of idle sessions quit because of the idle timeout.
+     *
+     * @return the number of evicted sessions
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * Gets the number of idle sessions replaced because of the failed health probe.
+     *
+     * @return the number of sessions failed the health probe
+     */
+    public long getProbeFailedCount() {
+        return probeFailedCount.get();
+    }
+
+    /**
+     * Gets the number of released sessions quit because the recycling failed.
+     *
+     * @return the number of sessions failed the recycling
+     */
+    public long getRecycleFailedCount() {
+        return recycleFailedCount.get();
+    }
+
+    /**
+     * Whether the pool is closed.
+     *
+     * @return true if the pool is closed
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int total() {
+        return idle.size() + leased.size() + pendingIdle + pendingLease;
+    }
+
+    private void ensureLeased(ComponentWebDriver driver) {
+        lock.lock();
+        try {
+            if (!leased.contains(driver)) {
+                throw new IllegalArgumentException("The driver is not leased from this pool: " + driver);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The pool is closed.");
+        }
+    }
+
+    private List<ComponentWebDriver> pollExpired() {
+        List<ComponentWebDriver> expired = new ArrayList<>();
+        long now = nanoClock.getAsLong();
+        long timeout = config.getIdleTimeout().toNanos();
+        Iterator<IdleSession> iterator = idle.descendingIterator();
+        while (iterator.hasNext() && idle.size() > config.getMinIdle()) {
+            IdleSession session = iterator.next();
+            if (now - session.idleSince < timeout) {
+                break;
+            }
+            iterator.remove();
+            expired.add(session.driver);
+            evictedCount.incrementAndGet();
+        }
+        return expired;
+    }
+
+    private void replenish() {
+        int count;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            count = Math.min(config.getMinIdle() - idle.size() - pendingIdle, config.getMaxTotal() - total());
+            if (count <= 0) {
+                return;
+            }
+            pendingIdle += count;
+        } finally {
+            lock.unlock();
+        }
+        for (int i = 0; i < count; i++) {
+            try {
+                executor.execute(this::createIdleQuietly);
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    pendingIdle--;
+                } finally {
+                    lock.unlock();
+                }
+                LOG.log(Level.WARNING, "Failed to schedule the creation of an idle session.", e);
+            }
+        }
+    }
+
+    private void createIdleQuietly() {
+        try {
+            createIdle();
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Failed to create an idle session.", e);
+        }
+    }
+
+    private void createIdle() {
+        ComponentWebDriver driver;
+        try {
+            driver = create();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pendingIdle--;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        boolean quit;
+        lock.lock();
+        try {
+            pendingIdle--;
+            quit = closed;
+            if (!closed) {
+                idle.addFirst(new IdleSession(driver, nanoClock.getAsLong()));
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (quit) {
+            quitQuietly(driver);
+        }
+    }
+
+    private ComponentWebDriver createLeased() {
+        ComponentWebDriver driver = null;
+        try {
+            driver = create();
+            return driver;
+        } finally {
+            lock.lock();
+            try {
+                pendingLease--;
+                if (driver != null) {
+                    leased.add(driver);
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ComponentWebDriver create() {
+        ComponentWebDriver driver = requireNonNull(factory.get(), "The factory returns null session.");
+        createdCount.incrementAndGet();
+        return driver;
+    }
+
+    private boolean isHealthy(ComponentWebDriver driver) {
+        try {
+            return healthProbe.test(driver);
+        } catch (RuntimeException e) {
+            LOG.log(Level.FINE, "The health probe failed.", e);
+            return false;
+        }
+    }
+
+    private void quitQuietly(ComponentWebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOG.log(Level.FINE, "Failed to quit the session.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "ComponentWebDriverPool{" + "idle=" + idle.size() + ", leased=" + leased.size() + ", pending="
+                    + (pendingIdle + pendingLease) + ", created=" + createdCount.get() + ", evicted="
+                    + evictedCount.get() + ", probeFailed=" + probeFailedCount.get() + ", recycleFailed="
+                    + recycleFailedCount.get() + ", closed=" + closed + '}';
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class IdleSession {
+        private final ComponentWebDriver driver;
+        private final long idleSince;
+
+        IdleSession(ComponentWebDriver driver, long idleSince) {
+            this.driver = driver;
+            this.idleSince = idleSince;
+        }
+    }
+}
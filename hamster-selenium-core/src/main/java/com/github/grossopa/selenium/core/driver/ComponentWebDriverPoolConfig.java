@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The configuration of the {@link ComponentWebDriverPool}.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ComponentWebDriverPoolConfig {
+
+    /**
+     * The default minimum number of idle sessions.
+     */
+    public static final int DEFAULT_MIN_IDLE = 1;
+
+    /**
+     * The default maximum number of sessions, both idle and leased.
+     */
+    public static final int DEFAULT_MAX_TOTAL = 4;
+
+    /**
+     * The default duration a session could stay idle before it's evicted.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    /**
+     * The default duration to wait for a session when all sessions are leased.
+     */
+    public static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofSeconds(60);
+
+    private int minIdle = DEFAULT_MIN_IDLE;
+    private int maxTotal = DEFAULT_MAX_TOTAL;
+    private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    private Duration leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+
+    /**
+     * Gets the minimum number of idle sessions, the pool creates new sessions in background to keep them warm.
+     *
+     * @return the minimum number of idle sessions
+     */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * Sets the minimum number of idle sessions, the pool creates new sessions in background to keep them warm.
+     *
+     * @param minIdle the minimum number of idle sessions to set
+     */
+    public void setMinIdle(int minIdle) {
+        if (minIdle < 0) {
+            throw new IllegalArgumentException("minIdle must not be negative.");
+        }
+        this.minIdle = minIdle;
+    }
+
+    /**
+     * Gets the maximum number of sessions, both idle and leased.
+     *
+     * @return the maximum number of sessions
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * Sets the maximum number of sessions, both idle and leased.
+     *
+     * @param maxTotal the maximum number of sessions to set
+     */
+    public void setMaxTotal(int maxTotal) {
+        if (maxTotal < 1) {
+            throw new IllegalArgumentException("maxTotal must be positive.");
+        }
+        this.maxTotal = maxTotal;
+    }
+
+    /**
+     * Gets the duration a session could stay idle before it's evicted, the sessions within the minimum idle number
+     * are never evicted.
+     *
+     * @return the idle timeout
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the duration a session could stay idle before it's evicted, the sessions within the minimum idle number
+     * are never evicted.
+     *
+     * @param idleTimeout the idle timeout to set
+     */
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = requireNonNull(idleTimeout);
+    }
+
+    /**
+     * Gets the duration to wait for a session when all sessions are leased.
+     *
+     * @return the lease timeout
+     */
+    public Duration getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    /**
+     * Sets the duration to wait for a session when all sessions are leased.
+     *
+     * @param leaseTimeout the lease timeout to set
+     */
+    public void setLeaseTimeout(Duration leaseTimeout) {
+        this.leaseTimeout = requireNonNull(leaseTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentWebDriverPoolConfig{" + "minIdle=" + minIdle + ", maxTotal=" + maxTotal + ", idleTimeout="
+                + idleTimeout + ", leaseTimeout=" + leaseTimeout + '}';
+    }
+}
@@ -24,9 +24,15 @@
 
 package com.github.grossopa.selenium.core.driver;
 
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.RemoteWebDriverBuilder;
+import org.openqa.selenium.remote.service.DriverService;
 
+import static java.util.Objects.requireNonNull;
 import static org.openqa.selenium.remote.RemoteWebDriver.builder;
 
 /**
@@ -64,7 +70,31 @@ public class CreateWebDriverAction implements WebDriverType.WebDriverTypeFunctio
     }
 
     protected WebDriver doBuild(RemoteWebDriverBuilder builder, CreateWebDriverParams input) {
-        return builder.addAlternative(input.getOptions()).withDriverService(input.getDriverService()).build();
+        SharedDriverServiceRegistry registry = input.getSharedRegistry();
+        if (registry == null) {
+            return builder.addAlternative(input.getOptions()).withDriverService(input.getDriverService()).build();
+        }
+        // the builder stops its driver service on quit, so the shared one is connected by url instead
+        DriverService service = registry.acquire(requireNonNull(input.getSharedConfig()));
+        SharedDriverServiceRegistry.ReleaseOnQuitExecutor executor = registry.releaseOnQuit(
+                new HttpCommandExecutor(service.getUrl()), service);
+        try {
+            return createRemoteWebDriver(executor, input.getOptions());
+        } catch (RuntimeException e) {
+            executor.release();
+            throw e;
+        }
+    }
+
+    /**
+     * For Unit testing purpose
+     *
+     * @param executor the command executor connected to the shared driver service
+     * @param options the options of the new session
+     * @return the created driver
+     */
+    protected WebDriver createRemoteWebDriver(CommandExecutor executor, Capabilities options) {
+        return new RemoteWebDriver(executor, options);
     }
 
     /**
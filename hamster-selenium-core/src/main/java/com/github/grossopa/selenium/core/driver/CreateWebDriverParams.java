@@ -27,6 +27,8 @@ package com.github.grossopa.selenium.core.driver;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.remote.service.DriverService;
 
+import javax.annotation.Nullable;
+
 /**
  * the parameter for creating the {@link org.openqa.selenium.WebDriver}
  *
@@ -36,6 +38,8 @@ import org.openqa.selenium.remote.service.DriverService;
 public class CreateWebDriverParams {
     private final Capabilities options;
     private final DriverService driverService;
+    private final DriverConfig sharedConfig;
+    private final SharedDriverServiceRegistry sharedRegistry;
 
     /**
      * Constructs an instance with options and given driver service
@@ -46,6 +50,24 @@ public class CreateWebDriverParams {
     public CreateWebDriverParams(Capabilities options, DriverService driverService) {
         this.options = options;
         this.driverService = driverService;
+        this.sharedConfig = null;
+        this.sharedRegistry = null;
+    }
+
+    /**
+     * Constructs an instance with options and the driver configuration whose service is shared by given registry, the
+     * service is acquired when the driver is created.
+     *
+     * @param options the options
+     * @param sharedConfig the driver configuration of the shared service
+     * @param sharedRegistry the registry which shares the driver service
+     * @see SharedDriverServiceRegistry#createParams(DriverConfig, Capabilities)
+     */
+    CreateWebDriverParams(Capabilities options, DriverConfig sharedConfig, SharedDriverServiceRegistry sharedRegistry) {
+        this.options = options;
+        this.driverService = null;
+        this.sharedConfig = sharedConfig;
+        this.sharedRegistry = sharedRegistry;
     }
 
     /**
@@ -58,11 +80,34 @@ public class CreateWebDriverParams {
     }
 
     /**
-     * Gets the driver service
+     * Gets the driver service, null if the service is shared by {@link #getSharedRegistry()}.
      *
      * @return the driver service
      */
     public DriverService getDriverService() {
         return driverService;
     }
+
+    /**
+     * Gets the registry which shares the driver service, null if the driver service is owned by the created driver.
+     *
+     * @return the registry which shares the driver service or null
+     * @since 1.13
+     */
+    @Nullable
+    public SharedDriverServiceRegistry getSharedRegistry() {
+        return sharedRegistry;
+    }
+
+    /**
+     * Gets the driver configuration of the service shared by {@link #getSharedRegistry()}, null if the driver service
+     * is owned by the created driver.
+     *
+     * @return the driver configuration of the shared service or null
+     * @since 1.13
+     */
+    @Nullable
+    public DriverConfig getSharedConfig() {
+        return sharedConfig;
+    }
 }
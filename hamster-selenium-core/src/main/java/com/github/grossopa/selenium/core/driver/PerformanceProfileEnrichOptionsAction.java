@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.ie.InternetExplorerOptions;
+import org.openqa.selenium.safari.SafariOptions;
+
+/**
+ * Enriches the browser options for the fast test execution: runs headless within a fixed small window, blocks the
+ * images, disables the extensions, the GPU, the background throttling and the smooth scrolling, forces
+ * {@code prefers-reduced-motion} and uses the {@link PageLoadStrategy#EAGER} page load strategy.
+ * <p>
+ * The presets are applied to Chrome, Edge and Firefox, the options of Internet Explorer and Safari are returned as
+ * they are because these browsers don't support such switches.
+ * </p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class PerformanceProfileEnrichOptionsAction extends AbstractEnrichOptionsAction {
+
+    /**
+     * The default window width.
+     */
+    public static final int DEFAULT_WINDOW_WIDTH = 1280;
+
+    /**
+     * The default window height.
+     */
+    public static final int DEFAULT_WINDOW_HEIGHT = 800;
+
+    private boolean headless = true;
+    private boolean blockImages = true;
+    private int windowWidth = DEFAULT_WINDOW_WIDTH;
+    private int windowHeight = DEFAULT_WINDOW_HEIGHT;
+
+    @Override
+    protected Capabilities doApplyChrome(ChromeOptions options) {
+        return applyChromium(options);
+    }
+
+    @Override
+    protected Capabilities doApplyEdge(EdgeOptions options) {
+        return applyChromium(options);
+    }
+
+    @Override
+    protected Capabilities doApplyFirefox(FirefoxOptions options) {
+        if (headless) {
+            options.addArguments("-headless");
+        }
+        options.addArguments("--width=" + windowWidth, "--height=" + windowHeight);
+        if (blockImages) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        options.addPreference("extensions.enabledScopes", 0);
+        options.addPreference("layers.acceleration.disabled", true);
+        options.addPreference("dom.timeout.enable_budget_timer_throttling", false);
+        options.addPreference("general.smoothScroll", false);
+        options.addPreference("ui.prefersReducedMotion", 1);
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        return options;
+    }
+
+    @Override
+    protected Capabilities doApplyIE(InternetExplorerOptions options) {
+        return options;
+    }
+
+    @Override
+    protected Capabilities doApplySafari(SafariOptions options) {
+        return options;
+    }
+
+    private Capabilities applyChromium(ChromiumOptions<?> options) {
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        options.addArguments("--window-size=" + windowWidth + "," + windowHeight);
+        if (blockImages) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        options.addArguments("--disable-extensions", "--disable-gpu", "--disable-background-timer-throttling",
+                "--disable-backgrounding-occluded-windows", "--disable-renderer-backgrounding",
+                "--disable-smooth-scrolling", "--force-prefers-reduced-motion");
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        return options;
+    }
+
+    /**
+     * Whether to run the browser headless, default is true.
+     *
+     * @return true if the browser runs headless
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Sets whether to run the browser headless, default is true.
+     *
+     * @param headless whether to run the browser headless
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * Whether to block loading the images, default is true.
+     *
+     * @return true if the images are blocked
+     */
+    public boolean isBlockImages() {
+        return blockImages;
+    }
+
+    /**
+     * Sets whether to block loading the images, default is true.
+     *
+     * @param blockImages whether to block loading the images
+     */
+    public void setBlockImages(boolean blockImages) {
+        this.blockImages = blockImages;
+    }
+
+    /**
+     * Gets the window width, default is {@link #DEFAULT_WINDOW_WIDTH}.
+     *
+     * @return the window width
+     */
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+
+    /**
+     * Sets the window width, default is {@link #DEFAULT_WINDOW_WIDTH}.
+     *
+     * @param windowWidth the window width to set
+     */
+    public void setWindowWidth(int windowWidth) {
+        this.windowWidth = windowWidth;
+    }
+
+    /**
+     * Gets the window height, default is {@link #DEFAULT_WINDOW_HEIGHT}.
+     *
+     * @return the window height
+     */
+    public int getWindowHeight() {
+        return windowHeight;
+    }
+
+    /**
+     * Sets the window height, default is {@link #DEFAULT_WINDOW_HEIGHT}.
+     *
+     * @param windowHeight the window height to set
+     */
+    public void setWindowHeight(int windowHeight) {
+        this.windowHeight = windowHeight;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.interactions.Interactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Resets the browser state of a used session so that it could be reused by the next test instead of being quit,
+ * which is much cheaper than launching a new session.
+ * <p>
+ * The recycling closes all the windows except the current one, clears the cookies, local storage, session storage,
+ * IndexedDB databases, Cache Storage and service workers of the current page origin and the configured origins,
+ * resets the input state and finally navigates to {@link #BLANK_URL}. The browser storage is only accessible from
+ * the page of the same origin, so the origins visited by the tests other than the last one should be configured.
+ * </p>
+ *
+ * @author Jack Yin
+ * @see ComponentWebDriverPool#setSessionRecycler(SessionRecycler)
+ * @since 1.13
+ */
+public class SessionRecycler {
+
+    private static final Logger LOG = Logger.getLogger(SessionRecycler.class.getName());
+
+    /**
+     * The blank page navigated to after the session is recycled.
+     */
+    public static final String BLANK_URL = "about:blank";
+
+    /**
+     * The async script to clear the browser storage of current page origin, it returns true when all the storage is
+     * cleared, the storage not supported or not accessible by the page is skipped.
+     */
+    //@formatter:off
+    static final String CLEAR_STORAGE_SCRIPT = ""
+            + "var done = arguments[arguments.length - 1];"
+            + "var ignore = function() {};"
+            + "try { window.localStorage.clear(); } catch (e) { ignore(e); }"
+            + "try { window.sessionStorage.clear(); } catch (e) { ignore(e); }"
+            + "if (typeof Promise === 'undefined') {"
+            + "  done(true);"
+            + "  return;"
+            + "}"
+            + "var tasks = [];"
+            + "try {"
+            + "  if (window.indexedDB && indexedDB.databases) {"
+            + "    tasks.push(indexedDB.databases().then(function(databases) {"
+            + "      return Promise.all(databases.map(function(database) {"
+            + "        return new Promise(function(resolve) {"
+            + "          var request = indexedDB.deleteDatabase(database.name);"
+            + "          request.onsuccess = request.onerror = request.onblocked = resolve;"
+            + "        });"
+            + "      }));"
+            + "    }).catch(ignore));"
+            + "  }"
+            + "  if (window.caches && caches.keys) {"
+            + "    tasks.push(caches.keys().then(function(keys) {"
+            + "      return Promise.all(keys.map(function(key) { return caches.delete(key); }));"
+            + "    }).catch(ignore));"
+            + "  }"
+            + "  if (navigator.serviceWorker && navigator.serviceWorker.getRegistrations) {"
+            + "    tasks.push(navigator.serviceWorker.getRegistrations().then(function(registrations) {"
+            + "      return Promise.all(registrations.map(function(r) { return r.unregister(); }));"
+            + "    }).catch(ignore));"
+            + "  }"
+            + "} catch (e) { ignore(e); }"
+            + "Promise.all(tasks).then(function() { done(true); }, function() { done(false); });";
+    //@formatter:on
+
+    private final List<String> origins;
+
+    /**
+     * Constructs an instance which clears the storage of the current page origin only.
+     */
+    public SessionRecycler() {
+        this(List.of());
+    }
+
+    /**
+     * Constructs an instance which clears the storage of the current page origin and given origins.
+     *
+     * @param origins the urls of the additional origins to clear, e.g. {@code https://login.example.com/}
+     */
+    public SessionRecycler(List<String> origins) {
+        this.origins = unmodifiableList(new ArrayList<>(origins));
+    }
+
+    /**
+     * Resets the browser state of the session.
+     *
+     * @param driver the session to recycle
+     * @return true if the session is clean and ready to reuse, false if it failed and should be quit instead
+     */
+    public boolean recycle(WebDriver driver) {
+        try {
+            closeExtraWindows(driver);
+            driver.switchTo().defaultContent();
+            clearCurrentOrigin(driver);
+            for (String origin : origins) {
+                driver.get(origin);
+                clearCurrentOrigin(driver);
+            }
+            if (driver instanceof Interactive) {
+                ((Interactive) driver).resetInputState();
+            }
+            driver.get(BLANK_URL);
+            return true;
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Failed to recycle the session.", e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the urls of the additional origins to clear.
+     *
+     * @return the urls of the additional origins
+     */
+    public List<String> getOrigins() {
+        return origins;
+    }
+
+    private void closeExtraWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.isEmpty()) {
+            throw new NoSuchWindowException("The session has no window left.");
+        }
+        String current;
+        try {
+            current = driver.getWindowHandle();
+        } catch (NoSuchWindowException e) {
+            current = handles.iterator().next();
+        }
+        for (String handle : handles) {
+            if (!handle.equals(current)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(current);
+    }
+
+    private void clearCurrentOrigin(WebDriver driver) {
+        if (driver instanceof JavascriptExecutor) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        }
+        driver.manage().deleteAllCookies();
+    }
+
+    @Override
+    public String toString() {
+        return "SessionRecycler{" + "origins=" + origins + '}';
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shares one running {@link DriverService} process among many sessions. The services are keyed by the driver type,
+ * the executable path, the port and the environment of the {@link DriverConfig}, a service is started when it's
+ * acquired for the first time and stopped when the last reference is released. A slow starting service only blocks
+ * the callers acquiring the same configuration.
+ * <p>
+ * The params created by {@link #createParams(DriverConfig, Capabilities)} are understood by
+ * {@link CreateWebDriverAction}, which acquires the service when building the driver. The created driver is a plain
+ * {@link org.openqa.selenium.remote.RemoteWebDriver} connected to the shared service, its command executor releases
+ * the reference when the driver quits, instead of stopping the service.
+ * </p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class SharedDriverServiceRegistry implements AutoCloseable {
+
+    private final WebDriverType.WebDriverTypeFunction<DriverConfig, DriverService> createServiceAction;
+    private final Map<ServiceKey, SharedService> servicesByKey = new HashMap<>();
+    private final Map<DriverService, SharedService> servicesByInstance = new IdentityHashMap<>();
+    // the services stopped by close, the late releases of their drivers are ignored
+    private final Set<DriverService> closedServices = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Constructs an instance which creates the services by {@link CreateDriverServiceAction}.
+     */
+    public SharedDriverServiceRegistry() {
+        this(new CreateDriverServiceAction());
+    }
+
+    /**
+     * Constructs an instance with the action to create the services.
+     *
+     * @param createServiceAction the action to create the services
+     */
+    public SharedDriverServiceRegistry(
+            WebDriverType.WebDriverTypeFunction<DriverConfig, DriverService> createServiceAction) {
+        this.createServiceAction = requireNonNull(createServiceAction);
+    }
+
+    /**
+     * Gets the running service of given configuration and increases its reference count, the service is created and
+     * started if it's not yet running. The service is started outside the lock of the registry, the concurrent
+     * callers of the same configuration wait for it.
+     *
+     * @param config the driver configuration
+     * @return the running shared service
+     * @throws WebDriverException if the service fails to start
+     */
+    public DriverService acquire(DriverConfig config) {
+        ServiceKey key = new ServiceKey(config);
+        SharedService shared;
+        boolean starter = false;
+        synchronized (this) {
+            shared = servicesByKey.get(key);
+            if (shared == null) {
+                shared = new SharedService(key);
+                servicesByKey.put(key, shared);
+                starter = true;
+            }
+            shared.references++;
+        }
+        if (starter) {
+            start(shared, config);
+        }
+        try {
+            return shared.started.join();
+        } catch (CompletionException e) {
+            throw (WebDriverException) e.getCause();
+        }
+    }
+
+    private void start(SharedService shared, DriverConfig config) {
+        DriverService service;
+        try {
+            service = requireNonNull(config.getType().apply(createServiceAction, config));
+            service.start();
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                servicesByKey.remove(shared.key, shared);
+            }
+            shared.started.completeExceptionally(
+                    new WebDriverException("Failed to start the driver service " + shared.key, e));
+            return;
+        }
+        boolean closed;
+        synchronized (this) {
+            closed = servicesByKey.get(shared.key) != shared;
+            if (!closed) {
+                servicesByInstance.put(service, shared);
+            }
+        }
+        if (closed) {
+            service.stop();
+            shared.started.completeExceptionally(
+                    new WebDriverException("The registry is closed while starting the driver service " + shared.key));
+        } else {
+            shared.started.complete(service);
+        }
+    }
+
+    /**
+     * Decreases the reference count of the shared service, it's stopped when the last reference is released. The
+     * services already stopped by {@link #close()} are ignored, e.g. when their drivers quit afterwards.
+     *
+     * @param service the service acquired from this registry
+     * @throws IllegalArgumentException if the service is not acquired from this registry
+     */
+    public void release(DriverService service) {
+        SharedService shared;
+        synchronized (this) {
+            shared = servicesByInstance.get(service);
+            if (shared == null) {
+                if (closedServices.contains(service)) {
+                    return;
+                }
+                throw new IllegalArgumentException("The service is not acquired from this registry: " + service);
+            }
+            if (--shared.references > 0) {
+                return;
+            }
+            servicesByKey.remove(shared.key);
+            servicesByInstance.remove(service);
+        }
+        service.stop();
+    }
+
+    /**
+     * Creates the params for {@link CreateWebDriverAction} which share the service of given configuration. The
+     * service is acquired when the driver is created, and released when the created driver quits.
+     *
+     * @param config the driver configuration
+     * @param options the options of the new session
+     * @return the params which share the running service
+     */
+    public CreateWebDriverParams createParams(DriverConfig config, Capabilities options) {
+        return new CreateWebDriverParams(options, requireNonNull(config), this);
+    }
+
+    /**
+     * Gets the current reference count of the service of given configuration.
+     *
+     * @param config the driver configuration
+     * @return the reference count, 0 if the service is not running
+     */
+    public synchronized int getReferenceCount(DriverConfig config) {
+        SharedService shared = servicesByKey.get(new ServiceKey(config));
+        return shared == null ? 0 : shared.references;
+    }
+
+    /**
+     * Gets the number of running shared services.
+     *
+     * @return the number of running shared services
+     */
+    public synchronized int getServiceCount() {
+        return servicesByKey.size();
+    }
+
+    /**
+     * Stops all the running services regardless of their reference counts.
+     */
+    @Override
+    public void close() {
+        List<DriverService> services;
+        synchronized (this) {
+            services = new ArrayList<>(servicesByInstance.keySet());
+            closedServices.addAll(services);
+            servicesByKey.clear();
+            servicesByInstance.clear();
+        }
+        services.forEach(DriverService::stop);
+    }
+
+    /**
+     * Wraps the command executor of the driver connected to the shared service so that the reference of the service
+     * is released once the driver quits.
+     *
+     * @param executor the command executor connected to the shared service
+     * @param service the shared service
+     * @return the wrapped command executor
+     */
+    ReleaseOnQuitExecutor releaseOnQuit(CommandExecutor executor, DriverService service) {
+        return new ReleaseOnQuitExecutor(executor, service);
+    }
+
+    /**
+     * The command executor which releases the reference of the shared service after the quit command, or when the
+     * session fails to be created.
+     */
+    class ReleaseOnQuitExecutor implements CommandExecutor {
+        private final CommandExecutor delegate;
+        private final DriverService service;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnQuitExecutor(CommandExecutor delegate, DriverService service) {
+            this.delegate = requireNonNull(delegate);
+            this.service = requireNonNull(service);
+        }
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            try {
+                return delegate.execute(command);
+            } finally {
+                if (DriverCommand.QUIT.equals(command.getName())) {
+                    release();
+                }
+            }
+        }
+
+        /**
+         * Releases the reference of the shared service, only the first call takes effect.
+         */
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                SharedDriverServiceRegistry.this.release(service);
+            }
+        }
+    }
+
+    private static class SharedService {
+        private final ServiceKey key;
+        private final CompletableFuture<DriverService> started = new CompletableFuture<>();
+        private int references;
+
+        SharedService(ServiceKey key) {
+            this.key = key;
+        }
+    }
+
+    private static class ServiceKey {
+        private final WebDriverType type;
+        private final String driverExecutablePath;
+        private final int port;
+        private final Map<String, String> environment;
+
+        ServiceKey(DriverConfig config) {
+            this.type = requireNonNull(config.getType());
+            this.driverExecutablePath = config.getDriverExecutablePath();
+            this.port = config.getPort() == null || config.getPort() < 1 ? 0 : config.getPort();
+            this.environment = config.getEnvironment() == null ? Map.of() : new HashMap<>(config.getEnvironment());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ServiceKey)) {
+                return false;
+            }
+            ServiceKey that = (ServiceKey) o;
+            return port == that.port && type == that.type && Objects.equals(driverExecutablePath,
+                    that.driverExecutablePath) && environment.equals(that.environment);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, driverExecutablePath, port, environment);
+        }
+
+        @Override
+        public String toString() {
+            return "{" + "type=" + type + ", driverExecutablePath=" + driverExecutablePath + ", port=" + port + '}';
+        }
+    }
+}
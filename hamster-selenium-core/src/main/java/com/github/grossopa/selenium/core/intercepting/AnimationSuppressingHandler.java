@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Injects a stylesheet which shortens all the CSS transitions and animations and hides the ripples of Material UI and
+ * Angular Material after each navigation, so that the overlays, menus and dialogs show up almost immediately and the
+ * components spend little time waiting for the animations.
+ * <p>
+ * The durations are set to 1 millisecond rather than 0, so that the {@code transitionend} and {@code animationend}
+ * events the frameworks rely on are still fired. The animations driven by scripts, e.g. the Web Animations API used by
+ * Angular animations, are not affected.
+ * </p>
+ * <p>
+ * The page navigated by clicking a link is not intercepted, {@link #suppress()} could be invoked manually.
+ * </p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class AnimationSuppressingHandler implements InterceptingHandler {
+
+    private static final Logger LOG = Logger.getLogger(AnimationSuppressingHandler.class.getName());
+
+    /**
+     * The id of the injected style element.
+     */
+    public static final String STYLE_ID = "hamster-selenium-animation-suppression";
+
+    /**
+     * The injected stylesheet.
+     */
+    //@formatter:off
+    public static final String STYLESHEET = ""
+            + "*, *::before, *::after {"
+            + "  transition-duration: 1ms !important;"
+            + "  transition-delay: 0s !important;"
+            + "  animation-duration: 1ms !important;"
+            + "  animation-delay: 0s !important;"
+            + "  scroll-behavior: auto !important;"
+            + "}"
+            + ".MuiTouchRipple-root, .mat-ripple-element, .mat-mdc-button-ripple, .mdc-button__ripple {"
+            + "  display: none !important;"
+            + "}";
+    //@formatter:on
+
+    /**
+     * The script to inject the stylesheet, it returns true if the stylesheet is injected and false if it exists
+     * already.
+     */
+    //@formatter:off
+    static final String INJECT_SCRIPT = ""
+            + "var id = arguments[0];"
+            + "if (document.getElementById(id)) {"
+            + "  return false;"
+            + "}"
+            + "var style = document.createElement('style');"
+            + "style.id = id;"
+            + "style.textContent = arguments[1];"
+            + "(document.head || document.documentElement).appendChild(style);"
+            + "return true;";
+    //@formatter:on
+
+    private static final Set<String> NAVIGATION_METHODS = Set.of(DRIVER_GET, NAVIGATION_TO, NAVIGATION_REFRESH,
+            NAVIGATION_BACK, NAVIGATION_FORWARD);
+
+    private final JavascriptExecutor executor;
+    private final InterceptingHandler delegate;
+
+    /**
+     * Constructs an instance with the executor to inject the stylesheet.
+     *
+     * @param executor the executor to inject the stylesheet, normally the driver wrapped by
+     * {@link InterceptingWebDriver}
+     */
+    public AnimationSuppressingHandler(JavascriptExecutor executor) {
+        this(executor, null);
+    }
+
+    /**
+     * Constructs an instance with the executor to inject the stylesheet and the handler to delegate to, e.g. the
+     * {@link LoggingHandler}.
+     *
+     * @param executor the executor to inject the stylesheet, normally the driver wrapped by
+     * {@link InterceptingWebDriver}
+     * @param delegate the handler to delegate to, nullable
+     */
+    public AnimationSuppressingHandler(JavascriptExecutor executor, @Nullable InterceptingHandler delegate) {
+        this.executor = requireNonNull(executor);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the driver so that the animations are suppressed after each navigation.
+     *
+     * @param driver the driver to wrap, it must be a {@link JavascriptExecutor}
+     * @return the wrapped driver
+     */
+    public static InterceptingWebDriver wrap(WebDriver driver) {
+        return new InterceptingWebDriver(driver, new AnimationSuppressingHandler((JavascriptExecutor) driver));
+    }
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return delegate == null || delegate.isMethodInfoReusable();
+    }
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        if (delegate != null) {
+            delegate.onBefore(methodInfo);
+        }
+    }
+
+    @Override
+    public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        if (delegate != null) {
+            delegate.onAfter(methodInfo, resultValue);
+        }
+        if (NAVIGATION_METHODS.contains(methodInfo.getName())) {
+            suppress();
+        }
+    }
+
+    @Override
+    public void onException(MethodInfo<?> methodInfo, Exception exception) {
+        if (delegate != null) {
+            delegate.onException(methodInfo, exception);
+        }
+    }
+
+    /**
+     * Injects the stylesheet into the current page if it's not injected yet, the failure is ignored as it must not
+     * break the navigation.
+     *
+     * @return true if the stylesheet is injected by this invocation
+     */
+    public boolean suppress() {
+        try {
+            return Boolean.TRUE.equals(executor.executeScript(INJECT_SCRIPT, STYLE_ID, STYLESHEET));
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Failed to inject the animation suppression stylesheet.", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The asynchronous variant of {@link LoggingHandler}. The calling thread only copies the timings and a cheap snapshot
+ * of the invocation into a preallocated ring buffer, the log messages are formatted and written by a background daemon
+ * thread. When the buffer is full or the handler is closed the entries are dropped rather than blocking the calling
+ * thread, see {@link #getDroppedCount()}. The background thread is parked while the buffer is empty and woken up by
+ * the next publishing, so an idle handler costs no wakeups.
+ * <p>
+ * The params array is copied and the collections, maps and arrays are reduced to their sizes and the leading elements
+ * on the calling thread, so the later changes made by the caller are not reflected. The remaining values, the
+ * elements and the sources are formatted on the background thread later, hence their {@code toString()} must be safe
+ * to invoke from another thread. The string representations are truncated to the configured max length.
+ *
+ * @author Jack Yin
+ * @see LoggingHandler
+ * @since 1.13
+ */
+public class AsyncLoggingHandler implements InterceptingHandler, AutoCloseable {
+
+    /**
+     * The default capacity of the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The default max length of each formatted param, result and source.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 256;
+
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    private final long thresholdInMillis;
+    private final long thresholdNanos;
+    private final int maxLength;
+    private final int maxElements;
+    private final Logger log;
+
+    private final Entry[] entries;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running = true;
+    private volatile boolean consumerParked;
+    private final Thread consumer;
+
+    /**
+     * Constructs an instance with threshold milliseconds for printing log and the default capacity and max length.
+     *
+     * @param thresholdInMillis only when the time spent is longer than the threshold then log will be printed. 0 for
+     * printing all actions.
+     */
+    public AsyncLoggingHandler(long thresholdInMillis) {
+        this(thresholdInMillis, DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH,
+                Logger.getLogger("com.github.grossopa.selenium.core.intercepting.AsyncLoggingHandler"));
+    }
+
+    /**
+     * Constructs an instance with threshold milliseconds for printing log.
+     *
+     * @param thresholdInMillis only when the time spent is longer than the threshold then log will be printed. 0 for
+     * printing all actions.
+     * @param capacity the capacity of the ring buffer, rounded up to the power of two
+     * @param maxLength the max length of each formatted param, result and source
+     * @param log the customized logger
+     */
+    public AsyncLoggingHandler(long thresholdInMillis, int capacity, int maxLength, Logger log) {
+        this(thresholdInMillis, capacity, maxLength, log, true);
+    }
+
+    AsyncLoggingHandler(long thresholdInMillis, int capacity, int maxLength, Logger log, boolean startConsumer) {
+        requireNonNull(log);
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30 but was " + capacity);
+        }
+        if (maxLength < 4) {
+            throw new IllegalArgumentException("maxLength must be at least 4 but was " + maxLength);
+        }
+        this.thresholdInMillis = thresholdInMillis;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdInMillis);
+        this.maxLength = maxLength;
+        // each printed element takes at least 3 characters including the separator
+        this.maxElements = maxLength / 3 + 2;
+        this.log = log;
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+        }
+        this.mask = size - 1;
+        if (startConsumer) {
+            consumer = new Thread(this::consume, "hamster-async-logging");
+            consumer.setDaemon(true);
+            consumer.start();
+        } else {
+            consumer = null;
+        }
+    }
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return true;
+    }
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        // only the completed invocations are logged
+    }
+
+    @Override
+    public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        if (!methodInfo.isExecutionDone()) {
+            methodInfo.executionDone();
+        }
+        if (methodInfo.getTimeElapsedNanos() > thresholdNanos) {
+            publish(methodInfo, resultValue, null);
+        }
+    }
+
+    @Override
+    public void onException(MethodInfo<?> methodInfo, Exception exception) {
+        if (!methodInfo.isExecutionDone()) {
+            methodInfo.executionDone();
+        }
+        publish(methodInfo, null, exception);
+    }
+
+    private void publish(MethodInfo<?> methodInfo, Object resultValue, Exception exception) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() >= entries.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        Entry entry = entries[(int) (sequence & mask)];
+        entry.name = methodInfo.getName();
+        entry.params = snapshotParams(methodInfo.getParams());
+        entry.source = methodInfo.getSource();
+        entry.result = snapshot(resultValue);
+        entry.exception = exception;
+        entry.threadName = Thread.currentThread().getName();
+        entry.elapsedNanos = methodInfo.getTimeElapsedNanos();
+        entry.published = sequence + 1;
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private Object[] snapshotParams(Object[] params) {
+        if (params.length == 0) {
+            return NO_PARAMS;
+        }
+        Object[] result = new Object[params.length];
+        for (int i = 0; i < params.length; i++) {
+            result[i] = snapshot(params[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Reduces the collections, maps and arrays to their sizes and the leading elements, other values are returned as
+     * they are.
+     *
+     * @param value the value to snapshot
+     * @return the snapshot of the value
+     */
+    @SuppressWarnings("rawtypes")
+    Object snapshot(Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Object[] leading = new Object[Math.min(map.size(), maxElements)];
+            int i = 0;
+            for (Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator(); it.hasNext()
+                    && i < leading.length; i++) {
+                leading[i] = new SimpleImmutableEntry<>(it.next());
+            }
+            return new Truncated(map.size(), leading, i);
+        } else if (value instanceof Collection) {
+            Collection collection = (Collection) value;
+            Object[] leading = new Object[Math.min(collection.size(), maxElements)];
+            int i = 0;
+            for (Iterator it = collection.iterator(); it.hasNext() && i < leading.length; i++) {
+                leading[i] = it.next();
+            }
+            return new Truncated(collection.size(), leading, i);
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            int length = Math.min(array.length, maxElements);
+            return new Truncated(array.length, Arrays.copyOf(array, length), length);
+        }
+        return value;
+    }
+
+    private void consume() {
+        while (running) {
+            if (drain() == 0) {
+                // parks until the next publishing, the flag is set before checking again so no entry is missed
+                consumerParked = true;
+                if (running && drain() == 0) {
+                    LockSupport.park(this);
+                }
+                consumerParked = false;
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Formats and writes all the published entries, must only be invoked by the single consumer.
+     *
+     * @return the number of the written entries
+     */
+    int drain() {
+        int count = 0;
+        long sequence = head.get();
+        while (true) {
+            Entry entry = entries[(int) (sequence & mask)];
+            if (entry.published != sequence + 1) {
+                return count;
+            }
+            try {
+                write(entry);
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Failed to format the log of " + entry.name, e);
+            }
+            entry.clear();
+            sequence++;
+            head.set(sequence);
+            count++;
+        }
+    }
+
+    private void write(Entry entry) {
+        StringBuilder builder = new StringBuilder(256);
+        builder.append(entry.name).append('(');
+        for (int i = 0; i < entry.params.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(describe(entry.params[i]));
+        }
+        builder.append(")      Time spent ")
+                .append(String.format(Locale.ROOT, "%.3f", entry.elapsedNanos / 1_000_000d)).append("ms.\n");
+        builder.append("      Thread: ").append(entry.threadName).append('\n');
+        builder.append("      Source: ").append(describe(entry.source)).append('\n');
+        if (entry.exception != null) {
+            log.log(Level.SEVERE, builder.toString(), entry.exception);
+        } else {
+            builder.append("      Result: ").append(describe(entry.result)).append('\n');
+            log.info(builder.toString());
+        }
+    }
+
+    String describe(Object value) {
+        Object snapshot = value instanceof Truncated ? value : snapshot(value);
+        if (snapshot instanceof Truncated) {
+            Truncated truncated = (Truncated) snapshot;
+            return "count: " + truncated.size + ", " + truncate(truncated);
+        }
+        return truncate(String.valueOf(snapshot));
+    }
+
+    private String truncate(Truncated truncated) {
+        StringBuilder builder = new StringBuilder("[");
+        int i = 0;
+        while (i < truncated.length && builder.length() <= maxLength) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(truncated.leading[i++]);
+        }
+        builder.append(']');
+        if (i < truncated.size) {
+            builder.setLength(Math.min(builder.length(), maxLength - 4));
+            builder.append("...]");
+        }
+        return truncate(builder.toString());
+    }
+
+    private String truncate(String value) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength - 3) + "...";
+    }
+
+    /**
+     * Stops the background thread after the published entries are written. The entries published afterwards are
+     * dropped, the ones published at the same time may be left pending, see {@link #getPendingCount()}.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            drain();
+        }
+    }
+
+    /**
+     * Gets the number of the entries dropped because the ring buffer was full or the handler was closed.
+     *
+     * @return the number of the dropped entries
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of the entries published but not written yet.
+     *
+     * @return the number of the pending entries
+     */
+    public long getPendingCount() {
+        return tail.get() - head.get();
+    }
+
+    /**
+     * Gets the background thread writing the logs, null if not started.
+     *
+     * @return the background thread or null
+     */
+    @Nullable
+    Thread getConsumer() {
+        return consumer;
+    }
+
+    /**
+     * Gets the capacity of the ring buffer.
+     *
+     * @return the capacity of the ring buffer
+     */
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Gets the threshold for logging.
+     *
+     * @return the threshold for logging.
+     */
+    public long getThresholdInMillis() {
+        return thresholdInMillis;
+    }
+
+    /**
+     * Gets the max length of each formatted param, result and source.
+     *
+     * @return the max length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the logger instance
+     *
+     * @return the logger instance
+     */
+    public Logger getLog() {
+        return log;
+    }
+
+    private static final class Truncated {
+        private final int size;
+        private final Object[] leading;
+        private final int length;
+
+        private Truncated(int size, Object[] leading, int length) {
+            this.size = size;
+            this.leading = leading;
+            this.length = length;
+        }
+    }
+
+    private static class Entry {
+        private volatile long published;
+        private String name;
+        private Object[] params;
+        private Object source;
+        private Object result;
+        private Exception exception;
+        private String threadName;
+        private long elapsedNanos;
+
+        private void clear() {
+            params = null;
+            source = null;
+            result = null;
+            exception = null;
+        }
+    }
+}
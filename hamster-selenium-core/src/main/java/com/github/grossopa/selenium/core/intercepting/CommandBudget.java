@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A scope counting the commands issued to the driver, e.g. to lock in the round trips of the component operations in
+ * the regression tests:
+ * <pre>
+ * try (CommandBudget budget = CommandBudget.open(driver, 3)) {
+ *     select.selectByVisibleText("x");
+ * }
+ * </pre>
+ * The {@link CommandBudgetExceededException} is thrown when the scope is closed if more commands than the budget are
+ * issued. The driver must be instrumented by {@link #instrument(WebDriver)} (or wrap a driver instrumented so), the
+ * commands issued via the driver, its elements, {@link WebDriver#switchTo()} and {@link WebDriver#navigate()} are
+ * counted, including the ones from other threads. The commands issued via {@link WebDriver#manage()}, e.g. the
+ * cookies, the timeouts and the window, are not intercepted hence not counted.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class CommandBudget implements AutoCloseable {
+
+    private static final int MAX_UNWRAP_DEPTH = 16;
+
+    private final CommandBudgetHandler handler;
+    private final long maxCommands;
+    private final LongAdder count = new LongAdder();
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    CommandBudget(CommandBudgetHandler handler, long maxCommands) {
+        this.handler = handler;
+        this.maxCommands = maxCommands;
+    }
+
+    /**
+     * Wraps the driver so the commands could be counted by the budgets.
+     *
+     * @param driver the driver to instrument
+     * @return the instrumented driver
+     */
+    public static InterceptingWebDriver instrument(WebDriver driver) {
+        return new InterceptingWebDriver(driver, new CommandBudgetHandler());
+    }
+
+    /**
+     * Opens a scope only counting the commands without budget.
+     *
+     * @param driver the instrumented driver, or the driver wrapping it
+     * @return the opened scope
+     * @throws IllegalArgumentException if the driver is not instrumented
+     */
+    public static CommandBudget open(WebDriver driver) {
+        return open(driver, Long.MAX_VALUE);
+    }
+
+    /**
+     * Opens a scope with the max number of the commands allowed.
+     *
+     * @param driver the instrumented driver, or the driver wrapping it
+     * @param maxCommands the max number of the commands allowed in the scope
+     * @return the opened scope
+     * @throws IllegalArgumentException if the driver is not instrumented
+     */
+    public static CommandBudget open(WebDriver driver, long maxCommands) {
+        requireNonNull(driver);
+        if (maxCommands < 0) {
+            throw new IllegalArgumentException("maxCommands must not be negative but was " + maxCommands);
+        }
+        CommandBudgetHandler handler = findHandler(driver);
+        if (handler == null) {
+            throw new IllegalArgumentException(
+                    "The driver is not instrumented, wrap it with CommandBudget.instrument(driver) first.");
+        }
+        CommandBudget budget = new CommandBudget(handler, maxCommands);
+        handler.register(budget);
+        return budget;
+    }
+
+    @Nullable
+    static CommandBudgetHandler findHandler(WebDriver driver) {
+        WebDriver current = driver;
+        for (int i = 0; i < MAX_UNWRAP_DEPTH && current != null; i++) {
+            if (current instanceof InterceptingWebDriver) {
+                InterceptingWebDriver interceptingDriver = (InterceptingWebDriver) current;
+                if (interceptingDriver.getHandler() instanceof CommandBudgetHandler) {
+                    return (CommandBudgetHandler) interceptingDriver.getHandler();
+                }
+                current = interceptingDriver.getDriver();
+            } else if (current instanceof WrapsDriver) {
+                WebDriver wrapped = ((WrapsDriver) current).getWrappedDriver();
+                current = wrapped == current ? null : wrapped;
+            } else {
+                current = null;
+            }
+        }
+        return null;
+    }
+
+    void count(String methodName) {
+        if (closed) {
+            return;
+        }
+        count.increment();
+        LongAdder methodCount = counts.get(methodName);
+        if (methodCount == null) {
+            methodCount = counts.computeIfAbsent(methodName, k -> new LongAdder());
+        }
+        methodCount.increment();
+    }
+
+    /**
+     * Gets the number of the commands issued in the scope so far.
+     *
+     * @return the number of the commands
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the number of the commands issued in the scope per method name.
+     *
+     * @return the number of the commands keyed and sorted by the method name
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((name, methodCount) -> result.put(name, methodCount.sum()));
+        return result;
+    }
+
+    /**
+     * Gets the max number of the commands allowed, {@link Long#MAX_VALUE} if the scope only counts.
+     *
+     * @return the max number of the commands allowed
+     */
+    public long getMaxCommands() {
+        return maxCommands;
+    }
+
+    /**
+     * Whether the commands issued so far exceed the budget.
+     *
+     * @return true if the budget is exceeded
+     */
+    public boolean isExceeded() {
+        return getCount() > maxCommands;
+    }
+
+    /**
+     * Verifies the commands issued so far are within the budget.
+     *
+     * @throws CommandBudgetExceededException if the budget is exceeded
+     */
+    public void verify() {
+        long current = getCount();
+        if (current > maxCommands) {
+            throw new CommandBudgetExceededException(maxCommands, current, getCounts());
+        }
+    }
+
+    /**
+     * Stops counting and verifies the commands issued are within the budget.
+     *
+     * @throws CommandBudgetExceededException if the budget is exceeded
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        handler.unregister(this);
+        verify();
+    }
+
+    @Override
+    public String toString() {
+        return "CommandBudget{" + "count=" + getCount() + ", maxCommands=" + maxCommands + ", counts=" + getCounts()
+                + '}';
+    }
+}
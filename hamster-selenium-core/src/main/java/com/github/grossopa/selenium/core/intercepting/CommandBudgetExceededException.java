@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import java.util.Map;
+
+/**
+ * Thrown when more commands than the budget are issued in a {@link CommandBudget} scope. It's an
+ * {@link AssertionError} so the regression tests report it as a failure. The commands issued via
+ * {@link org.openqa.selenium.WebDriver#manage()} are not counted, see {@link CommandBudget}.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class CommandBudgetExceededException extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long maxCommands;
+    private final long actualCommands;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param maxCommands the max number of the commands allowed
+     * @param actualCommands the number of the commands issued
+     * @param counts the number of the commands issued per method name
+     */
+    public CommandBudgetExceededException(long maxCommands, long actualCommands, Map<String, Long> counts) {
+        super("Expected at most " + maxCommands + " commands but " + actualCommands + " were issued: " + counts
+                + " (excluding the ones via WebDriver.manage())");
+        this.maxCommands = maxCommands;
+        this.actualCommands = actualCommands;
+    }
+
+    /**
+     * Gets the max number of the commands allowed
+     *
+     * @return the max number of the commands allowed
+     */
+    public long getMaxCommands() {
+        return maxCommands;
+    }
+
+    /**
+     * Gets the number of the commands issued
+     *
+     * @return the number of the commands issued
+     */
+    public long getActualCommands() {
+        return actualCommands;
+    }
+}
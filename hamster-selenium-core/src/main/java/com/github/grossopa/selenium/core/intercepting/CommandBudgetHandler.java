@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Counts the commands issued through the intercepting layer into the currently open {@link CommandBudget}s of the
+ * driver, and delegates to the other handler if given.
+ *
+ * @author Jack Yin
+ * @see CommandBudget
+ * @since 1.13
+ */
+public class CommandBudgetHandler implements InterceptingHandler {
+
+    private final List<CommandBudget> openBudgets = new CopyOnWriteArrayList<>();
+    private final InterceptingHandler delegate;
+
+    /**
+     * Constructs an instance without delegate.
+     */
+    public CommandBudgetHandler() {
+        this(null);
+    }
+
+    /**
+     * Constructs an instance with the handler to delegate to, e.g. the {@link MetricsHandler}.
+     *
+     * @param delegate the handler to delegate to, nullable
+     */
+    public CommandBudgetHandler(@Nullable InterceptingHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Gets the handler to delegate to
+     *
+     * @return the handler to delegate to, null if not given
+     */
+    @Nullable
+    public InterceptingHandler getDelegate() {
+        return delegate;
+    }
+
+    void register(CommandBudget budget) {
+        openBudgets.add(budget);
+    }
+
+    void unregister(CommandBudget budget) {
+        openBudgets.remove(budget);
+    }
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return delegate == null || delegate.isMethodInfoReusable();
+    }
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        for (CommandBudget budget : openBudgets) {
+            budget.count(methodInfo.getName());
+        }
+        if (delegate != null) {
+            delegate.onBefore(methodInfo);
+        }
+    }
+
+    @Override
+    public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        if (delegate != null) {
+            delegate.onAfter(methodInfo, resultValue);
+        }
+    }
+
+    @Override
+    public void onException(MethodInfo<?> methodInfo, Exception exception) {
+        if (delegate != null) {
+            delegate.onException(methodInfo, exception);
+        }
+    }
+}
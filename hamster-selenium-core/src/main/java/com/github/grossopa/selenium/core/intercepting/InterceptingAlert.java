@@ -56,30 +56,45 @@ public class InterceptingAlert implements Alert {
 
     @Override
     public void dismiss() {
+        if (handler.isNoOp()) {
+            alert.dismiss();
+            return;
+        }
         handler.execute(() -> {
             alert.dismiss();
             return null;
-        }, MethodInfo.create(alert, ALERT_DISMISS));
+        }, MethodInfo.of(handler, alert, ALERT_DISMISS));
     }
 
     @Override
     public void accept() {
+        if (handler.isNoOp()) {
+            alert.accept();
+            return;
+        }
         handler.execute(() -> {
             alert.accept();
             return null;
-        }, MethodInfo.create(alert, ALERT_ACCEPT));
+        }, MethodInfo.of(handler, alert, ALERT_ACCEPT));
     }
 
     @Override
     public String getText() {
-        return handler.execute(alert::getText, MethodInfo.create(alert, ALERT_GET_TEXT));
+        if (handler.isNoOp()) {
+            return alert.getText();
+        }
+        return handler.execute(alert::getText, MethodInfo.of(handler, alert, ALERT_GET_TEXT));
     }
 
     @Override
     public void sendKeys(String keysToSend) {
+        if (handler.isNoOp()) {
+            alert.sendKeys(keysToSend);
+            return;
+        }
         handler.execute(() -> {
             alert.sendKeys(keysToSend);
             return null;
-        }, MethodInfo.create(alert, ALERT_SEND_KEYS, keysToSend));
+        }, MethodInfo.of(handler, alert, ALERT_SEND_KEYS, keysToSend));
     }
 }
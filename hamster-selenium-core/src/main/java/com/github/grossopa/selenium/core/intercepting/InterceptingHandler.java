@@ -57,6 +57,30 @@ public interface InterceptingHandler {
      */
     void onException(MethodInfo<?> methodInfo, Exception exception);
 
+    /**
+     * Whether this handler does nothing at all, the intercepting wrappers invoke the wrapped object directly without
+     * creating the {@link MethodInfo} and the supplier when it's true.
+     *
+     * @return true if the handler is a no-op, false by default
+     * @since 1.13
+     */
+    default boolean isNoOp() {
+        return false;
+    }
+
+    /**
+     * Whether the {@link MethodInfo} passed to this handler could be reused after the invocation completes, which is
+     * true when the handler doesn't keep it, e.g. for asynchronous processing. The intercepting wrappers then use the
+     * {@link MethodInfo#reusable(Object, String, Object...) reusable} instances of current thread.
+     *
+     * @return true if the method info could be reused, false by default
+     * @see MethodInfo#of(InterceptingHandler, Object, String, Object...)
+     * @since 1.13
+     */
+    default boolean isMethodInfoReusable() {
+        return false;
+    }
+
     /**
      * Executes the actual super method with try catch for handler to be invoked properly.
      *
@@ -77,6 +101,8 @@ public interface InterceptingHandler {
         } catch (RuntimeException runtimeException) {
             this.onException(methodInfo, runtimeException);
             throw runtimeException;
+        } finally {
+            methodInfo.release();
         }
     }
 }
@@ -57,42 +57,62 @@ public class InterceptingNavigation implements WebDriver.Navigation {
 
     @Override
     public void back() {
+        if (handler.isNoOp()) {
+            navigation.back();
+            return;
+        }
         handler.execute(() -> {
             navigation.back();
             return null;
-        }, MethodInfo.create(navigation, NAVIGATION_BACK));
+        }, MethodInfo.of(handler, navigation, NAVIGATION_BACK));
     }
 
     @Override
     public void forward() {
+        if (handler.isNoOp()) {
+            navigation.forward();
+            return;
+        }
         handler.execute(() -> {
             navigation.forward();
             return null;
-        }, MethodInfo.create(navigation, NAVIGATION_FORWARD));
+        }, MethodInfo.of(handler, navigation, NAVIGATION_FORWARD));
     }
 
     @Override
     public void to(String url) {
+        if (handler.isNoOp()) {
+            navigation.to(url);
+            return;
+        }
         handler.execute(() -> {
             navigation.to(url);
             return null;
-        }, MethodInfo.create(navigation, NAVIGATION_TO, url));
+        }, MethodInfo.of(handler, navigation, NAVIGATION_TO, url));
     }
 
     @Override
     public void to(URL url) {
+        if (handler.isNoOp()) {
+            navigation.to(url);
+            return;
+        }
         handler.execute(() -> {
             navigation.to(url);
             return null;
-        }, MethodInfo.create(navigation, NAVIGATION_TO, url));
+        }, MethodInfo.of(handler, navigation, NAVIGATION_TO, url));
     }
 
     @Override
     public void refresh() {
+        if (handler.isNoOp()) {
+            navigation.refresh();
+            return;
+        }
         handler.execute(() -> {
             navigation.refresh();
             return null;
-        }, MethodInfo.create(navigation, NAVIGATION_REFRESH));
+        }, MethodInfo.of(handler, navigation, NAVIGATION_REFRESH));
     }
 
 
@@ -60,50 +60,74 @@ public class InterceptingTargetLocator implements WebDriver.TargetLocator {
 
     @Override
     public WebDriver frame(int index) {
+        if (handler.isNoOp()) {
+            return targetLocator.frame(index);
+        }
         return handler.execute(() -> targetLocator.frame(index),
-                MethodInfo.create(targetLocator, TARGETLOCATOR_FRAME, index));
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_FRAME, index));
     }
 
     @Override
     public WebDriver frame(String nameOrId) {
+        if (handler.isNoOp()) {
+            return targetLocator.frame(nameOrId);
+        }
         return handler.execute(() -> targetLocator.frame(nameOrId),
-                MethodInfo.create(targetLocator, TARGETLOCATOR_FRAME, nameOrId));
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_FRAME, nameOrId));
     }
 
     @Override
     public WebDriver frame(WebElement frameElement) {
+        if (handler.isNoOp()) {
+            return targetLocator.frame(frameElement);
+        }
         return handler.execute(() -> targetLocator.frame(frameElement),
-                MethodInfo.create(targetLocator, TARGETLOCATOR_FRAME, frameElement));
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_FRAME, frameElement));
     }
 
     @Override
     public WebDriver parentFrame() {
-        return handler
-                .execute(targetLocator::parentFrame, MethodInfo.create(targetLocator, TARGETLOCATOR_PARENT_FRAME));
+        if (handler.isNoOp()) {
+            return targetLocator.parentFrame();
+        }
+        return handler.execute(targetLocator::parentFrame,
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_PARENT_FRAME));
     }
 
     @Override
     public WebDriver window(String nameOrHandle) {
+        if (handler.isNoOp()) {
+            return targetLocator.window(nameOrHandle);
+        }
         return handler.execute(() -> targetLocator.window(nameOrHandle),
-                MethodInfo.create(targetLocator, TARGETLOCATOR_WINDOW, nameOrHandle));
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_WINDOW, nameOrHandle));
     }
 
     @Override
     public WebDriver newWindow(WindowType typeHint) {
+        if (handler.isNoOp()) {
+            return targetLocator.newWindow(typeHint);
+        }
         return handler.execute(() -> targetLocator.newWindow(typeHint),
-                MethodInfo.create(targetLocator, TARGETLOCATOR_NEW_WINDOW, typeHint));
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_NEW_WINDOW, typeHint));
     }
 
     @Override
     public WebDriver defaultContent() {
+        if (handler.isNoOp()) {
+            return targetLocator.defaultContent();
+        }
         return handler.execute(targetLocator::defaultContent,
-                MethodInfo.create(targetLocator, TARGETLOCATOR_DEFAULT_CONTENT));
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_DEFAULT_CONTENT));
     }
 
     @Override
     public WebElement activeElement() {
-        return handler
-                .execute(targetLocator::activeElement, MethodInfo.create(targetLocator, TARGETLOCATOR_ACTIVE_ELEMENT));
+        if (handler.isNoOp()) {
+            return targetLocator.activeElement();
+        }
+        return handler.execute(targetLocator::activeElement,
+                MethodInfo.of(handler, targetLocator, TARGETLOCATOR_ACTIVE_ELEMENT));
     }
 
     @Override
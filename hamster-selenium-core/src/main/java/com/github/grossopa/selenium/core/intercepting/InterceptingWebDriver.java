@@ -62,64 +62,98 @@ public class InterceptingWebDriver
 
     @Override
     public void get(String url) {
+        if (handler.isNoOp()) {
+            driver.get(url);
+            return;
+        }
         handler.execute(() -> {
             driver.get(url);
             return null;
-        }, MethodInfo.create(driver, DRIVER_GET, url));
+        }, MethodInfo.of(handler, driver, DRIVER_GET, url));
     }
 
     @Override
     public String getCurrentUrl() {
-        return handler.execute(driver::getCurrentUrl, MethodInfo.create(driver, DRIVER_GET_CURRENT_URL));
+        if (handler.isNoOp()) {
+            return driver.getCurrentUrl();
+        }
+        return handler.execute(driver::getCurrentUrl, MethodInfo.of(handler, driver, DRIVER_GET_CURRENT_URL));
     }
 
     @Override
     public String getTitle() {
-        return handler.execute(driver::getTitle, MethodInfo.create(driver, DRIVER_GET_TITLE));
+        if (handler.isNoOp()) {
+            return driver.getTitle();
+        }
+        return handler.execute(driver::getTitle, MethodInfo.of(handler, driver, DRIVER_GET_TITLE));
     }
 
     @Override
     public List<WebElement> findElements(By by) {
+        if (handler.isNoOp()) {
+            return driver.findElements(by).stream().map(element -> new InterceptingWebElement(element, handler))
+                    .collect(toList());
+        }
         return handler.execute(
                 () -> driver.findElements(by).stream().map(element -> new InterceptingWebElement(element, handler))
-                        .collect(toList()), MethodInfo.create(driver, DRIVER_FIND_ELEMENTS, by));
+                        .collect(toList()), MethodInfo.of(handler, driver, DRIVER_FIND_ELEMENTS, by));
     }
 
     @Override
     public WebElement findElement(By by) {
+        if (handler.isNoOp()) {
+            return new InterceptingWebElement(driver.findElement(by), handler);
+        }
         return handler.execute(() -> new InterceptingWebElement(driver.findElement(by), handler),
-                MethodInfo.create(driver, DRIVER_FIND_ELEMENT, by));
+                MethodInfo.of(handler, driver, DRIVER_FIND_ELEMENT, by));
     }
 
     @Override
     public String getPageSource() {
-        return handler.execute(driver::getPageSource, MethodInfo.create(driver, DRIVER_GET_PAGE_SOURCE));
+        if (handler.isNoOp()) {
+            return driver.getPageSource();
+        }
+        return handler.execute(driver::getPageSource, MethodInfo.of(handler, driver, DRIVER_GET_PAGE_SOURCE));
     }
 
     @Override
     public void close() {
+        if (handler.isNoOp()) {
+            driver.close();
+            return;
+        }
         handler.execute(() -> {
             driver.close();
             return null;
-        }, MethodInfo.create(driver, DRIVER_CLOSE));
+        }, MethodInfo.of(handler, driver, DRIVER_CLOSE));
     }
 
     @Override
     public void quit() {
+        if (handler.isNoOp()) {
+            driver.quit();
+            return;
+        }
         handler.execute(() -> {
             driver.quit();
             return null;
-        }, MethodInfo.create(driver, DRIVER_QUIT));
+        }, MethodInfo.of(handler, driver, DRIVER_QUIT));
     }
 
     @Override
     public Set<String> getWindowHandles() {
-        return handler.execute(driver::getWindowHandles, MethodInfo.create(driver, DRIVER_GET_WINDOW_HANDLES));
+        if (handler.isNoOp()) {
+            return driver.getWindowHandles();
+        }
+        return handler.execute(driver::getWindowHandles, MethodInfo.of(handler, driver, DRIVER_GET_WINDOW_HANDLES));
     }
 
     @Override
     public String getWindowHandle() {
-        return handler.execute(driver::getWindowHandle, MethodInfo.create(driver, DRIVER_GET_WINDOW_HANDLE));
+        if (handler.isNoOp()) {
+            return driver.getWindowHandle();
+        }
+        return handler.execute(driver::getWindowHandle, MethodInfo.of(handler, driver, DRIVER_GET_WINDOW_HANDLE));
     }
 
     @Override
@@ -144,37 +178,70 @@ public class InterceptingWebDriver
 
     @Override
     public Object executeScript(String script, Object... args) {
+        if (handler.isNoOp()) {
+            return ((JavascriptExecutor) driver).executeScript(script, args);
+        }
         return handler.execute(() -> ((JavascriptExecutor) driver).executeScript(script, args),
-                MethodInfo.create(driver, DRIVER_EXECUTE_SCRIPT, script, args));
+                MethodInfo.of(handler, driver, DRIVER_EXECUTE_SCRIPT, script, args));
     }
 
     @Override
     public Object executeAsyncScript(String script, Object... args) {
+        if (handler.isNoOp()) {
+            return ((JavascriptExecutor) driver).executeAsyncScript(script, args);
+        }
         return handler.execute(() -> ((JavascriptExecutor) driver).executeAsyncScript(script, args),
-                MethodInfo.create(driver, DRIVER_EXECUTE_ASYNC_SCRIPT, script, args));
+                MethodInfo.of(handler, driver, DRIVER_EXECUTE_ASYNC_SCRIPT, script, args));
     }
 
     @Override
     public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        if (handler.isNoOp()) {
+            return ((TakesScreenshot) driver).getScreenshotAs(target);
+        }
         return handler.execute(() -> ((TakesScreenshot) driver).getScreenshotAs(target),
-                MethodInfo.create(driver, DRIVER_GET_SCREENSHOT_AS, target));
+                MethodInfo.of(handler, driver, DRIVER_GET_SCREENSHOT_AS, target));
     }
 
     @Override
     public void perform(Collection<Sequence> actions) {
+        if (handler.isNoOp()) {
+            ((Interactive) driver).perform(actions);
+            return;
+        }
         handler.execute(() -> {
             ((Interactive) driver).perform(actions);
             return null;
-        }, MethodInfo.create(driver, DRIVER_PERFORM, actions));
+        }, MethodInfo.of(handler, driver, DRIVER_PERFORM, actions));
     }
 
     @Override
     public void resetInputState() {
+        if (handler.isNoOp()) {
+            ((Interactive) driver).resetInputState();
+            return;
+        }
         handler.execute(() -> {
             ((Interactive) driver).resetInputState();
             return null;
-        }, MethodInfo.create(driver, DRIVER_RESET_INPUT_STATE));
+        }, MethodInfo.of(handler, driver, DRIVER_RESET_INPUT_STATE));
     }
 
+    /**
+     * Gets the intercepting handler
+     *
+     * @return the intercepting handler
+     */
+    public InterceptingHandler getHandler() {
+        return handler;
+    }
 
+    /**
+     * Gets the delegated driver
+     *
+     * @return the delegated driver
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
 }
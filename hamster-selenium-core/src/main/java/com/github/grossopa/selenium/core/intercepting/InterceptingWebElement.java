@@ -62,135 +62,211 @@ public class InterceptingWebElement extends AbstractDelegatedWebElement {
 
     @Override
     public void click() {
+        if (handler.isNoOp()) {
+            super.click();
+            return;
+        }
         handler.execute(() -> {
             super.click();
             return null;
-        }, MethodInfo.create(element, ELEMENT_CLICK));
+        }, MethodInfo.of(handler, element, ELEMENT_CLICK));
     }
 
     @Override
     public void submit() {
+        if (handler.isNoOp()) {
+            super.submit();
+            return;
+        }
         handler.execute(() -> {
             super.submit();
             return null;
-        }, MethodInfo.create(element, ELEMENT_SUBMIT));
+        }, MethodInfo.of(handler, element, ELEMENT_SUBMIT));
     }
 
     @Override
     public void sendKeys(CharSequence... keysToSend) {
+        if (handler.isNoOp()) {
+            super.sendKeys(keysToSend);
+            return;
+        }
         handler.execute(() -> {
             super.sendKeys(keysToSend);
             return null;
-        }, MethodInfo.create(element, ELEMENT_SEND_KEYS, (Object) keysToSend));
+        }, MethodInfo.of(handler, element, ELEMENT_SEND_KEYS, (Object) keysToSend));
     }
 
     @Override
     public void clear() {
+        if (handler.isNoOp()) {
+            super.clear();
+            return;
+        }
         handler.execute(() -> {
             super.clear();
             return null;
-        }, MethodInfo.create(element, ELEMENT_CLEAR));
+        }, MethodInfo.of(handler, element, ELEMENT_CLEAR));
     }
 
     @Override
     public String getTagName() {
-        return handler.execute(super::getTagName, MethodInfo.create(element, ELEMENT_GET_TAG_NAME));
+        if (handler.isNoOp()) {
+            return super.getTagName();
+        }
+        return handler.execute(super::getTagName, MethodInfo.of(handler, element, ELEMENT_GET_TAG_NAME));
     }
 
     @Override
     public String getAttribute(String name) {
-        return handler.execute(() -> super.getAttribute(name), MethodInfo.create(element, ELEMENT_GET_ATTRIBUTE, name));
+        if (handler.isNoOp()) {
+            return super.getAttribute(name);
+        }
+        return handler.execute(() -> super.getAttribute(name),
+                MethodInfo.of(handler, element, ELEMENT_GET_ATTRIBUTE, name));
     }
 
     @Override
     public String getDomAttribute(String name) {
+        if (handler.isNoOp()) {
+            return super.getDomAttribute(name);
+        }
         return handler.execute(() -> super.getDomAttribute(name),
-                MethodInfo.create(element, ELEMENT_GET_DOM_ATTRIBUTE, name));
+                MethodInfo.of(handler, element, ELEMENT_GET_DOM_ATTRIBUTE, name));
     }
 
     @Override
     public boolean isSelected() {
-        return handler.execute(super::isSelected, MethodInfo.create(element, ELEMENT_IS_SELECTED));
+        if (handler.isNoOp()) {
+            return super.isSelected();
+        }
+        return handler.execute(super::isSelected, MethodInfo.of(handler, element, ELEMENT_IS_SELECTED));
     }
 
     @Override
     public boolean isEnabled() {
-        return handler.execute(super::isEnabled, MethodInfo.create(element, ELEMENT_IS_ENABLED));
+        if (handler.isNoOp()) {
+            return super.isEnabled();
+        }
+        return handler.execute(super::isEnabled, MethodInfo.of(handler, element, ELEMENT_IS_ENABLED));
     }
 
     @Override
     public String getText() {
-        return handler.execute(super::getText, MethodInfo.create(element, ELEMENT_GET_TEXT));
+        if (handler.isNoOp()) {
+            return super.getText();
+        }
+        return handler.execute(super::getText, MethodInfo.of(handler, element, ELEMENT_GET_TEXT));
     }
 
     @Override
     public List<WebElement> findElements(By by) {
+        if (handler.isNoOp()) {
+            return super.findElements(by).stream().map(el -> new InterceptingWebElement(el, handler))
+                    .collect(toList());
+        }
         return handler.execute(() -> super.findElements(by).stream().map(el -> new InterceptingWebElement(el, handler))
-                .collect(toList()), MethodInfo.create(element, ELEMENT_FIND_ELEMENTS, by));
+                .collect(toList()), MethodInfo.of(handler, element, ELEMENT_FIND_ELEMENTS, by));
     }
 
     @Override
     public WebElement findElement(By by) {
+        if (handler.isNoOp()) {
+            return new InterceptingWebElement(super.findElement(by), handler);
+        }
         return handler.execute(() -> new InterceptingWebElement(super.findElement(by), handler),
-                MethodInfo.create(element, ELEMENT_FIND_ELEMENT, by));
+                MethodInfo.of(handler, element, ELEMENT_FIND_ELEMENT, by));
     }
 
     @Override
     public boolean isDisplayed() {
-        return handler.execute(super::isDisplayed, MethodInfo.create(element, ELEMENT_IS_DISPLAYED));
+        if (handler.isNoOp()) {
+            return super.isDisplayed();
+        }
+        return handler.execute(super::isDisplayed, MethodInfo.of(handler, element, ELEMENT_IS_DISPLAYED));
     }
 
     @Override
     public Point getLocation() {
-        return handler.execute(super::getLocation, MethodInfo.create(element, ELEMENT_GET_LOCATION));
+        if (handler.isNoOp()) {
+            return super.getLocation();
+        }
+        return handler.execute(super::getLocation, MethodInfo.of(handler, element, ELEMENT_GET_LOCATION));
     }
 
     @Override
     public Dimension getSize() {
-        return handler.execute(super::getSize, MethodInfo.create(element, ELEMENT_GET_SIZE));
+        if (handler.isNoOp()) {
+            return super.getSize();
+        }
+        return handler.execute(super::getSize, MethodInfo.of(handler, element, ELEMENT_GET_SIZE));
     }
 
     @Override
     public Rectangle getRect() {
-        return handler.execute(super::getRect, MethodInfo.create(element, ELEMENT_GET_RECT));
+        if (handler.isNoOp()) {
+            return super.getRect();
+        }
+        return handler.execute(super::getRect, MethodInfo.of(handler, element, ELEMENT_GET_RECT));
     }
 
     @Override
     public String getCssValue(String propertyName) {
+        if (handler.isNoOp()) {
+            return super.getCssValue(propertyName);
+        }
         return handler.execute(() -> super.getCssValue(propertyName),
-                MethodInfo.create(element, ELEMENT_GET_CSS_VALUE, propertyName));
+                MethodInfo.of(handler, element, ELEMENT_GET_CSS_VALUE, propertyName));
     }
 
     @Override
     public <X> X getScreenshotAs(OutputType<X> target) {
+        if (handler.isNoOp()) {
+            return super.getScreenshotAs(target);
+        }
         return handler.execute(() -> super.getScreenshotAs(target),
-                MethodInfo.create(element, ELEMENT_GET_SCREENSHOT_AS, target));
+                MethodInfo.of(handler, element, ELEMENT_GET_SCREENSHOT_AS, target));
     }
 
     @Override
     public String getDomProperty(String name) {
+        if (handler.isNoOp()) {
+            return super.getDomProperty(name);
+        }
         return handler.execute(() -> super.getDomProperty(name),
-                MethodInfo.create(element, ELEMENT_GET_DOM_PROPERTY, name));
+                MethodInfo.of(handler, element, ELEMENT_GET_DOM_PROPERTY, name));
     }
 
     @Override
     public String getAriaRole() {
-        return handler.execute(super::getAriaRole, MethodInfo.create(element, ELEMENT_GET_ARIA_ROLE));
+        if (handler.isNoOp()) {
+            return super.getAriaRole();
+        }
+        return handler.execute(super::getAriaRole, MethodInfo.of(handler, element, ELEMENT_GET_ARIA_ROLE));
     }
 
     @Override
     public String getAccessibleName() {
-        return handler.execute(super::getAccessibleName, MethodInfo.create(element, ELEMENT_GET_ACCESSIBLE_NAME));
+        if (handler.isNoOp()) {
+            return super.getAccessibleName();
+        }
+        return handler.execute(super::getAccessibleName,
+                MethodInfo.of(handler, element, ELEMENT_GET_ACCESSIBLE_NAME));
     }
 
     @Override
     public SearchContext getShadowRoot() {
-        return handler.execute(super::getShadowRoot, MethodInfo.create(element, ELEMENT_GET_SHADOW_ROOT));
+        if (handler.isNoOp()) {
+            return super.getShadowRoot();
+        }
+        return handler.execute(super::getShadowRoot, MethodInfo.of(handler, element, ELEMENT_GET_SHADOW_ROOT));
     }
 
     @Override
     public Coordinates getCoordinates() {
-        return handler.execute(super::getCoordinates, MethodInfo.create(element, ELEMENT_GET_COORDINATES));
+        if (handler.isNoOp()) {
+            return super.getCoordinates();
+        }
+        return handler.execute(super::getCoordinates, MethodInfo.of(handler, element, ELEMENT_GET_COORDINATES));
     }
 
     @Override
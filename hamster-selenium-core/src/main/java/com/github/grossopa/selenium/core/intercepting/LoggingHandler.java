@@ -68,6 +68,11 @@ public class LoggingHandler implements InterceptingHandler {
         this.log = log;
     }
 
+    @Override
+    public boolean isMethodInfoReusable() {
+        return true;
+    }
+
     @Override
     public void onBefore(MethodInfo<?> methodInfo) {
         log.fine(() -> format("{0}({1})\n      Source: {2}\n", methodInfo.getName(), buildParamsString(methodInfo),
@@ -76,7 +81,7 @@ public class LoggingHandler implements InterceptingHandler {
 
     @Override
     public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
-        if (methodInfo.getEndTimeInMillis() == null) {
+        if (!methodInfo.isExecutionDone()) {
             methodInfo.executionDone();
         }
         if (methodInfo.getTimeElapsedInMillis() > thresholdInMillis) {
@@ -86,7 +91,7 @@ public class LoggingHandler implements InterceptingHandler {
 
     @Override
     public void onException(MethodInfo<?> methodInfo, Exception exception) {
-        if (methodInfo.getEndTimeInMillis() == null) {
+        if (!methodInfo.isExecutionDone()) {
             methodInfo.executionDone();
         }
         log.log(Level.SEVERE, exception, () -> buildLoggingString(methodInfo));
@@ -32,17 +32,33 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * The method information of current invoking
+ * <p>
+ * Since 1.13 the timings are recorded with {@link System#nanoTime()} as primitive values, the millisecond getters are
+ * derived from them. The instances obtained from {@link #reusable(Object, String, Object...)} are recycled per thread
+ * once {@link #release()} is called, they must not be retained by the handlers after the invocation completes.
  *
  * @author Jack Yin
  * @since 1.4
  */
 public class MethodInfo<T> {
 
-    private final String name;
-    private final Object[] params;
-    private final T source;
-    private final Long startTimeInMillis;
-    private Long endTimeInMillis;
+    /**
+     * The shared empty params, used when the method is invoked without parameters.
+     */
+    public static final Object[] EMPTY_PARAMS = new Object[0];
+
+    private static final ThreadLocal<MethodInfo<Object>> REUSABLE = ThreadLocal.withInitial(MethodInfo::new);
+
+    private String name;
+    private Object[] params;
+    private T source;
+    private long startTimeInMillis;
+    private long startTimeNanos;
+    private long endTimeNanos;
+    private boolean executionDone;
+
+    private final boolean pooled;
+    private boolean inUse;
 
     /**
      * Constructs an instance with method name, method params and the element that invokes the method, null if it's
@@ -53,13 +69,27 @@ public class MethodInfo<T> {
      * @param source the source that invokes the method
      */
     public MethodInfo(T source, String name, Object... params) {
+        this.pooled = false;
+        reset(source, name, params);
+    }
+
+    private MethodInfo() {
+        this.pooled = true;
+        this.name = "";
+        this.params = EMPTY_PARAMS;
+    }
+
+    private void reset(T source, String name, Object[] params) {
         requireNonNull(source);
         requireNonNull(name);
         requireNonNull(params);
         this.source = source;
         this.name = name;
         this.params = params;
+        this.executionDone = false;
+        this.endTimeNanos = 0L;
         this.startTimeInMillis = System.currentTimeMillis();
+        this.startTimeNanos = System.nanoTime();
     }
 
     /**
@@ -99,29 +129,93 @@ public class MethodInfo<T> {
     }
 
     /**
-     * Gets the end time in milliseconds
+     * Gets the end time in milliseconds, derived from the start timestamp and the elapsed nanoseconds.
      *
-     * @return the end time in milliseconds
+     * @return the end time in milliseconds, or null if the execution is not done yet
      */
     @Nullable
     public Long getEndTimeInMillis() {
-        return endTimeInMillis;
+        return executionDone ? startTimeInMillis + getTimeElapsedNanos() / 1_000_000L : null;
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} value when the function is invoked, only meaningful when compared with other
+     * nano time values of the same JVM.
+     *
+     * @return the nano time when the function is invoked
+     */
+    public long getStartTimeNanos() {
+        return startTimeNanos;
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} value when the execution is done.
+     *
+     * @return the nano time when the execution is done, 0 if the execution is not done yet
+     */
+    public long getEndTimeNanos() {
+        return endTimeNanos;
+    }
+
+    /**
+     * Whether the {@link #executionDone()} has been flagged.
+     *
+     * @return true if the execution is done
+     */
+    public boolean isExecutionDone() {
+        return executionDone;
     }
 
     /**
      * Flags that the execution is completed and record current timestamp.
      */
     public void executionDone() {
-        endTimeInMillis = System.currentTimeMillis();
+        endTimeNanos = System.nanoTime();
+        executionDone = true;
     }
 
     /**
      * Calculates and gets the time elapsed in milliseconds.
      *
      * @return the time elapsed in milliseconds.
+     * @throws IllegalStateException if the execution is not done yet
      */
     public Long getTimeElapsedInMillis() {
-        return endTimeInMillis - startTimeInMillis;
+        return getTimeElapsedNanos() / 1_000_000L;
+    }
+
+    /**
+     * Calculates and gets the time elapsed in nanoseconds.
+     *
+     * @return the time elapsed in nanoseconds.
+     * @throws IllegalStateException if the execution is not done yet
+     */
+    public long getTimeElapsedNanos() {
+        if (!executionDone) {
+            throw new IllegalStateException("Execution of " + name + " is not done yet.");
+        }
+        return endTimeNanos - startTimeNanos;
+    }
+
+    /**
+     * Whether this instance is recycled per thread and must not be retained after the invocation completes.
+     *
+     * @return true if this instance is obtained from {@link #reusable(Object, String, Object...)}
+     */
+    public boolean isReusable() {
+        return pooled;
+    }
+
+    /**
+     * Returns the reusable instance to the current thread so the next invocation could reuse it, the source and the
+     * params are cleared to not hold the references. Does nothing for the instances that are not reusable.
+     */
+    public void release() {
+        if (pooled) {
+            source = null;
+            params = EMPTY_PARAMS;
+            inUse = false;
+        }
     }
 
     /**
@@ -136,4 +230,82 @@ public class MethodInfo<T> {
     public static <T> MethodInfo<T> create(T source, String methodName, Object... params) {
         return new MethodInfo<>(source, methodName, params);
     }
+
+    /**
+     * Creates an instance for the method without parameters, the shared {@link #EMPTY_PARAMS} is used.
+     *
+     * @param source the source object
+     * @param methodName the current invoked method name
+     * @param <T> the source type
+     * @return the created method info instance
+     */
+    public static <T> MethodInfo<T> create(T source, String methodName) {
+        return new MethodInfo<>(source, methodName, EMPTY_PARAMS);
+    }
+
+    /**
+     * Gets the reusable instance of current thread, a new instance is created if the reusable one is still in use by
+     * an outer invocation. The instance must be {@link #release() released} when the invocation completes.
+     *
+     * @param source the source object
+     * @param methodName the current invoked method name
+     * @param params the parameters of the invoked method
+     * @param <T> the source type
+     * @return the reusable method info instance of current thread
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MethodInfo<T> reusable(T source, String methodName, Object... params) {
+        MethodInfo<Object> info = REUSABLE.get();
+        if (info.inUse) {
+            return create(source, methodName, params);
+        }
+        info.reset(source, methodName, params);
+        info.inUse = true;
+        return (MethodInfo<T>) info;
+    }
+
+    /**
+     * Gets the reusable instance of current thread for the method without parameters.
+     *
+     * @param source the source object
+     * @param methodName the current invoked method name
+     * @param <T> the source type
+     * @return the reusable method info instance of current thread
+     * @see #reusable(Object, String, Object...)
+     */
+    public static <T> MethodInfo<T> reusable(T source, String methodName) {
+        return reusable(source, methodName, EMPTY_PARAMS);
+    }
+
+    /**
+     * Creates the method information for given handler, the reusable instance of current thread is returned if the
+     * handler's {@link InterceptingHandler#isMethodInfoReusable()} is true.
+     *
+     * @param handler the handler which receives the method information
+     * @param source the source object
+     * @param methodName the current invoked method name
+     * @param params the parameters of the invoked method
+     * @param <T> the source type
+     * @return the method information
+     * @since 1.13
+     */
+    public static <T> MethodInfo<T> of(InterceptingHandler handler, T source, String methodName, Object... params) {
+        return handler.isMethodInfoReusable() ? reusable(source, methodName, params)
+                : create(source, methodName, params);
+    }
+
+    /**
+     * Creates the method information for given handler and the method without parameters.
+     *
+     * @param handler the handler which receives the method information
+     * @param source the source object
+     * @param methodName the current invoked method name
+     * @param <T> the source type
+     * @return the method information
+     * @see #of(InterceptingHandler, Object, String, Object...)
+     * @since 1.13
+     */
+    public static <T> MethodInfo<T> of(InterceptingHandler handler, T source, String methodName) {
+        return handler.isMethodInfoReusable() ? reusable(source, methodName) : create(source, methodName);
+    }
 }
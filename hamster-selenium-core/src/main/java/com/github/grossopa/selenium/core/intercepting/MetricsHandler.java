@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import com.github.grossopa.selenium.core.util.LatencyHistogram;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the latency histograms and the error counters per method, keyed by the method names defined in
+ * {@link InterceptingMethods}. The recording is lock-free so one instance could be shared by all the sessions running
+ * in parallel, e.g. to tell whether the slowness comes from the remote end or from the page objects.
+ * <p>
+ * The latencies of both the successful and the failed invocations are recorded in the histogram, the failed ones are
+ * also counted as errors.
+ *
+ * @author Jack Yin
+ * @see LatencyHistogram
+ * @since 1.13
+ */
+public class MetricsHandler implements InterceptingHandler {
+
+    private final ConcurrentHashMap<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return true;
+    }
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        // the start time is recorded by the method info
+    }
+
+    @Override
+    public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        record(methodInfo);
+    }
+
+    @Override
+    public void onException(MethodInfo<?> methodInfo, Exception exception) {
+        record(methodInfo).errors.increment();
+    }
+
+    private MethodMetrics record(MethodInfo<?> methodInfo) {
+        long endNanos = methodInfo.isExecutionDone() ? methodInfo.getEndTimeNanos() : System.nanoTime();
+        MethodMetrics methodMetrics = metricsOf(methodInfo.getName());
+        methodMetrics.histogram.recordNanos(endNanos - methodInfo.getStartTimeNanos());
+        return methodMetrics;
+    }
+
+    private MethodMetrics metricsOf(String methodName) {
+        MethodMetrics methodMetrics = metrics.get(methodName);
+        return methodMetrics != null ? methodMetrics : metrics.computeIfAbsent(methodName, k -> new MethodMetrics());
+    }
+
+    /**
+     * Gets the live histogram of given method.
+     *
+     * @param methodName the method name, see {@link InterceptingMethods}
+     * @return the live histogram, or null if the method is never invoked
+     */
+    @Nullable
+    public LatencyHistogram getHistogram(String methodName) {
+        MethodMetrics methodMetrics = metrics.get(methodName);
+        return methodMetrics == null ? null : methodMetrics.histogram;
+    }
+
+    /**
+     * Gets the number of the failed invocations of given method.
+     *
+     * @param methodName the method name, see {@link InterceptingMethods}
+     * @return the number of the failed invocations
+     */
+    public long getErrorCount(String methodName) {
+        MethodMetrics methodMetrics = metrics.get(methodName);
+        return methodMetrics == null ? 0L : methodMetrics.errors.sum();
+    }
+
+    /**
+     * Takes a detached snapshot of all the invoked methods, sorted by the method name.
+     *
+     * @return the snapshots keyed by the method name
+     */
+    public Map<String, MethodSnapshot> snapshot() {
+        Map<String, MethodSnapshot> result = new TreeMap<>();
+        metrics.forEach((name, methodMetrics) -> result.put(name,
+                new MethodSnapshot(name, methodMetrics.histogram.copy(), methodMetrics.errors.sum())));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Takes a snapshot and resets all the metrics, e.g. for reporting per interval. The invocations completing at the
+     * same time may be missed from both the snapshot and the next one.
+     *
+     * @return the snapshots keyed by the method name
+     */
+    public Map<String, MethodSnapshot> snapshotAndReset() {
+        Map<String, MethodSnapshot> result = new TreeMap<>();
+        for (String name : metrics.keySet()) {
+            MethodMetrics methodMetrics = metrics.remove(name);
+            if (methodMetrics != null) {
+                result.put(name, new MethodSnapshot(name, methodMetrics.histogram.copy(), methodMetrics.errors.sum()));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Clears all the recorded latencies and errors in place, so the histograms returned by
+     * {@link #getHistogram(String)} stay live. The invocations completing at the same time may be partially kept.
+     */
+    public void reset() {
+        metrics.values().forEach(methodMetrics -> {
+            methodMetrics.histogram.reset();
+            methodMetrics.errors.reset();
+        });
+    }
+
+    @Override
+    public String toString() {
+        long count = 0L;
+        long errors = 0L;
+        for (MethodMetrics methodMetrics : metrics.values()) {
+            count += methodMetrics.histogram.getCount();
+            errors += methodMetrics.errors.sum();
+        }
+        return "MetricsHandler{methods=" + metrics.size() + ", count=" + count + ", errors=" + errors + '}';
+    }
+
+    private static class MethodMetrics {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * The detached metrics of one method.
+     *
+     * @author Jack Yin
+     * @since 1.13
+     */
+    public static final class MethodSnapshot {
+        private final String methodName;
+        private final LatencyHistogram histogram;
+        private final long errorCount;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param methodName the method name
+         * @param histogram the detached histogram
+         * @param errorCount the number of the failed invocations
+         */
+        public MethodSnapshot(String methodName, LatencyHistogram histogram, long errorCount) {
+            requireNonNull(methodName);
+            requireNonNull(histogram);
+            this.methodName = methodName;
+            this.histogram = histogram;
+            this.errorCount = errorCount;
+        }
+
+        /**
+         * Gets the method name
+         *
+         * @return the method name
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * Gets the detached histogram, percentiles could be taken from it.
+         *
+         * @return the detached histogram
+         */
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        /**
+         * Gets the number of all invocations including the failed ones.
+         *
+         * @return the number of all invocations
+         */
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        /**
+         * Gets the number of the failed invocations.
+         *
+         * @return the number of the failed invocations
+         */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        @Override
+        public String toString() {
+            return methodName + "{" + "errors=" + errorCount + ", " + histogram + '}';
+        }
+    }
+}
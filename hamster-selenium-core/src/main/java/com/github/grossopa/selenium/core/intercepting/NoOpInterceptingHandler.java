@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import java.util.function.Supplier;
+
+/**
+ * No operations {@link InterceptingHandler}, the intercepting wrappers invoke the wrapped objects directly without
+ * allocating the {@link MethodInfo} for each command.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class NoOpInterceptingHandler implements InterceptingHandler {
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        // no operations
+    }
+
+    @Override
+    public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        // no operations
+    }
+
+    @Override
+    public void onException(MethodInfo<?> methodInfo, Exception exception) {
+        // no operations
+    }
+
+    @Override
+    public boolean isNoOp() {
+        return true;
+    }
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return true;
+    }
+
+    @Override
+    public <T, R> R execute(Supplier<R> supplier, MethodInfo<T> methodInfo) {
+        try {
+            return supplier.get();
+        } finally {
+            methodInfo.release();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import com.github.grossopa.selenium.core.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static com.github.grossopa.selenium.core.intercepting.TraceRecordingHandler.*;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Reads the binary trace file written by {@link TraceRecordingHandler} for the offline analysis. It could also be run
+ * from the command line with the trace file as the argument to print the latency summary per method.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class TraceReader {
+
+    private TraceReader() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Reads all the records from given trace file.
+     *
+     * @param path the trace file
+     * @return the records in the recorded order
+     * @throws IOException if failed to read the file
+     */
+    public static List<TraceRecord> read(Path path) throws IOException {
+        List<TraceRecord> records = new ArrayList<>();
+        read(path, records::add);
+        return records;
+    }
+
+    /**
+     * Reads the records from given trace file one by one.
+     *
+     * @param path the trace file
+     * @param consumer the consumer of each record
+     * @throws IOException if failed to read the file or the file is not a valid trace
+     */
+    public static void read(Path path, Consumer<TraceRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            read(buffer, consumer);
+        }
+    }
+
+    static void read(ByteBuffer buffer, Consumer<TraceRecord> consumer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a trace file, magic number mismatched.");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported trace version " + version + ".");
+            }
+            List<String> strings = new ArrayList<>();
+            while (buffer.hasRemaining()) {
+                byte tag = buffer.get();
+                if (tag == TAG_END) {
+                    return;
+                } else if (tag == TAG_STRING) {
+                    readString(buffer, strings);
+                } else if (tag == TAG_COMMAND) {
+                    consumer.accept(readCommand(buffer, strings));
+                } else {
+                    throw new IOException("Unknown tag " + tag + " at " + (buffer.position() - 1) + ".");
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("The trace file is truncated or corrupted.", e);
+        }
+    }
+
+    private static void readString(ByteBuffer buffer, List<String> strings) throws IOException {
+        int id = buffer.getInt();
+        if (id != strings.size()) {
+            throw new IOException("Unexpected string id " + id + ".");
+        }
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        strings.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static TraceRecord readCommand(ByteBuffer buffer, List<String> strings) {
+        String methodName = strings.get(buffer.getInt());
+        long threadId = buffer.getLong();
+        long startNanos = buffer.getLong();
+        long endNanos = buffer.getLong();
+        int resultSize = buffer.getInt();
+        int exceptionId = buffer.getInt();
+        int paramCount = buffer.getShort();
+        List<String> params = new ArrayList<>(paramCount);
+        for (int i = 0; i < paramCount; i++) {
+            params.add(strings.get(buffer.getInt()));
+        }
+        return new TraceRecord(methodName, params, threadId, startNanos, endNanos, resultSize,
+                exceptionId < 0 ? null : strings.get(exceptionId));
+    }
+
+    /**
+     * Summarizes the latencies per method.
+     *
+     * @param records the records to summarize
+     * @return the histograms keyed and sorted by the method name
+     */
+    public static Map<String, LatencyHistogram> summarize(List<TraceRecord> records) {
+        Map<String, LatencyHistogram> result = new TreeMap<>();
+        for (TraceRecord traceRecord : records) {
+            result.computeIfAbsent(traceRecord.getMethodName(), k -> new LatencyHistogram())
+                    .recordNanos(traceRecord.getDurationNanos());
+        }
+        return result;
+    }
+
+    /**
+     * Prints the latency summary per method of the trace file.
+     *
+     * @param args the path of the trace file
+     * @throws IOException if failed to read the file
+     */
+    @SuppressWarnings("java:S106")
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: TraceReader <trace-file>");
+            return;
+        }
+        print(read(Paths.get(args[0])), System.out);
+    }
+
+    static void print(List<TraceRecord> records, PrintStream out) {
+        Map<String, Long> errors = new TreeMap<>();
+        records.stream().filter(TraceRecord::isFailed)
+                .forEach(traceRecord -> errors.merge(traceRecord.getMethodName(), 1L, Long::sum));
+        out.println(String.format(Locale.ROOT, "%-40s %8s %8s %10s %10s %10s", "method", "count", "errors",
+                "p50(ms)", "p99(ms)", "max(ms)"));
+        summarize(records).forEach((name, histogram) -> out.println(
+                String.format(Locale.ROOT, "%-40s %8d %8d %10.3f %10.3f %10.3f", name, histogram.getCount(),
+                        errors.getOrDefault(name, 0L), toMillis(histogram.getPercentile(50)),
+                        toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax()))));
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+}
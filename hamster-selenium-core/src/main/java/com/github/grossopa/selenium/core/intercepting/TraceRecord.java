@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * One command read from the trace file written by {@link TraceRecordingHandler}.
+ *
+ * @author Jack Yin
+ * @see TraceReader
+ * @since 1.13
+ */
+public final class TraceRecord {
+
+    private final String methodName;
+    private final List<String> params;
+    private final long threadId;
+    private final long startNanos;
+    private final long endNanos;
+    private final int resultSize;
+    private final String exceptionClassName;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param methodName the method name, see {@link InterceptingMethods}
+     * @param params the string representations of the params
+     * @param threadId the id of the thread invoking the command
+     * @param startNanos the nano time when the command started
+     * @param endNanos the nano time when the command completed
+     * @param resultSize the size of the result, -1 for null result
+     * @param exceptionClassName the class name of the thrown exception, null if succeeded
+     */
+    public TraceRecord(String methodName, List<String> params, long threadId, long startNanos, long endNanos,
+            int resultSize, @Nullable String exceptionClassName) {
+        requireNonNull(methodName);
+        requireNonNull(params);
+        this.methodName = methodName;
+        this.params = List.copyOf(params);
+        this.threadId = threadId;
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+        this.resultSize = resultSize;
+        this.exceptionClassName = exceptionClassName;
+    }
+
+    /**
+     * Gets the method name
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets the string representations of the params, the long params are truncated.
+     *
+     * @return the string representations of the params
+     */
+    public List<String> getParams() {
+        return params;
+    }
+
+    /**
+     * Gets the id of the thread invoking the command
+     *
+     * @return the id of the thread invoking the command
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * Gets the nano time when the command started
+     *
+     * @return the nano time when the command started
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Gets the nano time when the command completed
+     *
+     * @return the nano time when the command completed
+     */
+    public long getEndNanos() {
+        return endNanos;
+    }
+
+    /**
+     * Gets the time elapsed in nanoseconds
+     *
+     * @return the time elapsed in nanoseconds
+     */
+    public long getDurationNanos() {
+        return endNanos - startNanos;
+    }
+
+    /**
+     * Gets the size of the result, -1 for null result
+     *
+     * @return the size of the result
+     */
+    public int getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * Gets the class name of the thrown exception
+     *
+     * @return the class name of the thrown exception, null if the command succeeded
+     */
+    @Nullable
+    public String getExceptionClassName() {
+        return exceptionClassName;
+    }
+
+    /**
+     * Whether the command threw an exception.
+     *
+     * @return true if the command threw an exception
+     */
+    public boolean isFailed() {
+        return exceptionClassName != null;
+    }
+
+    @Override
+    public String toString() {
+        return "TraceRecord{" + "methodName='" + methodName + '\'' + ", params=" + params + ", threadId=" + threadId
+                + ", durationNanos=" + getDurationNanos() + ", resultSize=" + resultSize + ", exceptionClassName="
+                + exceptionClassName + '}';
+    }
+}
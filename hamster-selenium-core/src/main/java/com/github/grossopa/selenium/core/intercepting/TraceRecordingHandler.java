@@ -0,0 +1,317 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Appends every intercepted command to a compact binary trace file through memory-mapped, append-only segments. The
+ * method names, the params and the exception class names are interned, each distinct string is written once and the
+ * command records refer to them by id. The trace could be analyzed offline with {@link TraceReader}.
+ * <p>
+ * The method names and the exception class names are always interned. The params are only interned until
+ * {@link #MAX_INTERNED_STRINGS} distinct strings are kept, afterwards each new param is written again for every
+ * command referring to it, so the memory of a long recording stays bounded.
+ *
+ * <p>The file layout, all values are big-endian:</p>
+ * <pre>
+ * header : int magic, short version
+ * string : byte 1, int id, short length, byte[length] utf-8
+ * command: byte 2, int methodId, long threadId, long startNanos, long endNanos, int resultSize, int exceptionId,
+ *          short paramCount, int[paramCount] paramIds
+ * end    : byte 0 (the unused tail of the last segment is zero filled)
+ * </pre>
+ * <p>The result size is the size of the collection, map, array or string result, 1 for other results and -1 for null,
+ * the exception id is -1 when the command succeeded.</p>
+ *
+ * @author Jack Yin
+ * @see TraceReader
+ * @since 1.13
+ */
+public class TraceRecordingHandler implements InterceptingHandler, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(TraceRecordingHandler.class.getName());
+
+    /**
+     * The magic number of the trace file.
+     */
+    public static final int MAGIC = 0x48535452;
+
+    /**
+     * The version of the trace file layout.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The default size of each mapped segment.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * The max length of the interned strings in UTF-8 bytes, the longer params are truncated.
+     */
+    public static final int MAX_STRING_BYTES = 1024;
+
+    /**
+     * The default max number of the interned strings kept in memory.
+     */
+    public static final int MAX_INTERNED_STRINGS = 4096;
+
+    static final byte TAG_END = 0;
+    static final byte TAG_STRING = 1;
+    static final byte TAG_COMMAND = 2;
+
+    private static final int COMMAND_FIXED_BYTES = 1 + 4 + 8 + 8 + 8 + 4 + 4 + 2;
+
+    private final Path path;
+    private final int segmentSize;
+    private final int maxInternedStrings;
+    private final FileChannel channel;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private int nextStringId;
+    private long recordCount;
+    private long failedCount;
+    private boolean closed;
+
+    /**
+     * Constructs an instance writing to given file with the default segment size, the existing file is truncated.
+     *
+     * @param path the trace file
+     */
+    public TraceRecordingHandler(Path path) {
+        this(path, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs an instance writing to given file, the existing file is truncated.
+     *
+     * @param path the trace file
+     * @param segmentSize the size of each mapped segment
+     */
+    public TraceRecordingHandler(Path path, int segmentSize) {
+        this(path, segmentSize, MAX_INTERNED_STRINGS);
+    }
+
+    TraceRecordingHandler(Path path, int segmentSize, int maxInternedStrings) {
+        requireNonNull(path);
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("segmentSize must be at least 64 but was " + segmentSize);
+        }
+        this.path = path;
+        this.segmentSize = segmentSize;
+        this.maxInternedStrings = maxInternedStrings;
+        try {
+            this.channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+            this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segment.putInt(MAGIC);
+        segment.putShort(VERSION);
+    }
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return true;
+    }
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        // the command is recorded when it completes
+    }
+
+    @Override
+    public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        record(methodInfo, resultSizeOf(resultValue), null);
+    }
+
+    @Override
+    public void onException(MethodInfo<?> methodInfo, Exception exception) {
+        record(methodInfo, -1, exception);
+    }
+
+    private void record(MethodInfo<?> methodInfo, int resultSize, Exception exception) {
+        long endNanos = methodInfo.isExecutionDone() ? methodInfo.getEndTimeNanos() : System.nanoTime();
+        Object[] params = methodInfo.getParams();
+        String[] paramStrings = new String[Math.min(params.length, Short.MAX_VALUE)];
+        for (int i = 0; i < paramStrings.length; i++) {
+            paramStrings[i] = stringOf(params[i]);
+        }
+        long threadId = Thread.currentThread().getId();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            try {
+                int methodId = intern(methodInfo.getName(), true);
+                int exceptionId = exception == null ? -1 : intern(exception.getClass().getName(), true);
+                int[] paramIds = new int[paramStrings.length];
+                for (int i = 0; i < paramIds.length; i++) {
+                    paramIds[i] = intern(paramStrings[i], strings.size() < maxInternedStrings);
+                }
+                ensureRemaining(COMMAND_FIXED_BYTES + 4 * paramIds.length);
+                segment.put(TAG_COMMAND).putInt(methodId).putLong(threadId);
+                segment.putLong(methodInfo.getStartTimeNanos()).putLong(endNanos);
+                segment.putInt(resultSize).putInt(exceptionId).putShort((short) paramIds.length);
+                for (int paramId : paramIds) {
+                    segment.putInt(paramId);
+                }
+                recordCount++;
+            } catch (IOException e) {
+                failedCount++;
+                LOG.log(Level.WARNING, "Failed to record " + methodInfo.getName() + " to " + path, e);
+            }
+        }
+    }
+
+    private int intern(String value, boolean keep) throws IOException {
+        Integer id = strings.get(value);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(1 + 4 + 2 + bytes.length);
+        int newId = nextStringId++;
+        segment.put(TAG_STRING).putInt(newId).putShort((short) bytes.length).put(bytes);
+        if (keep) {
+            strings.put(value, newId);
+        }
+        return newId;
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        // keeps one more byte for the end tag
+        if (segment.remaining() > bytes) {
+            return;
+        }
+        long position = segmentStart + segment.position();
+        segment.force();
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(segmentSize, bytes + 1L));
+        segmentStart = position;
+    }
+
+    private static String stringOf(Object param) {
+        String value = param instanceof Object[] ? Arrays.deepToString((Object[]) param) : String.valueOf(param);
+        if (value.length() * 3 <= MAX_STRING_BYTES) {
+            return value;
+        }
+        String truncated = value.substring(0, Math.min(value.length(), MAX_STRING_BYTES / 3 - 3));
+        return truncated + "...";
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static int resultSizeOf(Object resultValue) {
+        if (resultValue == null) {
+            return -1;
+        } else if (resultValue instanceof Collection) {
+            return ((Collection) resultValue).size();
+        } else if (resultValue instanceof Map) {
+            return ((Map) resultValue).size();
+        } else if (resultValue instanceof Object[]) {
+            return ((Object[]) resultValue).length;
+        } else if (resultValue instanceof byte[]) {
+            return ((byte[]) resultValue).length;
+        } else if (resultValue instanceof CharSequence) {
+            return ((CharSequence) resultValue).length();
+        }
+        return 1;
+    }
+
+    /**
+     * Gets the trace file.
+     *
+     * @return the trace file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of the interned strings kept in memory.
+     *
+     * @return the number of the interned strings
+     */
+    synchronized int getInternedCount() {
+        return strings.size();
+    }
+
+    /**
+     * Gets the number of the recorded commands.
+     *
+     * @return the number of the recorded commands
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the number of the commands failed to be recorded.
+     *
+     * @return the number of the failed commands
+     */
+    public synchronized long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Flushes the mapped segment and truncates the file to the written length, the later commands are not recorded.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long length = segmentStart + segment.position();
+        try (FileChannel toClose = channel) {
+            segment.force();
+            segment = null;
+            toClose.truncate(length + 1);
+        } catch (IOException e) {
+            // the reader stops at the zero filled tail, so an untruncated file is still valid
+            LOG.log(Level.FINE, "Failed to truncate the trace file " + path, e);
+        }
+    }
+}
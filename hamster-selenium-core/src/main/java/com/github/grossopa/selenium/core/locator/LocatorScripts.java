@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.locator;
+
+import org.openqa.selenium.By;
+
+import javax.annotation.Nullable;
+import java.util.Set;
+
+/**
+ * Translates the {@link By} locators into browser-side scripts, so that locating the elements can be combined with
+ * other script logic within one single script execution.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class LocatorScripts {
+
+    /**
+     * private constructor
+     */
+    private LocatorScripts() {
+        throw new AssertionError();
+    }
+
+    /**
+     * The script function to find all elements, it accepts the search root (null for the document), the locating
+     * mechanism and the value as arguments and returns an array of elements in document order.
+     */
+    //@formatter:off
+    public static final String FIND_ALL_FUNCTION = ""
+            + "function(root, using, value) {"
+            + "  var ctx = root || document;"
+            + "  var toArray = function(list) { return Array.prototype.slice.call(list); };"
+            + "  var quote = function(v) { return '\"' + String(v).replace(/([\"\\\\])/g, '\\\\$1') + '\"'; };"
+            + "  if (using === 'css selector') { return toArray(ctx.querySelectorAll(value)); }"
+            + "  if (using === 'id') { return toArray(ctx.querySelectorAll('[id=' + quote(value) + ']')); }"
+            + "  if (using === 'name') { return toArray(ctx.querySelectorAll('[name=' + quote(value) + ']')); }"
+            + "  if (using === 'class name') { return toArray(ctx.getElementsByClassName(value)); }"
+            + "  if (using === 'tag name') { return toArray(ctx.getElementsByTagName(value)); }"
+            + "  if (using === 'xpath') {"
+            + "    var snapshot = document.evaluate(value, ctx, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    var nodes = [];"
+            + "    for (var i = 0; i < snapshot.snapshotLength; i++) {"
+            + "      if (snapshot.snapshotItem(i).nodeType === 1) { nodes.push(snapshot.snapshotItem(i)); }"
+            + "    }"
+            + "    return nodes;"
+            + "  }"
+            + "  return toArray(ctx.querySelectorAll('a')).filter(function(a) {"
+            + "    var text = (a.innerText || a.textContent || '').trim();"
+            + "    return using === 'link text' ? text === value : text.indexOf(value) >= 0;"
+            + "  });"
+            + "}";
+    //@formatter:on
+
+    private static final Set<String> SUPPORTED_MECHANISMS = Set.of("css selector", "id", "name", "class name",
+            "tag name", "xpath", "link text", "partial link text");
+
+    /**
+     * Gets the remote parameters of the locator which could be executed by {@link #FIND_ALL_FUNCTION}.
+     *
+     * @param by the locator to translate
+     * @return the remote parameters or null if the locator is customized and not supported
+     */
+    @Nullable
+    public static By.Remotable.Parameters getParameters(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        if (parameters == null || !SUPPORTED_MECHANISMS.contains(parameters.using())
+                || !(parameters.value() instanceof String)) {
+            return null;
+        }
+        return parameters;
+    }
+
+    /**
+     * Whether the locator could be executed by {@link #FIND_ALL_FUNCTION}.
+     *
+     * @param by the locator to check
+     * @return true if it's supported
+     */
+    public static boolean isSupported(By by) {
+        return getParameters(by) != null;
+    }
+}
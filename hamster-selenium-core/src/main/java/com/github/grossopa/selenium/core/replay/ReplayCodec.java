@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Converts the params and the results of the commands to and from the plain values that could be stored as JSON: the
+ * {@code null}, strings, booleans, numbers, lists and maps. The elements are referenced by the ids given by the
+ * recording and replaying side.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+final class ReplayCodec {
+
+    static final String ELEMENT_KEY = "replay-element";
+    static final String DRIVER_KEY = "replay-driver";
+    static final String TYPE_KEY = "replay-type";
+    static final String DRIVER_SOURCE = "driver";
+
+    private ReplayCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Unwraps the decorated elements until the element recognized by the recording or replaying side.
+     *
+     * @param element the element to unwrap
+     * @return the innermost element
+     */
+    static WebElement unwrap(WebElement element) {
+        WebElement current = element;
+        while (current instanceof WrapsElement && !(current instanceof ReplayWebElement)) {
+            WebElement wrapped = ((WrapsElement) current).getWrappedElement();
+            if (wrapped == null || wrapped == current) {
+                break;
+            }
+            current = wrapped;
+        }
+        return current;
+    }
+
+    static String encodeSource(Object source, ToIntFunction<WebElement> elementId) {
+        return source instanceof WebElement ? "element#" + elementId.applyAsInt(unwrap((WebElement) source))
+                : DRIVER_SOURCE;
+    }
+
+    @SuppressWarnings("rawtypes")
+    static Object encode(Object value, ToIntFunction<WebElement> elementId) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Number) {
+            return value;
+        } else if (value instanceof WebElement) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put(ELEMENT_KEY, (long) elementId.applyAsInt(unwrap((WebElement) value)));
+            return result;
+        } else if (value instanceof WebDriver) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put(DRIVER_KEY, true);
+            return result;
+        } else if (value instanceof Point) {
+            Point point = (Point) value;
+            return typed("point", "x", point.getX(), "y", point.getY());
+        } else if (value instanceof Dimension) {
+            Dimension dimension = (Dimension) value;
+            return typed("dimension", "width", dimension.getWidth(), "height", dimension.getHeight());
+        } else if (value instanceof Rectangle) {
+            Rectangle rect = (Rectangle) value;
+            Map<String, Object> result = typed("rectangle", "x", rect.getX(), "y", rect.getY());
+            result.put("width", (long) rect.getWidth());
+            result.put("height", (long) rect.getHeight());
+            return result;
+        } else if (value instanceof Sequence) {
+            return Sequence.class.getSimpleName();
+        } else if (value instanceof Object[]) {
+            return encode(Arrays.asList((Object[]) value), elementId);
+        } else if (value instanceof Collection) {
+            List<Object> result = new ArrayList<>();
+            for (Object item : (Collection) value) {
+                result.add(encode(item, elementId));
+            }
+            return result;
+        } else if (value instanceof Map) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> result.put(String.valueOf(k), encode(v, elementId)));
+            return result;
+        } else if (value instanceof byte[] || value instanceof File) {
+            // the screenshots are not kept
+            return null;
+        } else if (value instanceof By || value instanceof CharSequence || value instanceof Enum) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    private static Map<String, Object> typed(String type, String key1, int value1, String key2, int value2) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(TYPE_KEY, type);
+        result.put(key1, (long) value1);
+        result.put(key2, (long) value2);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object decode(Object value, IntFunction<WebElement> elementOf, WebDriver driver) {
+        if (value instanceof List) {
+            List<Object> result = new ArrayList<>();
+            for (Object item : (List<Object>) value) {
+                result.add(decode(item, elementOf, driver));
+            }
+            return result;
+        } else if (value instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) value;
+            if (map.containsKey(ELEMENT_KEY)) {
+                return elementOf.apply(((Number) map.get(ELEMENT_KEY)).intValue());
+            } else if (map.containsKey(DRIVER_KEY)) {
+                return driver;
+            } else if (map.containsKey(TYPE_KEY)) {
+                return decodeTyped(map);
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            map.forEach((k, v) -> result.put(k, decode(v, elementOf, driver)));
+            return result;
+        }
+        return value;
+    }
+
+    private static Object decodeTyped(Map<String, Object> map) {
+        String type = String.valueOf(map.get(TYPE_KEY));
+        switch (type) {
+            case "point":
+                return new Point(intOf(map, "x"), intOf(map, "y"));
+            case "dimension":
+                return new Dimension(intOf(map, "width"), intOf(map, "height"));
+            case "rectangle":
+                return new Rectangle(intOf(map, "x"), intOf(map, "y"), intOf(map, "height"), intOf(map, "width"));
+            default:
+                throw new IllegalArgumentException("Unknown replay type " + type);
+        }
+    }
+
+    private static int intOf(Map<String, Object> map, String key) {
+        return ((Number) map.get(key)).intValue();
+    }
+}
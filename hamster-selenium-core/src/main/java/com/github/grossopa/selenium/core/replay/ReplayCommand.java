@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * One recorded command with the encoded params and the encoded result or the thrown exception.
+ *
+ * @author Jack Yin
+ * @see ReplayScript
+ * @since 1.13
+ */
+public final class ReplayCommand {
+
+    private final String name;
+    private final String source;
+    private final List<Object> params;
+    private final Object result;
+    private final String exceptionClassName;
+    private final String exceptionMessage;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param name the method name, see {@link com.github.grossopa.selenium.core.intercepting.InterceptingMethods}
+     * @param source the source, "driver" or "element#id"
+     * @param params the encoded params
+     * @param result the encoded result
+     * @param exceptionClassName the class name of the thrown exception, null if succeeded
+     * @param exceptionMessage the message of the thrown exception
+     */
+    public ReplayCommand(String name, String source, List<Object> params, @Nullable Object result,
+            @Nullable String exceptionClassName, @Nullable String exceptionMessage) {
+        requireNonNull(name);
+        requireNonNull(source);
+        requireNonNull(params);
+        this.name = name;
+        this.source = source;
+        this.params = Collections.unmodifiableList(new ArrayList<>(params));
+        this.result = result;
+        this.exceptionClassName = exceptionClassName;
+        this.exceptionMessage = exceptionMessage;
+    }
+
+    /**
+     * Gets the method name
+     *
+     * @return the method name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the source, "driver" or "element#id"
+     *
+     * @return the source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the encoded params
+     *
+     * @return the encoded params
+     */
+    public List<Object> getParams() {
+        return params;
+    }
+
+    /**
+     * Gets the encoded result
+     *
+     * @return the encoded result
+     */
+    @Nullable
+    public Object getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the class name of the thrown exception
+     *
+     * @return the class name of the thrown exception, null if succeeded
+     */
+    @Nullable
+    public String getExceptionClassName() {
+        return exceptionClassName;
+    }
+
+    /**
+     * Gets the message of the thrown exception
+     *
+     * @return the message of the thrown exception
+     */
+    @Nullable
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    /**
+     * Gets the key of the command to match the replayed command, composed by the name, the source and the params.
+     *
+     * @return the key of the command
+     */
+    public String getKey() {
+        return keyOf(name, source, params);
+    }
+
+    static String keyOf(String name, String source, List<Object> params) {
+        return name + "|" + source + "|" + params;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", name);
+        map.put("source", source);
+        map.put("params", params);
+        map.put("result", result);
+        if (exceptionClassName != null) {
+            map.put("exception", exceptionClassName);
+            map.put("message", exceptionMessage);
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    static ReplayCommand fromMap(Map<String, Object> map) {
+        List<Object> params = (List<Object>) map.get("params");
+        return new ReplayCommand((String) map.get("name"), (String) map.get("source"),
+                params == null ? Collections.emptyList() : params, map.get("result"), (String) map.get("exception"),
+                (String) map.get("message"));
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayCommand{" + "key=" + getKey() + ", result=" + result + ", exceptionClassName="
+                + exceptionClassName + '}';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import com.github.grossopa.selenium.core.intercepting.InterceptingHandler;
+import com.github.grossopa.selenium.core.intercepting.InterceptingWebDriver;
+import com.github.grossopa.selenium.core.intercepting.MethodInfo;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the traffic of the {@link InterceptingWebDriver} with the results, so it could be replayed by
+ * {@link ReplayWebDriver} without a browser. The elements are given ids in the order they are seen.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ReplayRecorder implements InterceptingHandler {
+
+    private final List<ReplayCommand> commands = new ArrayList<>();
+    private final Map<WebElement, Integer> elementIds = new HashMap<>();
+
+    /**
+     * Wraps the driver so all the intercepted commands are recorded.
+     *
+     * @param driver the driver to record
+     * @return the wrapped driver
+     */
+    public InterceptingWebDriver record(WebDriver driver) {
+        return new InterceptingWebDriver(driver, this);
+    }
+
+    @Override
+    public boolean isMethodInfoReusable() {
+        return true;
+    }
+
+    @Override
+    public void onBefore(MethodInfo<?> methodInfo) {
+        // the command is recorded when it completes
+    }
+
+    @Override
+    public synchronized void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+        commands.add(new ReplayCommand(methodInfo.getName(), ReplayCodec.encodeSource(methodInfo.getSource(),
+                this::idOf), encodeParams(methodInfo), ReplayCodec.encode(resultValue, this::idOf), null, null));
+    }
+
+    @Override
+    public synchronized void onException(MethodInfo<?> methodInfo, Exception exception) {
+        String message = exception instanceof WebDriverException ? ((WebDriverException) exception).getRawMessage()
+                : exception.getMessage();
+        commands.add(new ReplayCommand(methodInfo.getName(), ReplayCodec.encodeSource(methodInfo.getSource(),
+                this::idOf), encodeParams(methodInfo), null, exception.getClass().getName(), message));
+    }
+
+    private List<Object> encodeParams(MethodInfo<?> methodInfo) {
+        List<Object> params = new ArrayList<>();
+        for (Object param : methodInfo.getParams()) {
+            params.add(ReplayCodec.encode(param, this::idOf));
+        }
+        return params;
+    }
+
+    private int idOf(WebElement element) {
+        return elementIds.computeIfAbsent(element, k -> elementIds.size());
+    }
+
+    /**
+     * Gets the script of the commands recorded so far.
+     *
+     * @return the script of the recorded commands
+     */
+    public synchronized ReplayScript getScript() {
+        return new ReplayScript(commands);
+    }
+
+    /**
+     * Clears the recorded commands and the element ids.
+     */
+    public synchronized void clear() {
+        commands.clear();
+        elementIds.clear();
+    }
+}
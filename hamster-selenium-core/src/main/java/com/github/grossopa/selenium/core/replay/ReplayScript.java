@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The commands recorded by {@link ReplayRecorder} in the invoked order, it could be stored as JSON and replayed by
+ * {@link ReplayWebDriver} later.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public final class ReplayScript {
+
+    /**
+     * The version of the JSON layout.
+     */
+    public static final int VERSION = 1;
+
+    private static final Json JSON = new Json();
+
+    private final List<ReplayCommand> commands;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param commands the recorded commands in the invoked order
+     */
+    public ReplayScript(List<ReplayCommand> commands) {
+        requireNonNull(commands);
+        this.commands = Collections.unmodifiableList(new ArrayList<>(commands));
+    }
+
+    /**
+     * Gets the recorded commands in the invoked order.
+     *
+     * @return the recorded commands
+     */
+    public List<ReplayCommand> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Converts to the JSON string.
+     *
+     * @return the JSON string
+     */
+    public String toJson() {
+        List<Map<String, Object>> list = new ArrayList<>();
+        commands.forEach(command -> list.add(command.toMap()));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("version", VERSION);
+        map.put("commands", list);
+        return JSON.toJson(map);
+    }
+
+    /**
+     * Writes the JSON to given file.
+     *
+     * @param path the file to write
+     * @throws IOException if failed to write the file
+     */
+    public void write(Path path) throws IOException {
+        Files.writeString(path, toJson(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the script from the JSON string.
+     *
+     * @param json the JSON string created by {@link #toJson()}
+     * @return the parsed script
+     */
+    @SuppressWarnings("unchecked")
+    public static ReplayScript fromJson(String json) {
+        Map<String, Object> map = JSON.toType(json, Json.MAP_TYPE);
+        Object version = map.get("version");
+        if (!(version instanceof Number) || ((Number) version).intValue() != VERSION) {
+            throw new IllegalArgumentException("Unsupported replay script version " + version);
+        }
+        List<ReplayCommand> commands = new ArrayList<>();
+        for (Object command : (List<Object>) map.get("commands")) {
+            commands.add(ReplayCommand.fromMap((Map<String, Object>) command));
+        }
+        return new ReplayScript(commands);
+    }
+
+    /**
+     * Reads the script from given file.
+     *
+     * @param path the file written by {@link #write(Path)}
+     * @return the read script
+     * @throws IOException if failed to read the file
+     */
+    public static ReplayScript read(Path path) throws IOException {
+        return fromJson(Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayScript{" + "commands=" + commands.size() + '}';
+    }
+}
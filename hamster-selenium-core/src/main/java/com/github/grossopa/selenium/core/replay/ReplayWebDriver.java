@@ -0,0 +1,520 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static com.github.grossopa.selenium.core.replay.ReplayCodec.DRIVER_SOURCE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A browserless {@link WebDriver} answering the commands from a {@link ReplayScript} recorded by
+ * {@link ReplayRecorder}, so the client side cost of the components could be benchmarked and regression tested
+ * deterministically.
+ * <p>
+ * The commands are matched by the method name, the source and the params. The recorded results of the same command
+ * are returned in the recorded order and the last one is repeated once the others are consumed, the recorded
+ * exceptions are thrown again. A {@link ReplayMismatchException} is thrown for the commands not recorded. An optional
+ * latency could be injected into each command to simulate the remote end, and the command counts tell how many round
+ * trips a change adds.
+ * <p>
+ * The timeouts and the cookies are kept locally as they are not intercepted during the recording.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ReplayWebDriver implements WebDriver, JavascriptExecutor, Interactive {
+
+    private final Map<String, Deque<ReplayCommand>> commands = new HashMap<>();
+    private final Map<Integer, ReplayWebElement> elements = new ConcurrentHashMap<>();
+    private final AtomicLong commandCount = new AtomicLong();
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final ReplayOptions options = new ReplayOptions();
+
+    private volatile Duration latency = Duration.ZERO;
+
+    /**
+     * Constructs an instance with the recorded script.
+     *
+     * @param script the recorded script
+     */
+    public ReplayWebDriver(ReplayScript script) {
+        requireNonNull(script);
+        for (ReplayCommand command : script.getCommands()) {
+            commands.computeIfAbsent(command.getKey(), k -> new ArrayDeque<>()).add(command);
+        }
+    }
+
+    /**
+     * Answers the command from the recorded script.
+     *
+     * @param source the source, "driver" or "element#id"
+     * @param name the method name
+     * @param params the params
+     * @return the decoded result
+     */
+    Object answer(String source, String name, Object... params) {
+        List<Object> encodedParams = new ArrayList<>();
+        for (Object param : params) {
+            encodedParams.add(ReplayCodec.encode(param, this::idOf));
+        }
+        String key = ReplayCommand.keyOf(name, source, encodedParams);
+        commandCount.incrementAndGet();
+        commandCounts.computeIfAbsent(name, k -> new LongAdder()).increment();
+
+        ReplayCommand command;
+        synchronized (commands) {
+            Deque<ReplayCommand> recorded = commands.get(key);
+            if (recorded == null) {
+                throw new ReplayMismatchException(key);
+            }
+            command = recorded.size() > 1 ? recorded.poll() : recorded.peek();
+        }
+        simulateLatency();
+        if (command.getExceptionClassName() != null) {
+            throw recreate(command.getExceptionClassName(), command.getExceptionMessage());
+        }
+        return ReplayCodec.decode(command.getResult(), this::elementOf, this);
+    }
+
+    private int idOf(WebElement element) {
+        return element instanceof ReplayWebElement && ((ReplayWebElement) element).getWrappedDriver() == this
+                ? ((ReplayWebElement) element).getId() : -1;
+    }
+
+    private WebElement elementOf(int id) {
+        return elements.computeIfAbsent(id, k -> new ReplayWebElement(this, k));
+    }
+
+    private void simulateLatency() {
+        Duration current = latency;
+        if (current.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(current.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while simulating the latency.", e);
+        }
+    }
+
+    private static RuntimeException recreate(String className, String message) {
+        try {
+            Class<?> type = Class.forName(className);
+            if (RuntimeException.class.isAssignableFrom(type)) {
+                return (RuntimeException) type.getConstructor(String.class).newInstance(message);
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // falls back to the generic exception
+        }
+        return new WebDriverException(className + ": " + message);
+    }
+
+    /**
+     * Sets the latency injected into each command, {@link Duration#ZERO} by default.
+     *
+     * @param latency the latency of each command
+     */
+    public void setLatency(Duration latency) {
+        requireNonNull(latency);
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("latency must not be negative.");
+        }
+        this.latency = latency;
+    }
+
+    /**
+     * Gets the latency injected into each command.
+     *
+     * @return the latency of each command
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets the number of the commands received, including the unrecorded ones.
+     *
+     * @return the number of the commands received
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * Gets the number of the commands received per method name.
+     *
+     * @return the number of the commands keyed and sorted by the method name
+     */
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        commandCounts.forEach((name, count) -> result.put(name, count.sum()));
+        return result;
+    }
+
+    /**
+     * Resets the command counters.
+     */
+    public void resetCommandCounts() {
+        commandCount.set(0L);
+        commandCounts.clear();
+    }
+
+    @Override
+    public void get(String url) {
+        answer(DRIVER_SOURCE, DRIVER_GET, url);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return (String) answer(DRIVER_SOURCE, DRIVER_GET_CURRENT_URL);
+    }
+
+    @Override
+    public String getTitle() {
+        return (String) answer(DRIVER_SOURCE, DRIVER_GET_TITLE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WebElement> findElements(By by) {
+        return (List<WebElement>) answer(DRIVER_SOURCE, DRIVER_FIND_ELEMENTS, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return (WebElement) answer(DRIVER_SOURCE, DRIVER_FIND_ELEMENT, by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return (String) answer(DRIVER_SOURCE, DRIVER_GET_PAGE_SOURCE);
+    }
+
+    @Override
+    public void close() {
+        answer(DRIVER_SOURCE, DRIVER_CLOSE);
+    }
+
+    @Override
+    public void quit() {
+        answer(DRIVER_SOURCE, DRIVER_QUIT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<String> getWindowHandles() {
+        return new LinkedHashSet<>((Collection<String>) answer(DRIVER_SOURCE, DRIVER_GET_WINDOW_HANDLES));
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return (String) answer(DRIVER_SOURCE, DRIVER_GET_WINDOW_HANDLE);
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new ReplayTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new ReplayNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return options;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return answer(DRIVER_SOURCE, DRIVER_EXECUTE_SCRIPT, script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return answer(DRIVER_SOURCE, DRIVER_EXECUTE_ASYNC_SCRIPT, script, args);
+    }
+
+    @Override
+    public void perform(Collection<Sequence> actions) {
+        answer(DRIVER_SOURCE, DRIVER_PERFORM, actions);
+    }
+
+    @Override
+    public void resetInputState() {
+        answer(DRIVER_SOURCE, DRIVER_RESET_INPUT_STATE);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayWebDriver{" + "commands=" + commands.size() + ", latency=" + latency + '}';
+    }
+
+    private class ReplayTargetLocator implements TargetLocator {
+
+        @Override
+        public WebDriver frame(int index) {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_FRAME, index);
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_FRAME, nameOrId);
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_FRAME, frameElement);
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_PARENT_FRAME);
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_WINDOW, nameOrHandle);
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_NEW_WINDOW, typeHint);
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return (WebDriver) answer(DRIVER_SOURCE, TARGETLOCATOR_DEFAULT_CONTENT);
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return (WebElement) answer(DRIVER_SOURCE, TARGETLOCATOR_ACTIVE_ELEMENT);
+        }
+
+        @Override
+        public Alert alert() {
+            return new ReplayAlert();
+        }
+    }
+
+    private class ReplayAlert implements Alert {
+
+        @Override
+        public void dismiss() {
+            answer(DRIVER_SOURCE, ALERT_DISMISS);
+        }
+
+        @Override
+        public void accept() {
+            answer(DRIVER_SOURCE, ALERT_ACCEPT);
+        }
+
+        @Override
+        public String getText() {
+            return (String) answer(DRIVER_SOURCE, ALERT_GET_TEXT);
+        }
+
+        @Override
+        public void sendKeys(String keysToSend) {
+            answer(DRIVER_SOURCE, ALERT_SEND_KEYS, keysToSend);
+        }
+    }
+
+    private class ReplayNavigation implements Navigation {
+
+        @Override
+        public void back() {
+            answer(DRIVER_SOURCE, NAVIGATION_BACK);
+        }
+
+        @Override
+        public void forward() {
+            answer(DRIVER_SOURCE, NAVIGATION_FORWARD);
+        }
+
+        @Override
+        public void to(String url) {
+            answer(DRIVER_SOURCE, NAVIGATION_TO, url);
+        }
+
+        @Override
+        public void to(URL url) {
+            answer(DRIVER_SOURCE, NAVIGATION_TO, url);
+        }
+
+        @Override
+        public void refresh() {
+            answer(DRIVER_SOURCE, NAVIGATION_REFRESH);
+        }
+    }
+
+    private static class ReplayOptions implements Options {
+
+        private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+        private final ReplayTimeouts timeouts = new ReplayTimeouts();
+
+        @Override
+        public synchronized void addCookie(Cookie cookie) {
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public synchronized void deleteCookieNamed(String name) {
+            cookies.remove(name);
+        }
+
+        @Override
+        public synchronized void deleteCookie(Cookie cookie) {
+            cookies.remove(cookie.getName());
+        }
+
+        @Override
+        public synchronized void deleteAllCookies() {
+            cookies.clear();
+        }
+
+        @Override
+        public synchronized Set<Cookie> getCookies() {
+            return new LinkedHashSet<>(cookies.values());
+        }
+
+        @Override
+        public synchronized Cookie getCookieNamed(String name) {
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return timeouts;
+        }
+
+        @Override
+        public Window window() {
+            throw new UnsupportedCommandException("Window is not supported by replay.");
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("Logs are not supported by replay.");
+        }
+    }
+
+    private static class ReplayTimeouts implements Timeouts {
+
+        private volatile Duration implicitWait = Duration.ZERO;
+        private volatile Duration scriptTimeout = Duration.ofSeconds(30);
+        private volatile Duration pageLoadTimeout = Duration.ofSeconds(300);
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return implicitlyWait(Duration.ofNanos(unit.toNanos(time)));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            return implicitWait;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return scriptTimeout(Duration.ofNanos(unit.toNanos(time)));
+        }
+
+        @Override
+        public Timeouts setScriptTimeout(Duration duration) {
+            return scriptTimeout(duration);
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            scriptTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            return scriptTimeout;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return pageLoadTimeout(Duration.ofNanos(unit.toNanos(time)));
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            pageLoadTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            return pageLoadTimeout;
+        }
+    }
+}
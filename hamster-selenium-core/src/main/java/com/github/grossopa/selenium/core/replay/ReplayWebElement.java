@@ -0,0 +1,201 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+
+/**
+ * The element of {@link ReplayWebDriver}, answers the commands from the recorded script.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ReplayWebElement implements WebElement, WrapsDriver {
+
+    private final ReplayWebDriver driver;
+    private final int id;
+    private final String source;
+
+    ReplayWebElement(ReplayWebDriver driver, int id) {
+        this.driver = driver;
+        this.id = id;
+        this.source = "element#" + id;
+    }
+
+    /**
+     * Gets the element id given by the recording.
+     *
+     * @return the element id
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public void click() {
+        driver.answer(source, ELEMENT_CLICK);
+    }
+
+    @Override
+    public void submit() {
+        driver.answer(source, ELEMENT_SUBMIT);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.answer(source, ELEMENT_SEND_KEYS, (Object) keysToSend);
+    }
+
+    @Override
+    public void clear() {
+        driver.answer(source, ELEMENT_CLEAR);
+    }
+
+    @Override
+    public String getTagName() {
+        return (String) driver.answer(source, ELEMENT_GET_TAG_NAME);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return (String) driver.answer(source, ELEMENT_GET_ATTRIBUTE, name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return (String) driver.answer(source, ELEMENT_GET_DOM_ATTRIBUTE, name);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return (String) driver.answer(source, ELEMENT_GET_DOM_PROPERTY, name);
+    }
+
+    @Override
+    public String getAriaRole() {
+        return (String) driver.answer(source, ELEMENT_GET_ARIA_ROLE);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return (String) driver.answer(source, ELEMENT_GET_ACCESSIBLE_NAME);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return Boolean.TRUE.equals(driver.answer(source, ELEMENT_IS_SELECTED));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(driver.answer(source, ELEMENT_IS_ENABLED));
+    }
+
+    @Override
+    public String getText() {
+        return (String) driver.answer(source, ELEMENT_GET_TEXT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<WebElement> findElements(By by) {
+        return (List<WebElement>) driver.answer(source, ELEMENT_FIND_ELEMENTS, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return (WebElement) driver.answer(source, ELEMENT_FIND_ELEMENT, by);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return Boolean.TRUE.equals(driver.answer(source, ELEMENT_IS_DISPLAYED));
+    }
+
+    @Override
+    public Point getLocation() {
+        return (Point) driver.answer(source, ELEMENT_GET_LOCATION);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return (Dimension) driver.answer(source, ELEMENT_GET_SIZE);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return (Rectangle) driver.answer(source, ELEMENT_GET_RECT);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return (String) driver.answer(source, ELEMENT_GET_CSS_VALUE, propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedCommandException("Screenshots are not recorded for replay.");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReplayWebElement)) {
+            return false;
+        }
+        ReplayWebElement that = (ReplayWebElement) o;
+        return id == that.id && driver == that.driver;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(driver), id);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayWebElement{" + "id=" + id + '}';
+    }
+}
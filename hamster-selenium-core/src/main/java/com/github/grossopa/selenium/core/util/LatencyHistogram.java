@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram with HDR-style microsecond buckets. The latencies below {@link #SUB_BUCKET_COUNT}
+ * microseconds are counted per microsecond, each power-of-two range above is split into {@link #SUB_BUCKET_COUNT}
+ * linear sub-buckets, e.g. the latencies between 32 and 64 milliseconds are counted in buckets of 1.024 milliseconds.
+ * The latencies over the last bucket are counted in the last bucket.
+ *
+ * <p>The percentiles are reported as the upper bound of the bucket, which is accurate within about 3 percent (1 / 32)
+ * of the latency.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of linear sub-buckets within each power-of-two range.
+     */
+    public static final int SUB_BUCKET_COUNT = 32;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+
+    /**
+     * The highest power of two covered by the buckets in microseconds, the last bucket covers about 35 minutes and
+     * more.
+     */
+    private static final int MAX_MICROS_BITS = 31;
+
+    /**
+     * The number of buckets.
+     */
+    public static final int BUCKET_COUNT = (MAX_MICROS_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records the latency.
+     *
+     * @param latency the latency to record
+     */
+    public void record(Duration latency) {
+        recordNanos(latency.toNanos());
+    }
+
+    /**
+     * Records the latency in nanoseconds, negative values are recorded as 0.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Gets the number of the recorded latencies.
+     *
+     * @return the number of the recorded latencies
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the mean latency, or {@link Duration#ZERO} if nothing recorded.
+     *
+     * @return the mean latency
+     */
+    public Duration getMean() {
+        long currentCount = count.get();
+        return currentCount == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.get() / currentCount);
+    }
+
+    /**
+     * Gets the max latency, or {@link Duration#ZERO} if nothing recorded.
+     *
+     * @return the max latency
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Gets the latency at given percentile, reported as the upper bound of the bucket.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the latency at given percentile, or {@link Duration#ZERO} if nothing recorded
+     */
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100 but was " + percentile);
+        }
+        long[] snapshot = getBucketCounts();
+        long total = 0;
+        for (long bucketCount : snapshot) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100d));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(upperBoundNanos(i), maxNanos.get()));
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets a copy of the bucket counts.
+     *
+     * @return a copy of the bucket counts
+     */
+    public long[] getBucketCounts() {
+        long[] result = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result[i] = buckets.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a detached copy of current counts, the copy is not affected by the later recordings. The count of the
+     * copy is the sum of the copied buckets.
+     *
+     * @return the detached copy
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram result = new LatencyHistogram();
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = buckets.get(i);
+            result.buckets.set(i, bucketCount);
+            total += bucketCount;
+        }
+        result.count.set(total);
+        result.totalNanos.set(totalNanos.get());
+        result.maxNanos.set(maxNanos.get());
+        return result;
+    }
+
+    /**
+     * Clears all the recorded latencies. The recordings happening at the same time may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.set(0L);
+        totalNanos.set(0L);
+        maxNanos.set(0L);
+    }
+
+    /**
+     * Gets the exclusive upper bound of given bucket in nanoseconds.
+     *
+     * @param bucket the bucket index
+     * @return the exclusive upper bound in nanoseconds
+     */
+    public static long upperBoundNanos(int bucket) {
+        if (bucket == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        int range = bucket / SUB_BUCKET_COUNT;
+        int subBucket = bucket % SUB_BUCKET_COUNT;
+        if (range == 0) {
+            return (subBucket + 1L) * 1000L;
+        }
+        return ((SUB_BUCKET_COUNT + subBucket + 1L) << (range - 1)) * 1000L;
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = nanos / 1000L;
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        // the range of [2^n, 2^(n+1)) is split by the next SUB_BUCKET_BITS bits after the highest one
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        long bucket = (shift + 1L) * SUB_BUCKET_COUNT + (micros >> shift) - SUB_BUCKET_COUNT;
+        return (int) Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" + "count=" + getCount() + ", mean=" + getMean().toMillis() + "ms, p50="
+                + getPercentile(50).toMillis() + "ms, p90=" + getPercentile(90).toMillis() + "ms, p99="
+                + getPercentile(99).toMillis() + "ms, max=" + getMax().toMillis() + "ms}";
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Learns a good first-poll delay per call site from the past completion times, and backs off with jitter from there.
+ * The first delay is the exponentially weighted moving average of the satisfied waits of the call site, clamped
+ * between the min and max delay. Call sites without history start from the initial delay.
+ *
+ * <p>The waits which time out are not learned, as their elapsed time tells nothing about when the condition holds.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class AdaptivePollingStrategy extends BackoffPollingStrategy {
+
+    /**
+     * The weight of the latest completion time in the moving average.
+     */
+    public static final double DEFAULT_ALPHA = 0.3d;
+
+    private final Duration minDelay;
+    private final double alpha;
+    private final Map<String, Double> averageNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an instance with 25ms initial delay, 5ms min delay, 500ms max delay, multiplier 2 and 20% jitter.
+     */
+    public AdaptivePollingStrategy() {
+        this(Duration.ofMillis(25L), Duration.ofMillis(5L), FixedPollingStrategy.DEFAULT_INTERVAL, 2d, 0.2d);
+    }
+
+    /**
+     * Constructs an instance with given parameters.
+     *
+     * @param initialDelay the first delay of the call sites without history
+     * @param minDelay the min first delay
+     * @param maxDelay the max delay between polls
+     * @param multiplier the multiplier of the delay for each attempt, at least 1
+     * @param jitter the ratio to randomly spread the delay, between 0 and 1
+     */
+    public AdaptivePollingStrategy(Duration initialDelay, Duration minDelay, Duration maxDelay, double multiplier,
+            double jitter) {
+        super(initialDelay, maxDelay, multiplier, jitter);
+        this.minDelay = minDelay;
+        this.alpha = DEFAULT_ALPHA;
+    }
+
+    /**
+     * Constructs an instance with given parameters, the moving average weight and the random source.
+     *
+     * @param initialDelay the first delay of the call sites without history
+     * @param minDelay the min first delay
+     * @param maxDelay the max delay between polls
+     * @param multiplier the multiplier of the delay for each attempt, at least 1
+     * @param jitter the ratio to randomly spread the delay, between 0 and 1
+     * @param alpha the weight of the latest completion time in the moving average, between 0 (exclusive) and 1
+     * @param random the random source which supplies values between 0 (inclusive) and 1 (exclusive)
+     */
+    public AdaptivePollingStrategy(Duration initialDelay, Duration minDelay, Duration maxDelay, double multiplier,
+            double jitter, double alpha, DoubleSupplier random) {
+        super(initialDelay, maxDelay, multiplier, jitter, random);
+        if (alpha <= 0d || alpha > 1d) {
+            throw new IllegalArgumentException("alpha must be between 0 (exclusive) and 1 but was " + alpha);
+        }
+        this.minDelay = minDelay;
+        this.alpha = alpha;
+    }
+
+    @Override
+    public Duration nextDelay(String callSite, int attempt) {
+        return delayFrom(getFirstDelay(callSite), attempt);
+    }
+
+    @Override
+    public boolean isCallSiteAware() {
+        return true;
+    }
+
+    @Override
+    public void record(String callSite, Duration elapsed, boolean satisfied) {
+        if (!satisfied) {
+            return;
+        }
+        double nanos = elapsed.toNanos();
+        averageNanos.merge(callSite, nanos, (previous, latest) -> previous + alpha * (latest - previous));
+    }
+
+    /**
+     * Gets the learned first delay of given call site.
+     *
+     * @param callSite the call site
+     * @return the learned first delay, or the initial delay if no history
+     */
+    public Duration getFirstDelay(String callSite) {
+        Double average = averageNanos.get(callSite);
+        if (average == null) {
+            return getInitialDelay();
+        }
+        long nanos = Math.max(minDelay.toNanos(), Math.min(average.longValue(), getMaxDelay().toNanos()));
+        return Duration.ofNanos(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptivePollingStrategy{" + "minDelay=" + minDelay + ", alpha=" + alpha + ", callSites="
+                + averageNanos.size() + ", " + super.toString() + '}';
+    }
+}
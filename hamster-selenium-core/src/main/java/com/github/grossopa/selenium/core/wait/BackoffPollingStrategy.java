@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Polls with exponential backoff and jitter, the delay of attempt {@code n} is {@code initialDelay * multiplier^(n-1)}
+ * capped by the max delay, then randomly spread by {@code ±jitter}. The short first delay catches the conditions which
+ * become true soon, while the growing and spread delays avoid flooding the remote driver under high parallelism.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class BackoffPollingStrategy implements PollingStrategy {
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final DoubleSupplier random;
+
+    /**
+     * Constructs an instance with 25ms initial delay, 500ms max delay, multiplier 2 and 20% jitter.
+     */
+    public BackoffPollingStrategy() {
+        this(Duration.ofMillis(25L), FixedPollingStrategy.DEFAULT_INTERVAL, 2d, 0.2d);
+    }
+
+    /**
+     * Constructs an instance with given parameters.
+     *
+     * @param initialDelay the delay of the first poll
+     * @param maxDelay the max delay between polls
+     * @param multiplier the multiplier of the delay for each attempt, at least 1
+     * @param jitter the ratio to randomly spread the delay, between 0 and 1
+     */
+    public BackoffPollingStrategy(Duration initialDelay, Duration maxDelay, double multiplier, double jitter) {
+        this(initialDelay, maxDelay, multiplier, jitter, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Constructs an instance with given parameters and random source.
+     *
+     * @param initialDelay the delay of the first poll
+     * @param maxDelay the max delay between polls
+     * @param multiplier the multiplier of the delay for each attempt, at least 1
+     * @param jitter the ratio to randomly spread the delay, between 0 and 1
+     * @param random the random source which supplies values between 0 (inclusive) and 1 (exclusive)
+     */
+    public BackoffPollingStrategy(Duration initialDelay, Duration maxDelay, double multiplier, double jitter,
+            DoubleSupplier random) {
+        requireNonNull(initialDelay);
+        requireNonNull(maxDelay);
+        requireNonNull(random);
+        if (multiplier < 1d) {
+            throw new IllegalArgumentException("multiplier must be at least 1 but was " + multiplier);
+        }
+        if (jitter < 0d || jitter > 1d) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1 but was " + jitter);
+        }
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.random = random;
+    }
+
+    @Override
+    public Duration nextDelay(String callSite, int attempt) {
+        return delayFrom(initialDelay, attempt);
+    }
+
+    /**
+     * Calculates the delay of given attempt starting from given first delay.
+     *
+     * @param firstDelay the delay of the first attempt
+     * @param attempt the number of the failed evaluations so far, starts from 1
+     * @return the delay with backoff and jitter applied
+     */
+    protected Duration delayFrom(Duration firstDelay, int attempt) {
+        double base = firstDelay.toNanos() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        double capped = Math.min(base, maxDelay.toNanos());
+        double spread = capped * (1d + jitter * (2d * random.getAsDouble() - 1d));
+        return Duration.ofNanos(Math.max(0L, (long) spread));
+    }
+
+    /**
+     * Gets the delay of the first poll.
+     *
+     * @return the delay of the first poll
+     */
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Gets the max delay between polls.
+     *
+     * @return the max delay between polls
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public String toString() {
+        return "BackoffPollingStrategy{" + "initialDelay=" + initialDelay + ", maxDelay=" + maxDelay + ", multiplier="
+                + multiplier + ", jitter=" + jitter + '}';
+    }
+}
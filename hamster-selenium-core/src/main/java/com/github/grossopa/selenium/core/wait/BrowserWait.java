@@ -0,0 +1,511 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import com.github.grossopa.selenium.core.locator.LocatorScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The wait which ships the condition to the browser and evaluates it whenever the DOM is mutated or a new animation
+ * frame is rendered, the browser responds exactly once when the condition holds or the time is out. Comparing to the
+ * {@link org.openqa.selenium.support.ui.WebDriverWait} which polls from the client side every 500 milliseconds by
+ * default, there is neither the dead time between the polls nor the round trip for each poll.
+ *
+ * <p>The locators which couldn't be translated to the browser, see {@link LocatorScripts#isSupported(By)}, fall back
+ * to the client side polling by {@link ComponentWebDriver#createWait(long)}.</p>
+ *
+ * @author Jack Yin
+ * @see ComponentWebDriver#createBrowserWait(long)
+ * @since 1.13
+ */
+public class BrowserWait {
+
+    /**
+     * The script function to wait for the condition, it accepts the condition function, the condition arguments, the
+     * timeout in milliseconds and the callback. The callback is invoked once with {@code {satisfied, value, error}}.
+     */
+    //@formatter:off
+    public static final String WAIT_FUNCTION = ""
+            + "function(check, args, timeout, done) {"
+            + "  var finished = false;"
+            + "  var observer = null;"
+            + "  var frame = null;"
+            + "  var interval = null;"
+            + "  var timer = null;"
+            + "  function finish(result) {"
+            + "    if (finished) {"
+            + "      return;"
+            + "    }"
+            + "    finished = true;"
+            + "    if (observer) {"
+            + "      observer.disconnect();"
+            + "    }"
+            + "    if (frame) {"
+            + "      cancelAnimationFrame(frame);"
+            + "    }"
+            + "    clearInterval(interval);"
+            + "    clearTimeout(timer);"
+            + "    done(result);"
+            + "  }"
+            + "  function evaluate() {"
+            + "    if (finished) {"
+            + "      return;"
+            + "    }"
+            + "    try {"
+            + "      var value = check.apply(null, args);"
+            + "      if (value) {"
+            + "        finish({satisfied: true, value: value === true ? null : value});"
+            + "      }"
+            + "    } catch (e) {"
+            + "      finish({satisfied: false, error: String(e)});"
+            + "    }"
+            + "  }"
+            + "  function tick() {"
+            + "    evaluate();"
+            + "    if (!finished) {"
+            + "      frame = requestAnimationFrame(tick);"
+            + "    }"
+            + "  }"
+            + "  timer = setTimeout(function() {"
+            + "    evaluate();"
+            + "    finish({satisfied: false});"
+            + "  }, timeout);"
+            + "  observer = new MutationObserver(evaluate);"
+            + "  observer.observe(document.documentElement,"
+            + "      {attributes: true, childList: true, subtree: true, characterData: true});"
+            // the animation frames are paused in background tabs
+            + "  interval = setInterval(evaluate, 100);"
+            + "  tick();"
+            + "}";
+
+    /**
+     * The condition of the first element present by locator.
+     */
+    public static final String PRESENT_CONDITION = ""
+            + "(function() {"
+            + "  var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+            + "  return function(using, value) {"
+            + "    return find(null, using, value)[0] || null;"
+            + "  };"
+            + "})()";
+
+    /**
+     * The condition of the first visible element by locator.
+     */
+    public static final String VISIBLE_CONDITION = ""
+            + "(function() {"
+            + "  var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+            + "  var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  return function(using, value) {"
+            + "    var elements = find(null, using, value);"
+            + "    for (var i = 0; i < elements.length; i++) {"
+            + "      if (isDisplayed(elements[i])) {"
+            + "        return elements[i];"
+            + "      }"
+            + "    }"
+            + "    return null;"
+            + "  };"
+            + "})()";
+
+    /**
+     * The condition of the last visible element by locator, e.g. the top overlay.
+     */
+    public static final String LAST_VISIBLE_CONDITION = ""
+            + "(function() {"
+            + "  var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+            + "  var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  return function(using, value) {"
+            + "    var elements = find(null, using, value);"
+            + "    for (var i = elements.length - 1; i >= 0; i--) {"
+            + "      if (isDisplayed(elements[i])) {"
+            + "        return elements[i];"
+            + "      }"
+            + "    }"
+            + "    return null;"
+            + "  };"
+            + "})()";
+
+    /**
+     * The condition of no visible elements by locator.
+     */
+    public static final String INVISIBLE_CONDITION = ""
+            + "(function() {"
+            + "  var find = " + LocatorScripts.FIND_ALL_FUNCTION + ";"
+            + "  var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  return function(using, value) {"
+            + "    return !find(null, using, value).some(isDisplayed);"
+            + "  };"
+            + "})()";
+
+    /**
+     * The condition of the element being visible.
+     */
+    public static final String ELEMENT_VISIBLE_CONDITION = ""
+            + "(function() {"
+            + "  var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  return function(e) {"
+            + "    return e.isConnected && isDisplayed(e);"
+            + "  };"
+            + "})()";
+
+    /**
+     * The condition of the element being detached or invisible.
+     */
+    public static final String ELEMENT_INVISIBLE_OR_STALE_CONDITION = ""
+            + "(function() {"
+            + "  var isDisplayed = " + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ";"
+            + "  return function(e) {"
+            + "    return !e.isConnected || !isDisplayed(e);"
+            + "  };"
+            + "})()";
+
+    /**
+     * The condition of the element being detached from the document.
+     */
+    public static final String STALE_CONDITION = ""
+            + "function(e) {"
+            + "  return !e.isConnected;"
+            + "}";
+
+    /**
+     * The condition of the attribute containing the value, the attribute value is split by a single space.
+     */
+    public static final String ATTRIBUTE_CONTAINS_CONDITION = ""
+            + "function(e, name, value) {"
+            + "  var attribute = e.getAttribute(name);"
+            + "  return attribute !== null && attribute.split(' ').some(function(v) {"
+            + "    return v.trim() === value;"
+            + "  });"
+            + "}";
+
+    /**
+     * The condition of the rendered text equals to the value, the text is trimmed before comparing.
+     */
+    public static final String TEXT_EQUALS_CONDITION = ""
+            + "function(e, text) {"
+            + "  var actual = e.innerText === undefined ? e.textContent : e.innerText;"
+            + "  return (actual || '').trim() === text;"
+            + "}";
+
+    /**
+     * The error message of {@link #SETTLED_CONDITION} when the browser doesn't support
+     * {@code document.getAnimations()}.
+     */
+    public static final String ANIMATIONS_UNSUPPORTED_MESSAGE = "document.getAnimations is not supported";
+
+    /**
+     * The condition of no running animation or CSS transition on the element, its ancestors or its descendants for
+     * the quiet period. The infinite animations like the progress spinners are ignored, the detached element is
+     * settled. The whole document is checked if the element is null.
+     */
+    public static final String SETTLED_CONDITION = ""
+            + "(function() {"
+            + "  var quietSince = null;"
+            + "  return function(e, quietMillis) {"
+            + "    if (!document.getAnimations) {"
+            + "      throw new Error('" + ANIMATIONS_UNSUPPORTED_MESSAGE + "');"
+            + "    }"
+            + "    if (e && !e.isConnected) {"
+            + "      return true;"
+            + "    }"
+            + "    var busy = document.getAnimations().some(function(a) {"
+            + "      if (a.playState !== 'running' && !a.pending) {"
+            + "        return false;"
+            + "      }"
+            + "      var effect = a.effect;"
+            + "      if (effect && effect.getComputedTiming().iterations === Infinity) {"
+            + "        return false;"
+            + "      }"
+            + "      var target = effect ? effect.target : null;"
+            + "      return !e || !target || e === target || e.contains(target) || target.contains(e);"
+            + "    });"
+            + "    var now = performance.now();"
+            + "    if (busy) {"
+            + "      quietSince = null;"
+            + "      return false;"
+            + "    }"
+            + "    if (quietSince === null) {"
+            + "      quietSince = now;"
+            + "    }"
+            + "    return now - quietSince >= quietMillis;"
+            + "  };"
+            + "})()";
+    //@formatter:on
+
+    /**
+     * The default quiet period for {@link #untilSettled(WebElement)}, it covers the few frames between a click and
+     * the start of the transition it triggers.
+     */
+    public static final long DEFAULT_QUIET_MILLIS = 50L;
+
+    private final ComponentWebDriver driver;
+    private final long waitInMilliseconds;
+
+    /**
+     * Constructs an instance with the driver and the max time to wait.
+     *
+     * @param driver the driver to execute the scripts
+     * @param waitInMilliseconds the max time to wait in milliseconds
+     */
+    public BrowserWait(ComponentWebDriver driver, long waitInMilliseconds) {
+        requireNonNull(driver);
+        this.driver = driver;
+        this.waitInMilliseconds = Math.max(0L, waitInMilliseconds);
+    }
+
+    /**
+     * Waits until the first element located by given locator presents.
+     *
+     * @param by the locator
+     * @return the present element
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public WebComponent untilPresent(By by) {
+        return untilLocated(by, PRESENT_CONDITION, ExpectedConditions.presenceOfElementLocated(by));
+    }
+
+    /**
+     * Waits until any element located by given locator is visible.
+     *
+     * @param by the locator
+     * @return the first visible element
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public WebComponent untilVisible(By by) {
+        return untilLocated(by, VISIBLE_CONDITION, d -> driver.findComponents(by).stream()
+                .filter(WebElement::isDisplayed).findFirst().orElse(null));
+    }
+
+    /**
+     * Waits until any element located by given locator is visible and returns the last visible one, e.g. the top
+     * overlay, so the caller doesn't need to locate it again.
+     *
+     * @param by the locator
+     * @return the last visible element
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public WebComponent untilLastVisible(By by) {
+        return untilLocated(by, LAST_VISIBLE_CONDITION, d -> {
+            List<WebComponent> visibleComponents = driver.findComponents(by).stream().filter(WebElement::isDisplayed)
+                    .collect(toList());
+            return visibleComponents.isEmpty() ? null : visibleComponents.get(visibleComponents.size() - 1);
+        });
+    }
+
+    /**
+     * Waits until none of the elements located by given locator is visible.
+     *
+     * @param by the locator
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public void untilInvisible(By by) {
+        By.Remotable.Parameters parameters = LocatorScripts.getParameters(by);
+        if (parameters == null) {
+            driver.createWait(waitInMilliseconds).until(ExpectedConditions.invisibilityOfElementLocated(by));
+            return;
+        }
+        until(INVISIBLE_CONDITION, "invisibility of elements located by " + by, parameters.using(),
+                parameters.value());
+    }
+
+    /**
+     * Waits until given element is visible.
+     *
+     * @param element the element to wait
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public void untilVisible(WebElement element) {
+        until(ELEMENT_VISIBLE_CONDITION, "visibility of " + element, element);
+    }
+
+    /**
+     * Waits until given element is either detached from the document or invisible.
+     *
+     * @param element the element to wait
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public void untilInvisibleOrStale(WebElement element) {
+        try {
+            until(ELEMENT_INVISIBLE_OR_STALE_CONDITION, "invisibility of " + element, element);
+        } catch (StaleElementReferenceException exception) {
+            // the element is already detached when passing to the browser
+        }
+    }
+
+    /**
+     * Waits until given element is detached from the document.
+     *
+     * @param element the element to wait
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public void untilStale(WebElement element) {
+        try {
+            until(STALE_CONDITION, "staleness of " + element, element);
+        } catch (StaleElementReferenceException exception) {
+            // the element is already detached when passing to the browser
+        }
+    }
+
+    /**
+     * Waits until the attribute of given element contains the value, the attribute value is split by a single space.
+     *
+     * @param element the element to wait
+     * @param attributeName the attribute name
+     * @param attributeValue the value to contain
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public void untilAttributeContains(WebElement element, String attributeName, String attributeValue) {
+        until(ATTRIBUTE_CONTAINS_CONDITION,
+                "attribute " + attributeName + " of " + element + " to contain " + attributeValue, element,
+                attributeName, attributeValue);
+    }
+
+    /**
+     * Waits until the rendered text of given element equals to the text, the text is trimmed before comparing.
+     *
+     * @param element the element to wait
+     * @param text the expected text
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    public void untilTextEquals(WebElement element, String text) {
+        until(TEXT_EQUALS_CONDITION, "text of " + element + " to be " + text, element, text);
+    }
+
+    /**
+     * Waits until the animations and CSS transitions on the element, its ancestors and its descendants are finished
+     * for {@link #DEFAULT_QUIET_MILLIS}.
+     *
+     * @param element the element to check, or null to check the whole document
+     * @throws TimeoutException if the animations are still running in time
+     * @throws UnsupportedCommandException if the browser doesn't support {@code document.getAnimations()}
+     */
+    public void untilSettled(@Nullable WebElement element) {
+        untilSettled(element, DEFAULT_QUIET_MILLIS);
+    }
+
+    /**
+     * Waits until the animations and CSS transitions on the element, its ancestors and its descendants are finished
+     * for the quiet period.
+     *
+     * @param element the element to check, or null to check the whole document
+     * @param quietMillis the period in milliseconds without running animations
+     * @throws TimeoutException if the animations are still running in time
+     * @throws UnsupportedCommandException if the browser doesn't support {@code document.getAnimations()}
+     */
+    public void untilSettled(@Nullable WebElement element, long quietMillis) {
+        try {
+            until(SETTLED_CONDITION, "animations settled on " + (element == null ? "document" : element), element,
+                    quietMillis);
+        } catch (StaleElementReferenceException exception) {
+            // the element is already detached when passing to the browser
+        } catch (WebDriverException exception) {
+            String message = exception.getMessage();
+            if (message != null && message.contains(ANIMATIONS_UNSUPPORTED_MESSAGE)) {
+                throw new UnsupportedCommandException(ANIMATIONS_UNSUPPORTED_MESSAGE, exception);
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Waits until the customized condition holds in the browser. The condition is a script function expression
+     * which accepts given arguments and returns a truthy value when the condition holds, e.g. {@code function(e) {
+     * return e.checked; }}. It's evaluated whenever the DOM is mutated or a new animation frame is rendered.
+     *
+     * @param condition the script function expression of the condition
+     * @param description the description of the condition for the timeout message
+     * @param args the arguments of the condition
+     * @return the truthy value returned by the condition, or null if it's the {@code true} value
+     * @throws TimeoutException if the condition doesn't hold in time
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public Object until(String condition, String description, Object... args) {
+        requireNonNull(condition);
+        // leaves some room for the browser to respond after the wait is timed out
+        driver.ensureScriptTimeout(Duration.ofMillis(waitInMilliseconds + 1000L));
+        Map<String, Object> result = (Map<String, Object>) driver.executeReadOnlyAsyncScript(""
+                + "var done = arguments[arguments.length - 1];"
+                + "(" + WAIT_FUNCTION + ")(" + condition + ", arguments[0], arguments[1], done);", asList(args),
+                waitInMilliseconds);
+
+        if (result == null) {
+            throw new WebDriverException("Browser wait returned nothing while waiting for " + description);
+        }
+        if (result.get("error") != null) {
+            throw new WebDriverException(
+                    "Browser wait failed while waiting for " + description + ": " + result.get("error"));
+        }
+        if (!Boolean.TRUE.equals(result.get("satisfied"))) {
+            throw new TimeoutException(
+                    "Expected condition failed: waiting for " + description + " (tried for " + waitInMilliseconds
+                            + " millisecond(s))");
+        }
+        return result.get("value");
+    }
+
+    /**
+     * Gets the max time to wait in milliseconds.
+     *
+     * @return the max time to wait in milliseconds
+     */
+    public long getWaitInMilliseconds() {
+        return waitInMilliseconds;
+    }
+
+    private WebComponent untilLocated(By by, String condition, Function<WebDriver, WebElement> fallback) {
+        By.Remotable.Parameters parameters = LocatorScripts.getParameters(by);
+        if (parameters == null) {
+            return driver.mapElement(driver.createWait(waitInMilliseconds).until(fallback));
+        }
+        Object value = until(condition, "element located by " + by, parameters.using(), parameters.value());
+        return driver.mapElement((WebElement) value);
+    }
+
+    @Override
+    public String toString() {
+        return "BrowserWait{" + "driver=" + driver + ", waitInMilliseconds=" + waitInMilliseconds + '}';
+    }
+}
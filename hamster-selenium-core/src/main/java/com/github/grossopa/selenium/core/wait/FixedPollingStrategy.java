@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Polls in a fixed interval, same as the default {@link org.openqa.selenium.support.ui.WebDriverWait}.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class FixedPollingStrategy implements PollingStrategy {
+
+    /**
+     * The default interval of the {@link org.openqa.selenium.support.ui.WebDriverWait}.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMillis(500L);
+
+    private final Duration interval;
+
+    /**
+     * Constructs an instance with the default 500 milliseconds interval.
+     */
+    public FixedPollingStrategy() {
+        this(DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Constructs an instance with given interval.
+     *
+     * @param interval the polling interval
+     */
+    public FixedPollingStrategy(Duration interval) {
+        requireNonNull(interval);
+        this.interval = interval;
+    }
+
+    @Override
+    public Duration nextDelay(String callSite, int attempt) {
+        return interval;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedPollingStrategy{" + "interval=" + interval + '}';
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import java.time.Duration;
+
+/**
+ * Decides how long to wait before polling the condition again, used by {@link PollingWebDriverWait}.
+ *
+ * @author Jack Yin
+ * @see FixedPollingStrategy
+ * @see BackoffPollingStrategy
+ * @see AdaptivePollingStrategy
+ * @since 1.13
+ */
+public interface PollingStrategy {
+
+    /**
+     * Gets the delay before the next poll. The condition is always evaluated once immediately, so the first delay is
+     * requested with attempt 1.
+     *
+     * @param callSite the call site which creates the wait, e.g. {@code com.foo.MySelect.openOptions:123}
+     * @param attempt the number of the failed evaluations so far, starts from 1
+     * @return the delay before the next poll
+     */
+    Duration nextDelay(String callSite, int attempt);
+
+    /**
+     * Records the completion of a wait, it's useful for the strategies that learn from the history.
+     *
+     * @param callSite the call site which creates the wait
+     * @param elapsed the elapsed time of the wait
+     * @param satisfied true if the condition holds, false if the wait is timed out or failed
+     */
+    default void record(String callSite, Duration elapsed, boolean satisfied) {
+        // no-op by default
+    }
+
+    /**
+     * Whether the strategy tells the call sites apart. Resolving the call site walks the stack of each created wait,
+     * so it's skipped for the strategies which don't need it and the waits are recorded under
+     * {@link PollingWebDriverWait#UNRESOLVED_CALL_SITE}.
+     *
+     * @return true if the strategy depends on the call site, false by default
+     */
+    default boolean isCallSiteAware() {
+        return false;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import javax.annotation.Nullable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link WebDriverWait} which asks the {@link PollingStrategy} how long to sleep between the polls, and records
+ * the elapsed time of each {@link #until(Function)} to the strategy and the {@link WaitStatistics}.
+ *
+ * <p>The delays are clamped to the remaining timeout, so a long backoff never makes the wait overrun its timeout.
+ * An interval given by {@link #pollingEvery(Duration)} takes over the strategy, the same as a plain
+ * {@link WebDriverWait}.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class PollingWebDriverWait extends WebDriverWait {
+
+    /**
+     * The call site of the waits created with a strategy which is not {@link PollingStrategy#isCallSiteAware()}.
+     */
+    public static final String UNRESOLVED_CALL_SITE = "unresolved";
+
+    private final StrategySleeper sleeper;
+    private final PollingStrategy strategy;
+    @Nullable
+    private final WaitStatistics statistics;
+    private final String callSite;
+    private final Clock clock;
+    private Duration timeout;
+
+    /**
+     * Constructs an instance with system clock. The call site is resolved from current stack only if the strategy is
+     * {@link PollingStrategy#isCallSiteAware()}, otherwise it's {@link #UNRESOLVED_CALL_SITE}.
+     *
+     * @param driver the driver to wait on
+     * @param timeout the timeout of the wait
+     * @param strategy the polling strategy
+     * @param statistics the optional statistics to record to
+     */
+    public PollingWebDriverWait(WebDriver driver, Duration timeout, PollingStrategy strategy,
+            @Nullable WaitStatistics statistics) {
+        this(driver, timeout, strategy, statistics,
+                strategy.isCallSiteAware() ? resolveCallSite() : UNRESOLVED_CALL_SITE, Clock.systemDefaultZone(),
+                Sleeper.SYSTEM_SLEEPER);
+    }
+
+    /**
+     * Constructs an instance with all parameters.
+     *
+     * @param driver the driver to wait on
+     * @param timeout the timeout of the wait
+     * @param strategy the polling strategy
+     * @param statistics the optional statistics to record to
+     * @param callSite the call site which creates the wait
+     * @param clock the clock
+     * @param sleeper the sleeper to delegate the actual sleep to
+     */
+    public PollingWebDriverWait(WebDriver driver, Duration timeout, PollingStrategy strategy,
+            @Nullable WaitStatistics statistics, String callSite, Clock clock, Sleeper sleeper) {
+        this(driver, timeout, strategy, statistics, callSite, clock,
+                new StrategySleeper(strategy, callSite, clock, sleeper));
+    }
+
+    private PollingWebDriverWait(WebDriver driver, Duration timeout, PollingStrategy strategy,
+            @Nullable WaitStatistics statistics, String callSite, Clock clock, StrategySleeper sleeper) {
+        super(driver, timeout, FixedPollingStrategy.DEFAULT_INTERVAL, clock, sleeper);
+        this.sleeper = requireNonNull(sleeper);
+        this.strategy = requireNonNull(strategy);
+        this.statistics = statistics;
+        this.callSite = requireNonNull(callSite);
+        this.clock = requireNonNull(clock);
+        this.timeout = requireNonNull(timeout);
+    }
+
+    @Override
+    public FluentWait<WebDriver> withTimeout(Duration timeout) {
+        this.timeout = requireNonNull(timeout);
+        return super.withTimeout(timeout);
+    }
+
+    @Override
+    public FluentWait<WebDriver> pollingEvery(Duration interval) {
+        // the super constructor sets the default interval before the sleeper is assigned, it's not an override
+        if (sleeper != null) {
+            sleeper.setFixedInterval(requireNonNull(interval));
+        }
+        return super.pollingEvery(interval);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long start = clock.millis();
+        sleeper.start(start + timeout.toMillis());
+        boolean satisfied = false;
+        try {
+            V result = super.until(isTrue);
+            satisfied = true;
+            return result;
+        } finally {
+            Duration elapsed = Duration.ofMillis(Math.max(0L, clock.millis() - start));
+            strategy.record(callSite, elapsed, satisfied);
+            if (statistics != null) {
+                statistics.record(callSite, elapsed, satisfied);
+            }
+        }
+    }
+
+    /**
+     * Gets the call site which creates the wait.
+     *
+     * @return the call site which creates the wait
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * Gets the polling strategy.
+     *
+     * @return the polling strategy
+     */
+    public PollingStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Resolves the call site as the first stack frame outside the waits, the {@link ComponentWebDriver}
+     * implementations and the selenium / JDK classes.
+     *
+     * @return the resolved call site in format of {@code className.methodName:lineNumber}
+     */
+    static String resolveCallSite() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                .walk(frames -> frames.filter(PollingWebDriverWait::isCallSite)
+                        .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":"
+                                + frame.getLineNumber()).findFirst().orElse("unknown"));
+    }
+
+    private static boolean isCallSite(StackWalker.StackFrame frame) {
+        Class<?> clazz = frame.getDeclaringClass();
+        String className = frame.getClassName();
+        return !PollingWebDriverWait.class.isAssignableFrom(clazz) && clazz != BrowserWait.class
+                && !ComponentWebDriver.class.isAssignableFrom(clazz) && !className.startsWith("org.openqa.selenium.")
+                && !className.startsWith("java.") && !className.startsWith("jdk.");
+    }
+
+    private static class StrategySleeper implements Sleeper {
+
+        private final PollingStrategy strategy;
+        private final String callSite;
+        private final Clock clock;
+        private final Sleeper delegate;
+        @Nullable
+        private Duration fixedInterval;
+        private int attempt;
+        private long deadline = Long.MAX_VALUE;
+
+        StrategySleeper(PollingStrategy strategy, String callSite, Clock clock, Sleeper delegate) {
+            this.strategy = requireNonNull(strategy);
+            this.callSite = requireNonNull(callSite);
+            this.clock = requireNonNull(clock);
+            this.delegate = requireNonNull(delegate);
+        }
+
+        void setFixedInterval(Duration fixedInterval) {
+            this.fixedInterval = fixedInterval;
+        }
+
+        void start(long deadline) {
+            this.attempt = 0;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            attempt++;
+            // at least 1 millisecond, so the wait always makes progress towards its timeout
+            long remaining = Math.max(1L, deadline - clock.millis());
+            Duration next = fixedInterval != null ? fixedInterval : strategy.nextDelay(callSite, attempt);
+            long delay = Math.min(next.toMillis(), remaining);
+            delegate.sleep(Duration.ofMillis(delay));
+        }
+    }
+}
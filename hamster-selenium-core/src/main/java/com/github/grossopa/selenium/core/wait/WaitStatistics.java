@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import com.github.grossopa.selenium.core.util.LatencyHistogram;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the latency histograms of the waits per call site, it's thread-safe.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class WaitStatistics {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+
+    /**
+     * Records the completion of a wait.
+     *
+     * @param callSite the call site which creates the wait
+     * @param elapsed the elapsed time of the wait
+     * @param satisfied true if the condition holds, false if the wait is timed out or failed
+     */
+    public void record(String callSite, Duration elapsed, boolean satisfied) {
+        histograms.computeIfAbsent(callSite, key -> new LatencyHistogram()).record(elapsed);
+        if (!satisfied) {
+            failures.computeIfAbsent(callSite, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the latency histogram of given call site, includes both the satisfied and the failed waits.
+     *
+     * @param callSite the call site
+     * @return the latency histogram, or null if no wait recorded
+     */
+    @Nullable
+    public LatencyHistogram getHistogram(String callSite) {
+        return histograms.get(callSite);
+    }
+
+    /**
+     * Gets the number of the timed out or failed waits of given call site.
+     *
+     * @param callSite the call site
+     * @return the number of the timed out or failed waits
+     */
+    public long getFailureCount(String callSite) {
+        AtomicLong counter = failures.get(callSite);
+        return counter == null ? 0L : counter.get();
+    }
+
+    /**
+     * Gets the sorted call sites which have recorded waits.
+     *
+     * @return the sorted call sites
+     */
+    public Set<String> getCallSites() {
+        return new TreeSet<>(histograms.keySet());
+    }
+
+    /**
+     * Clears all the recorded waits.
+     */
+    public void reset() {
+        histograms.clear();
+        failures.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("WaitStatistics{");
+        for (String callSite : getCallSites()) {
+            sb.append(System.lineSeparator()).append("  ").append(callSite).append(" failures=")
+                    .append(getFailureCount(callSite)).append(' ').append(histograms.get(callSite));
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core;
+
+import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link DefaultAsyncComponentWebDriver}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class DefaultAsyncComponentWebDriverTest {
+
+    DefaultAsyncComponentWebDriver testSubject;
+    ComponentWebDriver driver = mock(ComponentWebDriver.class);
+    WebElement element = mock(WebElement.class);
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new DefaultAsyncComponentWebDriver(driver);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testSubject.close();
+    }
+
+    @Test
+    void constructorInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new DefaultAsyncComponentWebDriver(driver, 0));
+    }
+
+    @Test
+    void getDriver() {
+        assertEquals(driver, testSubject.getDriver());
+    }
+
+    @Test
+    void findComponent() {
+        WebComponent component = mock(WebComponent.class);
+        when(driver.findComponent(By.id("abc"))).thenReturn(component);
+        assertEquals(component, testSubject.findComponent(By.id("abc")).join());
+    }
+
+    @Test
+    void findComponentNotFound() {
+        when(driver.findComponent(By.id("abc"))).thenThrow(new NoSuchElementException("not found"));
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> testSubject.findComponent(By.id("abc")).join());
+        assertInstanceOf(NoSuchElementException.class, exception.getCause());
+    }
+
+    @Test
+    void findComponents() {
+        List<WebComponent> components = newArrayList(mock(WebComponent.class));
+        when(driver.findComponents(By.id("abc"))).thenReturn(components);
+        assertEquals(components, testSubject.findComponents(By.id("abc")).join());
+    }
+
+    @Test
+    void findComponentsWithState() {
+        List<WebComponentSnapshot> snapshots = newArrayList(mock(WebComponentSnapshot.class));
+        when(driver.findComponentsWithState(By.id("abc"), "value")).thenReturn(snapshots);
+        assertEquals(snapshots, testSubject.findComponentsWithState(By.id("abc"), "value").join());
+    }
+
+    @Test
+    void reads() {
+        when(element.getText()).thenReturn("text");
+        when(element.getDomAttribute("a")).thenReturn("1");
+        when(element.getDomProperty("b")).thenReturn("2");
+        when(element.isDisplayed()).thenReturn(true);
+        assertEquals("text", testSubject.getText(element).join());
+        assertEquals("1", testSubject.getDomAttribute(element, "a").join());
+        assertEquals("2", testSubject.getDomProperty(element, "b").join());
+        assertTrue(testSubject.isDisplayed(element).join());
+    }
+
+    @Test
+    void executeScript() {
+        when(driver.executeScript("abc", 1, 2)).thenReturn("result");
+        assertEquals("result", testSubject.executeScript("abc", 1, 2).join());
+    }
+
+    @Test
+    void readAll() {
+        List<WebElement> elements = newArrayList();
+        for (int i = 0; i < 20; i++) {
+            WebElement e = mock(WebElement.class);
+            when(e.getText()).thenReturn("text" + i);
+            elements.add(e);
+        }
+        List<String> result = testSubject.readAll(elements, WebElement::getText).join();
+        assertEquals(20, result.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("text" + i, result.get(i));
+        }
+    }
+
+    @Test
+    void readAllEmpty() {
+        assertTrue(testSubject.readAll(newArrayList(), Object::toString).join().isEmpty());
+    }
+
+    @Test
+    void commandsInFlightTogether() throws InterruptedException, ExecutionException {
+        CountDownLatch latch = new CountDownLatch(2);
+        when(driver.executeScript("abc")).then(a -> {
+            latch.countDown();
+            // every command waits for the other one, which only completes when both are in flight
+            return latch.await(5, TimeUnit.SECONDS);
+        });
+        CompletableFuture<Object> future1 = testSubject.executeScript("abc");
+        CompletableFuture<Object> future2 = testSubject.executeScript("abc");
+        assertEquals(true, future1.get());
+        assertEquals(true, future2.get());
+    }
+
+    @Test
+    void customExecutor() {
+        DefaultAsyncComponentWebDriver subject = new DefaultAsyncComponentWebDriver(driver, Runnable::run);
+        when(driver.getTitle()).thenReturn("title");
+        CompletableFuture<String> future = subject.submit(ComponentWebDriver::getTitle);
+        assertTrue(future.isDone());
+        assertEquals("title", future.join());
+        subject.close();
+        assertEquals("title", subject.submit(ComponentWebDriver::getTitle).join());
+    }
+
+    @Test
+    void close() {
+        testSubject.close();
+        assertThrows(RuntimeException.class, () -> testSubject.submit(ComponentWebDriver::getTitle));
+    }
+
+    @Test
+    void testToString() {
+        DefaultAsyncComponentWebDriver subject = new DefaultAsyncComponentWebDriver(driver, Runnable::run);
+        when(driver.toString()).thenReturn("driver");
+        assertTrue(subject.toString().startsWith("DefaultAsyncComponentWebDriver{driver=driver, executor="));
+    }
+}
@@ -24,20 +24,36 @@
 
 package com.github.grossopa.selenium.core;
 
+import com.github.grossopa.selenium.core.batch.BatchValue;
+import com.github.grossopa.selenium.core.component.ComponentLookupCache;
 import com.github.grossopa.selenium.core.component.DefaultWebComponent;
+import com.github.grossopa.selenium.core.component.StaleElementRelocator;
 import com.github.grossopa.selenium.core.component.WebComponent;
+import com.github.grossopa.selenium.core.component.WebComponentSnapshot;
 import com.github.grossopa.selenium.core.element.WebElementDecorator;
 import com.github.grossopa.selenium.core.util.GracefulThreadSleep;
+import com.github.grossopa.selenium.core.wait.AdaptivePollingStrategy;
+import com.github.grossopa.selenium.core.wait.BrowserWait;
+import com.github.grossopa.selenium.core.wait.FixedPollingStrategy;
+import com.github.grossopa.selenium.core.wait.PollingWebDriverWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -81,6 +97,213 @@ class DefaultComponentWebDriverTest {
         assertEquals(mockElement1, component.getWrappedElement());
     }
 
+    @Test
+    void findComponentWithStaleElementRelocator() {
+        StaleElementRelocator relocator = new StaleElementRelocator();
+        testSubject.setStaleElementRelocator(relocator);
+        assertSame(relocator, testSubject.getStaleElementRelocator());
+
+        WebElement mockElement1 = mock(WebElement.class);
+        WebElement mockElement2 = mock(WebElement.class);
+        when(driver.findElement(By.id("some"))).thenReturn(mockElement1, mockElement2);
+        when(mockElement1.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        when(mockElement2.getText()).thenReturn("text");
+
+        assertEquals("text", testSubject.findComponent(By.id("some")).getText());
+        assertEquals(1L, relocator.getRelocatedCount());
+    }
+
+    @Test
+    void findComponentsWithStaleElementRelocator() {
+        StaleElementRelocator relocator = new StaleElementRelocator();
+        testSubject.setStaleElementRelocator(relocator);
+
+        WebElement mockElement1 = mock(WebElement.class);
+        WebElement mockElement2 = mock(WebElement.class);
+        WebElement mockElement3 = mock(WebElement.class);
+        when(driver.findElements(By.id("some"))).thenReturn(Arrays.asList(mockElement1, mockElement2),
+                Arrays.asList(mockElement3, mockElement2));
+        when(mockElement1.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        when(mockElement3.getText()).thenReturn("text");
+
+        List<WebComponent> components = testSubject.findComponents(By.id("some"));
+        assertEquals(2, components.size());
+        assertEquals("text", components.get(0).getText());
+        assertEquals(1L, relocator.getRelocatedCount());
+    }
+
+    @Test
+    void findComponentWithLookupCache() {
+        ComponentLookupCache cache = new ComponentLookupCache();
+        testSubject.setLookupCache(cache);
+        assertEquals(cache, testSubject.getLookupCache());
+        WebElement mockElement1 = mock(WebElement.class);
+        when(driver.findElement(By.id("some"))).thenReturn(mockElement1);
+        assertEquals(mockElement1, testSubject.findComponent(By.id("some")).getWrappedElement());
+        assertEquals(mockElement1, testSubject.findComponent(By.id("some")).getWrappedElement());
+        verify(driver, times(1)).findElement(By.id("some"));
+    }
+
+    @Test
+    void findComponentsWithLookupCache() {
+        testSubject.setLookupCache(new ComponentLookupCache());
+        WebElement mockElement1 = mock(WebElement.class);
+        when(driver.findElements(By.id("some"))).thenReturn(newArrayList(mockElement1));
+        assertEquals(1, testSubject.findComponents(By.id("some")).size());
+        assertEquals(1, testSubject.findComponents(By.id("some")).size());
+        verify(driver, times(1)).findElements(By.id("some"));
+    }
+
+    @Test
+    void lookupCacheInvalidated() {
+        ComponentLookupCache cache = new ComponentLookupCache();
+        testSubject.setLookupCache(cache);
+        WebElement mockElement1 = mock(WebElement.class);
+        when(driver.findElement(By.id("some"))).thenReturn(mockElement1);
+
+        List<Runnable> changes = newArrayList(() -> testSubject.get("url"), () -> testSubject.navigate(),
+                () -> testSubject.switchTo(), () -> testSubject.close(), () -> testSubject.executeScript("abc"),
+                () -> testSubject.executeAsyncScript("abc"), () -> testSubject.perform(emptyList()));
+        for (Runnable change : changes) {
+            testSubject.findComponent(By.id("some"));
+            assertEquals(1, cache.size());
+            change.run();
+            assertEquals(0, cache.size());
+        }
+        verify(driver, times(changes.size())).findElement(By.id("some"));
+    }
+
+    @Test
+    void attributeMemoInMillis() {
+        assertEquals(0L, testSubject.getAttributeMemoInMillis());
+        testSubject.setAttributeMemoInMillis(200L);
+        assertEquals(200L, testSubject.getAttributeMemoInMillis());
+        testSubject.setAttributeMemoInMillis(-1L);
+        assertEquals(0L, testSubject.getAttributeMemoInMillis());
+    }
+
+    @Test
+    void notifyPageChanged() {
+        assertEquals(0L, testSubject.getPageGeneration());
+        testSubject.notifyPageChanged();
+        testSubject.get("url");
+        testSubject.executeScript("abc");
+        assertEquals(3L, testSubject.getPageGeneration());
+    }
+
+    @Test
+    void lookupCacheDisabled() {
+        assertNull(testSubject.getLookupCache());
+        when(driver.findElement(By.id("some"))).thenReturn(mock(WebElement.class));
+        testSubject.get("url");
+        testSubject.executeScript("abc");
+        testSubject.findComponent(By.id("some"));
+        testSubject.findComponent(By.id("some"));
+        verify(driver, times(2)).findElement(By.id("some"));
+    }
+
+    @Test
+    void createBrowserWait() {
+        assertEquals(1000L, testSubject.createBrowserWait(1000L).getWaitInMilliseconds());
+    }
+
+    @Test
+    void ensureScriptTimeout() {
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+        when(driver.manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        when(timeouts.getScriptTimeout()).thenReturn(Duration.ofSeconds(2));
+
+        testSubject.ensureScriptTimeout(Duration.ofSeconds(1));
+        testSubject.ensureScriptTimeout(Duration.ofSeconds(3));
+        testSubject.ensureScriptTimeout(Duration.ofSeconds(3));
+        testSubject.ensureScriptTimeout(Duration.ofSeconds(2));
+        verify(timeouts, times(1)).getScriptTimeout();
+        verify(timeouts, times(1)).scriptTimeout(any());
+        verify(timeouts).scriptTimeout(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void ensureScriptTimeoutUnlimited() {
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+        when(driver.manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        when(timeouts.getScriptTimeout()).thenReturn(null);
+
+        testSubject.ensureScriptTimeout(Duration.ofSeconds(3));
+        testSubject.ensureScriptTimeout(Duration.ofSeconds(5));
+        verify(timeouts, times(1)).getScriptTimeout();
+        verify(timeouts, never()).scriptTimeout(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batch() {
+        WebElement element = mock(WebElement.class);
+        when(driver.executeScript(anyString(), any(), any())).thenReturn(List.of("abc", 3L));
+        BatchValue<String>[] text = new BatchValue[1];
+        BatchValue<Integer>[] childCount = new BatchValue[1];
+        testSubject.batch(batch -> {
+            text[0] = batch.text(element);
+            childCount[0] = batch.childCount(element);
+        });
+        assertEquals("abc", text[0].get());
+        assertEquals(3, childCount[0].get());
+        verify(driver, times(1)).executeScript(anyString(), any(), any());
+        assertEquals(0L, testSubject.getPageGeneration());
+    }
+
+    @Test
+    void waitUntilSettled() {
+        BrowserWait browserWait = mock(BrowserWait.class);
+        WebElement element = mock(WebElement.class);
+        DefaultComponentWebDriver spy = spy(testSubject);
+        doReturn(browserWait).when(spy).createBrowserWait(100L);
+        assertTrue(spy.waitUntilSettled(element, 100L));
+        verify(browserWait, only()).untilSettled(element);
+        verify(spy, never()).threadSleep(anyLong());
+    }
+
+    @Test
+    void waitUntilSettledZero() {
+        DefaultComponentWebDriver spy = spy(testSubject);
+        assertTrue(spy.waitUntilSettled(null, 0L));
+        verify(spy, never()).createBrowserWait(anyLong());
+    }
+
+    @Test
+    void waitUntilSettledTimeout() {
+        BrowserWait browserWait = mock(BrowserWait.class);
+        DefaultComponentWebDriver spy = spy(testSubject);
+        doReturn(browserWait).when(spy).createBrowserWait(100L);
+        doThrow(new TimeoutException("timeout")).when(browserWait).untilSettled(null);
+        assertFalse(spy.waitUntilSettled(null, 100L));
+        verify(spy, never()).threadSleep(anyLong());
+    }
+
+    @Test
+    void waitUntilSettledNotSupported() {
+        BrowserWait browserWait = mock(BrowserWait.class);
+        DefaultComponentWebDriver spy = spy(testSubject);
+        doReturn(browserWait).when(spy).createBrowserWait(100L);
+        doThrow(new UnsupportedCommandException("not supported")).when(browserWait).untilSettled(null);
+        doNothing().when(spy).threadSleep(100L);
+        assertFalse(spy.waitUntilSettled(null, 100L));
+        verify(spy, times(1)).threadSleep(100L);
+    }
+
+    @Test
+    void waitUntilSettledError() {
+        BrowserWait browserWait = mock(BrowserWait.class);
+        DefaultComponentWebDriver spy = spy(testSubject);
+        doReturn(browserWait).when(spy).createBrowserWait(100L);
+        doThrow(new WebDriverException("session deleted")).when(browserWait).untilSettled(null);
+        assertThrows(WebDriverException.class, () -> spy.waitUntilSettled(null, 100L));
+        verify(spy, never()).threadSleep(anyLong());
+    }
+
     @Test
     void get() {
         testSubject.get("some-url");
@@ -190,6 +413,31 @@ class DefaultComponentWebDriverTest {
         verify(driver, only()).executeAsyncScript("abc");
     }
 
+    @Test
+    void executeReadOnlyScript() {
+        when(driver.executeScript("abc", "d")).thenReturn("result");
+        assertEquals("result", testSubject.executeReadOnlyScript("abc", "d"));
+        verify(driver, only()).executeScript("abc", "d");
+        assertEquals(0L, testSubject.getPageGeneration());
+    }
+
+    @Test
+    void executeReadOnlyAsyncScript() {
+        when(driver.executeAsyncScript("abc", "d")).thenReturn("result");
+        assertEquals("result", testSubject.executeReadOnlyAsyncScript("abc", "d"));
+        verify(driver, only()).executeAsyncScript("abc", "d");
+        assertEquals(0L, testSubject.getPageGeneration());
+    }
+
+    @Test
+    void executeReadOnlyScriptDefault() {
+        ComponentWebDriver componentDriver = mock(ComponentWebDriver.class, CALLS_REAL_METHODS);
+        doReturn("result").when(componentDriver).executeScript("abc", "d");
+        doReturn("async").when(componentDriver).executeAsyncScript("abc", "d");
+        assertEquals("result", componentDriver.executeReadOnlyScript("abc", "d"));
+        assertEquals("async", componentDriver.executeReadOnlyAsyncScript("abc", "d"));
+    }
+
     @Test
     void getScreenshotAs() {
         testSubject.getScreenshotAs(OutputType.BASE64);
@@ -238,6 +486,79 @@ class DefaultComponentWebDriverTest {
         assertNotNull(wait);
     }
 
+    @Test
+    void createWaitWithPollingStrategy() {
+        AdaptivePollingStrategy strategy = new AdaptivePollingStrategy();
+        testSubject.setPollingStrategy(strategy);
+        assertSame(strategy, testSubject.getPollingStrategy());
+        PollingWebDriverWait wait = (PollingWebDriverWait) testSubject.createWait(100L);
+        assertSame(strategy, wait.getStrategy());
+        assertTrue(wait.getCallSite().contains("DefaultComponentWebDriverTest.createWaitWithPollingStrategy"));
+        assertEquals(Boolean.TRUE, wait.until(d -> true));
+        assertEquals(1L, testSubject.getWaitStatistics().getHistogram(wait.getCallSite()).getCount());
+    }
+
+    @Test
+    void createWaitBypassingAttributeMemo() {
+        testSubject.setAttributeMemoInMillis(60_000L);
+        testSubject.setPollingStrategy(new AdaptivePollingStrategy());
+        PollingWebDriverWait wait = (PollingWebDriverWait) testSubject.createWait(100L);
+        assertTrue(wait.getCallSite().contains("DefaultComponentWebDriverTest.createWaitBypassingAttributeMemo"));
+        assertFalse(testSubject.isAttributeMemoBypassed());
+        assertEquals(Boolean.TRUE, wait.until(d -> testSubject.isAttributeMemoBypassed()));
+        assertFalse(testSubject.isAttributeMemoBypassed());
+        assertEquals(1L, testSubject.getWaitStatistics().getHistogram(wait.getCallSite()).getCount());
+    }
+
+    @Test
+    void createWaitBypassingLookupCache() {
+        ComponentLookupCache cache = new ComponentLookupCache();
+        testSubject.setLookupCache(cache);
+        WebElement element = mock(WebElement.class);
+        when(driver.findElements(By.id("panel"))).thenReturn(emptyList(), emptyList(), List.of(element));
+        PollingWebDriverWait wait = (PollingWebDriverWait) testSubject.createWait(5000L);
+        List<WebComponent> found = wait.until(d -> {
+            assertTrue(cache.isBypassed());
+            List<WebComponent> components = testSubject.findComponents(By.id("panel"));
+            return components.isEmpty() ? null : components;
+        });
+        assertEquals(1, found.size());
+        assertFalse(cache.isBypassed());
+        verify(driver, times(3)).findElements(By.id("panel"));
+        assertEquals(1, testSubject.findComponents(By.id("panel")).size());
+        verify(driver, times(3)).findElements(By.id("panel"));
+    }
+
+    @Test
+    void withoutAttributeMemo() {
+        assertFalse(testSubject.isAttributeMemoBypassed());
+        assertEquals("result", testSubject.withoutAttributeMemo(() -> {
+            assertTrue(testSubject.isAttributeMemoBypassed());
+            testSubject.withoutAttributeMemo(() -> null);
+            assertTrue(testSubject.isAttributeMemoBypassed());
+            return "result";
+        }));
+        assertFalse(testSubject.isAttributeMemoBypassed());
+    }
+
+    @Test
+    void withoutAttributeMemoException() {
+        assertThrows(IllegalStateException.class, () -> testSubject.withoutAttributeMemo(() -> {
+            throw new IllegalStateException();
+        }));
+        assertFalse(testSubject.isAttributeMemoBypassed());
+    }
+
+    @Test
+    void setPollingStrategyNull() {
+        assertThrows(NullPointerException.class, () -> testSubject.setPollingStrategy(null));
+    }
+
+    @Test
+    void defaultPollingStrategy() {
+        assertEquals(FixedPollingStrategy.class, testSubject.getPollingStrategy().getClass());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void findComponentsAs() {
@@ -291,4 +612,62 @@ class DefaultComponentWebDriverTest {
     }
 
 
+
+    Map<String, Object> createState(String tagName) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("tagName", tagName);
+        state.put("classes", newArrayList("some-class"));
+        state.put("displayed", true);
+        state.put("attributes", Map.of("aria-label", "label"));
+        return state;
+    }
+
+    @Test
+    void findComponentsWithState() {
+        WebElement element1 = mock(WebElement.class);
+        WebElement element2 = mock(WebElement.class);
+        when(driver.executeScript(anyString(), eq("css selector"), eq(".some-class"), eq(List.of("aria-label"))))
+                .thenReturn(newArrayList(Map.of("element", element1, "state", createState("div")),
+                        Map.of("element", element2, "state", createState("span"))));
+
+        List<WebComponentSnapshot> result = testSubject.findComponentsWithState(By.cssSelector(".some-class"),
+                "aria-label");
+        assertEquals(2, result.size());
+        assertEquals(element1, result.get(0).getComponent().getWrappedElement());
+        assertEquals("div", result.get(0).getTagName());
+        assertEquals(element2, result.get(1).getComponent().getWrappedElement());
+        assertEquals("span", result.get(1).getTagName());
+        assertTrue(result.get(1).isDisplayed());
+        assertEquals("label", result.get(1).getAttribute("aria-label"));
+        verify(driver, only()).executeScript(anyString(), any(), any(), any());
+        assertEquals(0L, testSubject.getPageGeneration());
+    }
+
+    @Test
+    void findComponentsWithStateNullResult() {
+        assertTrue(testSubject.findComponentsWithState(By.xpath("//div")).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findComponentsWithStateCustomizedLocator() {
+        By by = mock(By.class);
+        WebElement element1 = mock(WebElement.class);
+        when(driver.findElements(by)).thenReturn(newArrayList(element1));
+        when(driver.executeScript(anyString(), any(List.class), any(List.class))).thenReturn(
+                newArrayList(createState("li")));
+
+        List<WebComponentSnapshot> result = testSubject.findComponentsWithState(by);
+        assertEquals(1, result.size());
+        assertEquals(element1, result.get(0).getComponent().getWrappedElement());
+        assertEquals("li", result.get(0).getTagName());
+    }
+
+    @Test
+    void findComponentsWithStateCustomizedLocatorNotFound() {
+        By by = mock(By.class);
+        when(driver.findElements(by)).thenReturn(emptyList());
+        assertTrue(testSubject.findComponentsWithState(by).isEmpty());
+        verify(driver, never()).executeScript(anyString(), any());
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.batch;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link BatchBuilder}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class BatchBuilderTest {
+
+    BatchBuilder testSubject = new BatchBuilder();
+    JavascriptExecutor executor = mock(JavascriptExecutor.class);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+
+    @Test
+    void execute() {
+        BatchValue<String> text = testSubject.text(element1);
+        BatchValue<String> attribute = testSubject.domAttribute(element1, "class");
+        BatchValue<String> property = testSubject.domProperty(element2, "value");
+        BatchValue<Rectangle> rect = testSubject.rect(element2);
+        BatchValue<Boolean> displayed = testSubject.displayed(element1);
+        BatchValue<Integer> childCount = testSubject.childCount(element2);
+        BatchValue<String> tagName = testSubject.tagName(element1);
+        assertEquals(7, testSubject.size());
+        assertFalse(text.isResolved());
+
+        when(executor.executeScript(contains(BatchBuilder.BATCH_FUNCTION), eq(List.of(element1, element2)),
+                eq(List.of(Arrays.asList("text", 0, null), List.of("domAttribute", 0, "class"),
+                        List.of("domProperty", 1, "value"), Arrays.asList("rect", 1, null),
+                        Arrays.asList("displayed", 0, null), Arrays.asList("childCount", 1, null),
+                        Arrays.asList("tagName", 0, null))))).thenReturn(
+                Arrays.asList("abc", null, "123", Map.of("x", 1.4d, "y", 2L, "width", 3.6d, "height", 4L), true, 5L,
+                        "div"));
+        testSubject.execute(executor);
+
+        assertTrue(text.isResolved());
+        assertEquals("abc", text.get());
+        assertNull(attribute.get());
+        assertEquals("123", property.get());
+        assertEquals(new Rectangle(1, 2, 4, 4), rect.get());
+        assertEquals(true, displayed.get());
+        assertEquals(5, childCount.get());
+        assertEquals("div", tagName.get());
+    }
+
+    @Test
+    void executeEmpty() {
+        testSubject.execute(executor);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void executeTwice() {
+        testSubject.execute(executor);
+        assertThrows(IllegalStateException.class, () -> testSubject.execute(executor));
+        assertThrows(IllegalStateException.class, () -> testSubject.text(element1));
+    }
+
+    @Test
+    void executeSizeMismatch() {
+        testSubject.text(element1);
+        testSubject.text(element2);
+        when(executor.executeScript(anyString(), any(), any())).thenReturn(List.of("abc"));
+        assertThrows(WebDriverException.class, () -> testSubject.execute(executor));
+    }
+
+    @Test
+    void executeNullResult() {
+        testSubject.text(element1);
+        assertThrows(WebDriverException.class, () -> testSubject.execute(executor));
+    }
+
+    @Test
+    void getBeforeExecute() {
+        BatchValue<String> text = testSubject.text(element1);
+        assertThrows(IllegalStateException.class, text::get);
+        assertEquals("BatchValue{unresolved}", text.toString());
+    }
+
+    @Test
+    void convertNulls() {
+        BatchValue<String> text = testSubject.text(element1);
+        BatchValue<Rectangle> rect = testSubject.rect(element1);
+        BatchValue<Integer> childCount = testSubject.childCount(element1);
+        BatchValue<Boolean> displayed = testSubject.displayed(element1);
+        when(executor.executeScript(anyString(), any(), any())).thenReturn(Arrays.asList(null, null, null, null));
+        testSubject.execute(executor);
+        assertEquals("", text.get());
+        assertEquals(new Rectangle(0, 0, 0, 0), rect.get());
+        assertEquals(0, childCount.get());
+        assertEquals(false, displayed.get());
+        assertEquals("BatchValue{value=}", text.toString());
+    }
+
+    @Test
+    void testToString() {
+        testSubject.text(element1);
+        testSubject.text(element1);
+        assertEquals("BatchBuilder{elements=1, reads=2, executed=false}", testSubject.toString());
+    }
+}
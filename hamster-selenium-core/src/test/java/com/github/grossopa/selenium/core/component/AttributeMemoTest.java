@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AttributeMemo}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class AttributeMemoTest {
+
+    AttributeMemo testSubject;
+    WebElement element = mock(WebElement.class);
+    ComponentWebDriver wrappedDriver = mock(ComponentWebDriver.class);
+    DefaultComponentWebDriver driver;
+    Map<String, Object> attributes = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        driver = new DefaultComponentWebDriver(wrappedDriver);
+        driver.setAttributeMemoInMillis(60_000L);
+        attributes.put("class", "a b");
+        attributes.put("disabled", "");
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(-1L))).thenReturn(result(0L, attributes));
+        testSubject = new AttributeMemo(element, driver);
+    }
+
+    @Test
+    void getDomAttribute() {
+        assertEquals("a b", testSubject.getDomAttribute("class"));
+        assertEquals("a b", testSubject.getDomAttribute("CLASS"));
+        assertEquals("true", testSubject.getDomAttribute("disabled"));
+        assertNull(testSubject.getDomAttribute("id"));
+        verify(wrappedDriver, times(1)).executeScript(anyString(), any(), any());
+        verify(element, never()).getDomAttribute(anyString());
+    }
+
+    @Test
+    void getDomAttributeUnchangedAfterPageChanged() {
+        testSubject.getDomAttribute("class");
+        driver.notifyPageChanged();
+        assertEquals("a b", testSubject.getDomAttribute("class"));
+        verify(wrappedDriver, times(1)).executeScript(anyString(), eq(element), eq(0L));
+    }
+
+    @Test
+    void getDomAttributeChangedAfterPageChanged() {
+        testSubject.getDomAttribute("class");
+        driver.notifyPageChanged();
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(0L)))
+                .thenReturn(result(1L, Map.of("class", "c")));
+        assertEquals("c", testSubject.getDomAttribute("class"));
+        assertNull(testSubject.getDomAttribute("disabled"));
+    }
+
+    @Test
+    void getDomAttributeExpired() {
+        driver.setAttributeMemoInMillis(1L);
+        testSubject.getDomAttribute("class");
+        driver.threadSleep(5L);
+        testSubject.getDomAttribute("class");
+        verify(wrappedDriver, times(1)).executeScript(anyString(), eq(element), eq(0L));
+    }
+
+    @Test
+    void getDomAttributeNullResult() {
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(-1L))).thenReturn(null);
+        assertNull(testSubject.getDomAttribute("class"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getDomProperty() {
+        Function<String, String> loader = mock(Function.class);
+        when(loader.apply("value")).thenReturn("abc");
+        assertEquals("abc", testSubject.getDomProperty("value", loader));
+        assertEquals("abc", testSubject.getDomProperty("value", loader));
+        assertNull(testSubject.getDomProperty("other", loader));
+        assertNull(testSubject.getDomProperty("other", loader));
+        verify(loader, times(1)).apply("value");
+        verify(loader, times(1)).apply("other");
+
+        // properties are not observable, always reloaded after validation
+        driver.notifyPageChanged();
+        assertEquals("abc", testSubject.getDomProperty("value", loader));
+        verify(loader, times(2)).apply("value");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getCssValue() {
+        Function<String, String> loader = mock(Function.class);
+        when(loader.apply("color")).thenReturn("red");
+        assertEquals("red", testSubject.getCssValue("color", loader));
+        assertEquals("red", testSubject.getCssValue("color", loader));
+        verify(loader, times(1)).apply("color");
+    }
+
+    @Test
+    void getTagName() {
+        when(element.getTagName()).thenReturn("div");
+        assertEquals("div", testSubject.getTagName(WebElement::getTagName));
+        driver.notifyPageChanged();
+        assertEquals("div", testSubject.getTagName(WebElement::getTagName));
+        verify(element, times(1)).getTagName();
+        verify(wrappedDriver, never()).executeScript(anyString(), any(), any());
+    }
+
+    @Test
+    void clear() {
+        testSubject.getDomAttribute("class");
+        testSubject.clear();
+        testSubject.getDomAttribute("class");
+        verify(wrappedDriver, times(2)).executeScript(anyString(), eq(element), eq(-1L));
+    }
+
+    @Test
+    void getDomAttributeBypassed() {
+        testSubject.getDomAttribute("class");
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(0L)))
+                .thenReturn(result(1L, Map.of("class", "c")));
+        assertEquals("a b", testSubject.getDomAttribute("class"));
+        assertEquals("c", driver.withoutAttributeMemo(() -> testSubject.getDomAttribute("class")));
+        // the memo is refreshed by the bypassed read
+        assertEquals("c", testSubject.getDomAttribute("class"));
+        verify(wrappedDriver, times(1)).executeScript(anyString(), eq(element), eq(0L));
+    }
+
+    @Test
+    void memosOfSameElementSeeChangesIndependently() {
+        // emulates the per-element version in the browser
+        AtomicLong version = new AtomicLong();
+        Map<String, Object> browserAttributes = new HashMap<>(Map.of("class", "a"));
+        when(wrappedDriver.executeScript(anyString(), eq(element), anyLong())).thenAnswer(invocation -> {
+            long seen = invocation.getArgument(2);
+            return seen == version.get() ? null : result(version.get(), new HashMap<>(browserAttributes));
+        });
+        AttributeMemo other = new AttributeMemo(element, driver);
+        assertEquals("a", testSubject.getDomAttribute("class"));
+        assertEquals("a", other.getDomAttribute("class"));
+
+        browserAttributes.put("class", "b");
+        version.incrementAndGet();
+        driver.notifyPageChanged();
+        assertEquals("b", testSubject.getDomAttribute("class"));
+        assertEquals("b", other.getDomAttribute("class"));
+        driver.notifyPageChanged();
+        assertEquals("b", other.getDomAttribute("class"));
+        assertEquals("b", testSubject.getDomAttribute("class"));
+    }
+
+    @Test
+    void checkFunctionUsesVersion() {
+        assertTrue(AttributeMemo.CHECK_FUNCTION.contains("state.version++"));
+        assertTrue(AttributeMemo.CHECK_FUNCTION.contains("state.version === seen"));
+        assertFalse(AttributeMemo.CHECK_FUNCTION.contains("dirty"));
+    }
+
+    @Test
+    void concurrentReads() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> reads = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                reads.add(() -> testSubject.getDomAttribute("class"));
+            }
+            for (Future<String> future : executor.invokeAll(reads)) {
+                assertEquals("a b", future.get());
+            }
+        } catch (ExecutionException exception) {
+            fail(exception);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(wrappedDriver, times(1)).executeScript(anyString(), any(), any());
+    }
+
+    private static Map<String, Object> result(long version, Map<String, ?> attributes) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("version", version);
+        result.put("attributes", attributes);
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ComponentLookupCache}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ComponentLookupCacheTest {
+
+    ComponentLookupCache testSubject;
+    WebComponent component1 = mock(WebComponent.class);
+    WebComponent component2 = mock(WebComponent.class);
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new ComponentLookupCache();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findComponent() {
+        Supplier<WebComponent> loader = mock(Supplier.class);
+        when(loader.get()).thenReturn(component1);
+        assertEquals(component1, testSubject.findComponent("root", By.id("abc"), loader));
+        assertEquals(component1, testSubject.findComponent("root", By.id("abc"), loader));
+        verify(loader, times(1)).get();
+        assertEquals(1L, testSubject.getHitCount());
+        assertEquals(1L, testSubject.getMissCount());
+        assertEquals(1, testSubject.size());
+    }
+
+    @Test
+    void findComponentDifferentKeys() {
+        assertEquals(component1, testSubject.findComponent("root", By.id("abc"), () -> component1));
+        assertEquals(component2, testSubject.findComponent("root", By.id("def"), () -> component2));
+        assertEquals(component2, testSubject.findComponent(null, By.id("abc"), () -> component2));
+        assertEquals(component1, testSubject.findComponent("root", By.id("abc"), () -> component2));
+        assertEquals(3, testSubject.size());
+    }
+
+    @Test
+    void findComponentNotFoundNotCached() {
+        By by = By.id("abc");
+        assertThrows(NoSuchElementException.class, () -> testSubject.findComponent(null, by, () -> {
+            throw new NoSuchElementException("not found");
+        }));
+        assertEquals(0, testSubject.size());
+        assertEquals(component1, testSubject.findComponent(null, by, () -> component1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findComponents() {
+        Supplier<List<WebComponent>> loader = mock(Supplier.class);
+        when(loader.get()).thenReturn(newArrayList(component1, component2));
+        assertEquals(newArrayList(component1, component2), testSubject.findComponents("root", By.id("abc"), loader));
+
+        List<WebComponent> cached = testSubject.findComponents("root", By.id("abc"), loader);
+        assertEquals(newArrayList(component1, component2), cached);
+        cached.clear();
+        assertEquals(2, testSubject.findComponents("root", By.id("abc"), loader).size());
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findComponentsEmptyNotCached() {
+        Supplier<List<WebComponent>> loader = mock(Supplier.class);
+        when(loader.get()).thenReturn(newArrayList(), newArrayList(component1));
+        assertTrue(testSubject.findComponents("root", By.id("abc"), loader).isEmpty());
+        assertEquals(0, testSubject.size());
+        assertEquals(newArrayList(component1), testSubject.findComponents("root", By.id("abc"), loader));
+        assertEquals(newArrayList(component1), testSubject.findComponents("root", By.id("abc"), loader));
+        verify(loader, times(2)).get();
+    }
+
+    @Test
+    void bypass() {
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        testSubject.findComponents("root", By.id("abc"), () -> newArrayList(component1));
+        assertFalse(testSubject.isBypassed());
+        testSubject.bypass(() -> {
+            assertTrue(testSubject.isBypassed());
+            assertEquals(component2, testSubject.findComponent("root", By.id("abc"), () -> component2));
+            assertEquals(newArrayList(component2), testSubject.findComponents("root", By.id("abc"),
+                    () -> newArrayList(component2)));
+            assertTrue(testSubject.bypass(testSubject::isBypassed));
+            assertTrue(testSubject.isBypassed());
+            assertTrue(testSubject.findComponents("root", By.id("abc"), ArrayList::new).isEmpty());
+            return null;
+        });
+        assertFalse(testSubject.isBypassed());
+        assertEquals(0L, testSubject.getHitCount());
+        assertEquals(component2, testSubject.findComponent("root", By.id("abc"), () -> component1));
+        assertEquals(1, testSubject.size());
+    }
+
+    @Test
+    void findComponentsSeparatedFromFindComponent() {
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        assertEquals(newArrayList(component2), testSubject.findComponents("root", By.id("abc"),
+                () -> newArrayList(component2)));
+        assertEquals(2, testSubject.size());
+    }
+
+    @Test
+    void invalidate() {
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        testSubject.invalidate();
+        assertEquals(0, testSubject.size());
+        assertEquals(component2, testSubject.findComponent("root", By.id("abc"), () -> component2));
+    }
+
+    @Test
+    void invalidateOnStale() {
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        assertThrows(StaleElementReferenceException.class, () -> testSubject.invalidateOnStale(() -> {
+            throw new StaleElementReferenceException("stale");
+        }));
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    void invalidateOnStaleOtherException() {
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        assertThrows(NoSuchElementException.class, () -> testSubject.invalidateOnStale(() -> {
+            throw new NoSuchElementException("not found");
+        }));
+        assertEquals(1, testSubject.size());
+    }
+
+    @Test
+    void invalidateOnStaleSuccess() {
+        assertEquals("abc", testSubject.invalidateOnStale(() -> "abc"));
+    }
+
+    @Test
+    void testToString() {
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        testSubject.findComponent("root", By.id("abc"), () -> component1);
+        assertEquals("ComponentLookupCache{size=1, hitCount=1, missCount=1}", testSubject.toString());
+    }
+}
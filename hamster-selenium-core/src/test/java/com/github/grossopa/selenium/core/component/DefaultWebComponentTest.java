@@ -25,6 +25,7 @@
 package com.github.grossopa.selenium.core.component;
 
 import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
 import com.github.grossopa.selenium.core.component.factory.WebComponentFactory;
 import com.github.grossopa.selenium.core.element.TextNodeElement;
 import com.github.grossopa.selenium.core.element.TextNodeType;
@@ -34,11 +35,16 @@ import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
 import org.openqa.selenium.remote.RemoteWebElement;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -87,6 +93,266 @@ class DefaultWebComponentTest {
         assertEquals(result1, result.getWrappedElement());
     }
 
+    @Test
+    void findComponentLazy() {
+        WebElement result1 = mock(WebElement.class);
+        when(driver.executeScript(anyString(), any(), any())).thenReturn(result1);
+        WebComponent result = testSubject.findComponentLazy(By.id("a")).findComponentLazy(By.className("b"));
+        verifyNoInteractions(element);
+        verify(driver, never()).executeScript(anyString(), any(), any());
+
+        when(result1.getText()).thenReturn("text");
+        assertEquals("text", result.getText());
+        assertEquals(result1, ((WrapsElement) result.getWrappedElement()).getWrappedElement());
+        verify(driver, times(1)).executeScript(LazyWebElement.RESOLVE_SCRIPT, element,
+                Arrays.asList(Arrays.asList("id", "a"), Arrays.asList("class name", "b")));
+        verify(element, never()).findElement(any());
+    }
+
+    @Test
+    void findComponentLazyDecorated() {
+        WebElement result1 = mock(WebElement.class);
+        when(driver.executeScript(anyString(), any(), any())).thenReturn(result1);
+        WebElementDecorator decorator = (original, d) -> new DefaultWebComponent(original, driver);
+        testSubject = new DefaultWebComponent(element, driver, decorator);
+        WebComponent result = testSubject.findComponentLazy(By.id("a")).findComponentLazy(By.className("b"));
+        verifyNoInteractions(element);
+
+        when(result1.getText()).thenReturn("text");
+        assertEquals("text", result.getText());
+        verify(driver, times(1)).executeScript(LazyWebElement.RESOLVE_SCRIPT, element,
+                Arrays.asList(Arrays.asList("id", "a"), Arrays.asList("class name", "b")));
+        verify(element, never()).findElement(any());
+    }
+
+    @Test
+    void findComponentLazyWithWrappedDriver() {
+        RemoteWebElement result1 = mock(RemoteWebElement.class);
+        WebDriver wrapped = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(driver.getWrappedDriver()).thenReturn(wrapped);
+        when(((JavascriptExecutor) wrapped).executeScript(anyString(), any(), any())).thenReturn(result1);
+        when(result1.getId()).thenReturn("result-1");
+
+        WebComponent result = testSubject.findComponentLazy(By.id("a")).findComponentLazy(By.id("b"));
+        assertEquals("result-1", result.getId());
+        verify(driver, never()).executeScript(anyString(), any());
+    }
+
+    @Test
+    void findComponentLazyAfterResolved() {
+        WebElement result1 = mock(WebElement.class);
+        WebElement result2 = mock(WebElement.class);
+        when(element.findElement(By.id("a"))).thenReturn(result1);
+        when(result1.findElement(By.id("b"))).thenReturn(result2);
+
+        WebComponent lazy = testSubject.findComponentLazy(By.id("a"));
+        lazy.isDisplayed();
+        WebComponent result = lazy.findComponentLazy(By.id("b"));
+        assertEquals(result2, ((WrapsElement) result.getWrappedElement()).getWrappedElement());
+        verify(driver, never()).executeScript(anyString(), any());
+    }
+
+    @Test
+    void findComponentWithLookupCache() {
+        ComponentLookupCache cache = new ComponentLookupCache();
+        DefaultComponentWebDriver cachedDriver = new DefaultComponentWebDriver(mock(ComponentWebDriver.class));
+        cachedDriver.setLookupCache(cache);
+        when(element.getId()).thenReturn("element-1");
+        testSubject = new DefaultWebComponent(element, cachedDriver);
+
+        WebElement result1 = mock(WebElement.class);
+        when(element.findElement(By.id("sss"))).thenReturn(result1);
+        when(element.findElements(By.id("sss"))).thenReturn(newArrayList(result1));
+        assertEquals(result1, testSubject.findComponent(By.id("sss")).getWrappedElement());
+        assertEquals(result1, testSubject.findComponent(By.id("sss")).getWrappedElement());
+        assertEquals(1, testSubject.findComponents(By.id("sss")).size());
+        assertEquals(1, testSubject.findComponents(By.id("sss")).size());
+        verify(element, times(1)).findElement(By.id("sss"));
+        verify(element, times(1)).findElements(By.id("sss"));
+
+        // another component with the same element id shares the cached entries
+        new DefaultWebComponent(element, cachedDriver).findComponent(By.id("sss"));
+        verify(element, times(1)).findElement(By.id("sss"));
+    }
+
+    @Test
+    void findComponentWithStaleElementRelocator() {
+        StaleElementRelocator relocator = new StaleElementRelocator();
+        DefaultComponentWebDriver healingDriver = new DefaultComponentWebDriver(mock(ComponentWebDriver.class));
+        healingDriver.setStaleElementRelocator(relocator);
+        testSubject = new DefaultWebComponent(element, healingDriver);
+
+        RemoteWebElement result1 = mock(RemoteWebElement.class);
+        RemoteWebElement result2 = mock(RemoteWebElement.class);
+        when(element.findElement(By.id("sss"))).thenReturn(result1, result2);
+        when(result1.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        when(result2.getText()).thenReturn("text");
+        when(result2.getId()).thenReturn("result-2");
+
+        WebComponent component = testSubject.findComponent(By.id("sss"));
+        assertEquals("text", component.getText());
+        assertEquals("result-2", component.getId());
+        assertEquals(1L, relocator.getRelocatedCount());
+        verify(element, times(2)).findElement(By.id("sss"));
+    }
+
+    @Test
+    void findComponentsWithStaleElementRelocator() {
+        StaleElementRelocator relocator = new StaleElementRelocator();
+        DefaultComponentWebDriver healingDriver = new DefaultComponentWebDriver(mock(ComponentWebDriver.class));
+        healingDriver.setStaleElementRelocator(relocator);
+        testSubject = new DefaultWebComponent(element, healingDriver);
+
+        WebElement result1 = mock(WebElement.class);
+        WebElement result2 = mock(WebElement.class);
+        WebElement result3 = mock(WebElement.class);
+        when(element.findElements(By.id("sss"))).thenReturn(newArrayList(result1, result2),
+                newArrayList(result1, result3));
+        when(result2.isDisplayed()).thenThrow(new StaleElementReferenceException("stale"));
+        when(result3.isDisplayed()).thenReturn(true);
+
+        List<WebComponent> components = testSubject.findComponents(By.id("sss"));
+        assertTrue(components.get(1).isDisplayed());
+        assertEquals(1L, relocator.getRelocatedCount());
+    }
+
+    @Test
+    void findComponentWithoutStaleElementRelocator() {
+        testSubject = new DefaultWebComponent(element, new DefaultComponentWebDriver(mock(ComponentWebDriver.class)));
+        WebElement result1 = mock(WebElement.class);
+        when(element.findElement(By.id("sss"))).thenReturn(result1);
+        when(result1.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        WebComponent component = testSubject.findComponent(By.id("sss"));
+        assertEquals(result1, component.getWrappedElement());
+        assertThrows(StaleElementReferenceException.class, component::getText);
+    }
+
+    @Test
+    void lookupCacheInvalidatedByChanges() {
+        ComponentLookupCache cache = new ComponentLookupCache();
+        DefaultComponentWebDriver cachedDriver = new DefaultComponentWebDriver(mock(ComponentWebDriver.class));
+        cachedDriver.setLookupCache(cache);
+        testSubject = new DefaultWebComponent(element, cachedDriver);
+        when(element.findElement(By.id("sss"))).thenReturn(mock(WebElement.class));
+
+        List<Runnable> changes = newArrayList(testSubject::click, testSubject::submit, testSubject::clear,
+                () -> testSubject.sendKeys("abc"));
+        for (Runnable change : changes) {
+            testSubject.findComponent(By.id("sss"));
+            assertEquals(1, cache.size());
+            change.run();
+            assertEquals(0, cache.size());
+        }
+        verify(element, times(1)).click();
+        verify(element, times(1)).submit();
+        verify(element, times(1)).clear();
+        verify(element, times(1)).sendKeys("abc");
+    }
+
+    @Test
+    void lookupCacheInvalidatedByStale() {
+        ComponentLookupCache cache = new ComponentLookupCache();
+        DefaultComponentWebDriver cachedDriver = new DefaultComponentWebDriver(mock(ComponentWebDriver.class));
+        cachedDriver.setLookupCache(cache);
+        testSubject = new DefaultWebComponent(element, cachedDriver);
+        when(element.findElement(By.id("sss"))).thenReturn(mock(WebElement.class));
+        when(element.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        when(element.findElements(By.id("stale"))).thenThrow(new StaleElementReferenceException("stale"));
+
+        testSubject.findComponent(By.id("sss"));
+        assertThrows(StaleElementReferenceException.class, () -> testSubject.getText());
+        assertEquals(0, cache.size());
+
+        testSubject.findComponent(By.id("sss"));
+        assertThrows(StaleElementReferenceException.class, () -> testSubject.findComponents(By.id("stale")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void readsWithLookupCache() {
+        DefaultComponentWebDriver cachedDriver = new DefaultComponentWebDriver(mock(ComponentWebDriver.class));
+        cachedDriver.setLookupCache(new ComponentLookupCache());
+        testSubject = new DefaultWebComponent(element, cachedDriver);
+        when(element.getText()).thenReturn("text");
+        when(element.getAttribute("a")).thenReturn("1");
+        when(element.getDomAttribute("b")).thenReturn("2");
+        when(element.getDomProperty("c")).thenReturn("3");
+        when(element.isDisplayed()).thenReturn(true);
+        when(element.isEnabled()).thenReturn(true);
+        when(element.isSelected()).thenReturn(true);
+        assertEquals("text", testSubject.getText());
+        assertEquals("1", testSubject.getAttribute("a"));
+        assertEquals("2", testSubject.getDomAttribute("b"));
+        assertEquals("3", testSubject.getDomProperty("c"));
+        assertTrue(testSubject.isDisplayed());
+        assertTrue(testSubject.isEnabled());
+        assertTrue(testSubject.isSelected());
+    }
+
+    @Test
+    void attributeMemo() {
+        ComponentWebDriver wrappedDriver = mock(ComponentWebDriver.class);
+        DefaultComponentWebDriver memoDriver = new DefaultComponentWebDriver(wrappedDriver);
+        memoDriver.setAttributeMemoInMillis(60_000L);
+        testSubject = new DefaultWebComponent(element, memoDriver);
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(-1L)))
+                .thenReturn(Map.of("version", 0L, "attributes", Map.of("class", "a b")));
+        when(element.getDomProperty("value")).thenReturn("abc");
+        when(element.getTagName()).thenReturn("div");
+        when(element.getCssValue("color")).thenReturn("red");
+
+        assertTrue(testSubject.attributeContains("class", "a"));
+        assertTrue(testSubject.attributeContains("class", "b"));
+        assertEquals("a b", testSubject.getDomAttribute("class"));
+        assertEquals("abc", testSubject.getDomProperty("value"));
+        assertEquals("abc", testSubject.getDomProperty("value"));
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("red", testSubject.getCssValue("color"));
+        assertEquals("red", testSubject.getCssValue("color"));
+        verify(wrappedDriver, times(1)).executeScript(anyString(), any(), any());
+        verify(element, never()).getDomAttribute(anyString());
+        verify(element, times(1)).getDomProperty("value");
+        verify(element, times(1)).getTagName();
+        verify(element, times(1)).getCssValue("color");
+
+        // clicking changes the page generation so the memo is checked again
+        testSubject.click();
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(0L)))
+                .thenReturn(Map.of("version", 1L, "attributes", Map.of("class", "c")));
+        assertFalse(testSubject.attributeContains("class", "a"));
+        assertTrue(testSubject.attributeContains("class", "c"));
+    }
+
+    @Test
+    void attributeMemoClearedByStale() {
+        ComponentWebDriver wrappedDriver = mock(ComponentWebDriver.class);
+        DefaultComponentWebDriver memoDriver = new DefaultComponentWebDriver(wrappedDriver);
+        memoDriver.setAttributeMemoInMillis(60_000L);
+        testSubject = new DefaultWebComponent(element, memoDriver);
+        when(wrappedDriver.executeScript(anyString(), eq(element), eq(-1L)))
+                .thenReturn(Map.of("version", 0L, "attributes", Map.of("class", "a")));
+        when(element.getDomProperty("value")).thenThrow(new StaleElementReferenceException("stale"));
+
+        testSubject.getDomAttribute("class");
+        assertThrows(StaleElementReferenceException.class, () -> testSubject.getDomProperty("value"));
+        testSubject.getDomAttribute("class");
+        verify(wrappedDriver, times(2)).executeScript(anyString(), eq(element), eq(-1L));
+    }
+
+    @Test
+    void attributeMemoDisabled() {
+        ComponentWebDriver wrappedDriver = mock(ComponentWebDriver.class);
+        testSubject = new DefaultWebComponent(element, new DefaultComponentWebDriver(wrappedDriver));
+        when(element.getTagName()).thenReturn("div");
+        when(element.getCssValue("color")).thenReturn("red");
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("red", testSubject.getCssValue("color"));
+        verify(element, times(2)).getTagName();
+        verify(wrappedDriver, never()).executeScript(anyString(), any(), any());
+    }
+
     @Test
     @SuppressWarnings("all")
     void to() {
@@ -238,4 +504,36 @@ class DefaultWebComponentTest {
         assertEquals(TextNodeType.COMMENT, textNodeElements.get(1).getType());
         assertEquals("some comment", textNodeElements.get(1).getText());
     }
+
+    @Test
+    void snapshot() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("tagName", "div");
+        result.put("classes", newArrayList("MuiButton-root", "Mui-disabled"));
+        result.put("style", "display: block");
+        result.put("text", "some text");
+        result.put("x", 10L);
+        result.put("y", 20.4D);
+        result.put("width", 30L);
+        result.put("height", 40.6D);
+        result.put("displayed", true);
+        result.put("enabled", false);
+        result.put("selected", false);
+        result.put("attributes", ImmutableMap.of("aria-label", "label"));
+        when(driver.executeReadOnlyScript(
+                "return (" + WebComponentSnapshot.COLLECT_FUNCTION + ")(arguments[0], arguments[1]);", element,
+                newArrayList("aria-label"))).thenReturn(result);
+
+        WebComponentSnapshot snapshot = testSubject.snapshot("aria-label");
+        assertEquals(testSubject, snapshot.getComponent());
+        assertEquals("div", snapshot.getTagName());
+        assertTrue(snapshot.attributeContains("class", "Mui-disabled"));
+        assertTrue(snapshot.styleContains("display", "block"));
+        assertEquals("some text", snapshot.getText());
+        assertEquals(new Rectangle(10, 20, 41, 30), snapshot.getRect());
+        assertTrue(snapshot.isDisplayed());
+        assertFalse(snapshot.isEnabled());
+        assertEquals("label", snapshot.getAttribute("aria-label"));
+        verify(driver, only()).executeReadOnlyScript(anyString(), any(), any());
+    }
 }
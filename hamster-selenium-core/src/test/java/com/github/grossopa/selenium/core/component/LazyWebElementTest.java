@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LazyWebElement}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class LazyWebElementTest {
+
+    RemoteWebElement root = mock(RemoteWebElement.class);
+    RemoteWebElement found = mock(RemoteWebElement.class);
+    JavascriptExecutor executor = mock(JavascriptExecutor.class);
+
+    @Test
+    void constructorEmptyChain() {
+        assertThrows(IllegalArgumentException.class, () -> new LazyWebElement(root, List.of(), executor));
+    }
+
+    @Test
+    void singleLocatorNative() {
+        when(root.findElement(By.id("a"))).thenReturn(found);
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor);
+        verifyNoInteractions(root);
+        assertFalse(testSubject.isResolved());
+
+        assertSame(found, testSubject.getWrappedElement());
+        assertSame(found, testSubject.getWrappedElement());
+        assertTrue(testSubject.isResolved());
+        verify(root, times(1)).findElement(By.id("a"));
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void resolvedAgainOnStale() {
+        RemoteWebElement refound = mock(RemoteWebElement.class);
+        when(root.findElement(By.id("a"))).thenReturn(found, refound);
+        when(found.getText()).thenThrow(new StaleElementReferenceException("stale"));
+        when(refound.getText()).thenReturn("text");
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor);
+
+        assertEquals("text", testSubject.getText());
+        assertSame(refound, testSubject.getWrappedElement());
+        testSubject.click();
+        verify(refound).click();
+        verify(root, times(2)).findElement(By.id("a"));
+    }
+
+    @Test
+    void staleAfterResolvedAgain() {
+        when(root.findElement(By.id("a"))).thenReturn(found);
+        doThrow(new StaleElementReferenceException("stale")).when(found).click();
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor);
+        assertThrows(StaleElementReferenceException.class, testSubject::click);
+        verify(root, times(2)).findElement(By.id("a"));
+        verify(found, times(2)).click();
+    }
+
+    @Test
+    void unwrap() {
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor);
+        WebElement decorated = new DefaultWebComponent(testSubject, mock(ComponentWebDriver.class));
+        assertSame(testSubject, LazyWebElement.unwrap(testSubject));
+        assertSame(testSubject, LazyWebElement.unwrap(decorated));
+        assertFalse(testSubject.isResolved());
+        assertNull(LazyWebElement.unwrap(root));
+        assertNull(LazyWebElement.unwrap(new DefaultWebComponent(root, mock(ComponentWebDriver.class))));
+        assertNull(LazyWebElement.unwrap(mock(WebElement.class, withSettings().extraInterfaces(WrapsElement.class))));
+    }
+
+    @Test
+    void chainInOneScript() {
+        when(executor.executeScript(anyString(), any(), any())).thenReturn(found);
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor)
+                .append(By.className("b")).append(By.xpath("./c"));
+        assertEquals(asList(By.id("a"), By.className("b"), By.xpath("./c")), testSubject.getChain());
+        assertSame(root, testSubject.getRoot());
+
+        when(found.getText()).thenReturn("text");
+        assertEquals("text", testSubject.getText());
+        assertEquals("text", testSubject.getText());
+        verify(executor, times(1)).executeScript(LazyWebElement.RESOLVE_SCRIPT, root,
+                asList(asList("id", "a"), asList("class name", "b"), asList("xpath", "./c")));
+        verify(root, never()).findElement(any());
+    }
+
+    @Test
+    void chainNotFound() {
+        when(executor.executeScript(anyString(), any(), any())).thenReturn(1L);
+        LazyWebElement testSubject = new LazyWebElement(root, asList(By.id("a"), By.className("b")), executor);
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class, testSubject::click);
+        assertTrue(exception.getMessage().startsWith("Unable to locate element by By.className: b"));
+        assertFalse(testSubject.isResolved());
+    }
+
+    @Test
+    void chainWithCustomLocator() {
+        By custom = new By() {
+            @Override
+            public List<WebElement> findElements(org.openqa.selenium.SearchContext context) {
+                return List.of();
+            }
+
+            @Override
+            public String toString() {
+                return "custom";
+            }
+        };
+        RemoteWebElement middle = mock(RemoteWebElement.class);
+        RemoteWebElement afterCustom = mock(RemoteWebElement.class);
+        when(executor.executeScript(eq(LazyWebElement.RESOLVE_SCRIPT), eq(root), any())).thenReturn(middle);
+        when(middle.findElement(custom)).thenReturn(afterCustom);
+        when(afterCustom.findElement(By.tagName("span"))).thenReturn(found);
+
+        LazyWebElement testSubject = new LazyWebElement(root,
+                asList(By.id("a"), By.className("b"), custom, By.tagName("span")), executor);
+        assertSame(found, testSubject.getWrappedElement());
+        verify(executor, times(1)).executeScript(anyString(), any(), any());
+    }
+
+    @Test
+    void delegate() {
+        when(root.findElement(By.id("a"))).thenReturn(found);
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor);
+        WebElement child = mock(WebElement.class);
+        when(found.getTagName()).thenReturn("div");
+        when(found.getAttribute("a")).thenReturn("1");
+        when(found.getDomAttribute("b")).thenReturn("2");
+        when(found.getDomProperty("c")).thenReturn("3");
+        when(found.getAriaRole()).thenReturn("button");
+        when(found.getAccessibleName()).thenReturn("name");
+        when(found.isSelected()).thenReturn(true);
+        when(found.isEnabled()).thenReturn(true);
+        when(found.isDisplayed()).thenReturn(true);
+        when(found.getLocation()).thenReturn(new Point(1, 2));
+        when(found.getSize()).thenReturn(new Dimension(3, 4));
+        when(found.getRect()).thenReturn(new Rectangle(1, 2, 4, 3));
+        when(found.getCssValue("color")).thenReturn("red");
+        when(found.getScreenshotAs(OutputType.BASE64)).thenReturn("base64");
+        when(found.findElements(By.id("x"))).thenReturn(List.of(child));
+        when(found.findElement(By.id("x"))).thenReturn(child);
+        Coordinates coordinates = mock(Coordinates.class);
+        when(found.getCoordinates()).thenReturn(coordinates);
+        WebDriver driver = mock(WebDriver.class);
+        when(found.getWrappedDriver()).thenReturn(driver);
+
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("1", testSubject.getAttribute("a"));
+        assertEquals("2", testSubject.getDomAttribute("b"));
+        assertEquals("3", testSubject.getDomProperty("c"));
+        assertEquals("button", testSubject.getAriaRole());
+        assertEquals("name", testSubject.getAccessibleName());
+        assertTrue(testSubject.isSelected());
+        assertTrue(testSubject.isEnabled());
+        assertTrue(testSubject.isDisplayed());
+        assertEquals(new Point(1, 2), testSubject.getLocation());
+        assertEquals(new Dimension(3, 4), testSubject.getSize());
+        assertEquals(new Rectangle(1, 2, 4, 3), testSubject.getRect());
+        assertEquals("red", testSubject.getCssValue("color"));
+        assertEquals("base64", testSubject.getScreenshotAs(OutputType.BASE64));
+        assertEquals(List.of(child), testSubject.findElements(By.id("x")));
+        assertEquals(child, testSubject.findElement(By.id("x")));
+        assertSame(coordinates, testSubject.getCoordinates());
+        assertSame(driver, testSubject.getWrappedDriver());
+        testSubject.getShadowRoot();
+        testSubject.click();
+        testSubject.submit();
+        testSubject.sendKeys("abc");
+        testSubject.clear();
+        verify(found).getShadowRoot();
+        verify(found).click();
+        verify(found).submit();
+        verify(found).sendKeys("abc");
+        verify(found).clear();
+        verify(root, times(1)).findElement(By.id("a"));
+    }
+
+    @Test
+    void testEquals() {
+        LazyWebElement testSubject1 = new LazyWebElement(root, List.of(By.id("a")), executor);
+        LazyWebElement testSubject2 = new LazyWebElement(root, List.of(By.id("a")), executor);
+        assertEquals(testSubject1, testSubject1);
+        assertEquals(testSubject1, testSubject2);
+        assertEquals(testSubject1.hashCode(), testSubject2.hashCode());
+        assertNotEquals(testSubject1, new LazyWebElement(root, List.of(By.id("b")), executor));
+        assertNotEquals(testSubject1, new LazyWebElement(mock(SearchContext.class), List.of(By.id("a")), executor));
+        assertNotEquals(testSubject1, found);
+        verify(root, never()).findElement(any());
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void testToString() {
+        when(root.toString()).thenReturn("root");
+        LazyWebElement testSubject = new LazyWebElement(root, List.of(By.id("a")), executor);
+        assertEquals("LazyWebElement{root=root, chain=[By.id: a], resolved=null}", testSubject.toString());
+        verify(root, never()).findElement(any());
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link RelocatingWebElement}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class RelocatingWebElementTest {
+
+    StaleElementRelocator relocator = new StaleElementRelocator(2);
+    SearchContext context = mock(SearchContext.class);
+    By by = By.id("abc");
+    RemoteWebElement element1 = mock(RemoteWebElement.class);
+    RemoteWebElement element2 = mock(RemoteWebElement.class);
+    RelocatingWebElement testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new RelocatingWebElement(relocator, context, by, -1, element1);
+    }
+
+    private static StaleElementReferenceException stale() {
+        return new StaleElementReferenceException("stale");
+    }
+
+    @Test
+    void delegate() {
+        when(element1.getText()).thenReturn("text");
+        when(element1.getTagName()).thenReturn("div");
+        when(element1.getAttribute("a")).thenReturn("1");
+        when(element1.getDomAttribute("b")).thenReturn("2");
+        when(element1.getDomProperty("c")).thenReturn("3");
+        when(element1.getAriaRole()).thenReturn("button");
+        when(element1.getAccessibleName()).thenReturn("name");
+        when(element1.isSelected()).thenReturn(true);
+        when(element1.isEnabled()).thenReturn(true);
+        when(element1.isDisplayed()).thenReturn(true);
+        when(element1.getLocation()).thenReturn(new Point(1, 2));
+        when(element1.getSize()).thenReturn(new Dimension(3, 4));
+        when(element1.getRect()).thenReturn(new Rectangle(1, 2, 4, 3));
+        when(element1.getCssValue("color")).thenReturn("red");
+        when(element1.getScreenshotAs(OutputType.BASE64)).thenReturn("base64");
+        when(element1.findElements(By.id("x"))).thenReturn(List.of(element2));
+        when(element1.findElement(By.id("x"))).thenReturn(element2);
+        Coordinates coordinates = mock(Coordinates.class);
+        when(element1.getCoordinates()).thenReturn(coordinates);
+        WebDriver driver = mock(WebDriver.class);
+        when(element1.getWrappedDriver()).thenReturn(driver);
+
+        assertEquals("text", testSubject.getText());
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("1", testSubject.getAttribute("a"));
+        assertEquals("2", testSubject.getDomAttribute("b"));
+        assertEquals("3", testSubject.getDomProperty("c"));
+        assertEquals("button", testSubject.getAriaRole());
+        assertEquals("name", testSubject.getAccessibleName());
+        assertTrue(testSubject.isSelected());
+        assertTrue(testSubject.isEnabled());
+        assertTrue(testSubject.isDisplayed());
+        assertEquals(new Point(1, 2), testSubject.getLocation());
+        assertEquals(new Dimension(3, 4), testSubject.getSize());
+        assertEquals(new Rectangle(1, 2, 4, 3), testSubject.getRect());
+        assertEquals("red", testSubject.getCssValue("color"));
+        assertEquals("base64", testSubject.getScreenshotAs(OutputType.BASE64));
+        assertEquals(List.of(element2), testSubject.findElements(By.id("x")));
+        assertEquals(element2, testSubject.findElement(By.id("x")));
+        assertSame(coordinates, testSubject.getCoordinates());
+        assertSame(driver, testSubject.getWrappedDriver());
+        testSubject.getShadowRoot();
+        testSubject.click();
+        testSubject.submit();
+        testSubject.sendKeys("abc");
+        testSubject.clear();
+        verify(element1).getShadowRoot();
+        verify(element1).click();
+        verify(element1).submit();
+        verify(element1).sendKeys("abc");
+        verify(element1).clear();
+        assertEquals(0L, relocator.getRelocatedCount());
+    }
+
+    @Test
+    void relocateOnStale() {
+        when(element1.getText()).thenThrow(stale());
+        when(context.findElement(by)).thenReturn(element2);
+        when(element2.getText()).thenReturn("new text");
+
+        assertEquals("new text", testSubject.getText());
+        assertSame(element2, testSubject.getWrappedElement());
+        assertEquals(1L, relocator.getRelocatedCount());
+        assertEquals(0L, relocator.getFailedCount());
+
+        // the relocated element is used afterwards
+        assertEquals("new text", testSubject.getText());
+        verify(context, times(1)).findElement(by);
+    }
+
+    @Test
+    void relocateClickOnStale() {
+        doThrow(stale()).when(element1).click();
+        when(context.findElement(by)).thenReturn(element2);
+        testSubject.click();
+        verify(element2, times(1)).click();
+    }
+
+    @Test
+    void relocateByIndex() {
+        testSubject = new RelocatingWebElement(relocator, context, by, 1, element1);
+        RemoteWebElement other = mock(RemoteWebElement.class);
+        when(element1.isDisplayed()).thenThrow(stale());
+        when(context.findElements(by)).thenReturn(List.of(other, element2));
+        when(element2.isDisplayed()).thenReturn(true);
+
+        assertTrue(testSubject.isDisplayed());
+        assertSame(element2, testSubject.getWrappedElement());
+        verify(other, never()).isDisplayed();
+    }
+
+    @Test
+    void relocateByIndexOutOfRange() {
+        testSubject = new RelocatingWebElement(relocator, context, by, 1, element1);
+        when(element1.isDisplayed()).thenThrow(stale());
+        when(context.findElements(by)).thenReturn(List.of(element2));
+
+        StaleElementReferenceException exception = assertThrows(StaleElementReferenceException.class,
+                testSubject::isDisplayed);
+        assertTrue(exception.getSuppressed()[0] instanceof NoSuchElementException);
+        assertEquals(1L, relocator.getFailedCount());
+    }
+
+    @Test
+    void relocateNotFound() {
+        when(element1.getText()).thenThrow(stale());
+        when(context.findElement(by)).thenThrow(new NoSuchElementException("not found"));
+
+        assertThrows(StaleElementReferenceException.class, testSubject::getText);
+        assertSame(element1, testSubject.getWrappedElement());
+        assertEquals(0L, relocator.getRelocatedCount());
+        assertEquals(1L, relocator.getFailedCount());
+    }
+
+    @Test
+    void relocateExceedsMaxRetries() {
+        when(element1.getText()).thenThrow(stale());
+        when(context.findElement(by)).thenReturn(element1);
+
+        assertThrows(StaleElementReferenceException.class, testSubject::getText);
+        verify(element1, times(3)).getText();
+        assertEquals(2L, relocator.getRelocatedCount());
+        assertEquals(1L, relocator.getFailedCount());
+    }
+
+    @Test
+    void testEquals() {
+        RelocatingWebElement other = new RelocatingWebElement(relocator, context, by, -1, element1);
+        assertEquals(testSubject, testSubject);
+        assertNotEquals(testSubject, other);
+        assertNotEquals(testSubject, element1);
+    }
+
+    @Test
+    void hashCodeStableAfterRelocating() {
+        int hashCode = testSubject.hashCode();
+        when(element1.getText()).thenThrow(stale());
+        when(context.findElement(by)).thenReturn(element2);
+        when(element2.getText()).thenReturn("text");
+        assertEquals("text", testSubject.getText());
+        assertSame(element2, testSubject.getWrappedElement());
+        assertEquals(hashCode, testSubject.hashCode());
+    }
+
+    @Test
+    void getCoordinatesNotLocatable() {
+        WebElement element = mock(WebElement.class);
+        RelocatingWebElement subject = new RelocatingWebElement(relocator, context, by, -1, element);
+        assertThrows(UnsupportedOperationException.class, subject::getCoordinates);
+    }
+
+    @Test
+    void testToString() {
+        when(element1.toString()).thenReturn("element1");
+        assertEquals("RelocatingWebElement{by=By.id: abc, index=-1, current=element1}", testSubject.toString());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link StaleElementRelocator}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class StaleElementRelocatorTest {
+
+    StaleElementRelocator testSubject = new StaleElementRelocator();
+    SearchContext context = mock(SearchContext.class);
+    WebElement element = mock(WebElement.class);
+
+    @Test
+    void constructor() {
+        assertEquals(StaleElementRelocator.DEFAULT_MAX_RETRIES, testSubject.getMaxRetries());
+        assertEquals(1, new StaleElementRelocator(1).getMaxRetries());
+        assertThrows(IllegalArgumentException.class, () -> new StaleElementRelocator(0));
+    }
+
+    @Test
+    void relocatable() {
+        WebElement result = testSubject.relocatable(context, By.id("abc"), element);
+        assertTrue(result instanceof RelocatingWebElement);
+        assertSame(element, ((RelocatingWebElement) result).getWrappedElement());
+    }
+
+    @Test
+    void relocatableWithIndex() {
+        WebElement result = testSubject.relocatable(context, By.id("abc"), 2, element);
+        assertSame(element, ((RelocatingWebElement) result).getWrappedElement());
+        assertThrows(IllegalArgumentException.class, () -> testSubject.relocatable(context, By.id("abc"), -1, element));
+    }
+
+    @Test
+    void counters() {
+        testSubject.onRelocated();
+        testSubject.onRelocated();
+        testSubject.onFailed();
+        assertEquals(2L, testSubject.getRelocatedCount());
+        assertEquals(1L, testSubject.getFailedCount());
+        assertEquals("StaleElementRelocator{maxRetries=3, relocatedCount=2, failedCount=1}", testSubject.toString());
+        testSubject.resetCounters();
+        assertEquals(0L, testSubject.getRelocatedCount());
+        assertEquals(0L, testSubject.getFailedCount());
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.component;
+
+import com.github.grossopa.selenium.core.util.SimpleEqualsTester;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Rectangle;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link WebComponentSnapshot}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class WebComponentSnapshotTest {
+
+    WebComponentSnapshot testSubject;
+    WebComponent component = mock(WebComponent.class);
+    Rectangle rect = new Rectangle(1, 2, 3, 4);
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("aria-expanded", "true");
+        attributes.put("data-missing", null);
+        testSubject = new WebComponentSnapshot(component, "button", List.of("MuiButton-root", "Mui-focusVisible"),
+                "display : block; width: 200px;", "Submit", rect, true, true, false, attributes);
+    }
+
+    @Test
+    void getters() {
+        assertEquals(component, testSubject.getComponent());
+        assertEquals("button", testSubject.getTagName());
+        assertEquals(List.of("MuiButton-root", "Mui-focusVisible"), testSubject.getClasses());
+        assertEquals("display : block; width: 200px;", testSubject.getStyle());
+        assertEquals("Submit", testSubject.getText());
+        assertEquals(rect, testSubject.getRect());
+        assertTrue(testSubject.isDisplayed());
+        assertTrue(testSubject.isEnabled());
+        assertFalse(testSubject.isSelected());
+        assertEquals("true", testSubject.getAttribute("aria-expanded"));
+        assertNull(testSubject.getAttribute("data-missing"));
+        assertNull(testSubject.getAttribute("not-collected"));
+    }
+
+    @Test
+    void immutable() {
+        assertThrows(UnsupportedOperationException.class, () -> testSubject.getClasses().add("some"));
+        assertThrows(UnsupportedOperationException.class, () -> testSubject.getAttributes().put("some", "value"));
+    }
+
+    @Test
+    void hasClass() {
+        assertTrue(testSubject.hasClass("MuiButton-root"));
+        assertFalse(testSubject.hasClass("muibutton-root"));
+    }
+
+    @Test
+    void styleContains() {
+        assertTrue(testSubject.styleContains("WIDTH", "200PX"));
+        assertFalse(testSubject.styleContains("display", "none"));
+    }
+
+    @Test
+    void styleContainsNoStyle() {
+        WebComponentSnapshot snapshot = new WebComponentSnapshot(component, "div", List.of(), null, "", rect, true,
+                true, false, Map.of());
+        assertFalse(snapshot.styleContains("display", "none"));
+    }
+
+    @Test
+    void attributeContains() {
+        assertTrue(testSubject.attributeContains("class", "Mui-focusVisible"));
+        assertFalse(testSubject.attributeContains("class", "Mui"));
+        assertTrue(testSubject.attributeContains("aria-expanded", "true"));
+        assertFalse(testSubject.attributeContains("data-missing", "true"));
+    }
+
+    @Test
+    void fromScriptResult() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("tagName", "li");
+        result.put("classes", newArrayList("a", "b"));
+        result.put("style", null);
+        result.put("text", null);
+        result.put("x", 1.5D);
+        result.put("y", 2L);
+        result.put("width", 3.2D);
+        result.put("height", null);
+        result.put("displayed", false);
+        result.put("enabled", true);
+        result.put("selected", true);
+        result.put("attributes", ImmutableMap.of("tabindex", 0L));
+
+        WebComponentSnapshot snapshot = WebComponentSnapshot.fromScriptResult(component, result);
+        assertEquals("li", snapshot.getTagName());
+        assertEquals(List.of("a", "b"), snapshot.getClasses());
+        assertNull(snapshot.getStyle());
+        assertEquals("", snapshot.getText());
+        assertEquals(new Rectangle(2, 2, 0, 3), snapshot.getRect());
+        assertFalse(snapshot.isDisplayed());
+        assertTrue(snapshot.isEnabled());
+        assertTrue(snapshot.isSelected());
+        assertEquals("0", snapshot.getAttribute("tabindex"));
+    }
+
+    @Test
+    void testEquals() {
+        WebComponent component2 = mock(WebComponent.class);
+        SimpleEqualsTester tester = new SimpleEqualsTester();
+        tester.addEqualityGroup(testSubject,
+                new WebComponentSnapshot(component, "button", List.of("MuiButton-root", "Mui-focusVisible"),
+                        "display : block; width: 200px;", "Submit", rect, true, true, false,
+                        testSubject.getAttributes()));
+        tester.addEqualityGroup(
+                new WebComponentSnapshot(component2, "button", List.of("MuiButton-root", "Mui-focusVisible"),
+                        "display : block; width: 200px;", "Submit", rect, true, true, false,
+                        testSubject.getAttributes()));
+        tester.addEqualityGroup(
+                new WebComponentSnapshot(component, "button", List.of("MuiButton-root"), null, "Submit", rect, false,
+                        true, false, Map.of()));
+        tester.testEquals();
+    }
+
+    @Test
+    void testToString() {
+        WebComponentSnapshot snapshot = new WebComponentSnapshot(component, "div", List.of("a"), null, "text", rect,
+                true, false, true, Map.of("id", "x"));
+        assertEquals("WebComponentSnapshot{tagName='div', classes=[a], style='null', text='text', "
+                + "rect=" + rect + ", displayed=true, enabled=false, selected=true, attributes={id=x}}",
+                snapshot.toString());
+    }
+
+    @Test
+    void defaultSnapshotReadsOneByOne() {
+        WebComponent readingComponent = mock(WebComponent.class, CALLS_REAL_METHODS);
+        doReturn("BUTTON").when(readingComponent).getTagName();
+        doReturn(" MuiButton-root  Mui-disabled ").when(readingComponent).getAttribute("class");
+        doReturn(null).when(readingComponent).getAttribute("style");
+        doReturn("true").when(readingComponent).getAttribute("aria-expanded");
+        doReturn(null).when(readingComponent).getAttribute("data-missing");
+        doReturn("Submit").when(readingComponent).getText();
+        doReturn(rect).when(readingComponent).getRect();
+        doReturn(true).when(readingComponent).isDisplayed();
+        doReturn(false).when(readingComponent).isEnabled();
+        doReturn(true).when(readingComponent).isSelected();
+
+        WebComponentSnapshot snapshot = readingComponent.snapshot("aria-expanded", "data-missing");
+        assertSame(readingComponent, snapshot.getComponent());
+        assertEquals("button", snapshot.getTagName());
+        assertEquals(List.of("MuiButton-root", "Mui-disabled"), snapshot.getClasses());
+        assertNull(snapshot.getStyle());
+        assertEquals("Submit", snapshot.getText());
+        assertEquals(rect, snapshot.getRect());
+        assertTrue(snapshot.isDisplayed());
+        assertFalse(snapshot.isEnabled());
+        assertTrue(snapshot.isSelected());
+        assertEquals("true", snapshot.getAttribute("aria-expanded"));
+        assertNull(snapshot.getAttribute("data-missing"));
+        assertEquals(2, snapshot.getAttributes().size());
+    }
+
+    @Test
+    void defaultSnapshotNoClass() {
+        WebComponent readingComponent = mock(WebComponent.class, CALLS_REAL_METHODS);
+        doReturn("div").when(readingComponent).getTagName();
+        doReturn(null).when(readingComponent).getAttribute(anyString());
+        doReturn("").when(readingComponent).getText();
+        doReturn(rect).when(readingComponent).getRect();
+        doReturn(false).when(readingComponent).isDisplayed();
+        doReturn(false).when(readingComponent).isEnabled();
+        doReturn(false).when(readingComponent).isSelected();
+        assertTrue(readingComponent.snapshot().getClasses().isEmpty());
+    }
+
+    @Test
+    void collectFunctionUsesIsDisplayedFunction() {
+        assertTrue(WebComponentSnapshot.IS_DISPLAYED_FUNCTION.startsWith("function(e)"));
+        assertTrue(WebComponentSnapshot.COLLECT_FUNCTION.contains(
+                "displayed: (" + WebComponentSnapshot.IS_DISPLAYED_FUNCTION + ")(e)"));
+    }
+}
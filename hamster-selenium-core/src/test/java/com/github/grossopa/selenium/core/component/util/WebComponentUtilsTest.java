@@ -114,4 +114,18 @@ class WebComponentUtilsTest {
         assertTrue(WebComponentUtils.styleContains(element, "display", "block"));
         assertFalse(WebComponentUtils.styleContains(element, "display", "none"));
     }
+
+    @Test
+    void styleValueContains() {
+        assertTrue(WebComponentUtils.styleValueContains("display : block; width: 200px;", "WIDTH", "200PX"));
+        assertFalse(WebComponentUtils.styleValueContains("display : block; width: 200px;", "display", "none"));
+        assertFalse(WebComponentUtils.styleValueContains(null, "display", "none"));
+    }
+
+    @Test
+    void attributeValueContains() {
+        assertTrue(WebComponentUtils.attributeValueContains("attr-1;attr-2 ; attr-3", "attr-2", ";"));
+        assertFalse(WebComponentUtils.attributeValueContains("attr-1;attr-2 ; attr-3", "attr", ";"));
+        assertFalse(WebComponentUtils.attributeValueContains(null, "attr", ";"));
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ComponentWebDriverPoolConfig}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ComponentWebDriverPoolConfigTest {
+
+    ComponentWebDriverPoolConfig testSubject = new ComponentWebDriverPoolConfig();
+
+    @Test
+    void defaults() {
+        assertEquals(ComponentWebDriverPoolConfig.DEFAULT_MIN_IDLE, testSubject.getMinIdle());
+        assertEquals(ComponentWebDriverPoolConfig.DEFAULT_MAX_TOTAL, testSubject.getMaxTotal());
+        assertEquals(ComponentWebDriverPoolConfig.DEFAULT_IDLE_TIMEOUT, testSubject.getIdleTimeout());
+        assertEquals(ComponentWebDriverPoolConfig.DEFAULT_LEASE_TIMEOUT, testSubject.getLeaseTimeout());
+    }
+
+    @Test
+    void testGettersAndSetters() {
+        testSubject.setMinIdle(0);
+        testSubject.setMaxTotal(8);
+        testSubject.setIdleTimeout(Duration.ofSeconds(30));
+        testSubject.setLeaseTimeout(Duration.ofSeconds(5));
+        assertEquals(0, testSubject.getMinIdle());
+        assertEquals(8, testSubject.getMaxTotal());
+        assertEquals(Duration.ofSeconds(30), testSubject.getIdleTimeout());
+        assertEquals(Duration.ofSeconds(5), testSubject.getLeaseTimeout());
+    }
+
+    @Test
+    void invalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> testSubject.setMinIdle(-1));
+        assertThrows(IllegalArgumentException.class, () -> testSubject.setMaxTotal(0));
+        assertThrows(NullPointerException.class, () -> testSubject.setIdleTimeout(null));
+        assertThrows(NullPointerException.class, () -> testSubject.setLeaseTimeout(null));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ComponentWebDriverPoolConfig{minIdle=1, maxTotal=4, idleTimeout=PT5M, leaseTimeout=PT1M}",
+                testSubject.toString());
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ComponentWebDriverPool}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ComponentWebDriverPoolTest {
+
+    ComponentWebDriverPool testSubject;
+    ComponentWebDriverPoolConfig config = new ComponentWebDriverPoolConfig();
+    List<ComponentWebDriver> created = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        config.setMinIdle(1);
+        config.setMaxTotal(2);
+        config.setIdleTimeout(Duration.ofSeconds(10));
+        config.setLeaseTimeout(Duration.ZERO);
+        testSubject = new ComponentWebDriverPool(this::createDriver, config, tasks::add, clock::get);
+    }
+
+    private ComponentWebDriver createDriver() {
+        ComponentWebDriver driver = mock(ComponentWebDriver.class);
+        when(driver.getWindowHandle()).thenReturn("window-" + created.size());
+        created.add(driver);
+        return driver;
+    }
+
+    private void runTasks() {
+        List<Runnable> pending = new ArrayList<>(tasks);
+        tasks.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    @Test
+    void constructorInvalidConfig() {
+        config.setMinIdle(3);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ComponentWebDriverPool(this::createDriver, config, tasks::add));
+    }
+
+    @Test
+    void prewarm() {
+        config.setMinIdle(2);
+        testSubject.prewarm();
+        assertEquals(2, testSubject.getIdleCount());
+        assertEquals(2L, testSubject.getCreatedCount());
+        testSubject.prewarm();
+        assertEquals(2L, testSubject.getCreatedCount());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void leaseCreatesAndReplenishes() {
+        ComponentWebDriver driver = testSubject.lease();
+        assertSame(created.get(0), driver);
+        assertEquals(1, testSubject.getLeasedCount());
+        assertEquals(0, testSubject.getIdleCount());
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        assertEquals(1, testSubject.getIdleCount());
+        assertEquals(2L, testSubject.getCreatedCount());
+    }
+
+    @Test
+    void leaseIdleWithHealthProbe() {
+        testSubject.prewarm();
+        ComponentWebDriver driver = testSubject.lease();
+        assertSame(created.get(0), driver);
+        verify(driver).getWindowHandle();
+        assertEquals(1L, testSubject.getCreatedCount());
+    }
+
+    @Test
+    void leaseReplacesUnhealthy() {
+        testSubject.prewarm();
+        when(created.get(0).getWindowHandle()).thenThrow(new WebDriverException("session deleted"));
+        ComponentWebDriver driver = testSubject.lease();
+        assertSame(created.get(1), driver);
+        verify(created.get(0)).quit();
+        assertEquals(1L, testSubject.getProbeFailedCount());
+    }
+
+    @Test
+    void leaseWithCustomHealthProbe() {
+        testSubject.prewarm();
+        testSubject.setHealthProbe(driver -> false);
+        ComponentWebDriver driver = testSubject.lease();
+        assertSame(created.get(1), driver);
+        assertEquals(1L, testSubject.getProbeFailedCount());
+    }
+
+    @Test
+    void releaseAndReuse() {
+        ComponentWebDriver driver = testSubject.lease();
+        testSubject.release(driver);
+        assertEquals(0, testSubject.getLeasedCount());
+        assertEquals(1, testSubject.getIdleCount());
+        assertSame(driver, testSubject.lease());
+        verify(driver, never()).quit();
+    }
+
+    @Test
+    void releaseWithSessionRecycler() {
+        SessionRecycler recycler = mock(SessionRecycler.class);
+        testSubject.setSessionRecycler(recycler);
+        assertSame(recycler, testSubject.getSessionRecycler());
+        config.setMinIdle(0);
+        ComponentWebDriver driver1 = testSubject.lease();
+        ComponentWebDriver driver2 = testSubject.lease();
+        when(recycler.recycle(driver1)).thenReturn(true);
+        when(recycler.recycle(driver2)).thenReturn(false);
+
+        testSubject.release(driver1);
+        testSubject.release(driver2);
+        verify(driver1, never()).quit();
+        verify(driver2).quit();
+        assertEquals(1, testSubject.getIdleCount());
+        assertEquals(0, testSubject.getLeasedCount());
+        assertEquals(1L, testSubject.getRecycleFailedCount());
+        assertThrows(IllegalArgumentException.class, () -> testSubject.release(driver2));
+        verify(recycler, times(1)).recycle(driver2);
+    }
+
+    @Test
+    void releaseNotLeased() {
+        assertThrows(IllegalArgumentException.class, () -> testSubject.release(mock(ComponentWebDriver.class)));
+        assertThrows(IllegalArgumentException.class, () -> testSubject.invalidate(mock(ComponentWebDriver.class)));
+    }
+
+    @Test
+    void leaseTimeout() {
+        testSubject.lease();
+        runTasks();
+        testSubject.lease();
+        assertTrue(tasks.isEmpty());
+        assertThrows(TimeoutException.class, () -> testSubject.lease());
+    }
+
+    @Test
+    void leaseWaitsForRelease() throws InterruptedException {
+        config.setLeaseTimeout(Duration.ofSeconds(10));
+        testSubject = new ComponentWebDriverPool(this::createDriver, config, tasks::add);
+        ComponentWebDriver driver1 = testSubject.lease();
+        runTasks();
+        testSubject.lease();
+
+        List<ComponentWebDriver> result = new CopyOnWriteArrayList<>();
+        Thread thread = new Thread(() -> result.add(testSubject.lease()));
+        thread.start();
+        while (thread.getState() != Thread.State.TIMED_WAITING && thread.isAlive()) {
+            Thread.yield();
+        }
+        testSubject.release(driver1);
+        thread.join(5000L);
+        assertEquals(List.of(driver1), result);
+    }
+
+    @Test
+    void invalidate() {
+        config.setMinIdle(0);
+        ComponentWebDriver driver = testSubject.lease();
+        testSubject.invalidate(driver);
+        verify(driver).quit();
+        assertEquals(0, testSubject.getLeasedCount());
+
+        config.setMinIdle(1);
+        assertNotSame(driver, testSubject.lease());
+        testSubject.invalidate(created.get(1));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void evictIdle() {
+        config.setMinIdle(0);
+        ComponentWebDriver driver1 = testSubject.lease();
+        ComponentWebDriver driver2 = testSubject.lease();
+        testSubject.release(driver1);
+        clock.set(Duration.ofSeconds(5).toNanos());
+        testSubject.release(driver2);
+
+        clock.set(Duration.ofSeconds(12).toNanos());
+        assertEquals(1, testSubject.evictIdle());
+        verify(driver1).quit();
+        verify(driver2, never()).quit();
+        assertEquals(1, testSubject.getIdleCount());
+        assertEquals(1L, testSubject.getEvictedCount());
+    }
+
+    @Test
+    void evictIdleKeepsMinIdle() {
+        testSubject.prewarm();
+        clock.set(Duration.ofMinutes(1).toNanos());
+        assertEquals(0, testSubject.evictIdle());
+        assertEquals(1, testSubject.getIdleCount());
+    }
+
+    @Test
+    void factoryFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        testSubject = new ComponentWebDriverPool(() -> {
+            attempts.incrementAndGet();
+            throw new WebDriverException("failed");
+        }, config, tasks::add);
+        assertThrows(WebDriverException.class, () -> testSubject.lease());
+        assertThrows(WebDriverException.class, () -> testSubject.prewarm());
+        assertEquals(0, testSubject.getLeasedCount());
+        assertEquals(0, testSubject.getIdleCount());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void close() {
+        testSubject.prewarm();
+        ComponentWebDriver leased = testSubject.lease();
+        runTasks();
+        ComponentWebDriver idle = testSubject.lease();
+        testSubject.release(idle);
+
+        testSubject.close();
+        testSubject.close();
+        assertTrue(testSubject.isClosed());
+        verify(idle).quit();
+        verify(leased, never()).quit();
+        assertThrows(IllegalStateException.class, () -> testSubject.lease());
+
+        testSubject.release(leased);
+        verify(leased).quit();
+        runTasks();
+        assertEquals(0, testSubject.getIdleCount());
+    }
+
+    @Test
+    void testToString() {
+        testSubject.prewarm();
+        assertEquals("ComponentWebDriverPool{idle=1, leased=0, pending=0, created=1, evicted=0, probeFailed=0, "
+                + "recycleFailed=0, closed=false}", testSubject.toString());
+    }
+
+    @Test
+    void fromRunningServiceWithStubServer() throws IOException {
+        List<String> requests = new CopyOnWriteArrayList<>();
+        AtomicInteger sessionIds = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String request = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+            requests.add(request);
+            String body;
+            if (request.equals("POST /session")) {
+                body = "{\"value\":{\"sessionId\":\"session-" + sessionIds.incrementAndGet()
+                        + "\",\"capabilities\":{\"browserName\":\"chrome\"}}}";
+            } else if (request.endsWith("/window")) {
+                body = "{\"value\":\"window-handle\"}";
+            } else {
+                body = "{\"value\":null}";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        });
+        server.start();
+        try {
+            config.setMinIdle(0);
+            String url = "http://127.0.0.1:" + server.getAddress().getPort();
+            try (ComponentWebDriverPool pool = ComponentWebDriverPool.fromRunningService(WebDriverType.CHROME,
+                    new RunningServiceParams(new ChromeOptions(), url), config)) {
+                ComponentWebDriver driver = pool.lease();
+                pool.release(driver);
+                assertSame(driver, pool.lease());
+                pool.release(driver);
+                assertEquals(1L, pool.getCreatedCount());
+            }
+            assertEquals(List.of("POST /session", "GET /session/session-1/window", "DELETE /session/session-1"),
+                    requests);
+        } finally {
+            server.stop(0);
+        }
+    }
+}
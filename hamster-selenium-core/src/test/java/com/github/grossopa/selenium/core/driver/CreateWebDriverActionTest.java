@@ -26,11 +26,24 @@ package com.github.grossopa.selenium.core.driver;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriverBuilder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,12 +59,16 @@ class CreateWebDriverActionTest {
     RemoteWebDriverBuilder builder = mock(RemoteWebDriverBuilder.class);
     CreateWebDriverParams params = mock(CreateWebDriverParams.class);
     WebDriver webDriver = mock(WebDriver.class);
+    CreateDriverServiceAction createServiceAction = mock(CreateDriverServiceAction.class);
+    DriverService driverService = mock(DriverService.class);
 
     @BeforeEach
     void setUp() {
         when(builder.addAlternative(any())).thenReturn(builder);
         when(builder.withDriverService(any())).thenReturn(builder);
         when(builder.build()).thenReturn(webDriver);
+        when(createServiceAction.applyChrome(any())).thenReturn(driverService);
+        when(driverService.getUrl()).thenAnswer(answer -> new URL("http://localhost:9515"));
         testSubject = new CreateWebDriverAction() {
             @Override
             protected RemoteWebDriverBuilder getBuilder() {
@@ -67,6 +84,59 @@ class CreateWebDriverActionTest {
         verify(params, times(1)).getDriverService();
     }
 
+    @Test
+    void applyWithSharedService() throws IOException {
+        SharedDriverServiceRegistry registry = new SharedDriverServiceRegistry(createServiceAction);
+        DriverConfig config = new DriverConfig();
+        config.setType(WebDriverType.CHROME);
+        Capabilities options = mock(Capabilities.class);
+        CreateWebDriverParams sharedParams = registry.createParams(config, options);
+        assertEquals(0, registry.getReferenceCount(config));
+
+        List<CommandExecutor> executors = new ArrayList<>();
+        CreateWebDriverAction action = new CreateWebDriverAction() {
+            @Override
+            protected WebDriver createRemoteWebDriver(CommandExecutor executor, Capabilities capabilities) {
+                assertSame(options, capabilities);
+                executors.add(executor);
+                return webDriver;
+            }
+        };
+
+        assertEquals(webDriver, action.applyChrome(sharedParams));
+        assertEquals(1, registry.getReferenceCount(config));
+        verify(driverService).start();
+        verify(driverService, never()).stop();
+        assertEquals(1, executors.size());
+        assertTrue(executors.get(0) instanceof SharedDriverServiceRegistry.ReleaseOnQuitExecutor);
+    }
+
+    @Test
+    void applyWithSharedServiceFailed() throws IOException {
+        SharedDriverServiceRegistry registry = new SharedDriverServiceRegistry(createServiceAction);
+        DriverConfig config = new DriverConfig();
+        config.setType(WebDriverType.CHROME);
+        CreateWebDriverParams sharedParams = registry.createParams(config, mock(Capabilities.class));
+        CreateWebDriverAction action = new CreateWebDriverAction() {
+            @Override
+            protected WebDriver createRemoteWebDriver(CommandExecutor executor, Capabilities capabilities) {
+                throw new SessionNotCreatedException("failed");
+            }
+        };
+
+        assertThrows(SessionNotCreatedException.class, () -> action.applyChrome(sharedParams));
+        assertEquals(0, registry.getReferenceCount(config));
+        verify(driverService).stop();
+    }
+
+    @Test
+    void createRemoteWebDriver() throws IOException {
+        CommandExecutor executor = mock(CommandExecutor.class);
+        when(executor.execute(any())).thenThrow(new SessionNotCreatedException("failed"));
+        assertThrows(SessionNotCreatedException.class,
+                () -> new CreateWebDriverAction().createRemoteWebDriver(executor, new ImmutableCapabilities()));
+    }
+
     @Test
     void applyChrome() {
         assertEquals(webDriver, testSubject.applyChrome(params));
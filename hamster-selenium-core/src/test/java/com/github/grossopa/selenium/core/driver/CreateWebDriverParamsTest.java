@@ -30,6 +30,8 @@ import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.remote.service.DriverService;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -60,4 +62,16 @@ class CreateWebDriverParamsTest {
     void getDriverService() {
         assertEquals(driverService, testSubject.getDriverService());
     }
+
+    @Test
+    void getSharedRegistry() {
+        assertNull(testSubject.getSharedRegistry());
+        assertNull(testSubject.getSharedConfig());
+        SharedDriverServiceRegistry registry = mock(SharedDriverServiceRegistry.class);
+        DriverConfig config = new DriverConfig();
+        CreateWebDriverParams shared = new CreateWebDriverParams(options, config, registry);
+        assertSame(registry, shared.getSharedRegistry());
+        assertSame(config, shared.getSharedConfig());
+        assertNull(shared.getDriverService());
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.ie.InternetExplorerOptions;
+import org.openqa.selenium.safari.SafariOptions;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PerformanceProfileEnrichOptionsAction}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class PerformanceProfileEnrichOptionsActionTest {
+
+    PerformanceProfileEnrichOptionsAction testSubject = new PerformanceProfileEnrichOptionsAction();
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> browserOptions(Capabilities capabilities, String key) {
+        return (Map<String, Object>) capabilities.asMap().get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> arguments(Capabilities capabilities, String key) {
+        return (List<String>) browserOptions(capabilities, key).get("args");
+    }
+
+    @Test
+    void applyChrome() {
+        Capabilities result = WebDriverType.CHROME.apply(testSubject, new ChromeOptions());
+        assertEquals(List.of("--headless=new", "--window-size=1280,800", "--blink-settings=imagesEnabled=false",
+                "--disable-extensions", "--disable-gpu", "--disable-background-timer-throttling",
+                "--disable-backgrounding-occluded-windows", "--disable-renderer-backgrounding",
+                "--disable-smooth-scrolling", "--force-prefers-reduced-motion"),
+                arguments(result, ChromeOptions.CAPABILITY));
+        assertEquals(PageLoadStrategy.EAGER, PageLoadStrategy.fromString(
+                String.valueOf(result.getCapability("pageLoadStrategy"))));
+    }
+
+    @Test
+    void applyEdge() {
+        testSubject.setHeadless(false);
+        testSubject.setBlockImages(false);
+        testSubject.setWindowWidth(800);
+        testSubject.setWindowHeight(600);
+        Capabilities result = WebDriverType.EDGE.apply(testSubject, new EdgeOptions());
+        List<String> arguments = arguments(result, EdgeOptions.CAPABILITY);
+        assertEquals("--window-size=800,600", arguments.get(0));
+        assertFalse(arguments.contains("--headless=new"));
+        assertFalse(arguments.contains("--blink-settings=imagesEnabled=false"));
+        assertTrue(arguments.contains("--force-prefers-reduced-motion"));
+        assertEquals("eager", String.valueOf(result.getCapability("pageLoadStrategy")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyFirefox() {
+        Capabilities result = WebDriverType.FIREFOX.apply(testSubject, new FirefoxOptions());
+        assertEquals(List.of("-headless", "--width=1280", "--height=800"),
+                arguments(result, FirefoxOptions.FIREFOX_OPTIONS));
+        Map<String, Object> preferences = (Map<String, Object>) browserOptions(result,
+                FirefoxOptions.FIREFOX_OPTIONS).get("prefs");
+        assertEquals(2, preferences.get("permissions.default.image"));
+        assertEquals(1, preferences.get("ui.prefersReducedMotion"));
+        assertEquals(false, preferences.get("general.smoothScroll"));
+        assertEquals(true, preferences.get("layers.acceleration.disabled"));
+        assertEquals("eager", String.valueOf(result.getCapability("pageLoadStrategy")));
+    }
+
+    @Test
+    void applyFirefoxWithImages() {
+        testSubject.setBlockImages(false);
+        Capabilities result = WebDriverType.FIREFOX.apply(testSubject, new FirefoxOptions());
+        assertFalse(browserOptions(result, FirefoxOptions.FIREFOX_OPTIONS).toString()
+                .contains("permissions.default.image"));
+    }
+
+    @Test
+    void applyIE() {
+        InternetExplorerOptions options = new InternetExplorerOptions();
+        assertSame(options, WebDriverType.IE.apply(testSubject, options));
+    }
+
+    @Test
+    void applySafari() {
+        SafariOptions options = new SafariOptions();
+        assertSame(options, WebDriverType.SAFARI.apply(testSubject, options));
+    }
+
+    @Test
+    void defaults() {
+        assertTrue(testSubject.isHeadless());
+        assertTrue(testSubject.isBlockImages());
+        assertEquals(PerformanceProfileEnrichOptionsAction.DEFAULT_WINDOW_WIDTH, testSubject.getWindowWidth());
+        assertEquals(PerformanceProfileEnrichOptionsAction.DEFAULT_WINDOW_HEIGHT, testSubject.getWindowHeight());
+    }
+}
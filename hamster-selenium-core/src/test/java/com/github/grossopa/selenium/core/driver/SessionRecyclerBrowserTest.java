@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SessionRecycler} against a real headless Chrome, it's only enabled when the system property
+ * {@code webdriver.chrome.driver} points to the chromedriver executable, e.g.
+ * {@code mvn test -Dgroups=browser -Dwebdriver.chrome.driver=/path/to/chromedriver}.
+ *
+ * <p>The storage is written to a {@code file:} page, the cookies to a page served from localhost as the browsers
+ * don't keep cookies for the {@code file:} pages.</p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+@Tag("browser")
+@EnabledIfSystemProperty(named = "webdriver.chrome.driver", matches = ".+")
+class SessionRecyclerBrowserTest {
+
+    //@formatter:off
+    private static final String WRITE_STORAGE_SCRIPT = ""
+            + "var done = arguments[arguments.length - 1];"
+            + "localStorage.setItem('key', 'value');"
+            + "var request = indexedDB.open('recycled-db', 1);"
+            + "request.onupgradeneeded = function() { request.result.createObjectStore('store'); };"
+            + "request.onsuccess = function() { request.result.close(); done(true); };"
+            + "request.onerror = function() { done(false); };";
+
+    private static final String READ_DATABASES_SCRIPT = ""
+            + "var done = arguments[arguments.length - 1];"
+            + "indexedDB.databases().then(function(databases) {"
+            + "  done(databases.map(function(database) { return database.name; }));"
+            + "}, function() { done(null); });";
+    //@formatter:on
+
+    private static final String PAGE = "<html><body>recycle me</body></html>";
+
+    @TempDir
+    Path tempDir;
+
+    ChromeDriver driver;
+    HttpServer server;
+    String fileUrl;
+    String httpUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path page = Files.writeString(tempDir.resolve("page.html"), PAGE);
+        fileUrl = page.toUri().toString();
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        httpUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+
+        driver = new ChromeDriver(new ChromeOptions().addArguments("--headless=new"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void writeStorage(String url) {
+        driver.get(url);
+        assertEquals(Boolean.TRUE, driver.executeAsyncScript(WRITE_STORAGE_SCRIPT));
+        assertEquals("value", driver.executeScript("return localStorage.getItem('key');"));
+        assertEquals(List.of("recycled-db"), driver.executeAsyncScript(READ_DATABASES_SCRIPT));
+    }
+
+    private void assertStorageCleared(String url) {
+        driver.get(url);
+        assertNull(driver.executeScript("return localStorage.getItem('key');"));
+        assertEquals(List.of(), driver.executeAsyncScript(READ_DATABASES_SCRIPT));
+    }
+
+    @Test
+    void recycle() {
+        writeStorage(fileUrl);
+        writeStorage(httpUrl);
+        driver.manage().addCookie(new Cookie("session", "abc"));
+        assertNotNull(driver.manage().getCookieNamed("session"));
+        ((JavascriptExecutor) driver).executeScript("window.open('about:blank');");
+        assertEquals(2, driver.getWindowHandles().size());
+
+        // the current page is the localhost one, the file page is cleared as the additional origin
+        assertTrue(new SessionRecycler(List.of(fileUrl)).recycle(driver));
+
+        assertEquals(SessionRecycler.BLANK_URL, driver.getCurrentUrl());
+        assertEquals(1, driver.getWindowHandles().size());
+        assertStorageCleared(fileUrl);
+        assertStorageCleared(httpUrl);
+        assertTrue(driver.manage().getCookies().isEmpty());
+    }
+}
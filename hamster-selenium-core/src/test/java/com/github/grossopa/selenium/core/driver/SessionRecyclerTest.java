@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link SessionRecycler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class SessionRecyclerTest {
+
+    SessionRecycler testSubject = new SessionRecycler();
+    ComponentWebDriver driver = mock(ComponentWebDriver.class);
+    WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+    WebDriver.Options options = mock(WebDriver.Options.class);
+
+    @BeforeEach
+    void setUp() {
+        when(driver.switchTo()).thenReturn(targetLocator);
+        when(driver.manage()).thenReturn(options);
+        when(driver.getWindowHandles()).thenReturn(new LinkedHashSet<>(List.of("w1", "w2", "w3")));
+        when(driver.getWindowHandle()).thenReturn("w2");
+    }
+
+    @Test
+    void recycle() {
+        assertTrue(testSubject.recycle(driver));
+
+        InOrder inOrder = inOrder(driver, targetLocator, options);
+        inOrder.verify(targetLocator).window("w1");
+        inOrder.verify(driver).close();
+        inOrder.verify(targetLocator).window("w3");
+        inOrder.verify(driver).close();
+        inOrder.verify(targetLocator).window("w2");
+        inOrder.verify(targetLocator).defaultContent();
+        inOrder.verify(driver).executeAsyncScript(SessionRecycler.CLEAR_STORAGE_SCRIPT);
+        inOrder.verify(options).deleteAllCookies();
+        inOrder.verify(driver).resetInputState();
+        inOrder.verify(driver).get(SessionRecycler.BLANK_URL);
+        verify(driver, never()).quit();
+    }
+
+    @Test
+    void recycleWithOrigins() {
+        testSubject = new SessionRecycler(List.of("https://a.example.com/", "https://b.example.com/"));
+        when(driver.getWindowHandles()).thenReturn(Set.of("w2"));
+        assertTrue(testSubject.recycle(driver));
+
+        InOrder inOrder = inOrder(driver, options);
+        inOrder.verify(driver).executeAsyncScript(SessionRecycler.CLEAR_STORAGE_SCRIPT);
+        inOrder.verify(driver).get("https://a.example.com/");
+        inOrder.verify(driver).executeAsyncScript(SessionRecycler.CLEAR_STORAGE_SCRIPT);
+        inOrder.verify(driver).get("https://b.example.com/");
+        inOrder.verify(driver).executeAsyncScript(SessionRecycler.CLEAR_STORAGE_SCRIPT);
+        inOrder.verify(driver).get(SessionRecycler.BLANK_URL);
+        verify(options, times(3)).deleteAllCookies();
+        verify(driver, never()).close();
+    }
+
+    @Test
+    void recycleCurrentWindowClosed() {
+        when(driver.getWindowHandle()).thenThrow(new NoSuchWindowException("closed"));
+        assertTrue(testSubject.recycle(driver));
+        verify(targetLocator, times(1)).window("w2");
+        verify(targetLocator, times(1)).window("w3");
+        verify(targetLocator, times(1)).window("w1");
+        verify(driver, times(2)).close();
+    }
+
+    @Test
+    void recycleNoWindow() {
+        when(driver.getWindowHandles()).thenReturn(Set.of());
+        assertFalse(testSubject.recycle(driver));
+        verify(driver, never()).get(any());
+    }
+
+    @Test
+    void recycleFailed() {
+        when(driver.executeAsyncScript(any())).thenThrow(new ScriptTimeoutException("timeout"));
+        assertFalse(testSubject.recycle(driver));
+        verify(driver, never()).get(any());
+    }
+
+    @Test
+    void getOrigins() {
+        assertEquals(List.of(), testSubject.getOrigins());
+        assertEquals(List.of("https://a.example.com/"),
+                new SessionRecycler(List.of("https://a.example.com/")).getOrigins());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("SessionRecycler{origins=[https://a.example.com/]}",
+                new SessionRecycler(List.of("https://a.example.com/")).toString());
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.driver;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link SharedDriverServiceRegistry}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class SharedDriverServiceRegistryTest {
+
+    SharedDriverServiceRegistry testSubject;
+    CreateDriverServiceAction createServiceAction = mock(CreateDriverServiceAction.class);
+    List<DriverService> services = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(createServiceAction.applyChrome(any())).thenAnswer(answer -> {
+            DriverService service = mock(DriverService.class);
+            services.add(service);
+            return service;
+        });
+        when(createServiceAction.applyFirefox(any())).thenAnswer(answer -> {
+            DriverService service = mock(DriverService.class);
+            services.add(service);
+            return service;
+        });
+        testSubject = new SharedDriverServiceRegistry(createServiceAction);
+    }
+
+    private static DriverConfig config(WebDriverType type, String path, Integer port) {
+        DriverConfig config = new DriverConfig();
+        config.setType(type);
+        config.setDriverExecutablePath(path);
+        config.setPort(port);
+        return config;
+    }
+
+    @Test
+    void acquireShared() throws IOException {
+        DriverService service1 = testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver", null));
+        DriverService service2 = testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver", 0));
+        assertSame(service1, service2);
+        assertEquals(1, services.size());
+        verify(service1, times(1)).start();
+        assertEquals(2, testSubject.getReferenceCount(config(WebDriverType.CHROME, "/chromedriver", -1)));
+        assertEquals(1, testSubject.getServiceCount());
+    }
+
+    @Test
+    void acquireByKey() {
+        DriverService service1 = testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver", null));
+        assertNotSame(service1, testSubject.acquire(config(WebDriverType.FIREFOX, "/chromedriver", null)));
+        assertNotSame(service1, testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver2", null)));
+        assertNotSame(service1, testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver", 9515)));
+        DriverConfig withEnvironment = config(WebDriverType.CHROME, "/chromedriver", null);
+        withEnvironment.setEnvironment(Map.of("DISPLAY", ":1"));
+        assertNotSame(service1, testSubject.acquire(withEnvironment));
+        assertEquals(5, testSubject.getServiceCount());
+    }
+
+    @Test
+    void acquireStartFailed() throws IOException {
+        when(createServiceAction.applyChrome(any())).thenAnswer(answer -> {
+            DriverService service = mock(DriverService.class);
+            doThrow(new IOException("port in use")).when(service).start();
+            return service;
+        });
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        assertThrows(WebDriverException.class, () -> testSubject.acquire(config));
+        assertEquals(0, testSubject.getServiceCount());
+    }
+
+    @Test
+    void release() {
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        DriverService service = testSubject.acquire(config);
+        testSubject.acquire(config);
+
+        testSubject.release(service);
+        verify(service, never()).stop();
+        assertEquals(1, testSubject.getReferenceCount(config));
+
+        testSubject.release(service);
+        verify(service, times(1)).stop();
+        assertEquals(0, testSubject.getReferenceCount(config));
+        assertEquals(0, testSubject.getServiceCount());
+        assertThrows(IllegalArgumentException.class, () -> testSubject.release(service));
+
+        assertNotSame(service, testSubject.acquire(config));
+    }
+
+    @Test
+    void acquireWithoutBlockingOtherConfigs() throws Exception {
+        CountDownLatch starting = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        DriverService slowService = mock(DriverService.class);
+        doAnswer(answer -> {
+            starting.countDown();
+            proceed.await();
+            return null;
+        }).when(slowService).start();
+        when(createServiceAction.applyFirefox(any())).thenReturn(slowService);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DriverConfig slowConfig = config(WebDriverType.FIREFOX, "/geckodriver", null);
+            Future<DriverService> slow1 = executor.submit(() -> testSubject.acquire(slowConfig));
+            assertTrue(starting.await(5, TimeUnit.SECONDS));
+            Future<DriverService> slow2 = executor.submit(() -> testSubject.acquire(slowConfig));
+
+            assertNotNull(testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver", null)));
+            assertFalse(slow1.isDone());
+
+            proceed.countDown();
+            assertSame(slowService, slow1.get(5, TimeUnit.SECONDS));
+            assertSame(slowService, slow2.get(5, TimeUnit.SECONDS));
+            verify(slowService, times(1)).start();
+            assertEquals(2, testSubject.getReferenceCount(slowConfig));
+        } finally {
+            proceed.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void acquireClosedWhileStarting() throws IOException {
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        DriverService service = mock(DriverService.class);
+        doAnswer(answer -> {
+            testSubject.close();
+            return null;
+        }).when(service).start();
+        when(createServiceAction.applyChrome(any())).thenReturn(service);
+
+        assertThrows(WebDriverException.class, () -> testSubject.acquire(config));
+        verify(service).stop();
+        assertEquals(0, testSubject.getServiceCount());
+    }
+
+    @Test
+    void createParams() {
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        Capabilities options = mock(Capabilities.class);
+        CreateWebDriverParams params = testSubject.createParams(config, options);
+        assertSame(options, params.getOptions());
+        assertNull(params.getDriverService());
+        assertSame(config, params.getSharedConfig());
+        assertSame(testSubject, params.getSharedRegistry());
+        assertEquals(0, testSubject.getReferenceCount(config));
+        assertTrue(services.isEmpty());
+    }
+
+    @Test
+    void releaseOnQuit() throws IOException {
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        DriverService service = testSubject.acquire(config);
+        testSubject.acquire(config);
+        CommandExecutor executor1 = mock(CommandExecutor.class);
+        CommandExecutor executor2 = mock(CommandExecutor.class);
+        Command quit = new Command(new SessionId("abc"), DriverCommand.QUIT);
+        when(executor2.execute(quit)).thenThrow(new WebDriverException("session gone"));
+
+        CommandExecutor wrapped1 = testSubject.releaseOnQuit(executor1, service);
+        CommandExecutor wrapped2 = testSubject.releaseOnQuit(executor2, service);
+        wrapped1.execute(new Command(new SessionId("abc"), DriverCommand.GET_TITLE));
+        assertEquals(2, testSubject.getReferenceCount(config));
+
+        wrapped1.execute(quit);
+        wrapped1.execute(quit);
+        verify(executor1, times(2)).execute(quit);
+        assertEquals(1, testSubject.getReferenceCount(config));
+
+        assertThrows(WebDriverException.class, () -> wrapped2.execute(quit));
+        verify(service).stop();
+    }
+
+    @Test
+    void releaseOnQuitReleaseOnce() throws IOException {
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        DriverService service = testSubject.acquire(config);
+        testSubject.acquire(config);
+        SharedDriverServiceRegistry.ReleaseOnQuitExecutor executor = testSubject.releaseOnQuit(
+                mock(CommandExecutor.class), service);
+
+        executor.release();
+        executor.execute(new Command(new SessionId("abc"), DriverCommand.QUIT));
+        assertEquals(1, testSubject.getReferenceCount(config));
+    }
+
+    @Test
+    void close() {
+        DriverService service1 = testSubject.acquire(config(WebDriverType.CHROME, "/chromedriver", null));
+        DriverService service2 = testSubject.acquire(config(WebDriverType.FIREFOX, "/geckodriver", null));
+        testSubject.close();
+        verify(service1).stop();
+        verify(service2).stop();
+        assertEquals(0, testSubject.getServiceCount());
+    }
+
+    @Test
+    void quitAfterClose() throws IOException {
+        DriverConfig config = config(WebDriverType.CHROME, "/chromedriver", null);
+        DriverService service = testSubject.acquire(config);
+        testSubject.acquire(config);
+        CommandExecutor executor = mock(CommandExecutor.class);
+        Command quit = new Command(new SessionId("abc"), DriverCommand.QUIT);
+        Response response = new Response();
+        when(executor.execute(quit)).thenReturn(response);
+        CommandExecutor wrapped1 = testSubject.releaseOnQuit(executor, service);
+        CommandExecutor wrapped2 = testSubject.releaseOnQuit(executor, service);
+
+        testSubject.close();
+        assertSame(response, wrapped1.execute(quit));
+        assertSame(response, wrapped2.execute(quit));
+        testSubject.release(service);
+        verify(service, times(1)).stop();
+
+        DriverService other = mock(DriverService.class);
+        assertThrows(IllegalArgumentException.class, () -> testSubject.release(other));
+    }
+}
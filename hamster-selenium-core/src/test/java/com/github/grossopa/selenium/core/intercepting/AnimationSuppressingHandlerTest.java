@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import static com.github.grossopa.selenium.core.intercepting.AnimationSuppressingHandler.INJECT_SCRIPT;
+import static com.github.grossopa.selenium.core.intercepting.AnimationSuppressingHandler.STYLESHEET;
+import static com.github.grossopa.selenium.core.intercepting.AnimationSuppressingHandler.STYLE_ID;
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AnimationSuppressingHandler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class AnimationSuppressingHandlerTest {
+
+    JavascriptExecutor executor = mock(JavascriptExecutor.class);
+    InterceptingHandler delegate = mock(InterceptingHandler.class);
+    AnimationSuppressingHandler testSubject = new AnimationSuppressingHandler(executor, delegate);
+
+    @Test
+    void onAfterNavigation() {
+        for (String name : new String[]{DRIVER_GET, NAVIGATION_TO, NAVIGATION_REFRESH, NAVIGATION_BACK,
+                NAVIGATION_FORWARD}) {
+            MethodInfo<?> methodInfo = MethodInfo.create(mock(WebDriver.class), name);
+            testSubject.onAfter(methodInfo, null);
+            verify(delegate).onAfter(methodInfo, null);
+        }
+        verify(executor, times(5)).executeScript(INJECT_SCRIPT, STYLE_ID, STYLESHEET);
+    }
+
+    @Test
+    void onAfterOthers() {
+        MethodInfo<?> methodInfo = MethodInfo.create(mock(WebDriver.class), DRIVER_GET_TITLE);
+        testSubject.onAfter(methodInfo, "title");
+        verify(delegate).onAfter(methodInfo, "title");
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void onBeforeAndException() {
+        MethodInfo<?> methodInfo = MethodInfo.create(mock(WebDriver.class), DRIVER_GET);
+        RuntimeException exception = new RuntimeException();
+        testSubject.onBefore(methodInfo);
+        testSubject.onException(methodInfo, exception);
+        verify(delegate).onBefore(methodInfo);
+        verify(delegate).onException(methodInfo, exception);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void withoutDelegate() {
+        testSubject = new AnimationSuppressingHandler(executor);
+        MethodInfo<?> methodInfo = MethodInfo.create(mock(WebDriver.class), NAVIGATION_TO, "http://localhost");
+        testSubject.onBefore(methodInfo);
+        testSubject.onAfter(methodInfo, null);
+        testSubject.onException(methodInfo, new RuntimeException());
+        verify(executor).executeScript(INJECT_SCRIPT, STYLE_ID, STYLESHEET);
+    }
+
+    @Test
+    void suppress() {
+        when(executor.executeScript(INJECT_SCRIPT, STYLE_ID, STYLESHEET)).thenReturn(true, false);
+        assertTrue(testSubject.suppress());
+        assertFalse(testSubject.suppress());
+    }
+
+    @Test
+    void suppressFailed() {
+        when(executor.executeScript(anyString(), any(), any())).thenThrow(new JavascriptException("no document"));
+        assertFalse(testSubject.suppress());
+    }
+
+    @Test
+    void wrap() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebDriver.Navigation navigation = mock(WebDriver.Navigation.class);
+        when(driver.navigate()).thenReturn(navigation);
+        InterceptingWebDriver wrapped = AnimationSuppressingHandler.wrap(driver);
+        wrapped.get("http://localhost");
+        wrapped.navigate().refresh();
+        wrapped.getTitle();
+        verify((JavascriptExecutor) driver, times(2)).executeScript(INJECT_SCRIPT, STYLE_ID, STYLESHEET);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AsyncLoggingHandler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class AsyncLoggingHandlerTest {
+
+    Logger log = mock(Logger.class);
+    AsyncLoggingHandler testSubject = new AsyncLoggingHandler(0L, 4, 32, log, false);
+
+    @Test
+    void constructorInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLoggingHandler(0L, 0, 32, log, false));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLoggingHandler(0L, 4, 3, log, false));
+    }
+
+    @Test
+    void capacityRoundedUp() {
+        assertEquals(8, new AsyncLoggingHandler(0L, 5, 32, log, false).getCapacity());
+        assertEquals(4, testSubject.getCapacity());
+    }
+
+    @Test
+    void getters() {
+        assertTrue(testSubject.isMethodInfoReusable());
+        assertEquals(0L, testSubject.getThresholdInMillis());
+        assertEquals(32, testSubject.getMaxLength());
+        assertSame(log, testSubject.getLog());
+    }
+
+    @Test
+    void onAfter() {
+        MethodInfo<String> info = MethodInfo.create("source-object", "someMethodName", "paramsA", "paramsB");
+        testSubject.onBefore(info);
+        testSubject.onAfter(info, "result");
+        verifyNoInteractions(log);
+        assertEquals(1L, testSubject.getPendingCount());
+
+        assertEquals(1, testSubject.drain());
+        assertEquals(0L, testSubject.getPendingCount());
+        verify(log).info(argThat((String message) -> message.startsWith("someMethodName(paramsA, paramsB)")
+                && message.contains("      Source: source-object\n") && message.contains("      Result: result\n")
+                && message.contains("Thread: " + Thread.currentThread().getName())));
+    }
+
+    @Test
+    void onAfterBelowThreshold() {
+        AsyncLoggingHandler handler = new AsyncLoggingHandler(10_000L, 4, 32, log, false);
+        MethodInfo<String> info = MethodInfo.create("source-object", "someMethodName");
+        handler.onAfter(info, "result");
+        assertTrue(info.isExecutionDone());
+        assertEquals(0, handler.drain());
+        verifyNoInteractions(log);
+    }
+
+    @Test
+    void onException() {
+        NoSuchElementException exception = new NoSuchElementException("abc");
+        MethodInfo<String> info = MethodInfo.create("source-object", "someMethodName");
+        testSubject.onException(info, exception);
+        testSubject.close();
+        verify(log).log(eq(Level.SEVERE), startsWith("someMethodName()      Time spent "), same(exception));
+    }
+
+    @Test
+    void snapshotOnCallingThread() {
+        List<String> param = new ArrayList<>(List.of("a", "b"));
+        Object[] result = new Object[]{"x"};
+        MethodInfo<String> info = MethodInfo.create("source", "name", param);
+        testSubject.onAfter(info, result);
+        param.add("c");
+        info.getParams()[0] = "changed";
+        result[0] = "changed";
+        assertEquals(1, testSubject.drain());
+        verify(log).info(argThat((String message) -> message.startsWith("name(count: 2, [a, b])")
+                && message.contains("      Result: count: 1, [x]\n")));
+    }
+
+    @Test
+    void snapshotKeepsLeadingElements() {
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            large.add(i);
+        }
+        Object snapshot = testSubject.snapshot(large);
+        large.set(0, -1);
+        String described = testSubject.describe(snapshot);
+        assertTrue(described.startsWith("count: 100, [0, 1, 2"));
+        assertTrue(described.endsWith("...]"));
+        assertSame("value", testSubject.snapshot("value"));
+    }
+
+    @Test
+    void publishAfterCloseDropped() {
+        testSubject.close();
+        testSubject.onAfter(MethodInfo.create("source", "name"), null);
+        testSubject.onException(MethodInfo.create("source", "name"), new NoSuchElementException("abc"));
+        assertEquals(2L, testSubject.getDroppedCount());
+        assertEquals(0L, testSubject.getPendingCount());
+        verifyNoInteractions(log);
+    }
+
+    @Test
+    void dropWhenFull() {
+        for (int i = 0; i < 6; i++) {
+            testSubject.onAfter(MethodInfo.create("source", "name" + i), null);
+        }
+        assertEquals(2L, testSubject.getDroppedCount());
+        assertEquals(4, testSubject.drain());
+        testSubject.onAfter(MethodInfo.create("source", "name"), null);
+        assertEquals(1, testSubject.drain());
+        verify(log, times(5)).info(anyString());
+    }
+
+    @Test
+    void formatFailureIgnored() {
+        Object source = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken");
+            }
+        };
+        testSubject.onAfter(MethodInfo.create(source, "name"), null);
+        testSubject.onAfter(MethodInfo.create("source", "name"), null);
+        assertEquals(2, testSubject.drain());
+        verify(log).log(eq(Level.WARNING), eq("Failed to format the log of name"), any(IllegalStateException.class));
+        verify(log, times(1)).info(anyString());
+    }
+
+    @Test
+    void describe() {
+        assertEquals("null", testSubject.describe(null));
+        assertEquals(repeat('a', 29) + "...", testSubject.describe(repeat('a', 40)));
+        assertEquals("count: 2, [a, b]", testSubject.describe(List.of("a", "b")));
+        assertEquals("count: 1, [k=v]", testSubject.describe(Collections.singletonMap("k", "v")));
+        assertEquals("count: 2, [x, y]", testSubject.describe(new Object[]{"x", "y"}));
+
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            large.add("element" + i);
+        }
+        String described = testSubject.describe(large);
+        assertTrue(described.startsWith("count: 100, [element0, element1"));
+        assertTrue(described.endsWith("...]"));
+        assertTrue(described.length() <= "count: 100, ".length() + 32);
+    }
+
+    @Test
+    void backgroundThread() throws InterruptedException {
+        AsyncLoggingHandler handler = new AsyncLoggingHandler(0L, 16, 64, log);
+        for (int i = 0; i < 10; i++) {
+            handler.onAfter(MethodInfo.create("source", "name"), null);
+        }
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (handler.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5L);
+        }
+        handler.close();
+        assertEquals(0L, handler.getPendingCount());
+        verify(log, times(10)).info(anyString());
+    }
+
+    @Test
+    void backgroundThreadParkedWhenIdle() throws InterruptedException {
+        AsyncLoggingHandler handler = new AsyncLoggingHandler(0L, 16, 64, log);
+        Thread consumer = handler.getConsumer();
+        assertNotNull(consumer);
+        try {
+            for (int round = 0; round < 3; round++) {
+                awaitState(consumer, Thread.State.WAITING);
+                handler.onAfter(MethodInfo.create("source", "name"), null);
+                long deadline = System.currentTimeMillis() + 5000L;
+                while (handler.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(5L);
+                }
+                assertEquals(0L, handler.getPendingCount());
+            }
+        } finally {
+            handler.close();
+        }
+        assertFalse(consumer.isAlive());
+        verify(log, times(3)).info(anyString());
+        assertNull(testSubject.getConsumer());
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (thread.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5L);
+        }
+        // parked without timeout rather than polling with a timed park
+        assertEquals(state, thread.getState());
+    }
+
+    @Test
+    void executeViaInterceptingHandler() {
+        MethodInfo<String> info = MethodInfo.of(testSubject, "source", "name", "p");
+        assertTrue(info.isReusable());
+        assertEquals("r", testSubject.execute(() -> "r", info));
+        testSubject.close();
+        verify(log).info(argThat((String message) -> message.startsWith("name(p)")
+                && message.contains("      Source: source\n")));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link CommandBudgetHandler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class CommandBudgetHandlerTest {
+
+    InterceptingHandler delegate = mock(InterceptingHandler.class);
+    CommandBudgetHandler testSubject = new CommandBudgetHandler(delegate);
+    MethodInfo<WebDriver> methodInfo = MethodInfo.create(mock(WebDriver.class), "getTitle");
+
+    @Test
+    void getDelegate() {
+        assertEquals(delegate, testSubject.getDelegate());
+        assertNull(new CommandBudgetHandler().getDelegate());
+    }
+
+    @Test
+    void isMethodInfoReusable() {
+        when(delegate.isMethodInfoReusable()).thenReturn(false);
+        assertFalse(testSubject.isMethodInfoReusable());
+        when(delegate.isMethodInfoReusable()).thenReturn(true);
+        assertTrue(testSubject.isMethodInfoReusable());
+        assertTrue(new CommandBudgetHandler().isMethodInfoReusable());
+    }
+
+    @Test
+    void onBefore() {
+        CommandBudget budget = new CommandBudget(testSubject, 5);
+        testSubject.onBefore(methodInfo);
+        testSubject.register(budget);
+        testSubject.onBefore(methodInfo);
+        testSubject.unregister(budget);
+        testSubject.onBefore(methodInfo);
+        assertEquals(1L, budget.getCount());
+        verify(delegate, times(3)).onBefore(methodInfo);
+    }
+
+    @Test
+    void onAfter() {
+        testSubject.onAfter(methodInfo, "result");
+        verify(delegate, only()).onAfter(methodInfo, "result");
+    }
+
+    @Test
+    void onException() {
+        RuntimeException exception = new RuntimeException("error");
+        testSubject.onException(methodInfo, exception);
+        verify(delegate, only()).onException(methodInfo, exception);
+    }
+
+    @Test
+    void withoutDelegate() {
+        CommandBudgetHandler handler = new CommandBudgetHandler();
+        assertDoesNotThrow(() -> {
+            handler.onBefore(methodInfo);
+            handler.onAfter(methodInfo, "result");
+            handler.onException(methodInfo, new RuntimeException());
+        });
+    }
+}
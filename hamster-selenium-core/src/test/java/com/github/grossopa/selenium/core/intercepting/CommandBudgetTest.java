@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link CommandBudget}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class CommandBudgetTest {
+
+    WebDriver driver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    InterceptingWebDriver testDriver = CommandBudget.instrument(driver);
+
+    @Test
+    void instrument() {
+        assertEquals(driver, testDriver.getDriver());
+        assertTrue(testDriver.getHandler() instanceof CommandBudgetHandler);
+        assertNull(((CommandBudgetHandler) testDriver.getHandler()).getDelegate());
+    }
+
+    @Test
+    void withinBudget() {
+        when(driver.findElement(By.id("a"))).thenReturn(element);
+        try (CommandBudget budget = CommandBudget.open(testDriver, 3)) {
+            WebElement found = testDriver.findElement(By.id("a"));
+            found.click();
+            found.getText();
+            assertEquals(3L, budget.getCount());
+            assertFalse(budget.isExceeded());
+            assertEquals(3L, budget.getMaxCommands());
+            budget.verify();
+        }
+    }
+
+    @Test
+    void getCounts() {
+        when(driver.findElement(By.id("a"))).thenReturn(element);
+        try (CommandBudget budget = CommandBudget.open(testDriver)) {
+            WebElement found = testDriver.findElement(By.id("a"));
+            found.click();
+            found.click();
+            testDriver.getTitle();
+            Map<String, Long> counts = budget.getCounts();
+            assertEquals(3, counts.size());
+            assertEquals(1L, counts.get(DRIVER_FIND_ELEMENT));
+            assertEquals(2L, counts.get(ELEMENT_CLICK));
+            assertEquals(1L, counts.get(DRIVER_GET_TITLE));
+            assertEquals(Long.MAX_VALUE, budget.getMaxCommands());
+        }
+    }
+
+    @Test
+    void exceeded() {
+        CommandBudget budget = CommandBudget.open(testDriver, 1);
+        testDriver.getTitle();
+        testDriver.getTitle();
+        assertTrue(budget.isExceeded());
+        assertThrows(CommandBudgetExceededException.class, budget::verify);
+
+        CommandBudgetExceededException exception = assertThrows(CommandBudgetExceededException.class,
+                budget::close);
+        assertEquals(1L, exception.getMaxCommands());
+        assertEquals(2L, exception.getActualCommands());
+        assertEquals("Expected at most 1 commands but 2 were issued: {" + DRIVER_GET_TITLE
+                + "=2} (excluding the ones via WebDriver.manage())", exception.getMessage());
+    }
+
+    @Test
+    void manageNotCounted() {
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        when(driver.manage()).thenReturn(options);
+        try (CommandBudget budget = CommandBudget.open(testDriver, 0)) {
+            testDriver.manage().deleteAllCookies();
+            assertEquals(0L, budget.getCount());
+        }
+        verify(options).deleteAllCookies();
+    }
+
+    @Test
+    void closeTwice() {
+        CommandBudget budget = CommandBudget.open(testDriver, 0);
+        testDriver.getTitle();
+        assertThrows(CommandBudgetExceededException.class, budget::close);
+        assertDoesNotThrow(budget::close);
+    }
+
+    @Test
+    void notCountedAfterClose() {
+        CommandBudget budget = CommandBudget.open(testDriver, 1);
+        testDriver.getTitle();
+        budget.close();
+        testDriver.getTitle();
+        testDriver.getTitle();
+        assertEquals(1L, budget.getCount());
+        assertFalse(budget.isExceeded());
+    }
+
+    @Test
+    void nested() {
+        try (CommandBudget outer = CommandBudget.open(testDriver, 3)) {
+            testDriver.getTitle();
+            try (CommandBudget inner = CommandBudget.open(testDriver, 1)) {
+                testDriver.getCurrentUrl();
+                assertEquals(1L, inner.getCount());
+            }
+            testDriver.getPageSource();
+            assertEquals(3L, outer.getCount());
+        }
+    }
+
+    @Test
+    void openViaComponentWebDriver() {
+        ComponentWebDriver componentDriver = new DefaultComponentWebDriver(testDriver);
+        try (CommandBudget budget = CommandBudget.open(componentDriver, 1)) {
+            componentDriver.getTitle();
+            assertEquals(1L, budget.getCount());
+        }
+    }
+
+    @Test
+    void openViaOtherInterceptingDriver() {
+        InterceptingWebDriver outerDriver = new InterceptingWebDriver(testDriver, new NoOpInterceptingHandler());
+        try (CommandBudget budget = CommandBudget.open(outerDriver)) {
+            outerDriver.getTitle();
+            assertEquals(1L, budget.getCount());
+        }
+    }
+
+    @Test
+    void openNotInstrumented() {
+        assertThrows(IllegalArgumentException.class, () -> CommandBudget.open(driver));
+        ComponentWebDriver componentDriver = new DefaultComponentWebDriver(driver);
+        assertThrows(IllegalArgumentException.class, () -> CommandBudget.open(componentDriver));
+    }
+
+    @Test
+    void openNegative() {
+        assertThrows(IllegalArgumentException.class, () -> CommandBudget.open(testDriver, -1));
+    }
+
+    @Test
+    void openNull() {
+        assertThrows(NullPointerException.class, () -> CommandBudget.open(null));
+    }
+
+    @Test
+    void testToString() {
+        try (CommandBudget budget = CommandBudget.open(testDriver, 2)) {
+            testDriver.getTitle();
+            assertEquals("CommandBudget{count=1, maxCommands=2, counts={" + DRIVER_GET_TITLE + "=1}}",
+                    budget.toString());
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests for {@link InterceptingHandler}
@@ -81,4 +82,63 @@ class InterceptingHandlerTest {
         assertFalse(afterCalled);
         assertTrue(exceptionCalled);
     }
+
+    @Test
+    void defaults() {
+        assertFalse(testSubject.isNoOp());
+        assertFalse(testSubject.isMethodInfoReusable());
+        assertFalse(MethodInfo.of(testSubject, "", "").isReusable());
+        assertFalse(MethodInfo.of(testSubject, "", "", "a").isReusable());
+    }
+
+    @Test
+    void mockHandlerCreatesNewMethodInfo() {
+        InterceptingHandler handler = mock(InterceptingHandler.class);
+        assertFalse(MethodInfo.of(handler, "", "").isReusable());
+        assertFalse(MethodInfo.of(handler, "", "", "a").isReusable());
+    }
+
+    @Test
+    void executeReleasesReusable() {
+        InterceptingHandler handler = new NoRetainingHandler();
+        MethodInfo<String> info = MethodInfo.of(handler, "source", "name", "a");
+        assertTrue(info.isReusable());
+        assertEquals("result", handler.execute(() -> "result", info));
+        assertNull(info.getSource());
+        assertSame(info, MethodInfo.of(handler, "source", "name"));
+        info.release();
+    }
+
+    @Test
+    @SuppressWarnings("all")
+    void executeExceptionReleasesReusable() {
+        InterceptingHandler handler = new NoRetainingHandler();
+        MethodInfo<String> info = MethodInfo.of(handler, "source", "name");
+        assertThrows(NoSuchElementException.class, () -> handler.execute(() -> {
+            throw new NoSuchElementException("");
+        }, info));
+        assertNull(info.getSource());
+    }
+
+    private static class NoRetainingHandler implements InterceptingHandler {
+        @Override
+        public void onBefore(MethodInfo<?> methodInfo) {
+            // nothing
+        }
+
+        @Override
+        public void onAfter(MethodInfo<?> methodInfo, Object resultValue) {
+            // nothing
+        }
+
+        @Override
+        public void onException(MethodInfo<?> methodInfo, Exception exception) {
+            // nothing
+        }
+
+        @Override
+        public boolean isMethodInfoReusable() {
+            return true;
+        }
+    }
 }
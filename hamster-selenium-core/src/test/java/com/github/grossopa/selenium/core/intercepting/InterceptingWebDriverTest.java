@@ -216,4 +216,34 @@ class InterceptingWebDriverTest {
         testSubject.resetInputState();
         verify(driver, times(1)).resetInputState();
     }
+
+    @Test
+    void noOpFastPath() {
+        InterceptingHandler noOpHandler = spy(new NoOpInterceptingHandler());
+        InterceptingWebDriver noOpDriver = new InterceptingWebDriver(driver, noOpHandler);
+        when(driver.getTitle()).thenReturn("title");
+        when(driver.findElement(By.id("aa"))).thenReturn(element);
+        when(driver.findElements(By.id("aa"))).thenReturn(elements);
+
+        noOpDriver.get("http://www.google.com");
+        assertEquals("title", noOpDriver.getTitle());
+        assertEquals(new InterceptingWebElement(element, noOpHandler), noOpDriver.findElement(By.id("aa")));
+        assertEquals(1, noOpDriver.findElements(By.id("aa")).size());
+        noOpDriver.quit();
+
+        verify(driver, times(1)).get("http://www.google.com");
+        verify(driver, times(1)).quit();
+        verify(noOpHandler, never()).execute(any(), any());
+        verify(noOpHandler, never()).onBefore(any());
+    }
+
+    @Test
+    void getHandler() {
+        assertEquals(handler, testSubject.getHandler());
+    }
+
+    @Test
+    void getDriver() {
+        assertEquals(driver, testSubject.getDriver());
+    }
 }
@@ -70,6 +70,17 @@ class InterceptingWebElementTest {
         afterEachVerify(handler, element, ELEMENT_CLICK, null);
     }
 
+    @Test
+    void clickNoOp() {
+        InterceptingHandler noOpHandler = spy(new NoOpInterceptingHandler());
+        when(element.getText()).thenReturn("text");
+        InterceptingWebElement noOpElement = new InterceptingWebElement(element, noOpHandler);
+        noOpElement.click();
+        assertEquals("text", noOpElement.getText());
+        verify(element, times(1)).click();
+        verify(noOpHandler, never()).execute(any(), any());
+    }
+
     @Test
     void submit() {
         testSubject.submit();
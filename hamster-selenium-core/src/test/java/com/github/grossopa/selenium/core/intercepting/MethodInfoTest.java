@@ -27,6 +27,9 @@ package com.github.grossopa.selenium.core.intercepting;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -82,4 +85,76 @@ class MethodInfoTest {
         testSubject.executionDone();
         assertTrue(100 > testSubject.getTimeElapsedInMillis());
     }
+
+    @Test
+    void getTimeElapsedInMillisNotDone() {
+        assertThrows(IllegalStateException.class, () -> testSubject.getTimeElapsedInMillis());
+    }
+
+    @Test
+    void nanoTimes() {
+        long before = System.nanoTime();
+        testSubject = MethodInfo.create(source, methodName, params);
+        assertFalse(testSubject.isExecutionDone());
+        assertEquals(0L, testSubject.getEndTimeNanos());
+        testSubject.executionDone();
+        assertTrue(testSubject.isExecutionDone());
+        assertTrue(testSubject.getStartTimeNanos() - before >= 0);
+        assertTrue(testSubject.getEndTimeNanos() - testSubject.getStartTimeNanos() >= 0);
+        assertEquals(testSubject.getEndTimeNanos() - testSubject.getStartTimeNanos(),
+                testSubject.getTimeElapsedNanos());
+        assertEquals(testSubject.getTimeElapsedNanos() / 1_000_000L, testSubject.getTimeElapsedInMillis());
+        assertEquals(testSubject.getStartTimeInMillis() + testSubject.getTimeElapsedInMillis(),
+                testSubject.getEndTimeInMillis());
+    }
+
+    @Test
+    void createWithoutParams() {
+        testSubject = MethodInfo.create(source, methodName);
+        assertSame(MethodInfo.EMPTY_PARAMS, testSubject.getParams());
+        assertFalse(testSubject.isReusable());
+        testSubject.release();
+        assertEquals(source, testSubject.getSource());
+    }
+
+    @Test
+    void reusable() {
+        MethodInfo<String> info = MethodInfo.reusable(source, methodName, params);
+        assertTrue(info.isReusable());
+        assertEquals(source, info.getSource());
+        assertEquals(params, info.getParams()[0]);
+        info.executionDone();
+        info.release();
+        assertNull(info.getSource());
+        assertSame(MethodInfo.EMPTY_PARAMS, info.getParams());
+
+        MethodInfo<String> next = MethodInfo.reusable("other", "otherName");
+        assertSame(info, next);
+        assertEquals("other", next.getSource());
+        assertEquals("otherName", next.getName());
+        assertFalse(next.isExecutionDone());
+        next.release();
+    }
+
+    @Test
+    void reusableInUse() {
+        MethodInfo<String> outer = MethodInfo.reusable(source, methodName);
+        MethodInfo<String> inner = MethodInfo.reusable("inner", "innerName");
+        assertNotSame(outer, inner);
+        assertFalse(inner.isReusable());
+        assertEquals(source, outer.getSource());
+        outer.release();
+    }
+
+    @Test
+    void reusablePerThread() throws InterruptedException {
+        MethodInfo<String> info = MethodInfo.reusable(source, methodName);
+        List<MethodInfo<String>> others = new ArrayList<>();
+        Thread thread = new Thread(() -> others.add(MethodInfo.reusable("thread", "threadName")));
+        thread.start();
+        thread.join();
+        assertNotSame(info, others.get(0));
+        assertTrue(others.get(0).isReusable());
+        info.release();
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import com.github.grossopa.selenium.core.util.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link MetricsHandler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class MetricsHandlerTest {
+
+    MetricsHandler testSubject = new MetricsHandler();
+    WebDriver driver = mock(WebDriver.class);
+
+    @Test
+    void isMethodInfoReusable() {
+        assertTrue(testSubject.isMethodInfoReusable());
+    }
+
+    @Test
+    void recordViaInterceptingDriver() {
+        when(driver.getTitle()).thenReturn("title");
+        when(driver.findElement(By.id("a"))).thenThrow(new NoSuchElementException("a"));
+        InterceptingWebDriver interceptingDriver = new InterceptingWebDriver(driver, testSubject);
+        interceptingDriver.getTitle();
+        interceptingDriver.getTitle();
+        By by = By.id("a");
+        assertThrows(NoSuchElementException.class, () -> interceptingDriver.findElement(by));
+
+        LatencyHistogram titleHistogram = testSubject.getHistogram(DRIVER_GET_TITLE);
+        assertNotNull(titleHistogram);
+        assertEquals(2L, titleHistogram.getCount());
+        assertEquals(0L, testSubject.getErrorCount(DRIVER_GET_TITLE));
+        assertEquals(1L, requireHistogram(DRIVER_FIND_ELEMENT).getCount());
+        assertEquals(1L, testSubject.getErrorCount(DRIVER_FIND_ELEMENT));
+        assertNull(testSubject.getHistogram(DRIVER_QUIT));
+        assertEquals(0L, testSubject.getErrorCount(DRIVER_QUIT));
+    }
+
+    @Test
+    void recordLatency() {
+        MethodInfo<WebDriver> info = MethodInfo.create(driver, DRIVER_GET);
+        info.executionDone();
+        testSubject.onAfter(info, null);
+        LatencyHistogram histogram = requireHistogram(DRIVER_GET);
+        assertEquals(info.getTimeElapsedNanos(), histogram.getMax().toNanos());
+    }
+
+    @Test
+    void recordExceptionNotDone() {
+        MethodInfo<WebDriver> info = MethodInfo.create(driver, DRIVER_GET);
+        testSubject.onBefore(info);
+        testSubject.onException(info, new RuntimeException());
+        assertEquals(1L, requireHistogram(DRIVER_GET).getCount());
+        assertEquals(1L, testSubject.getErrorCount(DRIVER_GET));
+    }
+
+    @Test
+    void snapshot() {
+        record(DRIVER_GET_TITLE, 3);
+        record(DRIVER_CLOSE, 1);
+        Map<String, MetricsHandler.MethodSnapshot> snapshot = testSubject.snapshot();
+        assertArrayEquals(new String[]{DRIVER_CLOSE, DRIVER_GET_TITLE}, snapshot.keySet().toArray());
+        MethodInfo<WebDriver> info = MethodInfo.create(driver, DRIVER_GET_TITLE);
+        testSubject.onException(info, new RuntimeException());
+
+        MetricsHandler.MethodSnapshot title = snapshot.get(DRIVER_GET_TITLE);
+        assertEquals(DRIVER_GET_TITLE, title.getMethodName());
+        assertEquals(3L, title.getCount());
+        assertEquals(3L, title.getHistogram().getCount());
+        assertEquals(0L, title.getErrorCount());
+        assertEquals(4L, requireHistogram(DRIVER_GET_TITLE).getCount());
+        assertThrows(UnsupportedOperationException.class, snapshot::clear);
+    }
+
+    @Test
+    void snapshotAndReset() {
+        record(DRIVER_GET_TITLE, 2);
+        Map<String, MetricsHandler.MethodSnapshot> snapshot = testSubject.snapshotAndReset();
+        assertEquals(2L, snapshot.get(DRIVER_GET_TITLE).getCount());
+        assertNull(testSubject.getHistogram(DRIVER_GET_TITLE));
+        assertTrue(testSubject.snapshot().isEmpty());
+    }
+
+    @Test
+    void reset() {
+        record(DRIVER_GET_TITLE, 2);
+        testSubject.onException(MethodInfo.create(driver, DRIVER_GET_TITLE), new RuntimeException());
+        LatencyHistogram histogram = requireHistogram(DRIVER_GET_TITLE);
+        testSubject.reset();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, testSubject.getErrorCount(DRIVER_GET_TITLE));
+        assertEquals(0L, testSubject.snapshot().get(DRIVER_GET_TITLE).getCount());
+        record(DRIVER_GET_TITLE, 1);
+        assertEquals(1L, histogram.getCount());
+    }
+
+    @Test
+    void recordConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                record(DRIVER_GET_TITLE, 500);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(2000L, requireHistogram(DRIVER_GET_TITLE).getCount());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("MetricsHandler{methods=0, count=0, errors=0}", testSubject.toString());
+        record(DRIVER_GET_TITLE, 1);
+        testSubject.onException(MethodInfo.create(driver, DRIVER_FIND_ELEMENT), new RuntimeException());
+        assertEquals("MetricsHandler{methods=2, count=2, errors=1}", testSubject.toString());
+    }
+
+    private void record(String methodName, int times) {
+        for (int i = 0; i < times; i++) {
+            MethodInfo<WebDriver> info = MethodInfo.reusable(driver, methodName);
+            info.executionDone();
+            testSubject.onAfter(info, null);
+            info.release();
+        }
+    }
+
+    private LatencyHistogram requireHistogram(String methodName) {
+        LatencyHistogram histogram = testSubject.getHistogram(methodName);
+        assertNotNull(histogram);
+        return histogram;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link NoOpInterceptingHandler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class NoOpInterceptingHandlerTest {
+
+    NoOpInterceptingHandler testSubject = new NoOpInterceptingHandler();
+
+    @Test
+    void flags() {
+        assertTrue(testSubject.isNoOp());
+        assertTrue(testSubject.isMethodInfoReusable());
+    }
+
+    @Test
+    void execute() {
+        MethodInfo<String> info = MethodInfo.of(testSubject, "source", "name");
+        assertTrue(info.isReusable());
+        assertEquals("result", testSubject.execute(() -> "result", info));
+        assertFalse(info.isExecutionDone());
+        assertNull(info.getSource());
+    }
+
+    @Test
+    @SuppressWarnings("all")
+    void executeException() {
+        MethodInfo<String> info = MethodInfo.of(testSubject, "source", "name", "a");
+        assertThrows(NoSuchElementException.class, () -> testSubject.execute(() -> {
+            throw new NoSuchElementException("");
+        }, info));
+        assertNull(info.getSource());
+    }
+
+    @Test
+    void callbacks() {
+        MethodInfo<String> info = MethodInfo.create("source", "name");
+        assertDoesNotThrow(() -> {
+            testSubject.onBefore(info);
+            testSubject.onAfter(info, null);
+            testSubject.onException(info, new RuntimeException());
+        });
+    }
+}
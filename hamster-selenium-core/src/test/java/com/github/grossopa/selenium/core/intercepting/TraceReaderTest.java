@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import com.github.grossopa.selenium.core.util.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TraceReader}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class TraceReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConstructor() {
+        boolean asserted = false;
+        Constructor<?> constructor = TraceReader.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        try {
+            constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            assertEquals(AssertionError.class, e.getCause().getClass());
+            asserted = true;
+        }
+
+        assertTrue(asserted);
+    }
+
+    @Test
+    void invalidMagic() {
+        ByteBuffer buffer = ByteBuffer.allocate(16).putInt(1).putShort((short) 1).flip();
+        assertThrows(IOException.class, () -> TraceReader.read(buffer, r -> {
+        }));
+    }
+
+    @Test
+    void invalidVersion() {
+        ByteBuffer buffer = ByteBuffer.allocate(16).putInt(TraceRecordingHandler.MAGIC).putShort((short) 9).flip();
+        IOException exception = assertThrows(IOException.class, () -> TraceReader.read(buffer, r -> {
+        }));
+        assertEquals("Unsupported trace version 9.", exception.getMessage());
+    }
+
+    @Test
+    void unknownTag() {
+        ByteBuffer buffer = header(16).put((byte) 7).flip();
+        IOException exception = assertThrows(IOException.class, () -> TraceReader.read(buffer, r -> {
+        }));
+        assertEquals("Unknown tag 7 at 6.", exception.getMessage());
+    }
+
+    @Test
+    void unexpectedStringId() {
+        ByteBuffer buffer = header(32).put(TraceRecordingHandler.TAG_STRING).putInt(3).putShort((short) 0).flip();
+        assertThrows(IOException.class, () -> TraceReader.read(buffer, r -> {
+        }));
+    }
+
+    @Test
+    void truncated() {
+        byte[] name = "m".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = header(64).put(TraceRecordingHandler.TAG_STRING).putInt(0).putShort((short) 1).put(name)
+                .put(TraceRecordingHandler.TAG_COMMAND).putInt(0).putLong(1L).flip();
+        IOException exception = assertThrows(IOException.class, () -> TraceReader.read(buffer, r -> {
+        }));
+        assertEquals("The trace file is truncated or corrupted.", exception.getMessage());
+    }
+
+    @Test
+    void readWithoutEndTag() throws IOException {
+        byte[] name = "m".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = header(64).put(TraceRecordingHandler.TAG_STRING).putInt(0).putShort((short) 1).put(name)
+                .put(TraceRecordingHandler.TAG_COMMAND).putInt(0).putLong(1L).putLong(10L).putLong(25L).putInt(-1)
+                .putInt(-1).putShort((short) 0).flip();
+        List<TraceRecord> records = new ArrayList<>();
+        TraceReader.read(buffer, records::add);
+        assertEquals(1, records.size());
+        assertEquals(15L, records.get(0).getDurationNanos());
+        assertNull(records.get(0).getExceptionClassName());
+    }
+
+    @Test
+    void summarizeAndPrint() {
+        List<TraceRecord> records = List.of(
+                new TraceRecord("b", List.of(), 1L, 0L, 2_000_000L, 1, null),
+                new TraceRecord("a", List.of(), 1L, 0L, 1_000_000L, 1, null),
+                new TraceRecord("a", List.of(), 1L, 0L, 3_000_000L, -1, "java.lang.RuntimeException"));
+        Map<String, LatencyHistogram> summary = TraceReader.summarize(records);
+        assertArrayEquals(new String[]{"a", "b"}, summary.keySet().toArray());
+        assertEquals(2L, summary.get("a").getCount());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TraceReader.print(records, new PrintStream(output, true, StandardCharsets.UTF_8));
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\\R");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("method"));
+        assertTrue(lines[1].matches("a\\s+2\\s+1\\s+.*3\\.000"));
+        assertTrue(lines[2].matches("b\\s+1\\s+0\\s+.*2\\.000"));
+    }
+
+    @Test
+    void readFile() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        Files.write(path, new byte[]{0x48, 0x53, 0x54, 0x52, 0, 1});
+        assertTrue(TraceReader.read(path).isEmpty());
+    }
+
+    @Test
+    void mainUsage() {
+        assertDoesNotThrow(() -> TraceReader.main(new String[0]));
+    }
+
+    private ByteBuffer header(int capacity) {
+        return ByteBuffer.allocate(capacity).putInt(TraceRecordingHandler.MAGIC)
+                .putShort(TraceRecordingHandler.VERSION);
+    }
+}
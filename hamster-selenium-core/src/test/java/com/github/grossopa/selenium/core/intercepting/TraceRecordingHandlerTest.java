@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.intercepting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link TraceRecordingHandler}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class TraceRecordingHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    WebDriver driver = mock(WebDriver.class);
+
+    @Test
+    void constructorInvalid() {
+        Path path = tempDir.resolve("trace.bin");
+        assertThrows(IllegalArgumentException.class, () -> new TraceRecordingHandler(path, 10));
+    }
+
+    @Test
+    void recordAndRead() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        WebElement element = mock(WebElement.class);
+        when(driver.getTitle()).thenReturn("title");
+        when(driver.findElements(By.id("a"))).thenReturn(List.of(element, element));
+        when(driver.findElement(By.id("b"))).thenThrow(new NoSuchElementException("b"));
+
+        TraceRecordingHandler testSubject = new TraceRecordingHandler(path);
+        assertTrue(testSubject.isMethodInfoReusable());
+        assertEquals(path, testSubject.getPath());
+        InterceptingWebDriver interceptingDriver = new InterceptingWebDriver(driver, testSubject);
+        interceptingDriver.get("http://localhost");
+        assertEquals("title", interceptingDriver.getTitle());
+        assertEquals(2, interceptingDriver.findElements(By.id("a")).size());
+        By by = By.id("b");
+        assertThrows(NoSuchElementException.class, () -> interceptingDriver.findElement(by));
+        testSubject.close();
+        testSubject.close();
+
+        assertEquals(4L, testSubject.getRecordCount());
+        assertEquals(0L, testSubject.getFailedCount());
+        List<TraceRecord> records = TraceReader.read(path);
+        assertEquals(4, records.size());
+
+        assertEquals(DRIVER_GET, records.get(0).getMethodName());
+        assertEquals(List.of("http://localhost"), records.get(0).getParams());
+        assertEquals(-1, records.get(0).getResultSize());
+        assertEquals(Thread.currentThread().getId(), records.get(0).getThreadId());
+        assertTrue(records.get(0).getDurationNanos() >= 0);
+
+        assertEquals(DRIVER_GET_TITLE, records.get(1).getMethodName());
+        assertEquals(5, records.get(1).getResultSize());
+        assertEquals(DRIVER_FIND_ELEMENTS, records.get(2).getMethodName());
+        assertEquals(List.of("By.id: a"), records.get(2).getParams());
+        assertEquals(2, records.get(2).getResultSize());
+
+        assertEquals(DRIVER_FIND_ELEMENT, records.get(3).getMethodName());
+        assertTrue(records.get(3).isFailed());
+        assertEquals(NoSuchElementException.class.getName(), records.get(3).getExceptionClassName());
+        assertFalse(records.get(2).isFailed());
+    }
+
+    @Test
+    void closeTruncates() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        TraceRecordingHandler testSubject = new TraceRecordingHandler(path);
+        record(testSubject, DRIVER_GET_TITLE, "result");
+        testSubject.close();
+        assertTrue(Files.size(path) < 100L);
+        record(testSubject, DRIVER_GET_TITLE, "ignored");
+        assertEquals(1L, testSubject.getRecordCount());
+        assertEquals(1, TraceReader.read(path).size());
+    }
+
+    @Test
+    void internedStrings() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        TraceRecordingHandler testSubject = new TraceRecordingHandler(path);
+        for (int i = 0; i < 100; i++) {
+            record(testSubject, DRIVER_GET_TITLE, "result", "same-param");
+        }
+        testSubject.close();
+        // header + 2 strings + 100 commands of 43 bytes each + end tag
+        assertTrue(Files.size(path) < 6 + 40 + 100 * 43 + 1);
+        assertEquals(100, TraceReader.read(path).size());
+    }
+
+    @Test
+    void internedStringsBounded() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        TraceRecordingHandler testSubject = new TraceRecordingHandler(path, 1024, 3);
+        for (int i = 0; i < 10; i++) {
+            record(testSubject, DRIVER_GET_TITLE, null, "param" + i);
+        }
+        record(testSubject, DRIVER_FIND_ELEMENT, null, "param1");
+        record(testSubject, DRIVER_FIND_ELEMENT, null, "param9");
+        testSubject.close();
+        assertEquals(4, testSubject.getInternedCount());
+
+        List<TraceRecord> records = TraceReader.read(path);
+        assertEquals(12, records.size());
+        assertEquals(List.of("param9"), records.get(9).getParams());
+        assertEquals(DRIVER_FIND_ELEMENT, records.get(10).getMethodName());
+        assertEquals(List.of("param1"), records.get(10).getParams());
+        assertEquals(List.of("param9"), records.get(11).getParams());
+    }
+
+    @Test
+    void segmentRollover() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        TraceRecordingHandler testSubject = new TraceRecordingHandler(path, 64);
+        for (int i = 0; i < 50; i++) {
+            record(testSubject, DRIVER_GET_TITLE, null, "param" + i);
+        }
+        record(testSubject, DRIVER_EXECUTE_SCRIPT, null, repeat('x', 5000), new Object[]{"a", 1});
+        testSubject.close();
+
+        List<TraceRecord> records = TraceReader.read(path);
+        assertEquals(51, records.size());
+        assertEquals(List.of("param49"), records.get(49).getParams());
+        List<String> params = records.get(50).getParams();
+        assertTrue(params.get(0).endsWith("..."));
+        assertTrue(params.get(0).length() < 400);
+        assertEquals("[a, 1]", params.get(1));
+    }
+
+    @Test
+    void resultSize() throws IOException {
+        Path path = tempDir.resolve("trace.bin");
+        TraceRecordingHandler testSubject = new TraceRecordingHandler(path);
+        record(testSubject, "m", Map.of("a", 1));
+        record(testSubject, "m", new Object[3]);
+        record(testSubject, "m", new byte[7]);
+        record(testSubject, "m", Boolean.TRUE);
+        testSubject.close();
+        List<TraceRecord> records = TraceReader.read(path);
+        assertEquals(1, records.get(0).getResultSize());
+        assertEquals(3, records.get(1).getResultSize());
+        assertEquals(7, records.get(2).getResultSize());
+        assertEquals(1, records.get(3).getResultSize());
+    }
+
+    private void record(TraceRecordingHandler handler, String name, Object result, Object... params) {
+        MethodInfo<WebDriver> info = MethodInfo.create(driver, name, params);
+        handler.onBefore(info);
+        info.executionDone();
+        handler.onAfter(info, result);
+    }
+}
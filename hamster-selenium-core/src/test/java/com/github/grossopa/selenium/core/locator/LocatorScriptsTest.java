@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.locator;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LocatorScripts}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class LocatorScriptsTest {
+
+    @Test
+    void constructor() {
+        boolean asserted = false;
+        Constructor<?> constructor = LocatorScripts.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        try {
+            constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            assertEquals(AssertionError.class, e.getCause().getClass());
+            asserted = true;
+        }
+
+        assertTrue(asserted);
+    }
+
+    @Test
+    void getParameters() {
+        assertEquals(new By.Remotable.Parameters("id", "some-id"), LocatorScripts.getParameters(By.id("some-id")));
+        assertEquals(new By.Remotable.Parameters("class name", "cls"),
+                LocatorScripts.getParameters(By.className("cls")));
+        assertEquals(new By.Remotable.Parameters("xpath", "//div"), LocatorScripts.getParameters(By2.xpath("//div")));
+        assertEquals(new By.Remotable.Parameters("css selector", "a > b"),
+                LocatorScripts.getParameters(By.cssSelector("a > b")));
+        assertEquals(new By.Remotable.Parameters("link text", "Home"),
+                LocatorScripts.getParameters(By.linkText("Home")));
+    }
+
+    @Test
+    void getParametersNotRemotable() {
+        assertNull(LocatorScripts.getParameters(mock(By.class)));
+        assertFalse(LocatorScripts.isSupported(mock(By.class)));
+    }
+
+    @Test
+    void getParametersUnknownMechanism() {
+        By by = mock(By.class, withSettings().extraInterfaces(By.Remotable.class));
+        when(((By.Remotable) by).getRemoteParameters())
+                .thenReturn(new By.Remotable.Parameters("some mechanism", "value"));
+        assertNull(LocatorScripts.getParameters(by));
+    }
+
+    @Test
+    void isSupported() {
+        assertTrue(LocatorScripts.isSupported(By2.attrContains("class", "some")));
+        assertTrue(LocatorScripts.isSupported(By.tagName("div")));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Tests for {@link ReplayCodec}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ReplayCodecTest {
+
+    WebElement element = mock(WebElement.class);
+    WebDriver driver = mock(WebDriver.class);
+
+    @Test
+    void testConstructor() {
+        boolean asserted = false;
+        Constructor<?> constructor = ReplayCodec.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        try {
+            constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            assertEquals(AssertionError.class, e.getCause().getClass());
+            asserted = true;
+        }
+
+        assertTrue(asserted);
+    }
+
+    @Test
+    void encodePlain() {
+        assertNull(ReplayCodec.encode(null, e -> 0));
+        assertEquals("a", ReplayCodec.encode("a", e -> 0));
+        assertEquals(true, ReplayCodec.encode(true, e -> 0));
+        assertEquals(3, ReplayCodec.encode(3, e -> 0));
+        assertEquals("By.id: a", ReplayCodec.encode(By.id("a"), e -> 0));
+        assertEquals("tab", ReplayCodec.encode(WindowType.TAB, e -> 0));
+        assertEquals(List.of("a", Keys.ENTER.toString()),
+                ReplayCodec.encode(new CharSequence[]{"a", Keys.ENTER}, e -> 0));
+        assertNull(ReplayCodec.encode(new byte[1], e -> 0));
+        assertNull(ReplayCodec.encode(new File("a"), e -> 0));
+        assertEquals(Map.of("k", List.of(1L)), ReplayCodec.encode(Map.of("k", List.of(1L)), e -> 0));
+        assertEquals(List.of("Sequence"), ReplayCodec.encode(
+                List.of(new Sequence(new PointerInput(PointerInput.Kind.MOUSE, "mouse"), 0)), e -> 0));
+        assertEquals("custom", ReplayCodec.encode(new Object() {
+            @Override
+            public String toString() {
+                return "custom";
+            }
+        }, e -> 0));
+    }
+
+    @Test
+    void encodeElementAndDriver() {
+        WrapsElement wrapper = mock(WrapsElement.class, withSettings().extraInterfaces(WebElement.class));
+        when(wrapper.getWrappedElement()).thenReturn(element);
+        assertEquals(Map.of("replay-element", 5L),
+                ReplayCodec.encode(wrapper, e -> e == element ? 5 : -1));
+        assertEquals("element#5", ReplayCodec.encodeSource(wrapper, e -> e == element ? 5 : -1));
+        assertEquals("driver", ReplayCodec.encodeSource(driver, e -> 5));
+        assertEquals(Map.of("replay-driver", true), ReplayCodec.encode(driver, e -> 0));
+    }
+
+    @Test
+    void typedRoundTrip() {
+        Object point = ReplayCodec.encode(new Point(1, 2), e -> 0);
+        Object dimension = ReplayCodec.encode(new Dimension(3, 4), e -> 0);
+        Object rectangle = ReplayCodec.encode(new Rectangle(1, 2, 3, 4), e -> 0);
+        assertEquals(new Point(1, 2), ReplayCodec.decode(point, id -> element, driver));
+        assertEquals(new Dimension(3, 4), ReplayCodec.decode(dimension, id -> element, driver));
+        assertEquals(new Rectangle(1, 2, 3, 4), ReplayCodec.decode(rectangle, id -> element, driver));
+        Map<String, Object> unknown = Map.of("replay-type", "circle");
+        assertThrows(IllegalArgumentException.class, () -> ReplayCodec.decode(unknown, id -> element, driver));
+    }
+
+    @Test
+    void decode() {
+        assertEquals(List.of(element, "a"),
+                ReplayCodec.decode(List.of(Map.of("replay-element", 2L), "a"), id -> id == 2 ? element : null,
+                        driver));
+        assertSame(driver, ReplayCodec.decode(Map.of("replay-driver", true), id -> element, driver));
+        assertEquals(Map.of("k", element),
+                ReplayCodec.decode(Map.of("k", Map.of("replay-element", 0L)), id -> element, driver));
+        assertEquals("a", ReplayCodec.decode("a", id -> element, driver));
+    }
+}
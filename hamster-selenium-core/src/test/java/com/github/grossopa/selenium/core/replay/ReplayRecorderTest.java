@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import com.github.grossopa.selenium.core.intercepting.InterceptingWebDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReplayRecorder}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ReplayRecorderTest {
+
+    ReplayRecorder testSubject = new ReplayRecorder();
+    RemoteWebDriver driver = mock(RemoteWebDriver.class);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+
+    @Test
+    void record() {
+        when(driver.findElements(By.id("a"))).thenReturn(List.of(element1, element2));
+        when(driver.findElement(By.id("b"))).thenThrow(new NoSuchElementException("not found"));
+        when(element2.getText()).thenReturn("text2");
+        // the intercepting element is passed to the driver as is
+        when(driver.executeScript(eq("return arguments[0]"), any())).thenReturn(element1);
+
+        InterceptingWebDriver recording = testSubject.record(driver);
+        assertTrue(testSubject.isMethodInfoReusable());
+        List<WebElement> found = recording.findElements(By.id("a"));
+        found.get(1).getText();
+        By by = By.id("b");
+        assertThrows(NoSuchElementException.class, () -> recording.findElement(by));
+        recording.executeScript("return arguments[0]", found.get(1));
+
+        List<ReplayCommand> commands = testSubject.getScript().getCommands();
+        assertEquals(4, commands.size());
+
+        assertEquals(DRIVER_FIND_ELEMENTS + "|driver|[By.id: a]", commands.get(0).getKey());
+        assertEquals(List.of(Map.of("replay-element", 0L), Map.of("replay-element", 1L)),
+                commands.get(0).getResult());
+
+        assertEquals(ELEMENT_GET_TEXT + "|element#1|[]", commands.get(1).getKey());
+        assertEquals("text2", commands.get(1).getResult());
+
+        assertEquals(NoSuchElementException.class.getName(), commands.get(2).getExceptionClassName());
+        assertEquals("not found", commands.get(2).getExceptionMessage());
+        assertNull(commands.get(2).getResult());
+
+        assertEquals(List.of("return arguments[0]", List.of(Map.of("replay-element", 1L))),
+                commands.get(3).getParams());
+        assertEquals(Map.of("replay-element", 0L), commands.get(3).getResult());
+    }
+
+    @Test
+    void clear() {
+        when(driver.getTitle()).thenReturn("title");
+        testSubject.record(driver).getTitle();
+        assertEquals(1, testSubject.getScript().getCommands().size());
+        testSubject.clear();
+        assertTrue(testSubject.getScript().getCommands().isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ReplayScript}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ReplayScriptTest {
+
+    @TempDir
+    Path tempDir;
+
+    ReplayScript testSubject = new ReplayScript(List.of(
+            new ReplayCommand("driver.getTitle", "driver", List.of(), "title", null, null),
+            new ReplayCommand("driver.findElement", "driver", List.of("By.id: a"), null,
+                    "org.openqa.selenium.NoSuchElementException", "not found"),
+            new ReplayCommand("driver.findElements", "driver", List.of("By.id: b"),
+                    List.of(Map.of("replay-element", 0L)), null, null)));
+
+    @Test
+    void jsonRoundTrip() {
+        ReplayScript parsed = ReplayScript.fromJson(testSubject.toJson());
+        assertEquals(3, parsed.getCommands().size());
+        for (int i = 0; i < 3; i++) {
+            ReplayCommand expected = testSubject.getCommands().get(i);
+            ReplayCommand actual = parsed.getCommands().get(i);
+            assertEquals(expected.getKey(), actual.getKey());
+            assertEquals(expected.getResult(), actual.getResult());
+            assertEquals(expected.getExceptionClassName(), actual.getExceptionClassName());
+            assertEquals(expected.getExceptionMessage(), actual.getExceptionMessage());
+        }
+        assertEquals("driver.getTitle", parsed.getCommands().get(0).getName());
+        assertEquals("driver", parsed.getCommands().get(0).getSource());
+    }
+
+    @Test
+    void fileRoundTrip() throws IOException {
+        Path path = tempDir.resolve("script.json");
+        testSubject.write(path);
+        assertEquals(testSubject.toJson(), ReplayScript.read(path).toJson());
+    }
+
+    @Test
+    void unsupportedVersion() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ReplayScript.fromJson("{\"version\": 2, \"commands\": []}"));
+        assertThrows(IllegalArgumentException.class, () -> ReplayScript.fromJson("{\"commands\": []}"));
+    }
+
+    @Test
+    void missingParams() {
+        ReplayScript parsed = ReplayScript.fromJson("{\"version\": 1, \"commands\": [{\"name\": \"n\", "
+                + "\"source\": \"driver\"}]}");
+        assertEquals("n|driver|[]", parsed.getCommands().get(0).getKey());
+    }
+
+    @Test
+    void immutable() {
+        List<ReplayCommand> commands = testSubject.getCommands();
+        assertThrows(UnsupportedOperationException.class, commands::clear);
+        List<Object> params = commands.get(1).getParams();
+        assertThrows(UnsupportedOperationException.class, params::clear);
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ReplayScript{commands=3}", testSubject.toString());
+        assertEquals("ReplayCommand{key=driver.getTitle|driver|[], result=title, exceptionClassName=null}",
+                testSubject.getCommands().get(0).toString());
+    }
+}
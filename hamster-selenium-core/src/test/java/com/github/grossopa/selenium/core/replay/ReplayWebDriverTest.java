@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.DefaultComponentWebDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.grossopa.selenium.core.intercepting.InterceptingMethods.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ReplayWebDriver}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ReplayWebDriverTest {
+
+    RemoteWebDriver driver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+    WebDriver.Navigation navigation = mock(WebDriver.Navigation.class);
+    Alert alert = mock(Alert.class);
+    ReplayWebDriver testSubject;
+
+    @BeforeEach
+    void setUp() throws MalformedURLException {
+        when(driver.getCurrentUrl()).thenReturn("http://localhost/a");
+        when(driver.getTitle()).thenReturn("title1", "title2");
+        when(driver.findElement(By.id("a"))).thenReturn(element);
+        when(driver.findElements(By.id("a"))).thenReturn(List.of(element));
+        when(driver.findElement(By.id("missing"))).thenThrow(new NoSuchElementException("missing"));
+        when(driver.getPageSource()).thenReturn("<html/>");
+        when(driver.getWindowHandles()).thenReturn(Set.of("w1"));
+        when(driver.getWindowHandle()).thenReturn("w1");
+        when(driver.executeScript(eq("return arguments[0].id"), any())).thenReturn("id-a");
+        when(driver.executeAsyncScript("async", 1)).thenReturn(2L);
+        when(driver.switchTo()).thenReturn(targetLocator);
+        when(driver.navigate()).thenReturn(navigation);
+        when(targetLocator.frame(0)).thenReturn(driver);
+        when(targetLocator.frame("f")).thenReturn(driver);
+        when(targetLocator.frame(any(WebElement.class))).thenReturn(driver);
+        when(targetLocator.parentFrame()).thenReturn(driver);
+        when(targetLocator.window("w1")).thenReturn(driver);
+        when(targetLocator.newWindow(WindowType.TAB)).thenReturn(driver);
+        when(targetLocator.defaultContent()).thenReturn(driver);
+        when(targetLocator.activeElement()).thenReturn(element);
+        when(targetLocator.alert()).thenReturn(alert);
+        when(alert.getText()).thenReturn("alert");
+
+        ReplayRecorder recorder = new ReplayRecorder();
+        WebDriver recording = recorder.record(driver);
+        recording.get("http://localhost");
+        recording.getCurrentUrl();
+        recording.getTitle();
+        recording.getTitle();
+        WebElement found = recording.findElement(By.id("a"));
+        recording.findElements(By.id("a"));
+        By by = By.id("missing");
+        assertThrows(NoSuchElementException.class, () -> recording.findElement(by));
+        recording.getPageSource();
+        recording.getWindowHandles();
+        recording.getWindowHandle();
+        ((JavascriptExecutor) recording).executeScript("return arguments[0].id", found);
+        ((JavascriptExecutor) recording).executeAsyncScript("async", 1);
+        ((org.openqa.selenium.interactions.Interactive) recording).perform(List.of());
+        ((org.openqa.selenium.interactions.Interactive) recording).resetInputState();
+        recording.switchTo().frame(0);
+        recording.switchTo().frame("f");
+        recording.switchTo().frame(found);
+        recording.switchTo().parentFrame();
+        recording.switchTo().window("w1");
+        recording.switchTo().newWindow(WindowType.TAB);
+        recording.switchTo().defaultContent();
+        recording.switchTo().activeElement();
+        recording.switchTo().alert().getText();
+        recording.switchTo().alert().sendKeys("keys");
+        recording.switchTo().alert().accept();
+        recording.switchTo().alert().dismiss();
+        recording.navigate().to("http://localhost/b");
+        recording.navigate().back();
+        recording.navigate().forward();
+        recording.navigate().refresh();
+        recording.close();
+        recording.quit();
+
+        testSubject = new ReplayWebDriver(ReplayScript.fromJson(recorder.getScript().toJson()));
+    }
+
+    @Test
+    void driverCommands() {
+        testSubject.get("http://localhost");
+        assertEquals("http://localhost/a", testSubject.getCurrentUrl());
+        assertEquals("title1", testSubject.getTitle());
+        assertEquals("title2", testSubject.getTitle());
+        // the last recorded result is repeated
+        assertEquals("title2", testSubject.getTitle());
+        WebElement found = testSubject.findElement(By.id("a"));
+        assertEquals(new ReplayWebElement(testSubject, 0), found);
+        assertEquals(List.of(found), testSubject.findElements(By.id("a")));
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class,
+                () -> testSubject.findElement(By.id("missing")));
+        assertTrue(exception.getMessage().startsWith("missing"));
+        assertEquals("<html/>", testSubject.getPageSource());
+        assertEquals(Set.of("w1"), testSubject.getWindowHandles());
+        assertEquals("w1", testSubject.getWindowHandle());
+        assertEquals("id-a", testSubject.executeScript("return arguments[0].id", found));
+        assertEquals(2L, testSubject.executeAsyncScript("async", 1));
+        List<Sequence> noActions = List.of();
+        assertDoesNotThrow(() -> testSubject.perform(noActions));
+        assertDoesNotThrow(() -> testSubject.resetInputState());
+        assertDoesNotThrow(() -> testSubject.close());
+        assertDoesNotThrow(() -> testSubject.quit());
+    }
+
+    @Test
+    void targetLocator() {
+        WebElement found = testSubject.findElement(By.id("a"));
+        WebDriver.TargetLocator locator = testSubject.switchTo();
+        assertSame(testSubject, locator.frame(0));
+        assertSame(testSubject, locator.frame("f"));
+        assertSame(testSubject, locator.frame(found));
+        assertSame(testSubject, locator.parentFrame());
+        assertSame(testSubject, locator.window("w1"));
+        assertSame(testSubject, locator.newWindow(WindowType.TAB));
+        assertSame(testSubject, locator.defaultContent());
+        assertSame(found, locator.activeElement());
+        Alert replayAlert = locator.alert();
+        assertEquals("alert", replayAlert.getText());
+        assertDoesNotThrow(() -> replayAlert.sendKeys("keys"));
+        assertDoesNotThrow(replayAlert::accept);
+        assertDoesNotThrow(replayAlert::dismiss);
+    }
+
+    @Test
+    void navigation() throws MalformedURLException {
+        WebDriver.Navigation replayNavigation = testSubject.navigate();
+        assertDoesNotThrow(() -> replayNavigation.to("http://localhost/b"));
+        URL url = new URL("http://localhost/b");
+        assertDoesNotThrow(() -> replayNavigation.to(url));
+        assertDoesNotThrow(replayNavigation::back);
+        assertDoesNotThrow(replayNavigation::forward);
+        assertDoesNotThrow(replayNavigation::refresh);
+    }
+
+    @Test
+    void mismatch() {
+        ReplayMismatchException exception = assertThrows(ReplayMismatchException.class,
+                () -> testSubject.get("http://other"));
+        assertTrue(exception.getMessage().startsWith("No recorded command for driver.get|driver|[http://other]"));
+        WebElement unknown = mock(WebElement.class);
+        assertThrows(ReplayMismatchException.class, () -> testSubject.executeScript("return arguments[0].id",
+                unknown));
+    }
+
+    @Test
+    void commandCounts() {
+        testSubject.getTitle();
+        testSubject.getTitle();
+        testSubject.findElement(By.id("a"));
+        assertThrows(ReplayMismatchException.class, () -> testSubject.get("http://other"));
+        assertEquals(4L, testSubject.getCommandCount());
+        assertEquals(Map.of(DRIVER_GET, 1L, DRIVER_GET_TITLE, 2L, DRIVER_FIND_ELEMENT, 1L),
+                testSubject.getCommandCounts());
+        testSubject.resetCommandCounts();
+        assertEquals(0L, testSubject.getCommandCount());
+        assertTrue(testSubject.getCommandCounts().isEmpty());
+    }
+
+    @Test
+    void latency() {
+        assertEquals(Duration.ZERO, testSubject.getLatency());
+        Duration negative = Duration.ofMillis(-1);
+        assertThrows(IllegalArgumentException.class, () -> testSubject.setLatency(negative));
+        testSubject.setLatency(Duration.ofMillis(20));
+        assertEquals(Duration.ofMillis(20), testSubject.getLatency());
+        long start = System.nanoTime();
+        testSubject.getTitle();
+        testSubject.getTitle();
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    void latencyInterrupted() {
+        testSubject.setLatency(Duration.ofSeconds(10));
+        Thread.currentThread().interrupt();
+        assertThrows(WebDriverException.class, () -> testSubject.getTitle());
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void recreateUnknownException() {
+        ReplayWebDriver replay = new ReplayWebDriver(new ReplayScript(List.of(
+                new ReplayCommand(DRIVER_GET_TITLE, "driver", List.of(), null, "com.example.Missing", "boom"),
+                new ReplayCommand(DRIVER_GET_PAGE_SOURCE, "driver", List.of(), null, "java.io.IOException",
+                        "io"))));
+        WebDriverException exception = assertThrows(WebDriverException.class, replay::getTitle);
+        assertTrue(exception.getMessage().startsWith("com.example.Missing: boom"));
+        exception = assertThrows(WebDriverException.class, replay::getPageSource);
+        assertTrue(exception.getMessage().startsWith("java.io.IOException: io"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void options() {
+        WebDriver.Options options = testSubject.manage();
+        Cookie cookie = new Cookie("a", "1");
+        options.addCookie(cookie);
+        options.addCookie(new Cookie("b", "2"));
+        assertEquals(cookie, options.getCookieNamed("a"));
+        assertEquals(2, options.getCookies().size());
+        options.deleteCookie(cookie);
+        options.deleteCookieNamed("b");
+        assertTrue(options.getCookies().isEmpty());
+        options.addCookie(cookie);
+        options.deleteAllCookies();
+        assertTrue(options.getCookies().isEmpty());
+        assertThrows(UnsupportedCommandException.class, options::window);
+        assertThrows(UnsupportedCommandException.class, options::logs);
+
+        WebDriver.Timeouts timeouts = options.timeouts();
+        assertEquals(Duration.ZERO, timeouts.getImplicitWaitTimeout());
+        timeouts.implicitlyWait(2, TimeUnit.SECONDS);
+        assertEquals(Duration.ofSeconds(2), timeouts.getImplicitWaitTimeout());
+        timeouts.setScriptTimeout(3, TimeUnit.SECONDS);
+        assertEquals(Duration.ofSeconds(3), timeouts.getScriptTimeout());
+        timeouts.setScriptTimeout(Duration.ofSeconds(4));
+        assertEquals(Duration.ofSeconds(4), timeouts.getScriptTimeout());
+        timeouts.pageLoadTimeout(5, TimeUnit.SECONDS);
+        assertEquals(Duration.ofSeconds(5), timeouts.getPageLoadTimeout());
+    }
+
+    @Test
+    void componentWebDriver() {
+        RemoteWebDriver remoteDriver = mock(RemoteWebDriver.class);
+        WebElement remoteElement = mock(WebElement.class);
+        when(remoteDriver.findElement(By.id("c"))).thenReturn(remoteElement);
+        when(remoteElement.getText()).thenReturn("component text");
+        ReplayRecorder recorder = new ReplayRecorder();
+        assertEquals("component text", new DefaultComponentWebDriver(recorder.record(remoteDriver))
+                .findComponent(By.id("c")).getText());
+
+        ReplayWebDriver replay = new ReplayWebDriver(recorder.getScript());
+        ComponentWebDriver componentDriver = new DefaultComponentWebDriver(replay);
+        assertEquals("component text", componentDriver.findComponent(By.id("c")).getText());
+        assertEquals(2L, replay.getCommandCount());
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(testSubject.toString().startsWith("ReplayWebDriver{commands="));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.replay;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.*;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ReplayWebElement}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ReplayWebElementTest {
+
+    RemoteWebDriver driver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    WebElement child = mock(WebElement.class);
+    ReplayWebDriver replayDriver;
+    ReplayWebElement testSubject;
+
+    @BeforeEach
+    void setUp() {
+        when(driver.findElement(By.id("a"))).thenReturn(element);
+        when(element.getTagName()).thenReturn("div");
+        when(element.getAttribute("class")).thenReturn("c");
+        when(element.getDomAttribute("id")).thenReturn("a");
+        when(element.getDomProperty("value")).thenReturn("v");
+        when(element.getAriaRole()).thenReturn("button");
+        when(element.getAccessibleName()).thenReturn("name");
+        when(element.isSelected()).thenReturn(true);
+        when(element.isEnabled()).thenReturn(true);
+        when(element.isDisplayed()).thenReturn(false);
+        when(element.getText()).thenReturn("text");
+        when(element.findElement(By.tagName("span"))).thenReturn(child);
+        when(element.findElements(By.tagName("span"))).thenReturn(List.of(child));
+        when(element.getLocation()).thenReturn(new Point(1, 2));
+        when(element.getSize()).thenReturn(new Dimension(3, 4));
+        when(element.getRect()).thenReturn(new Rectangle(1, 2, 4, 3));
+        when(element.getCssValue("color")).thenReturn("red");
+
+        ReplayRecorder recorder = new ReplayRecorder();
+        WebElement recorded = recorder.record(driver).findElement(By.id("a"));
+        recorded.click();
+        recorded.submit();
+        recorded.sendKeys("abc", Keys.ENTER);
+        recorded.clear();
+        recorded.getTagName();
+        recorded.getAttribute("class");
+        recorded.getDomAttribute("id");
+        recorded.getDomProperty("value");
+        recorded.getAriaRole();
+        recorded.getAccessibleName();
+        recorded.isSelected();
+        recorded.isEnabled();
+        recorded.isDisplayed();
+        recorded.getText();
+        recorded.findElement(By.tagName("span")).getText();
+        recorded.findElements(By.tagName("span"));
+        recorded.getLocation();
+        recorded.getSize();
+        recorded.getRect();
+        recorded.getCssValue("color");
+
+        replayDriver = new ReplayWebDriver(ReplayScript.fromJson(recorder.getScript().toJson()));
+        testSubject = (ReplayWebElement) replayDriver.findElement(By.id("a"));
+    }
+
+    @Test
+    void commands() {
+        assertEquals(0, testSubject.getId());
+        assertSame(replayDriver, testSubject.getWrappedDriver());
+        assertDoesNotThrow(testSubject::click);
+        assertDoesNotThrow(testSubject::submit);
+        assertDoesNotThrow(() -> testSubject.sendKeys("abc", Keys.ENTER));
+        assertDoesNotThrow(testSubject::clear);
+        assertEquals("div", testSubject.getTagName());
+        assertEquals("c", testSubject.getAttribute("class"));
+        assertEquals("a", testSubject.getDomAttribute("id"));
+        assertEquals("v", testSubject.getDomProperty("value"));
+        assertEquals("button", testSubject.getAriaRole());
+        assertEquals("name", testSubject.getAccessibleName());
+        assertTrue(testSubject.isSelected());
+        assertTrue(testSubject.isEnabled());
+        assertFalse(testSubject.isDisplayed());
+        assertEquals("text", testSubject.getText());
+        WebElement replayChild = testSubject.findElement(By.tagName("span"));
+        assertEquals(List.of(replayChild), testSubject.findElements(By.tagName("span")));
+        assertEquals(new Point(1, 2), testSubject.getLocation());
+        assertEquals(new Dimension(3, 4), testSubject.getSize());
+        assertEquals(new Rectangle(1, 2, 4, 3), testSubject.getRect());
+        assertEquals("red", testSubject.getCssValue("color"));
+    }
+
+    @Test
+    void sendKeysMismatch() {
+        assertThrows(ReplayMismatchException.class, () -> testSubject.sendKeys("abd"));
+    }
+
+    @Test
+    void getScreenshotAs() {
+        assertThrows(UnsupportedCommandException.class, () -> testSubject.getScreenshotAs(OutputType.BASE64));
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        assertEquals(testSubject, new ReplayWebElement(replayDriver, 0));
+        assertEquals(testSubject.hashCode(), new ReplayWebElement(replayDriver, 0).hashCode());
+        assertNotEquals(testSubject, new ReplayWebElement(replayDriver, 1));
+        assertNotEquals(testSubject, new ReplayWebElement(new ReplayWebDriver(new ReplayScript(List.of())), 0));
+        assertNotEquals(testSubject, "element");
+        assertEquals(testSubject, testSubject);
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ReplayWebElement{id=0}", testSubject.toString());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LatencyHistogram}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class LatencyHistogramTest {
+
+    LatencyHistogram testSubject = new LatencyHistogram();
+
+    @Test
+    void empty() {
+        assertEquals(0L, testSubject.getCount());
+        assertEquals(Duration.ZERO, testSubject.getMean());
+        assertEquals(Duration.ZERO, testSubject.getMax());
+        assertEquals(Duration.ZERO, testSubject.getPercentile(99));
+    }
+
+    @Test
+    void record() {
+        testSubject.record(Duration.ofMillis(10));
+        testSubject.record(Duration.ofMillis(20));
+        testSubject.record(Duration.ofMillis(30));
+        testSubject.recordNanos(-5);
+        assertEquals(4L, testSubject.getCount());
+        assertEquals(Duration.ofMillis(15), testSubject.getMean());
+        assertEquals(Duration.ofMillis(30), testSubject.getMax());
+        assertEquals(1L, testSubject.getBucketCounts()[0]);
+    }
+
+    @Test
+    void percentile() {
+        for (int i = 0; i < 99; i++) {
+            testSubject.record(Duration.ofMillis(1));
+        }
+        testSubject.record(Duration.ofMillis(1000));
+        // 1ms is within [992, 1008) micros
+        assertEquals(Duration.ofNanos(1008_000L), testSubject.getPercentile(50));
+        assertEquals(Duration.ofNanos(1008_000L), testSubject.getPercentile(99));
+        assertEquals(Duration.ofMillis(1000), testSubject.getPercentile(100));
+    }
+
+    @Test
+    void percentileAccurate() {
+        for (long millis = 33; millis <= 65; millis++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(Duration.ofMillis(millis));
+            histogram.record(Duration.ofMillis(1000));
+            long p50 = histogram.getPercentile(50).toNanos();
+            long expected = Duration.ofMillis(millis).toNanos();
+            assertTrue(p50 >= expected && p50 <= expected * 1.035, millis + "ms reported as " + p50 + "ns");
+        }
+    }
+
+    @Test
+    void bucketBounds() {
+        assertEquals(1000L, LatencyHistogram.upperBoundNanos(0));
+        assertEquals(32_000L, LatencyHistogram.upperBoundNanos(31));
+        assertEquals(33_000L, LatencyHistogram.upperBoundNanos(32));
+        assertEquals(64_000L, LatencyHistogram.upperBoundNanos(63));
+        assertEquals(66_000L, LatencyHistogram.upperBoundNanos(64));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundNanos(LatencyHistogram.BUCKET_COUNT - 1));
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+            assertTrue(LatencyHistogram.upperBoundNanos(i) > LatencyHistogram.upperBoundNanos(i - 1));
+        }
+
+        long[] values = {0L, 999L, 1000L, 31_999L, 32_000L, 63_999L, 64_000L, 1_000_000L, 47_123_456L,
+                1_999_999_999L, Duration.ofMinutes(30).toNanos()};
+        for (long value : values) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.recordNanos(value);
+            long[] counts = histogram.getBucketCounts();
+            int bucket = 0;
+            while (counts[bucket] == 0) {
+                bucket++;
+            }
+            assertTrue(value < LatencyHistogram.upperBoundNanos(bucket), "value " + value);
+            assertTrue(bucket == 0 || value >= LatencyHistogram.upperBoundNanos(bucket - 1), "value " + value);
+        }
+    }
+
+    @Test
+    void percentileInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> testSubject.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> testSubject.getPercentile(101));
+    }
+
+    @Test
+    void recordHuge() {
+        testSubject.record(Duration.ofDays(10));
+        assertEquals(1L, testSubject.getBucketCounts()[LatencyHistogram.BUCKET_COUNT - 1]);
+        assertEquals(Duration.ofDays(10), testSubject.getPercentile(50));
+    }
+
+    @Test
+    void recordConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    testSubject.record(Duration.ofMillis(i % 10));
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(4000L, testSubject.getCount());
+        assertEquals(Duration.ofMillis(9), testSubject.getMax());
+    }
+
+    @Test
+    void copy() {
+        testSubject.record(Duration.ofMillis(3));
+        LatencyHistogram copy = testSubject.copy();
+        testSubject.record(Duration.ofMillis(5));
+        assertEquals(1L, copy.getCount());
+        assertEquals(Duration.ofMillis(3), copy.getMax());
+        assertEquals(Duration.ofMillis(3), copy.getMean());
+        assertEquals(2L, testSubject.getCount());
+    }
+
+    @Test
+    void reset() {
+        testSubject.record(Duration.ofMillis(3));
+        testSubject.reset();
+        assertEquals(0L, testSubject.getCount());
+        assertEquals(Duration.ZERO, testSubject.getMax());
+        assertEquals(Duration.ZERO, testSubject.getPercentile(50));
+        testSubject.record(Duration.ofMillis(1));
+        assertEquals(Duration.ofMillis(1), testSubject.getMax());
+    }
+
+    @Test
+    void testToString() {
+        testSubject.record(Duration.ofMillis(3));
+        assertEquals("LatencyHistogram{count=1, mean=3ms, p50=3ms, p90=3ms, p99=3ms, max=3ms}",
+                testSubject.toString());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AdaptivePollingStrategy}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class AdaptivePollingStrategyTest {
+
+    AdaptivePollingStrategy testSubject = new AdaptivePollingStrategy(Duration.ofMillis(25), Duration.ofMillis(5),
+            Duration.ofMillis(500), 2d, 0d, 0.5d, () -> 0.5d);
+
+    @Test
+    void nextDelayWithoutHistory() {
+        assertEquals(Duration.ofMillis(25), testSubject.nextDelay("a", 1));
+        assertEquals(Duration.ofMillis(50), testSubject.nextDelay("a", 2));
+    }
+
+    @Test
+    void nextDelayLearned() {
+        testSubject.record("a", Duration.ofMillis(200), true);
+        assertEquals(Duration.ofMillis(200), testSubject.nextDelay("a", 1));
+        assertEquals(Duration.ofMillis(400), testSubject.nextDelay("a", 2));
+        testSubject.record("a", Duration.ofMillis(100), true);
+        assertEquals(Duration.ofMillis(150), testSubject.getFirstDelay("a"));
+        assertEquals(Duration.ofMillis(25), testSubject.nextDelay("b", 1));
+    }
+
+    @Test
+    void recordFailureIgnored() {
+        testSubject.record("a", Duration.ofMillis(200), true);
+        testSubject.record("a", Duration.ofMillis(5000), false);
+        assertEquals(Duration.ofMillis(200), testSubject.getFirstDelay("a"));
+    }
+
+    @Test
+    void firstDelayClamped() {
+        testSubject.record("fast", Duration.ofMillis(1), true);
+        testSubject.record("slow", Duration.ofSeconds(10), true);
+        assertEquals(Duration.ofMillis(5), testSubject.getFirstDelay("fast"));
+        assertEquals(Duration.ofMillis(500), testSubject.getFirstDelay("slow"));
+    }
+
+    @Test
+    void constructorInvalidAlpha() {
+        Duration delay = Duration.ofMillis(10);
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptivePollingStrategy(delay, delay, delay, 2d, 0d, 0d, () -> 0d));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptivePollingStrategy(delay, delay, delay, 2d, 0d, 1.5d, () -> 0d));
+    }
+
+    @Test
+    void isCallSiteAware() {
+        assertTrue(testSubject.isCallSiteAware());
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(new AdaptivePollingStrategy().toString()
+                .startsWith("AdaptivePollingStrategy{minDelay=PT0.005S, alpha=0.3, callSites=0, "));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BackoffPollingStrategy}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class BackoffPollingStrategyTest {
+
+    @Test
+    void nextDelayWithoutJitter() {
+        BackoffPollingStrategy testSubject = new BackoffPollingStrategy(Duration.ofMillis(10), Duration.ofMillis(100),
+                2d, 0d);
+        assertEquals(Duration.ofMillis(10), testSubject.nextDelay("a", 1));
+        assertEquals(Duration.ofMillis(20), testSubject.nextDelay("a", 2));
+        assertEquals(Duration.ofMillis(40), testSubject.nextDelay("a", 3));
+        assertEquals(Duration.ofMillis(80), testSubject.nextDelay("a", 4));
+        assertEquals(Duration.ofMillis(100), testSubject.nextDelay("a", 5));
+        assertEquals(Duration.ofMillis(100), testSubject.nextDelay("a", 500));
+    }
+
+    @Test
+    void nextDelayWithJitter() {
+        BackoffPollingStrategy low = new BackoffPollingStrategy(Duration.ofMillis(100), Duration.ofMillis(500), 2d,
+                0.2d, () -> 0d);
+        BackoffPollingStrategy high = new BackoffPollingStrategy(Duration.ofMillis(100), Duration.ofMillis(500), 2d,
+                0.2d, () -> 1d);
+        assertEquals(Duration.ofMillis(80), low.nextDelay("a", 1));
+        assertEquals(Duration.ofMillis(120), high.nextDelay("a", 1));
+        assertEquals(Duration.ofMillis(600), high.nextDelay("a", 10));
+    }
+
+    @Test
+    void nextDelayDefault() {
+        BackoffPollingStrategy testSubject = new BackoffPollingStrategy();
+        for (int i = 1; i < 20; i++) {
+            Duration delay = testSubject.nextDelay("a", i);
+            assertTrue(delay.toMillis() >= 20 && delay.toMillis() <= 600, delay::toString);
+        }
+    }
+
+    @Test
+    void constructorInvalid() {
+        Duration delay = Duration.ofMillis(10);
+        assertThrows(IllegalArgumentException.class, () -> new BackoffPollingStrategy(delay, delay, 0.5d, 0d));
+        assertThrows(IllegalArgumentException.class, () -> new BackoffPollingStrategy(delay, delay, 2d, -0.1d));
+        assertThrows(IllegalArgumentException.class, () -> new BackoffPollingStrategy(delay, delay, 2d, 1.1d));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("BackoffPollingStrategy{initialDelay=PT0.025S, maxDelay=PT0.5S, multiplier=2.0, jitter=0.2}",
+                new BackoffPollingStrategy().toString());
+    }
+}
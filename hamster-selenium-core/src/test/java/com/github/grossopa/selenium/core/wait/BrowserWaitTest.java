@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.component.WebComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link BrowserWait}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class BrowserWaitTest {
+
+    BrowserWait testSubject;
+    ComponentWebDriver driver = mock(ComponentWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    WebComponent component = mock(WebComponent.class);
+
+    @BeforeEach
+    void setUp() {
+        when(driver.mapElement(element)).thenReturn(component);
+        testSubject = new BrowserWait(driver, 2000L);
+    }
+
+    private static Map<String, Object> result(boolean satisfied, Object value) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("satisfied", satisfied);
+        result.put("value", value);
+        return result;
+    }
+
+    @Test
+    void untilPresent() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.PRESENT_CONDITION), eq(List.of("id", "abc")),
+                eq(2000L))).thenReturn(result(true, element));
+        assertEquals(component, testSubject.untilPresent(By.id("abc")));
+        verify(driver, times(1)).ensureScriptTimeout(Duration.ofMillis(3000L));
+        verify(driver, never()).manage();
+    }
+
+    @Test
+    void untilVisible() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.VISIBLE_CONDITION),
+                eq(List.of("css selector", ".a")), eq(2000L))).thenReturn(result(true, element));
+        assertEquals(component, testSubject.untilVisible(By.cssSelector(".a")));
+    }
+
+    @Test
+    void untilVisibleTimeout() {
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenReturn(result(false, null));
+        By by = By.id("abc");
+        TimeoutException exception = assertThrows(TimeoutException.class, () -> testSubject.untilVisible(by));
+        assertTrue(exception.getMessage().startsWith(
+                "Expected condition failed: waiting for element located by By.id: abc (tried for 2000 millisecond(s))"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void untilVisibleUnsupportedLocator() {
+        By by = mock(By.class);
+        WebDriverWait wait = mock(WebDriverWait.class);
+        when(driver.createWait(2000L)).thenReturn(wait);
+        when(wait.until(any())).then(a -> ((Function<WebDriver, Object>) a.getArgument(0)).apply(driver));
+        WebComponent hidden = mock(WebComponent.class);
+        WebComponent visible = mock(WebComponent.class);
+        when(visible.isDisplayed()).thenReturn(true);
+        when(driver.findComponents(by)).thenReturn(List.of(hidden, visible));
+        when(driver.mapElement(visible)).thenReturn(visible);
+        assertEquals(visible, testSubject.untilVisible(by));
+        verify(driver, never()).executeReadOnlyAsyncScript(anyString(), any());
+    }
+
+    @Test
+    void untilLastVisible() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.LAST_VISIBLE_CONDITION), eq(List.of("id", "abc")),
+                eq(2000L))).thenReturn(result(true, element));
+        assertEquals(component, testSubject.untilLastVisible(By.id("abc")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void untilLastVisibleUnsupportedLocator() {
+        By by = mock(By.class);
+        WebDriverWait wait = mock(WebDriverWait.class);
+        when(driver.createWait(2000L)).thenReturn(wait);
+        when(wait.until(any())).then(a -> ((Function<WebDriver, Object>) a.getArgument(0)).apply(driver));
+        WebComponent visible1 = mock(WebComponent.class);
+        WebComponent visible2 = mock(WebComponent.class);
+        when(visible1.isDisplayed()).thenReturn(true);
+        when(visible2.isDisplayed()).thenReturn(true);
+        when(driver.findComponents(by)).thenReturn(List.of(visible1, visible2, mock(WebComponent.class)));
+        when(driver.mapElement(visible2)).thenReturn(visible2);
+        assertEquals(visible2, testSubject.untilLastVisible(by));
+        verify(driver, never()).executeReadOnlyAsyncScript(anyString(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void untilLastVisibleUnsupportedLocatorNotFound() {
+        By by = mock(By.class);
+        WebDriverWait wait = mock(WebDriverWait.class);
+        when(driver.createWait(2000L)).thenReturn(wait);
+        when(wait.until(any())).then(a -> ((Function<WebDriver, Object>) a.getArgument(0)).apply(driver));
+        when(driver.findComponents(by)).thenReturn(List.of(mock(WebComponent.class)));
+        assertNull(testSubject.untilLastVisible(by));
+    }
+
+    @Test
+    void untilInvisible() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.INVISIBLE_CONDITION), eq(List.of("id", "abc")),
+                eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilInvisible(By.id("abc"));
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilInvisibleUnsupportedLocator() {
+        By by = mock(By.class);
+        WebDriverWait wait = mock(WebDriverWait.class);
+        when(driver.createWait(2000L)).thenReturn(wait);
+        testSubject.untilInvisible(by);
+        verify(wait, only()).until(any());
+    }
+
+    @Test
+    void untilVisibleElement() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.ELEMENT_VISIBLE_CONDITION), eq(List.of(element)),
+                eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilVisible(element);
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilInvisibleOrStale() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.ELEMENT_INVISIBLE_OR_STALE_CONDITION),
+                eq(List.of(element)), eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilInvisibleOrStale(element);
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilInvisibleOrStaleAlreadyStale() {
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenThrow(
+                new StaleElementReferenceException("stale"));
+        assertDoesNotThrow(() -> testSubject.untilInvisibleOrStale(element));
+    }
+
+    @Test
+    void untilStale() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.STALE_CONDITION), eq(List.of(element)),
+                eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilStale(element);
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilStaleAlreadyStale() {
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenThrow(
+                new StaleElementReferenceException("stale"));
+        assertDoesNotThrow(() -> testSubject.untilStale(element));
+    }
+
+    @Test
+    void untilSettled() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.SETTLED_CONDITION), eq(List.of(element, 50L)),
+                eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilSettled(element);
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilSettledDocument() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.SETTLED_CONDITION), eq(Arrays.asList(null, 10L)),
+                eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilSettled(null, 10L);
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilSettledTimeout() {
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenReturn(result(false, null));
+        TimeoutException exception = assertThrows(TimeoutException.class, () -> testSubject.untilSettled(element));
+        assertTrue(exception.getMessage().contains("animations settled on"));
+    }
+
+    @Test
+    void untilSettledAlreadyStale() {
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenThrow(
+                new StaleElementReferenceException("stale"));
+        assertDoesNotThrow(() -> testSubject.untilSettled(element));
+    }
+
+    @Test
+    void untilSettledUnsupported() {
+        Map<String, Object> result = result(false, null);
+        result.put("error", "Error: " + BrowserWait.ANIMATIONS_UNSUPPORTED_MESSAGE);
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenReturn(result);
+        assertThrows(UnsupportedCommandException.class, () -> testSubject.untilSettled(element));
+    }
+
+    @Test
+    void untilSettledError() {
+        Map<String, Object> result = result(false, null);
+        result.put("error", "ReferenceError: a is not defined");
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenReturn(result);
+        WebDriverException exception = assertThrows(WebDriverException.class, () -> testSubject.untilSettled(element));
+        assertFalse(exception instanceof UnsupportedCommandException);
+    }
+
+    @Test
+    void untilAttributeContains() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.ATTRIBUTE_CONTAINS_CONDITION),
+                eq(List.of(element, "class", "open")), eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilAttributeContains(element, "class", "open");
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilTextEquals() {
+        when(driver.executeReadOnlyAsyncScript(contains(BrowserWait.TEXT_EQUALS_CONDITION), eq(List.of(element, "abc")),
+                eq(2000L))).thenReturn(result(true, null));
+        testSubject.untilTextEquals(element, "abc");
+        verify(driver, times(1)).executeReadOnlyAsyncScript(anyString(), any(), any());
+    }
+
+    @Test
+    void untilEnsuresScriptTimeout() {
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenReturn(result(true, "value"));
+        assertEquals("value", testSubject.until("function() { return 'value'; }", "custom"));
+        assertEquals("value", new BrowserWait(driver, 500L).until("function() { return 'value'; }", "custom"));
+        verify(driver).ensureScriptTimeout(Duration.ofMillis(3000L));
+        verify(driver).ensureScriptTimeout(Duration.ofMillis(1500L));
+    }
+
+    @Test
+    void untilScriptError() {
+        Map<String, Object> result = result(false, null);
+        result.put("error", "ReferenceError: a is not defined");
+        when(driver.executeReadOnlyAsyncScript(anyString(), any(), any())).thenReturn(result);
+        WebDriverException exception = assertThrows(WebDriverException.class,
+                () -> testSubject.until("function() { return a; }", "custom"));
+        assertTrue(exception.getMessage()
+                .startsWith("Browser wait failed while waiting for custom: ReferenceError: a is not defined"));
+    }
+
+    @Test
+    void untilNoResult() {
+        assertThrows(WebDriverException.class, () -> testSubject.until("function() { return true; }", "custom"));
+    }
+
+    @Test
+    void getWaitInMilliseconds() {
+        assertEquals(2000L, testSubject.getWaitInMilliseconds());
+        assertEquals(0L, new BrowserWait(driver, -1L).getWaitInMilliseconds());
+    }
+
+    @Test
+    void testToString() {
+        when(driver.toString()).thenReturn("driver");
+        assertEquals("BrowserWait{driver=driver, waitInMilliseconds=2000}", testSubject.toString());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Tests for {@link FixedPollingStrategy}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class FixedPollingStrategyTest {
+
+    @Test
+    void nextDelay() {
+        FixedPollingStrategy testSubject = new FixedPollingStrategy();
+        assertEquals(Duration.ofMillis(500), testSubject.nextDelay("a", 1));
+        assertEquals(Duration.ofMillis(500), testSubject.nextDelay("a", 10));
+    }
+
+    @Test
+    void isCallSiteAware() {
+        assertFalse(new FixedPollingStrategy().isCallSiteAware());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("FixedPollingStrategy{interval=PT0.1S}",
+                new FixedPollingStrategy(Duration.ofMillis(100)).toString());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link PollingWebDriverWait}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class PollingWebDriverWaitTest {
+
+    WebDriver driver = mock(WebDriver.class);
+    ManualClock clock = new ManualClock();
+    List<Duration> sleeps = new ArrayList<>();
+    Sleeper sleeper = duration -> {
+        sleeps.add(duration);
+        clock.advance(duration.toMillis());
+    };
+    WaitStatistics statistics = new WaitStatistics();
+    AdaptivePollingStrategy strategy = new AdaptivePollingStrategy(Duration.ofMillis(10), Duration.ofMillis(5),
+            Duration.ofMillis(100), 2d, 0d, 1d, () -> 0.5d);
+    PollingWebDriverWait testSubject;
+
+    @BeforeEach
+    void setUp() {
+        testSubject = new PollingWebDriverWait(driver, Duration.ofMillis(1000), strategy, statistics, "site", clock,
+                sleeper);
+    }
+
+    @Test
+    void untilSatisfied() {
+        AtomicInteger counter = new AtomicInteger();
+        assertEquals("done", testSubject.until(d -> counter.incrementAndGet() == 4 ? "done" : null));
+        assertEquals(List.of(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(40)), sleeps);
+        assertEquals(1L, statistics.getHistogram("site").getCount());
+        assertEquals(Duration.ofMillis(70), statistics.getHistogram("site").getMax());
+        assertEquals(0L, statistics.getFailureCount("site"));
+        assertEquals(Duration.ofMillis(70), strategy.getFirstDelay("site"));
+    }
+
+    @Test
+    void untilSatisfiedRestartsAttempts() {
+        AtomicInteger counter = new AtomicInteger();
+        testSubject.until(d -> counter.incrementAndGet() % 2 == 0 ? Boolean.TRUE : null);
+        sleeps.clear();
+        testSubject.until(d -> counter.incrementAndGet() % 2 == 0 ? Boolean.TRUE : null);
+        assertEquals(List.of(Duration.ofMillis(10)), sleeps);
+    }
+
+    @Test
+    void untilTimeout() {
+        testSubject.withTimeout(Duration.ofMillis(250));
+        assertThrows(TimeoutException.class, () -> testSubject.until(d -> null));
+        // 10 + 20 + 40 + 80 + 100 = 250, then the minimal sleep to pass the timeout
+        assertEquals(List.of(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(40),
+                Duration.ofMillis(80), Duration.ofMillis(100), Duration.ofMillis(1)), sleeps);
+        assertEquals(1L, statistics.getFailureCount("site"));
+        assertEquals(Duration.ofMillis(10), strategy.getFirstDelay("site"));
+    }
+
+    @Test
+    void untilException() {
+        assertThrows(IllegalStateException.class, () -> testSubject.until(d -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(1L, statistics.getFailureCount("site"));
+    }
+
+    @Test
+    void untilWithoutStatistics() {
+        PollingWebDriverWait wait = new PollingWebDriverWait(driver, Duration.ofMillis(1000), strategy, null, "site",
+                clock, sleeper);
+        assertEquals(Boolean.TRUE, wait.until(d -> true));
+        assertEquals("site", wait.getCallSite());
+        assertSame(strategy, wait.getStrategy());
+    }
+
+    @Test
+    void resolveCallSite() {
+        PollingWebDriverWait wait = new PollingWebDriverWait(driver, Duration.ofMillis(1000), strategy, statistics);
+        assertTrue(wait.getCallSite().startsWith(
+                "com.github.grossopa.selenium.core.wait.PollingWebDriverWaitTest.resolveCallSite:"),
+                wait::getCallSite);
+    }
+
+    @Test
+    void unresolvedCallSite() {
+        PollingWebDriverWait wait = new PollingWebDriverWait(driver, Duration.ofMillis(1000),
+                new FixedPollingStrategy(), statistics);
+        assertEquals(PollingWebDriverWait.UNRESOLVED_CALL_SITE, wait.getCallSite());
+    }
+
+    @Test
+    void pollingEveryOverridesStrategy() {
+        testSubject.pollingEvery(Duration.ofMillis(30));
+        AtomicInteger counter = new AtomicInteger();
+        testSubject.until(d -> counter.incrementAndGet() == 3 ? Boolean.TRUE : null);
+        assertEquals(List.of(Duration.ofMillis(30), Duration.ofMillis(30)), sleeps);
+    }
+
+    private static class ManualClock extends Clock {
+
+        private long millis = 1_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.core.wait;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WaitStatistics}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class WaitStatisticsTest {
+
+    WaitStatistics testSubject = new WaitStatistics();
+
+    @Test
+    void record() {
+        testSubject.record("b", Duration.ofMillis(10), true);
+        testSubject.record("b", Duration.ofMillis(30), false);
+        testSubject.record("a", Duration.ofMillis(20), true);
+        assertEquals(List.of("a", "b"), List.copyOf(testSubject.getCallSites()));
+        assertEquals(2L, testSubject.getHistogram("b").getCount());
+        assertEquals(1L, testSubject.getFailureCount("b"));
+        assertEquals(0L, testSubject.getFailureCount("a"));
+        assertNull(testSubject.getHistogram("c"));
+    }
+
+    @Test
+    void reset() {
+        testSubject.record("a", Duration.ofMillis(20), false);
+        testSubject.reset();
+        assertTrue(testSubject.getCallSites().isEmpty());
+        assertEquals(0L, testSubject.getFailureCount("a"));
+    }
+
+    @Test
+    void testToString() {
+        testSubject.record("a", Duration.ofMillis(3), false);
+        assertEquals("WaitStatistics{" + System.lineSeparator()
+                + "  a failures=1 LatencyHistogram{count=1, mean=3ms, p50=3ms, p90=3ms, p99=3ms, max=3ms}}",
+                testSubject.toString());
+    }
+}
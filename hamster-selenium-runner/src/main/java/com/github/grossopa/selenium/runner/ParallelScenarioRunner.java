@@ -0,0 +1,318 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.driver.ComponentWebDriverPool;
+import com.github.grossopa.selenium.core.driver.SessionRecycler;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs the independent {@link Scenario}s in parallel across a number of browser sessions.
+ * <p>
+ * Each worker thread owns one session and one queue of scenarios, the scenarios are dealt to the queues round robin
+ * up front. A worker takes the scenarios from the head of its own queue, and steals from the tail of the other queues
+ * once its own queue is empty, so that the slow scenarios don't leave the other sessions idle at the end of the run.
+ * </p>
+ * <p>
+ * A session is created when its worker takes the first scenario and closed when the worker finishes. When a
+ * {@link SessionRecycler} is set, the session is recycled after each scenario, and it's invalidated and replaced if
+ * the recycling fails. The runner {@link #withPool(int, ComponentWebDriverPool) with a pool} which has its own
+ * recycler gives the session back to the pool after each scenario instead, so that it's not reset twice.
+ * </p>
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public class ParallelScenarioRunner {
+
+    private static final Logger LOG = Logger.getLogger(ParallelScenarioRunner.class.getName());
+
+    private final int sessions;
+    private final Supplier<? extends ComponentWebDriver> sessionFactory;
+    private final Consumer<? super ComponentWebDriver> sessionCloser;
+    private final Consumer<? super ComponentWebDriver> sessionInvalidator;
+    @Nullable
+    private final ComponentWebDriverPool pool;
+    private volatile SessionRecycler sessionRecycler;
+
+    /**
+     * Constructs an instance which quits the sessions after the run.
+     *
+     * @param sessions the maximum number of parallel sessions
+     * @param sessionFactory the factory to create the sessions
+     */
+    public ParallelScenarioRunner(int sessions, Supplier<? extends ComponentWebDriver> sessionFactory) {
+        this(sessions, sessionFactory, ComponentWebDriver::quit);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param sessions the maximum number of parallel sessions
+     * @param sessionFactory the factory to create the sessions
+     * @param sessionCloser the action to close the session after the run, or after the recycling fails
+     */
+    public ParallelScenarioRunner(int sessions, Supplier<? extends ComponentWebDriver> sessionFactory,
+            Consumer<? super ComponentWebDriver> sessionCloser) {
+        this(sessions, sessionFactory, sessionCloser, sessionCloser);
+    }
+
+    /**
+     * Constructs an instance with the different actions to close the healthy and the broken sessions.
+     *
+     * @param sessions the maximum number of parallel sessions
+     * @param sessionFactory the factory to create the sessions
+     * @param sessionCloser the action to close the session after the run
+     * @param sessionInvalidator the action to close the session after the recycling fails
+     */
+    public ParallelScenarioRunner(int sessions, Supplier<? extends ComponentWebDriver> sessionFactory,
+            Consumer<? super ComponentWebDriver> sessionCloser,
+            Consumer<? super ComponentWebDriver> sessionInvalidator) {
+        this(sessions, sessionFactory, sessionCloser, sessionInvalidator, null);
+    }
+
+    private ParallelScenarioRunner(int sessions, Supplier<? extends ComponentWebDriver> sessionFactory,
+            Consumer<? super ComponentWebDriver> sessionCloser,
+            Consumer<? super ComponentWebDriver> sessionInvalidator, @Nullable ComponentWebDriverPool pool) {
+        if (sessions < 1) {
+            throw new IllegalArgumentException("sessions must be positive.");
+        }
+        this.sessions = sessions;
+        this.sessionFactory = requireNonNull(sessionFactory);
+        this.sessionCloser = requireNonNull(sessionCloser);
+        this.sessionInvalidator = requireNonNull(sessionInvalidator);
+        this.pool = pool;
+    }
+
+    /**
+     * Creates the runner of which sessions are leased from the pool and released back after the run, the sessions
+     * failed to recycle are invalidated. If the pool has its own {@link ComponentWebDriverPool#getSessionRecycler()},
+     * the session is released after each scenario and the recycler of the runner is not used.
+     *
+     * @param sessions the maximum number of parallel sessions
+     * @param pool the pool to lease the sessions
+     * @return the new runner
+     */
+    public static ParallelScenarioRunner withPool(int sessions, ComponentWebDriverPool pool) {
+        return new ParallelScenarioRunner(sessions, pool::lease, pool::release, pool::invalidate, pool);
+    }
+
+    /**
+     * Runs all the scenarios and waits until they are done. The failure of a scenario is recorded in the report and
+     * doesn't stop the others.
+     *
+     * @param scenarios the independent scenarios to run
+     * @return the report with one result per scenario, in the order of given scenarios
+     */
+    public ScenarioReport run(List<Scenario> scenarios) {
+        long start = System.nanoTime();
+        int workerCount = Math.min(sessions, scenarios.size());
+        List<Deque<Integer>> queues = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new ConcurrentLinkedDeque<>());
+        }
+        for (int i = 0; i < scenarios.size(); i++) {
+            queues.get(i % workerCount).addLast(i);
+        }
+
+        AtomicReferenceArray<ScenarioResult> results = new AtomicReferenceArray<>(scenarios.size());
+        AtomicReference<RuntimeException> sessionFailure = new AtomicReference<>();
+        int completed = 0;
+        int previous;
+        do {
+            // a worker failing to create its session leaves its scenarios queued, which might happen after the other
+            // workers have finished, so another round is started as long as the previous one made progress
+            previous = completed;
+            List<Thread> threads = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                int worker = i;
+                Thread thread = new Thread(() -> work(worker, scenarios, queues, results, sessionFailure),
+                        "parallel-scenario-runner-" + i);
+                thread.setDaemon(true);
+                threads.add(thread);
+                thread.start();
+            }
+            joinAll(threads);
+            completed = countCompleted(results);
+        } while (completed > previous && queues.stream().anyMatch(queue -> !queue.isEmpty()));
+
+        List<ScenarioResult> resultList = new ArrayList<>(scenarios.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            ScenarioResult result = results.get(i);
+            if (result == null) {
+                result = new ScenarioResult(scenarios.get(i), -1, Duration.ZERO,
+                        new IllegalStateException("No session is available to run the scenario.",
+                                sessionFailure.get()));
+            }
+            resultList.add(result);
+        }
+        return new ScenarioReport(resultList, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Sets the recycler to reset the session after each scenario, null to reuse the session as it is.
+     *
+     * @param sessionRecycler the session recycler to set
+     */
+    public void setSessionRecycler(@Nullable SessionRecycler sessionRecycler) {
+        this.sessionRecycler = sessionRecycler;
+    }
+
+    /**
+     * Gets the recycler to reset the session after each scenario.
+     *
+     * @return the session recycler or null
+     */
+    @Nullable
+    public SessionRecycler getSessionRecycler() {
+        return sessionRecycler;
+    }
+
+    /**
+     * Gets the maximum number of parallel sessions.
+     *
+     * @return the maximum number of parallel sessions
+     */
+    public int getSessions() {
+        return sessions;
+    }
+
+    private void work(int worker, List<Scenario> scenarios, List<Deque<Integer>> queues,
+            AtomicReferenceArray<ScenarioResult> results, AtomicReference<RuntimeException> sessionFailure) {
+        ComponentWebDriver driver = null;
+        try {
+            Integer index;
+            while ((index = next(worker, queues)) != null) {
+                if (driver == null) {
+                    try {
+                        driver = requireNonNull(sessionFactory.get(), "The session factory returns null.");
+                    } catch (RuntimeException e) {
+                        // leaves the scenario to the other workers
+                        queues.get(worker).addFirst(index);
+                        sessionFailure.set(e);
+                        LOG.log(Level.WARNING, "Failed to create the session.", e);
+                        return;
+                    }
+                }
+                Scenario scenario = scenarios.get(index);
+                results.set(index, runScenario(worker, scenario, driver));
+                SessionRecycler recycler = sessionRecycler;
+                if (pool != null && pool.getSessionRecycler() != null) {
+                    // the pool recycles the session when it's released
+                    closeQuietly(driver, sessionCloser);
+                    driver = null;
+                } else if (recycler != null && !recycle(recycler, driver)) {
+                    closeQuietly(driver, sessionInvalidator);
+                    driver = null;
+                }
+            }
+        } finally {
+            if (driver != null) {
+                closeQuietly(driver, sessionCloser);
+            }
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    private ScenarioResult runScenario(int worker, Scenario scenario, ComponentWebDriver driver) {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            scenario.run(driver);
+        } catch (Throwable e) {
+            // any failure is recorded, so the worker keeps draining the queues
+            failure = e;
+        }
+        return new ScenarioResult(scenario, worker, Duration.ofNanos(System.nanoTime() - start), failure);
+    }
+
+    @Nullable
+    private static Integer next(int worker, List<Deque<Integer>> queues) {
+        Integer index = queues.get(worker).pollFirst();
+        for (int i = 1; index == null && i < queues.size(); i++) {
+            index = queues.get((worker + i) % queues.size()).pollLast();
+        }
+        return index;
+    }
+
+    private static int countCompleted(AtomicReferenceArray<ScenarioResult> results) {
+        int count = 0;
+        for (int i = 0; i < results.length(); i++) {
+            if (results.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean recycle(SessionRecycler recycler, ComponentWebDriver driver) {
+        try {
+            return recycler.recycle(driver);
+        } catch (RuntimeException e) {
+            LOG.log(Level.FINE, "Failed to recycle the session.", e);
+            return false;
+        }
+    }
+
+    private static void closeQuietly(ComponentWebDriver driver, Consumer<? super ComponentWebDriver> closer) {
+        try {
+            closer.accept(driver);
+        } catch (RuntimeException e) {
+            LOG.log(Level.FINE, "Failed to close the session.", e);
+        }
+    }
+
+    private static void joinAll(List<Thread> threads) {
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            threads.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the scenarios.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelScenarioRunner{" + "sessions=" + sessions + ", sessionRecycler=" + sessionRecycler + '}';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An independent scenario run by {@link ParallelScenarioRunner}, it must not depend on the state left by the other
+ * scenarios as it could run on any session.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public final class Scenario {
+
+    private final String name;
+    private final Consumer<ComponentWebDriver> action;
+
+    private Scenario(String name, Consumer<ComponentWebDriver> action) {
+        this.name = requireNonNull(name);
+        this.action = requireNonNull(action);
+    }
+
+    /**
+     * Creates the scenario with the name and the action.
+     *
+     * @param name the name of the scenario, used in the report
+     * @param action the action to run against the session
+     * @return the new scenario
+     */
+    public static Scenario of(String name, Consumer<ComponentWebDriver> action) {
+        return new Scenario(name, action);
+    }
+
+    /**
+     * Gets the name of the scenario.
+     *
+     * @return the name of the scenario
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs the scenario against given session.
+     *
+     * @param driver the session to run the scenario
+     */
+    public void run(ComponentWebDriver driver) {
+        action.accept(driver);
+    }
+
+    @Override
+    public String toString() {
+        return "Scenario{" + "name='" + name + '\'' + '}';
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import com.github.grossopa.selenium.core.util.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The report of a {@link ParallelScenarioRunner} run, with the results in the order of the given scenarios, the
+ * latency distribution and the throughput.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public final class ScenarioReport {
+
+    private final List<ScenarioResult> results;
+    private final Duration wallTime;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Constructs an instance.
+     *
+     * @param results the results in the order of the scenarios
+     * @param wallTime the overall time of the run
+     */
+    public ScenarioReport(List<ScenarioResult> results, Duration wallTime) {
+        this.results = unmodifiableList(new ArrayList<>(results));
+        this.wallTime = wallTime;
+        this.results.forEach(result -> histogram.record(result.getElapsed()));
+    }
+
+    /**
+     * Gets the results in the order of the scenarios.
+     *
+     * @return the results
+     */
+    public List<ScenarioResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the failed results.
+     *
+     * @return the failed results
+     */
+    public List<ScenarioResult> getFailures() {
+        return results.stream().filter(result -> !result.isSuccess()).collect(toList());
+    }
+
+    /**
+     * Whether all the scenarios succeeded.
+     *
+     * @return true if all the scenarios succeeded
+     */
+    public boolean isSuccess() {
+        return results.stream().allMatch(ScenarioResult::isSuccess);
+    }
+
+    /**
+     * Gets the overall time of the run.
+     *
+     * @return the overall time
+     */
+    public Duration getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Gets the latency distribution of the scenarios.
+     *
+     * @return the latency distribution
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Gets the number of scenarios completed per second.
+     *
+     * @return the throughput in scenarios per second
+     */
+    public double getThroughput() {
+        long nanos = wallTime.toNanos();
+        return nanos <= 0L ? 0d : results.size() * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * Gets the number of scenarios run by each session, keyed by the session index.
+     *
+     * @return the number of scenarios by session
+     */
+    public Map<Integer, Integer> getCountBySession() {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        results.forEach(result -> counts.merge(result.getSession(), 1, Integer::sum));
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "ScenarioReport{" + "scenarios=" + results.size() + ", failures=" + getFailures().size() + ", wallTime="
+                + wallTime.toMillis() + "ms" + ", throughput=" + String.format(Locale.ROOT, "%.2f", getThroughput())
+                + "/s" + ", latency=" + histogram + ", bySession=" + getCountBySession() + '}';
+    }
+}
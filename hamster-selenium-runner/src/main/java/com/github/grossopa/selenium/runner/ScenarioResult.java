@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The result of a single {@link Scenario} run by {@link ParallelScenarioRunner}.
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+public final class ScenarioResult {
+
+    private final Scenario scenario;
+    private final int session;
+    private final Duration elapsed;
+    private final Throwable failure;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param scenario the scenario
+     * @param session the index of the session which runs the scenario, -1 if no session was available
+     * @param elapsed the elapsed time of the scenario
+     * @param failure the failure of the scenario, null if it succeeded
+     */
+    public ScenarioResult(Scenario scenario, int session, Duration elapsed, @Nullable Throwable failure) {
+        this.scenario = requireNonNull(scenario);
+        this.session = session;
+        this.elapsed = requireNonNull(elapsed);
+        this.failure = failure;
+    }
+
+    /**
+     * Gets the scenario.
+     *
+     * @return the scenario
+     */
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Gets the index of the session which runs the scenario, -1 if no session was available.
+     *
+     * @return the index of the session
+     */
+    public int getSession() {
+        return session;
+    }
+
+    /**
+     * Gets the elapsed time of the scenario.
+     *
+     * @return the elapsed time
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Gets the failure of the scenario.
+     *
+     * @return the failure or null if it succeeded
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Whether the scenario succeeded.
+     *
+     * @return true if the scenario succeeded
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ScenarioResult{" + "name='" + scenario.getName() + '\'' + ", session=" + session + ", elapsed="
+                + elapsed.toMillis() + "ms" + ", success=" + isSuccess() + '}';
+    }
+}
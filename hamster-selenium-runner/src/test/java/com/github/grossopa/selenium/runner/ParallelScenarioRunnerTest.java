@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import com.github.grossopa.selenium.core.driver.ComponentWebDriverPool;
+import com.github.grossopa.selenium.core.driver.ComponentWebDriverPoolConfig;
+import com.github.grossopa.selenium.core.driver.SessionRecycler;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.SessionNotCreatedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ParallelScenarioRunner}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ParallelScenarioRunnerTest {
+
+    List<ComponentWebDriver> created = new CopyOnWriteArrayList<>();
+
+    private ComponentWebDriver createDriver() {
+        ComponentWebDriver driver = mock(ComponentWebDriver.class);
+        created.add(driver);
+        return driver;
+    }
+
+    private static List<Scenario> scenarios(int count, List<ComponentWebDriver> usedDrivers) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            scenarios.add(Scenario.of("scenario-" + i, usedDrivers::add));
+        }
+        return scenarios;
+    }
+
+    @Test
+    void constructorInvalidSessions() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelScenarioRunner(0, this::createDriver));
+    }
+
+    @Test
+    void run() {
+        // the first 3 scenarios only finish once all 3 sessions run at the same time
+        CountDownLatch allRunning = new CountDownLatch(3);
+        List<ComponentWebDriver> used = new CopyOnWriteArrayList<>();
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            scenarios.add(Scenario.of("scenario-" + i, driver -> {
+                used.add(driver);
+                allRunning.countDown();
+                try {
+                    assertTrue(allRunning.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(3, this::createDriver);
+        ScenarioReport report = testSubject.run(scenarios);
+
+        assertTrue(report.isSuccess());
+        assertEquals(10, report.getResults().size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("scenario-" + i, report.getResults().get(i).getScenario().getName());
+        }
+        assertEquals(3, created.size());
+        assertTrue(created.containsAll(used));
+        created.forEach(driver -> verify(driver).quit());
+        assertEquals(10, report.getCountBySession().values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void runFewerScenariosThanSessions() {
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(8, this::createDriver);
+        ScenarioReport report = testSubject.run(scenarios(2, new ArrayList<>()));
+        assertEquals(2, report.getResults().size());
+        assertTrue(created.size() <= 2);
+    }
+
+    @Test
+    void runEmpty() {
+        ScenarioReport report = new ParallelScenarioRunner(2, this::createDriver).run(List.of());
+        assertTrue(report.getResults().isEmpty());
+        assertTrue(created.isEmpty());
+    }
+
+    @Test
+    void workStealing() {
+        CountDownLatch othersDone = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(9);
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(Scenario.of("slow", driver -> {
+            try {
+                assertTrue(othersDone.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        for (int i = 1; i < 10; i++) {
+            scenarios.add(Scenario.of("fast-" + i, driver -> {
+                if (remaining.decrementAndGet() == 0) {
+                    othersDone.countDown();
+                }
+            }));
+        }
+
+        ScenarioReport report = new ParallelScenarioRunner(2, this::createDriver).run(scenarios);
+        // the slow scenario blocks its session until all the others are done, which only happens when the other
+        // session steals the scenarios queued behind it
+        assertTrue(report.isSuccess());
+    }
+
+    @Test
+    void scenarioFailure() {
+        List<Scenario> scenarios = List.of(Scenario.of("fail", driver -> {
+            throw new AssertionError("expected");
+        }), Scenario.of("error", driver -> {
+            throw new IllegalStateException("error");
+        }), Scenario.of("fatal", driver -> {
+            throw new LinkageError("fatal");
+        }), Scenario.of("pass", driver -> {
+        }));
+        ScenarioReport report = new ParallelScenarioRunner(1, this::createDriver).run(scenarios);
+        assertFalse(report.isSuccess());
+        assertEquals(3, report.getFailures().size());
+        assertEquals("expected", report.getResults().get(0).getFailure().getMessage());
+        assertEquals("error", report.getResults().get(1).getFailure().getMessage());
+        assertEquals("fatal", report.getResults().get(2).getFailure().getMessage());
+        assertTrue(report.getResults().get(3).isSuccess());
+        assertEquals(1, created.size());
+    }
+
+    @Test
+    void sessionFactoryFailed() {
+        AtomicInteger attempts = new AtomicInteger();
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(2, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new SessionNotCreatedException("failed");
+            }
+            return createDriver();
+        });
+        List<ComponentWebDriver> used = new CopyOnWriteArrayList<>();
+        ScenarioReport report = testSubject.run(scenarios(6, used));
+        assertTrue(report.isSuccess());
+        assertEquals(6, used.size());
+        assertTrue(created.containsAll(used));
+    }
+
+    @Test
+    void sessionFactoryFailedAfterOthersDone() {
+        // the second session fails only after the first one has run all the scenarios it could take
+        CountDownLatch firstDone = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(2, () -> {
+            if (attempts.incrementAndGet() == 2) {
+                try {
+                    firstDone.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new SessionNotCreatedException("failed");
+            }
+            return createDriver();
+        });
+        List<Scenario> scenarios = List.of(Scenario.of("first", driver -> firstDone.countDown()),
+                Scenario.of("second", driver -> firstDone.countDown()));
+        ScenarioReport report = testSubject.run(scenarios);
+        assertTrue(report.isSuccess());
+    }
+
+    @Test
+    void allSessionsFailed() {
+        SessionNotCreatedException exception = new SessionNotCreatedException("failed");
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(2, () -> {
+            throw exception;
+        });
+        ScenarioReport report = testSubject.run(scenarios(3, new ArrayList<>()));
+        assertEquals(3, report.getFailures().size());
+        ScenarioResult result = report.getResults().get(0);
+        assertEquals(-1, result.getSession());
+        assertSame(exception, result.getFailure().getCause());
+    }
+
+    @Test
+    void sessionRecycler() {
+        SessionRecycler recycler = mock(SessionRecycler.class);
+        when(recycler.recycle(any())).thenReturn(true, false, true);
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(1, this::createDriver);
+        testSubject.setSessionRecycler(recycler);
+        assertSame(recycler, testSubject.getSessionRecycler());
+
+        List<ComponentWebDriver> used = new CopyOnWriteArrayList<>();
+        testSubject.run(scenarios(4, used));
+        assertEquals(2, created.size());
+        assertEquals(List.of(created.get(0), created.get(0), created.get(1), created.get(1)), used);
+        verify(created.get(0)).quit();
+        verify(created.get(1)).quit();
+    }
+
+    @Test
+    void sessionRecyclerInvalidates() {
+        SessionRecycler recycler = mock(SessionRecycler.class);
+        when(recycler.recycle(any())).thenReturn(false).thenThrow(new IllegalStateException("broken")).thenReturn(true);
+        List<ComponentWebDriver> closed = new CopyOnWriteArrayList<>();
+        List<ComponentWebDriver> invalidated = new CopyOnWriteArrayList<>();
+        ParallelScenarioRunner testSubject = new ParallelScenarioRunner(1, this::createDriver, closed::add,
+                invalidated::add);
+        testSubject.setSessionRecycler(recycler);
+
+        assertTrue(testSubject.run(scenarios(3, new ArrayList<>())).isSuccess());
+        assertEquals(3, created.size());
+        assertEquals(List.of(created.get(0), created.get(1)), invalidated);
+        assertEquals(List.of(created.get(2)), closed);
+    }
+
+    @Test
+    void withPoolRecycleFailed() {
+        ComponentWebDriverPoolConfig config = new ComponentWebDriverPoolConfig();
+        config.setMinIdle(0);
+        config.setMaxTotal(1);
+        ComponentWebDriverPool pool = new ComponentWebDriverPool(this::createDriver, config, Runnable::run);
+        SessionRecycler recycler = mock(SessionRecycler.class);
+        when(recycler.recycle(any())).thenReturn(false, true);
+        ParallelScenarioRunner testSubject = ParallelScenarioRunner.withPool(1, pool);
+        testSubject.setSessionRecycler(recycler);
+
+        assertTrue(testSubject.run(scenarios(2, new ArrayList<>())).isSuccess());
+        assertEquals(2, created.size());
+        verify(created.get(0)).quit();
+        verify(created.get(1), never()).quit();
+        assertEquals(0, pool.getLeasedCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void withPoolRecycledByPool() {
+        ComponentWebDriverPoolConfig config = new ComponentWebDriverPoolConfig();
+        config.setMinIdle(0);
+        config.setMaxTotal(1);
+        ComponentWebDriverPool pool = new ComponentWebDriverPool(this::createDriver, config, Runnable::run);
+        SessionRecycler poolRecycler = mock(SessionRecycler.class);
+        when(poolRecycler.recycle(any())).thenReturn(true);
+        pool.setSessionRecycler(poolRecycler);
+        pool.setHealthProbe(driver -> true);
+        SessionRecycler runnerRecycler = mock(SessionRecycler.class);
+        ParallelScenarioRunner testSubject = ParallelScenarioRunner.withPool(1, pool);
+        testSubject.setSessionRecycler(runnerRecycler);
+
+        assertTrue(testSubject.run(scenarios(3, new ArrayList<>())).isSuccess());
+        assertEquals(1, created.size());
+        verify(poolRecycler, times(3)).recycle(created.get(0));
+        verifyNoInteractions(runnerRecycler);
+        assertEquals(0, pool.getLeasedCount());
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void withPool() {
+        ComponentWebDriverPoolConfig config = new ComponentWebDriverPoolConfig();
+        config.setMinIdle(0);
+        config.setMaxTotal(2);
+        ComponentWebDriverPool pool = new ComponentWebDriverPool(this::createDriver, config, Runnable::run);
+        ParallelScenarioRunner testSubject = ParallelScenarioRunner.withPool(2, pool);
+        assertEquals(2, testSubject.getSessions());
+
+        testSubject.run(scenarios(5, new ArrayList<>()));
+        assertEquals(0, pool.getLeasedCount());
+        assertEquals(created.size(), pool.getIdleCount());
+        created.forEach(driver -> verify(driver, never()).quit());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("ParallelScenarioRunner{sessions=2, sessionRecycler=null}",
+                new ParallelScenarioRunner(2, this::createDriver).toString());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ScenarioReport}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ScenarioReportTest {
+
+    Scenario scenario = Scenario.of("scenario", driver -> {
+    });
+    ScenarioResult result1 = new ScenarioResult(scenario, 0, Duration.ofMillis(100), null);
+    ScenarioResult result2 = new ScenarioResult(scenario, 1, Duration.ofMillis(300), new AssertionError());
+    ScenarioResult result3 = new ScenarioResult(scenario, 0, Duration.ofMillis(200), null);
+    ScenarioReport testSubject = new ScenarioReport(List.of(result1, result2, result3), Duration.ofMillis(500));
+
+    @Test
+    void getResults() {
+        assertEquals(List.of(result1, result2, result3), testSubject.getResults());
+        assertEquals(List.of(result2), testSubject.getFailures());
+        assertFalse(testSubject.isSuccess());
+        assertTrue(new ScenarioReport(List.of(result1), Duration.ofMillis(1)).isSuccess());
+    }
+
+    @Test
+    void getThroughput() {
+        assertEquals(6d, testSubject.getThroughput(), 0.0001d);
+        assertEquals(0d, new ScenarioReport(List.of(), Duration.ZERO).getThroughput());
+    }
+
+    @Test
+    void getHistogram() {
+        assertEquals(3L, testSubject.getHistogram().getCount());
+        assertEquals(Duration.ofMillis(300), testSubject.getHistogram().getMax());
+        assertEquals(Duration.ofMillis(500), testSubject.getWallTime());
+    }
+
+    @Test
+    void getCountBySession() {
+        assertEquals(Map.of(0, 2, 1, 1), testSubject.getCountBySession());
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(testSubject.toString().startsWith("ScenarioReport{scenarios=3, failures=1, wallTime=500ms, "
+                + "throughput=6.00/s, latency=LatencyHistogram{"));
+        assertTrue(testSubject.toString().endsWith(", bySession={0=2, 1=1}}"));
+    }
+}
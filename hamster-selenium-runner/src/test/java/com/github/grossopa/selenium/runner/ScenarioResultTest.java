@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2026 the original author or authors.
+ *
+ * Licensed under the The MIT License (MIT) (the "License");
+ *  You may obtain a copy of the License at
+ *
+ *         https://mit-license.org/
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software
+ * and associated documentation files (the “Software”), to deal in the Software without
+ * restriction, including without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING
+ * BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.grossopa.selenium.runner;
+
+import com.github.grossopa.selenium.core.ComponentWebDriver;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ScenarioResult} and {@link Scenario}
+ *
+ * @author Jack Yin
+ * @since 1.13
+ */
+class ScenarioResultTest {
+
+    @Test
+    void scenario() {
+        List<ComponentWebDriver> drivers = new ArrayList<>();
+        Scenario scenario = Scenario.of("login", drivers::add);
+        ComponentWebDriver driver = mock(ComponentWebDriver.class);
+        scenario.run(driver);
+        assertEquals(List.of(driver), drivers);
+        assertEquals("login", scenario.getName());
+        assertEquals("Scenario{name='login'}", scenario.toString());
+    }
+
+    @Test
+    void result() {
+        Scenario scenario = Scenario.of("login", driver -> {
+        });
+        AssertionError failure = new AssertionError();
+        ScenarioResult testSubject = new ScenarioResult(scenario, 2, Duration.ofMillis(15), failure);
+        assertSame(scenario, testSubject.getScenario());
+        assertEquals(2, testSubject.getSession());
+        assertEquals(Duration.ofMillis(15), testSubject.getElapsed());
+        assertSame(failure, testSubject.getFailure());
+        assertFalse(testSubject.isSuccess());
+        assertTrue(new ScenarioResult(scenario, 0, Duration.ZERO, null).isSuccess());
+        assertEquals("ScenarioResult{name='login', session=2, elapsed=15ms, success=false}", testSubject.toString());
+    }
+}